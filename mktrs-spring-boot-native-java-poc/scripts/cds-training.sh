@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+#------------------------------------------------------------------------------
+# Source File:   CDS-TRAINING.SH
+# Copyright (c), 2026 The Musketeers
+#------------------------------------------------------------------------------
+# History
+# Oct.19/2026  COQ  File created.
+#------------------------------------------------------------------------------
+# Training run for the JVM fast startup mode (Spring AOT + Class Data Sharing).
+#
+# Starts the extracted application once with Spring AOT enabled, exercises the
+# User endpoints so their classes are loaded, and stops it gracefully so the JVM
+# dumps the archive next to the jar:
+#   * JDK 25+ : 'application.aot' (AOT cache, JEP 483/514).
+#   * JDK 21  : 'application.jsa' (dynamic CDS archive).
+#
+# Usage: cds-training.sh <extracted-application-directory>
+#------------------------------------------------------------------------------
+set -euo pipefail
+
+APP_DIR=${1:?"Usage: cds-training.sh <extracted-application-directory>"}
+JAVA=${JAVA:-java}
+PORT=${CDS_TRAINING_PORT:-18080}
+ROUNDS=${CDS_TRAINING_ROUNDS:-25}
+BASE_URL="http://localhost:${PORT}"
+USERS_URL="${BASE_URL}/api/v1/users"
+JAR=$(find "${APP_DIR}" -maxdepth 1 -name '*.jar' | head -1)
+
+if [[ -z "${JAR}" ]]; then
+    echo "No extracted application jar found in [${APP_DIR}]" >&2
+    exit 1
+fi
+
+if "${JAVA}" -XX:+UnlockDiagnosticVMOptions -XX:+PrintFlagsFinal -version 2>/dev/null | grep -q ' AOTCacheOutput '; then
+    ARCHIVE="${APP_DIR}/application.aot"
+    ARCHIVE_OPTION="-XX:AOTCacheOutput=${ARCHIVE}"
+else
+    ARCHIVE="${APP_DIR}/application.jsa"
+    ARCHIVE_OPTION="-XX:ArchiveClassesAtExit=${ARCHIVE}"
+fi
+
+rm -f "${APP_DIR}/application.aot" "${APP_DIR}/application.jsa"
+
+echo "Training run: ${JAR} -> ${ARCHIVE}"
+"${JAVA}" "${ARCHIVE_OPTION}" -Xlog:cds=error -Dspring.aot.enabled=true -jar "${JAR}" \
+    --server.port="${PORT}" --app.startup-timeline.log-summary=false &
+APP_PID=$!
+trap 'kill -TERM ${APP_PID} 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 120); do
+    if curl -sf -o /dev/null "${BASE_URL}/actuator/health"; then
+        break
+    fi
+    sleep 0.5
+done
+
+for round in $(seq 1 "${ROUNDS}"); do
+    user=$(curl -sf -X POST -H 'Content-Type: application/json' \
+        -d "{\"name\":\"Training User ${round}\",\"address\":\"Training Address ${round}\"}" "${USERS_URL}")
+    user_id=$(sed -E 's/.*"id":"([^"]+)".*/\1/' <<< "${user}")
+
+    curl -sf -o /dev/null "${USERS_URL}"
+    curl -sf -o /dev/null "${USERS_URL}/${user_id}"
+    curl -sf -o /dev/null -X PATCH -H 'Content-Type: application/json' \
+        -d "{\"id\":\"${user_id}\",\"name\":\"Training User ${round}\",\"address\":\"Updated Address\"}" "${USERS_URL}"
+    curl -s -o /dev/null -X POST -H 'Content-Type: application/json' -d '{"name":""}' "${USERS_URL}"
+    curl -s -o /dev/null "${USERS_URL}/unknown-${round}"
+    curl -sf -o /dev/null -X DELETE "${USERS_URL}/${user_id}"
+    curl -sf -o /dev/null "${BASE_URL}/actuator/startuptimeline"
+done
+
+kill -TERM "${APP_PID}"
+wait "${APP_PID}" || true
+trap - EXIT
+
+if [[ ! -s "${ARCHIVE}" ]]; then
+    echo "Training run did not produce [${ARCHIVE}]" >&2
+    exit 1
+fi
+
+echo "Archive created: ${ARCHIVE} ($(du -h "${ARCHIVE}" | cut -f1))"
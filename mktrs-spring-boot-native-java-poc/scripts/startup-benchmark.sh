@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+#------------------------------------------------------------------------------
+# Source File:   STARTUP-BENCHMARK.SH
+# Copyright (c), 2026 The Musketeers
+#------------------------------------------------------------------------------
+# History
+# Oct.19/2026  COQ  File created.
+#------------------------------------------------------------------------------
+# Measures startup time and resident memory (RSS) of the three run modes:
+#   * jvm     : plain 'java -jar' over the repackaged jar.
+#   * jvm-cds : extracted jar + Spring AOT + CDS/AOT cache archive ('-Pcds').
+#   * native  : GraalVM native executable ('-Pnative native:compile').
+# Modes whose artifacts are missing are skipped.
+#
+# For each run it reports the time until the first served GET /api/v1/users
+# (wall clock from launch), the startup time reported by Spring Boot and the
+# RSS once 100 requests were served.
+#
+# Usage: startup-benchmark.sh [runs]
+#------------------------------------------------------------------------------
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+JAVA=${JAVA:-java}
+PORT=${BENCHMARK_PORT:-18090}
+USERS_URL="http://localhost:${PORT}/api/v1/users"
+ARTIFACT=mktrs-spring-boot-native-java-poc
+JAR=$(find target -maxdepth 1 -name "${ARTIFACT}-*.jar" | head -1)
+CDS_DIR=target/cds
+CDS_JAR=$(find "${CDS_DIR}" -maxdepth 1 -name '*.jar' 2>/dev/null | head -1 || true)
+NATIVE=target/${ARTIFACT}
+LOG=$(mktemp)
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+measure() {
+    local mode=$1
+    shift
+    local total_first=0 total_started=0 total_rss=0
+
+    for run in $(seq 1 "${RUNS}"); do
+        local start first started rss
+
+        start=$(now_ms)
+        "$@" --server.port="${PORT}" --app.startup-timeline.log-summary=false > "${LOG}" 2>&1 &
+        local pid=$!
+
+        until curl -sf -o /dev/null "${USERS_URL}"; do
+            sleep 0.01
+        done
+        first=$(( $(now_ms) - start ))
+
+        for _ in $(seq 1 100); do
+            curl -sf -o /dev/null "${USERS_URL}"
+        done
+        rss=$(awk '/VmRSS/ { print int($2 / 1024) }' "/proc/${pid}/status")
+        started=$(sed -nE 's/.*Started Application in ([0-9.]+) seconds.*/\1/p' "${LOG}" | head -1)
+
+        kill -TERM "${pid}"
+        wait "${pid}" || true
+
+        printf '%-8s run %2d: first response %6d ms | Spring Boot started in %6s s | RSS %5d MB\n' \
+            "${mode}" "${run}" "${first}" "${started}" "${rss}"
+        total_first=$(( total_first + first ))
+        total_rss=$(( total_rss + rss ))
+        total_started=$(awk -v a="${total_started}" -v b="${started}" 'BEGIN { print a + b }')
+    done
+
+    printf '%-8s AVERAGE: first response %6d ms | Spring Boot started in %6.3f s | RSS %5d MB\n\n' \
+        "${mode}" $(( total_first / RUNS )) "$(awk -v t="${total_started}" -v r="${RUNS}" 'BEGIN { print t / r }')" \
+        $(( total_rss / RUNS ))
+}
+
+if [[ -n "${JAR}" ]]; then
+    measure jvm "${JAVA}" -jar "${JAR}"
+fi
+
+if [[ -n "${CDS_JAR}" && -s "${CDS_DIR}/application.aot" ]]; then
+    measure jvm-cds "${JAVA}" -XX:AOTCache="${CDS_DIR}/application.aot" -Dspring.aot.enabled=true -jar "${CDS_JAR}"
+elif [[ -n "${CDS_JAR}" && -s "${CDS_DIR}/application.jsa" ]]; then
+    measure jvm-cds "${JAVA}" -XX:SharedArchiveFile="${CDS_DIR}/application.jsa" -Dspring.aot.enabled=true -jar "${CDS_JAR}"
+else
+    echo "jvm-cds skipped: run 'mvn -Pcds package' first."
+fi
+
+if [[ -x "${NATIVE}" ]]; then
+    measure native "${NATIVE}"
+else
+    echo "native skipped: run 'mvn -Pnative native:compile' first."
+fi
+
+rm -f "${LOG}"
@@ -5,11 +5,16 @@
 /*-----------------------------------------------------------------------------
  History
  May.23/2023  COQ  File created.
+ Oct.19/2026  COQ  Record the startup steps for the startup timeline.
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative;
 
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.STARTUP_STEPS_CAPACITY;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * Entry point for running the application.
@@ -17,15 +22,21 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @author COQ - Carlos Adolfo Ortiz Q.
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class Application {
 
     /**
      * Running application definition entry point.
+     * <p>A {@link BufferingApplicationStartup} is installed so the context phases and bean instantiation
+     * times are kept in memory and exposed by the startup timeline.</p>
      *
      * @param args Includes the command line parameters for the application.
      */
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        var application = new SpringApplication(Application.class);
+
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+        application.run(args);
     }
 
 }
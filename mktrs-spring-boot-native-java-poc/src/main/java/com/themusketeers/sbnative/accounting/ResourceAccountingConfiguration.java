@@ -0,0 +1,40 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RESOURCEACCOUNTINGCONFIGURATION.JAVA                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.accounting;
+
+import static com.themusketeers.sbnative.common.consts.FilterOrderConstants.RESOURCE_ACCOUNTING_FILTER_ORDER;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the per request CPU time and allocation accounting. Disabled by means of
+ * {@code app.resource-accounting.enabled=false}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.resource-accounting", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ResourceAccountingConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<ResourceAccountingFilter> resourceAccountingFilter(
+        ResourceAccountingProperties properties,
+        MeterRegistry meterRegistry) {
+        var filter = new ResourceAccountingFilter(meterRegistry, properties.debugHeaders());
+        var registration = new FilterRegistrationBean<>(filter);
+
+        registration.setUrlPatterns(properties.urlPatterns());
+        registration.setOrder(RESOURCE_ACCOUNTING_FILTER_ORDER);
+        return registration;
+    }
+}
@@ -0,0 +1,362 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RESOURCEACCOUNTINGFILTER.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Debug headers set as the response is committed, the body no longer buffered.
+ Oct.19/2026  COQ  Debug headers set on an explicit commit or at the end of the chain only, writes not counted.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.accounting;
+
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.HEADER_ALLOCATED_BYTES;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.HEADER_SERVER_TIMING;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.METRIC_REQUEST_ALLOCATED;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.METRIC_REQUEST_ALLOCATED_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.METRIC_REQUEST_CPU;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.METRIC_REQUEST_CPU_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.METRIC_REQUEST_UNMEASURED;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.METRIC_REQUEST_UNMEASURED_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.SERVER_TIMING_CPU_FORMAT;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.TAG_EXCEPTION;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.TAG_METHOD;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.TAG_STATUS;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.TAG_URI;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.TAG_VALUE_NONE;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.TAG_VALUE_UNKNOWN;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Measures the CPU time and the heap allocated by the thread serving each request, from the JVM per thread counters
+ * read before and after the rest of the chain. They are published per endpoint as histograms,
+ * {@code http.server.requests.cpu} and {@code http.server.requests.allocated}, tagged like
+ * {@code http.server.requests} ({@code method}, {@code uri} pattern, {@code status} and the {@code exception} a
+ * controller advice handled), and optionally sent back as {@code Server-Timing: cpu;dur=<ms>} and
+ * {@code X-Allocated-Bytes} headers.
+ * <ul>
+ *     <li>Only the work done on the serving thread is counted, not the one handed over to other threads.</li>
+ *     <li>The JVM has no such counters for virtual threads (they read -1 on JDK 21), so requests served on one are
+ *     only counted in {@code http.server.requests.unmeasured}.</li>
+ *     <li>Server-Sent Events streams and other asynchronous requests are left out, they outlive the serving
+ *     thread.</li>
+ *     <li>The body is not buffered: the headers are set at the end of the chain or, if the chain commits the
+ *     response itself (flushing it, sending an error or a redirect), right before, with the measures up to then. A
+ *     response the container commits on its own, as its body outgrew the response buffer, is past adding headers:
+ *     its measures are only in the metrics. One streamed asynchronously carries none.</li>
+ * </ul>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ResourceAccountingFilter extends OncePerRequestFilter {
+    private final boolean debugHeaders;
+    private final LongSupplier cpuTime;
+    private final LongSupplier allocatedBytes;
+    private final Meter.MeterProvider<Timer> cpuTimers;
+    private final Meter.MeterProvider<DistributionSummary> allocationSummaries;
+    private final Counter unmeasured;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param registry     Instance publishing the measures.
+     * @param debugHeaders Indicates if the measures are also sent back as response headers.
+     */
+    public ResourceAccountingFilter(MeterRegistry registry, boolean debugHeaders) {
+        this(registry, debugHeaders, threadCpuTime(), threadAllocatedBytes());
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param registry       Instance publishing the measures.
+     * @param debugHeaders   Indicates if the measures are also sent back as response headers.
+     * @param cpuTime        Indicates the source of the CPU time of the current thread, in nanoseconds, negative if
+     *                       unavailable.
+     * @param allocatedBytes Indicates the source of the bytes allocated by the current thread, negative if
+     *                       unavailable.
+     */
+    ResourceAccountingFilter(MeterRegistry registry,
+                             boolean debugHeaders,
+                             LongSupplier cpuTime,
+                             LongSupplier allocatedBytes) {
+        this.debugHeaders = debugHeaders;
+        this.cpuTime = cpuTime;
+        this.allocatedBytes = allocatedBytes;
+        this.cpuTimers = Timer.builder(METRIC_REQUEST_CPU)
+            .description(METRIC_REQUEST_CPU_DESCRIPTION)
+            .publishPercentileHistogram()
+            .withRegistry(registry);
+        this.allocationSummaries = DistributionSummary.builder(METRIC_REQUEST_ALLOCATED)
+            .description(METRIC_REQUEST_ALLOCATED_DESCRIPTION)
+            .baseUnit(BaseUnits.BYTES)
+            .publishPercentileHistogram()
+            .withRegistry(registry);
+        this.unmeasured = Counter.builder(METRIC_REQUEST_UNMEASURED)
+            .description(METRIC_REQUEST_UNMEASURED_DESCRIPTION)
+            .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        var accept = request.getHeader(HttpHeaders.ACCEPT);
+
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        var cpuStart = cpuTime.getAsLong();
+        var allocatedStart = allocatedBytes.getAsLong();
+
+        if (cpuStart < 0 || allocatedStart < 0) {
+            unmeasured.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var measuredResponse = debugHeaders ? new MeasuredResponse(request, response, cpuStart, allocatedStart) : null;
+        var exception = (Throwable) null;
+
+        try {
+            filterChain.doFilter(request, measuredResponse == null ? response : measuredResponse);
+        } catch (ServletException | IOException | RuntimeException | Error e) {
+            exception = e;
+            throw e;
+        } finally {
+            var cpu = cpuTime.getAsLong() - cpuStart;
+            var allocated = allocatedBytes.getAsLong() - allocatedStart;
+
+            if (!request.isAsyncStarted()) {
+                record(request, response, exception, cpu, allocated);
+
+                if (measuredResponse != null) {
+                    measuredResponse.sendMeasures(cpu, allocated);
+                }
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request,
+                        HttpServletResponse response,
+                        Throwable exception,
+                        long cpu,
+                        long allocated) {
+        var status = exception == null ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        var tags = Tags.of(
+            TAG_METHOD, request.getMethod(),
+            TAG_URI, uri(request),
+            TAG_STATUS, Integer.toString(status),
+            TAG_EXCEPTION, exception(request, exception));
+
+        cpuTimers.withTags(tags).record(cpu, TimeUnit.NANOSECONDS);
+        allocationSummaries.withTags(tags).record(allocated);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        // The pattern, not the path, so there is one series per endpoint and not one per user id.
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+            ? pattern
+            : TAG_VALUE_UNKNOWN;
+    }
+
+    private static String exception(HttpServletRequest request, Throwable exception) {
+        var cause = exception != null ? exception : request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+
+        return cause instanceof Throwable throwable ? throwable.getClass().getSimpleName() : TAG_VALUE_NONE;
+    }
+
+    private static LongSupplier threadCpuTime() {
+        var threads = ManagementFactory.getThreadMXBean();
+
+        if (!threads.isCurrentThreadCpuTimeSupported() || !threads.isThreadCpuTimeEnabled()) {
+            return () -> -1;
+        }
+
+        return threads::getCurrentThreadCpuTime;
+    }
+
+    private static LongSupplier threadAllocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+            || !threads.isThreadAllocatedMemorySupported()
+            || !threads.isThreadAllocatedMemoryEnabled()) {
+            return () -> -1;
+        }
+
+        return threads::getCurrentThreadAllocatedBytes;
+    }
+
+    /**
+     * Response setting the measures as headers right before the chain commits it (a flush, an error or a redirect), or
+     * else at the end of the chain. Nothing is counted nor buffered.
+     */
+    private final class MeasuredResponse extends HttpServletResponseWrapper {
+        private final HttpServletRequest request;
+        private final long cpuStart;
+        private final long allocatedStart;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean measured;
+
+        MeasuredResponse(HttpServletRequest request, HttpServletResponse response, long cpuStart, long allocatedStart) {
+            super(response);
+            this.request = request;
+            this.cpuStart = cpuStart;
+            this.allocatedStart = allocatedStart;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new MeasuredOutputStream(super.getOutputStream());
+            }
+
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(super.getWriter()) {
+                    @Override
+                    public void flush() {
+                        sendMeasures();
+                        super.flush();
+                    }
+
+                    @Override
+                    public void close() {
+                        sendMeasures();
+                        super.close();
+                    }
+                };
+            }
+
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            sendMeasures();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            sendMeasures();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            sendMeasures();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            sendMeasures();
+            super.sendRedirect(location);
+        }
+
+        /**
+         * Sets the measures taken so far, if not set yet, right before the chain commits the response.
+         */
+        void sendMeasures() {
+            if (!measured) {
+                sendMeasures(cpuTime.getAsLong() - cpuStart, allocatedBytes.getAsLong() - allocatedStart);
+            }
+        }
+
+        /**
+         * Sets the measures as headers, once, unless the response is already committed or outlives the serving thread.
+         *
+         * @param cpu       Indicates the CPU time, in nanoseconds.
+         * @param allocated Indicates the bytes allocated.
+         */
+        void sendMeasures(long cpu, long allocated) {
+            if (measured) {
+                return;
+            }
+
+            measured = true;
+
+            if (isCommitted() || request.isAsyncStarted()) {
+                return;
+            }
+
+            setHeader(HEADER_SERVER_TIMING, String.format(Locale.ROOT, SERVER_TIMING_CPU_FORMAT, cpu / 1_000_000.0));
+            setHeader(HEADER_ALLOCATED_BYTES, Long.toString(allocated));
+        }
+
+        /**
+         * Output stream sending the measures before a flush or a close commits the response.
+         */
+        private final class MeasuredOutputStream extends ServletOutputStream {
+            private final ServletOutputStream delegate;
+
+            MeasuredOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                sendMeasures();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                sendMeasures();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
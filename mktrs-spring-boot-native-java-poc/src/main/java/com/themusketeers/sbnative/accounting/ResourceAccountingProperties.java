@@ -0,0 +1,29 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RESOURCEACCOUNTINGPROPERTIES.JAVA                           */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.accounting;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the per request CPU time and allocation accounting.
+ * <p><b>Prefix:</b>{@code app.resource-accounting}</p>
+ *
+ * @param enabled      Indicates if the requests are measured.
+ * @param urlPatterns  Indicates the Servlet URL patterns of the requests measured.
+ * @param debugHeaders Indicates if the measures are also sent back as response headers; the response body is then
+ *                     buffered, as the headers can only be known once it is written.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.resource-accounting")
+public record ResourceAccountingProperties(@DefaultValue("true") boolean enabled,
+                                           @DefaultValue("/api/v1/*") List<String> urlPatterns,
+                                           @DefaultValue("false") boolean debugHeaders) {
+}
@@ -0,0 +1,43 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CHANGEFEEDCONFIGURATION.JAVA                                */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.changefeed;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the User Change Feed, enabled unless {@code app.change-feed.enabled} is {@code false}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.change-feed", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeFeedConfiguration {
+
+    @Bean
+    public UserChangeFeed userChangeFeed(ChangeFeedProperties properties) {
+        return new UserChangeFeed(properties.capacity());
+    }
+
+    @Bean
+    public ChangeFeedStreamer changeFeedStreamer(UserChangeFeed userChangeFeed,
+                                                 ChangeFeedProperties properties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        var streamer = new ChangeFeedStreamer(userChangeFeed,
+            properties.maxSubscribers(),
+            properties.heartbeatInterval(),
+            properties.timeout());
+
+        meterRegistry.ifAvailable(streamer::bindTo);
+        return streamer;
+    }
+}
@@ -0,0 +1,33 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CHANGEFEEDPROPERTIES.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.changefeed;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the User Change Feed (Server-Sent Events).
+ * <p><b>Prefix:</b>{@code app.change-feed}</p>
+ *
+ * @param enabled           Indicates whether the changes are kept and the endpoint is served.
+ * @param capacity          Indicates the last changes kept; a client further behind is sent to resync.
+ * @param maxSubscribers    Indicates the clients streaming at once at most; beyond that they are rejected.
+ * @param heartbeatInterval Indicates how often an idle stream gets a comment, so proxies keep it open and a client
+ *                          gone is noticed.
+ * @param timeout           Indicates how long a stream lasts at most before the client has to reconnect (resuming).
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.change-feed")
+public record ChangeFeedProperties(@DefaultValue("true") boolean enabled,
+                                   @DefaultValue("4096") int capacity,
+                                   @DefaultValue("100") int maxSubscribers,
+                                   @DefaultValue("15s") Duration heartbeatInterval,
+                                   @DefaultValue("30m") Duration timeout) {
+}
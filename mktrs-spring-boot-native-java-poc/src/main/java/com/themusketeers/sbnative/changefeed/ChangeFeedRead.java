@@ -0,0 +1,49 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CHANGEFEEDREAD.JAVA                                         */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.changefeed;
+
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import java.util.List;
+
+/**
+ * What a subscriber gets when reading the {@link UserChangeFeed}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public sealed interface ChangeFeedRead {
+
+    /**
+     * The changes after the one asked, in sequence order.
+     *
+     * @param mutations Indicates the changes, never empty.
+     */
+    record Changes(List<UserMutation> mutations) implements ChangeFeedRead {
+    }
+
+    /**
+     * The changes after the one asked are no longer kept (or the one asked was never published by this run): the
+     * subscriber has to read the Users again and follow the changes after the sequence given.
+     *
+     * @param sequence Indicates the last change published.
+     */
+    record Resync(long sequence) implements ChangeFeedRead {
+    }
+
+    /**
+     * No change came while waiting.
+     */
+    record Idle() implements ChangeFeedRead {
+    }
+
+    /**
+     * The feed is closed, the application stopping.
+     */
+    record Closed() implements ChangeFeedRead {
+    }
+}
@@ -0,0 +1,222 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CHANGEFEEDSTREAMER.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.changefeed;
+
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.EVENT_ID_RADIX;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.EVENT_ID_SEPARATOR;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.EVENT_RESYNC;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.HEARTBEAT_COMMENT;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.METRIC_CHANGE_FEED_REJECTED;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.METRIC_CHANGE_FEED_REJECTED_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.METRIC_CHANGE_FEED_RESYNCS;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.METRIC_CHANGE_FEED_RESYNCS_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.METRIC_CHANGE_FEED_SUBSCRIBERS;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.METRIC_CHANGE_FEED_SUBSCRIBERS_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.SUBSCRIBERS_EXHAUSTED_REASON;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.THREAD_SUBSCRIBER;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams the {@link UserChangeFeed} to its subscribers as Server-Sent Events, each one on its own virtual thread.
+ * <ul>
+ *     <li>Every change is an event named after its type ({@code insert}, {@code update}, {@code delete}) whose id is
+ *     {@code <epoch>-<sequence>}; a client reconnecting with it as {@code Last-Event-ID} resumes right after it.</li>
+ *     <li>A client too far behind, or resuming from an id of another run (the epoch changes on every start), gets a
+ *     {@code resync} event and the stream ends: it has to read the Users again and follow the changes from the id of
+ *     that event.</li>
+ *     <li>The subscribers at once are bounded; beyond that a client gets {@code 503 Service Unavailable}.</li>
+ * </ul>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ChangeFeedStreamer implements SmartLifecycle, MeterBinder {
+    private static final int MAX_CHANGES_PER_READ = 256;
+    private static final long UNKNOWN_SEQUENCE = -1L;
+
+    private final UserChangeFeed feed;
+    private final Semaphore subscribers;
+    private final int maxSubscribers;
+    private final Duration heartbeatInterval;
+    private final Duration timeout;
+    private final String epoch;
+    private final ThreadFactory threadFactory = Thread.ofVirtual().name(THREAD_SUBSCRIBER, 0).factory();
+    private final AtomicLong resyncs = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile boolean running;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param feed              Instance keeping the changes.
+     * @param maxSubscribers    Indicates the clients streaming at once at most.
+     * @param heartbeatInterval Indicates how often an idle stream gets a comment.
+     * @param timeout           Indicates how long a stream lasts at most.
+     */
+    public ChangeFeedStreamer(UserChangeFeed feed, int maxSubscribers, Duration heartbeatInterval, Duration timeout) {
+        this.feed = feed;
+        this.subscribers = new Semaphore(maxSubscribers);
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatInterval = heartbeatInterval;
+        this.timeout = timeout;
+        this.epoch = Long.toString(System.currentTimeMillis(), EVENT_ID_RADIX);
+    }
+
+    /**
+     * Starts streaming the changes to a new subscriber.
+     *
+     * @param lastEventId Indicates the id of the last event the client got, {@code null} to get only the changes
+     *                    from now on.
+     * @return The stream.
+     * @throws ResponseStatusException {@code 503} when the subscribers limit is reached.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (!subscribers.tryAcquire()) {
+            rejected.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, SUBSCRIBERS_EXHAUSTED_REASON);
+        }
+
+        var emitter = new SseEmitter(timeout.toMillis());
+        var after = lastEventId == null ? feed.lastSequence() : sequenceOf(lastEventId);
+
+        try {
+            var subscriber = threadFactory.newThread(() -> stream(emitter, after));
+
+            emitter.onCompletion(subscriber::interrupt);
+            emitter.onTimeout(subscriber::interrupt);
+            emitter.onError(error -> subscriber.interrupt());
+            subscriber.start();
+        } catch (RuntimeException e) {
+            subscribers.release();
+            throw e;
+        }
+
+        return emitter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_CHANGE_FEED_SUBSCRIBERS, this, streamer -> streamer.subscribers())
+            .description(METRIC_CHANGE_FEED_SUBSCRIBERS_DESCRIPTION)
+            .register(registry);
+        FunctionCounter.builder(METRIC_CHANGE_FEED_RESYNCS, resyncs, AtomicLong::get)
+            .description(METRIC_CHANGE_FEED_RESYNCS_DESCRIPTION)
+            .register(registry);
+        FunctionCounter.builder(METRIC_CHANGE_FEED_REJECTED, rejected, AtomicLong::get)
+            .description(METRIC_CHANGE_FEED_REJECTED_DESCRIPTION)
+            .register(registry);
+    }
+
+    /**
+     * Gives the clients streaming.
+     *
+     * @return Number of subscribers.
+     */
+    public int subscribers() {
+        return maxSubscribers - subscribers.availablePermits();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        feed.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void stream(SseEmitter emitter, long after) {
+        var cursor = after;
+
+        try {
+            while (true) {
+                var read = cursor == UNKNOWN_SEQUENCE
+                    ? new ChangeFeedRead.Resync(feed.lastSequence())
+                    : feed.read(cursor, MAX_CHANGES_PER_READ, heartbeatInterval);
+
+                switch (read) {
+                    case ChangeFeedRead.Changes changes -> {
+                        for (var mutation : changes.mutations()) {
+                            emitter.send(SseEmitter.event()
+                                .id(eventId(mutation.sequence()))
+                                .name(mutation.type().name().toLowerCase(Locale.ROOT))
+                                .data(mutation, MediaType.APPLICATION_JSON));
+                        }
+                        cursor = changes.mutations().getLast().sequence();
+                    }
+                    case ChangeFeedRead.Resync resync -> {
+                        resyncs.incrementAndGet();
+                        emitter.send(SseEmitter.event()
+                            .id(eventId(resync.sequence()))
+                            .name(EVENT_RESYNC)
+                            .data(Map.of(EVENT_RESYNC, resync.sequence()), MediaType.APPLICATION_JSON));
+                        emitter.complete();
+                        return;
+                    }
+                    case ChangeFeedRead.Idle idle -> emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+                    case ChangeFeedRead.Closed closed -> {
+                        emitter.complete();
+                        return;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // The stream ended (client gone or timed out): nothing left to send.
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // The client is gone, the emitter is already completed.
+        } finally {
+            subscribers.release();
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + EVENT_ID_SEPARATOR + Long.toString(sequence, EVENT_ID_RADIX);
+    }
+
+    /**
+     * Gives the sequence of an event id of this run, {@link #UNKNOWN_SEQUENCE} for any other.
+     */
+    private long sequenceOf(String eventId) {
+        var separator = eventId.lastIndexOf(EVENT_ID_SEPARATOR);
+
+        if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+            return UNKNOWN_SEQUENCE;
+        }
+
+        try {
+            return Long.parseLong(eventId.substring(separator + 1), EVENT_ID_RADIX);
+        } catch (NumberFormatException e) {
+            return UNKNOWN_SEQUENCE;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERCHANGEFEED.JAVA                                         */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.changefeed;
+
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import com.themusketeers.sbnative.service.mutation.UserMutationListener;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the last changes of the User Service in a ring shared by all the subscribers, each one reading at its own
+ * pace from the sequence it is at.
+ * <p>A write only stores its change in the ring and wakes the waiting subscribers: it never waits for them. A
+ * subscriber left behind by more than the ring holds finds its next change overwritten and is told to resync.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class UserChangeFeed implements UserMutationListener {
+    private final UserMutation[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+
+    private long lastSequence;
+    private boolean closed;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param capacity Indicates the last changes kept.
+     */
+    public UserChangeFeed(int capacity) {
+        this.ring = new UserMutation[capacity];
+    }
+
+    @Override
+    public void onMutation(UserMutation mutation) {
+        lock.lock();
+        try {
+            ring[slot(mutation.sequence())] = mutation;
+            lastSequence = mutation.sequence();
+            published.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the changes after a sequence, waiting for one if there is none yet.
+     *
+     * @param after    Indicates the last change the subscriber has.
+     * @param maxCount Indicates the changes given at most.
+     * @param wait     Indicates how long to wait for a change.
+     * @return The changes, or what the subscriber has to do instead.
+     * @throws InterruptedException When interrupted while waiting.
+     */
+    public ChangeFeedRead read(long after, int maxCount, Duration wait) throws InterruptedException {
+        var nanos = wait.toNanos();
+
+        lock.lock();
+        try {
+            if (after > lastSequence) {
+                return new ChangeFeedRead.Resync(lastSequence);
+            }
+
+            while (!closed && after == lastSequence) {
+                if (nanos <= 0) {
+                    return new ChangeFeedRead.Idle();
+                }
+
+                nanos = published.awaitNanos(nanos);
+            }
+
+            if (closed) {
+                return new ChangeFeedRead.Closed();
+            }
+
+            if (lastSequence - after > ring.length) {
+                return new ChangeFeedRead.Resync(lastSequence);
+            }
+
+            var until = Math.min(lastSequence, after + maxCount);
+            var mutations = new ArrayList<UserMutation>((int) (until - after));
+
+            for (var sequence = after + 1; sequence <= until; sequence++) {
+                mutations.add(ring[slot(sequence)]);
+            }
+
+            return new ChangeFeedRead.Changes(mutations);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives the sequence of the last change kept.
+     *
+     * @return 0 if there is none yet.
+     */
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the feed: the subscribers waiting or reading next get {@link ChangeFeedRead.Closed}.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            published.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % ring.length);
+    }
+}
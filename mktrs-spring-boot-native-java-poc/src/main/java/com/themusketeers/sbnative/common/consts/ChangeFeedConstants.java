@@ -0,0 +1,57 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CHANGEFEEDCONSTANTS.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the User Change Feed.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ChangeFeedConstants {
+    public static final String USER_CHANGE_FEED_CONTROLLER_GET_CHANGES_INFO =
+        "GET api/v1/users/changes -> Streaming User changes";
+    public static final String USER_CHANGE_FEED_CONTROLLER_GET_CHANGES_RESUME_INFO = "==> Resuming after [{}]";
+    public static final String HEADER_LAST_EVENT_ID = "Last-Event-ID";
+
+    /*
+     * Events: the id is <epoch>-<sequence>, the epoch telling apart the sequences of different runs
+     */
+    public static final String EVENT_ID_SEPARATOR = "-";
+    public static final int EVENT_ID_RADIX = 36;
+    public static final String EVENT_RESYNC = "resync";
+    public static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    /*
+     * Rejection
+     */
+    public static final String SUBSCRIBERS_EXHAUSTED_REASON = "Change feed subscribers limit reached, retry later";
+
+    /*
+     * Threads
+     */
+    public static final String THREAD_SUBSCRIBER = "change-feed-";
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_CHANGE_FEED_SUBSCRIBERS = "user.change-feed.subscribers";
+    public static final String METRIC_CHANGE_FEED_SUBSCRIBERS_DESCRIPTION = "Clients streaming the User changes";
+    public static final String METRIC_CHANGE_FEED_RESYNCS = "user.change-feed.resyncs";
+    public static final String METRIC_CHANGE_FEED_RESYNCS_DESCRIPTION =
+        "Clients sent to resync as the changes they missed were overwritten";
+    public static final String METRIC_CHANGE_FEED_REJECTED = "user.change-feed.rejected";
+    public static final String METRIC_CHANGE_FEED_REJECTED_DESCRIPTION =
+        "Clients rejected as the subscribers limit was reached";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private ChangeFeedConstants() {
+    }
+}
@@ -0,0 +1,64 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COMPRESSIONCONSTANTS.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Streaming media types left uncompressed.
+ Oct.19/2026  COQ  Digest of the bodies the cached variants were compressed from.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+import java.util.List;
+import org.springframework.http.MediaType;
+
+/**
+ * Constants associated with Response Compression.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class CompressionConstants {
+    /*
+     * Content coding
+     */
+    public static final String CODING_GZIP = "gzip";
+    public static final String CODING_ZSTD = "zstd";
+    public static final String CODING_ANY = "*";
+    public static final String CODING_SEPARATOR = ",";
+    public static final String CODING_PARAMETER_SEPARATOR = ";";
+    public static final String QUALITY_PARAMETER = "q=";
+
+    /*
+     * Cache of the compressed bodies
+     */
+    public static final String BODY_DIGEST_ALGORITHM = "SHA-256";
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_COMPRESSION_CACHE = "http.compression.cache";
+    public static final String METRIC_COMPRESSION_CACHE_DESCRIPTION = "Lookups of precompressed response bodies";
+    public static final String METRIC_COMPRESSION_CACHE_SIZE = "http.compression.cache.size";
+    public static final String METRIC_COMPRESSION_CACHE_SIZE_DESCRIPTION = "Precompressed response bodies kept";
+    public static final String METRIC_TAG_RESULT = "result";
+    public static final String RESULT_HIT = "hit";
+    public static final String RESULT_MISS = "miss";
+
+    /*
+     * Streaming responses, written as they are produced, thus never held to be compressed
+     */
+    public static final List<MediaType> STREAMING_MEDIA_TYPES =
+        List.of(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_NDJSON);
+
+    /*
+     * General
+     */
+    public static final String QUERY_STRING_SEPARATOR = "?";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private CompressionConstants() {
+    }
+}
@@ -0,0 +1,47 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CONCURRENCYLIMITCONSTANTS.JAVA                              */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the Adaptive Concurrency Limit.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ConcurrencyLimitConstants {
+    /*
+     * Gradient algorithm
+     */
+    public static final double MIN_GRADIENT = 0.5;
+    public static final double MAX_GRADIENT = 1.0;
+    public static final double LONG_RTT_DRIFT_RATIO = 2.0;
+    public static final double LONG_RTT_DRIFT_DECAY = 0.95;
+
+    /*
+     * Rejection
+     */
+    public static final String REJECTION_BODY = """
+        {"type":"about:blank","title":"Service Unavailable","status":503,\
+        "detail":"Concurrency limit reached, retry later"}""";
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_CONCURRENCY_LIMIT = "http.server.concurrency.limit";
+    public static final String METRIC_CONCURRENCY_LIMIT_DESCRIPTION = "Current adaptive concurrency limit";
+    public static final String METRIC_CONCURRENCY_IN_FLIGHT = "http.server.concurrency.in-flight";
+    public static final String METRIC_CONCURRENCY_IN_FLIGHT_DESCRIPTION = "Requests being served under the limit";
+    public static final String METRIC_CONCURRENCY_REJECTED = "http.server.concurrency.rejected";
+    public static final String METRIC_CONCURRENCY_REJECTED_DESCRIPTION = "Requests rejected as the limit was reached";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private ConcurrencyLimitConstants() {
+    }
+}
@@ -0,0 +1,49 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEADLINECONSTANTS.JAVA                                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the request deadlines.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class DeadlineConstants {
+    /*
+     * Headers: an absolute RFC 3339 instant, or a gRPC style timeout (up to 8 digits and a unit among H, M, S, m, u, n)
+     */
+    public static final String HEADER_REQUEST_DEADLINE = "X-Request-Deadline";
+    public static final String HEADER_GRPC_TIMEOUT = "grpc-timeout";
+    public static final String GRPC_TIMEOUT_PATTERN = "\\d{1,8}[HMSmun]";
+
+    /*
+     * Rejection
+     */
+    public static final String DEADLINE_EXCEEDED = "Request deadline exceeded";
+    public static final String EXPIRED_BODY = """
+        {"type":"about:blank","title":"Gateway Timeout","status":504,\
+        "detail":"Request deadline exceeded"}""";
+    public static final String INVALID_BODY = """
+        {"type":"about:blank","title":"Bad Request","status":400,\
+        "detail":"Invalid X-Request-Deadline or grpc-timeout header"}""";
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_DEADLINE_EXCEEDED = "http.server.deadline.exceeded";
+    public static final String METRIC_DEADLINE_EXCEEDED_DESCRIPTION = "Requests whose deadline expired";
+    public static final String METRIC_TAG_STAGE = "stage";
+    public static final String STAGE_ENTRY = "entry";
+    public static final String STAGE_PROCESSING = "processing";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private DeadlineConstants() {
+    }
+}
@@ -5,6 +5,7 @@
 /*-----------------------------------------------------------------------------
  History
  Jun.23/2023  COQ  File created.
+ Oct.19/2026  COQ  Too many user ids message.
  -----------------------------------------------------------------------------*/
 
 package com.themusketeers.sbnative.common.consts;
@@ -17,6 +18,7 @@ package com.themusketeers.sbnative.common.consts;
 public class ExceptionConstants {
     public static final String USER_WITH_ID = "User with id=[";
     public static final String NOT_FOUND = "] not found";
+    public static final String TOO_MANY_USER_IDS = "At most %d user ids are looked up at once, %d given";
 
     /**
      * Utility class, thus no constructor allowed.
@@ -0,0 +1,46 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FIELDPROJECTIONCONSTANTS.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  View of the multi-get response.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+import java.util.List;
+
+/**
+ * Constants associated with the sparse field projection ({@code fields=}) of the User read endpoints.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class FieldProjectionConstants {
+    public static final String QUERY_PARAM_FIELDS = "fields";
+    public static final String FIELDS_SEPARATOR = ",";
+
+    /*
+     * User properties, in the order they are written
+     */
+    public static final List<String> USER_FIELDS = List.of("id", "name", "address");
+
+    /*
+     * View definitions (avaje-jsonb view DSL), the User properties in place of %s
+     */
+    public static final String VIEW_USER = "(%s)";
+    public static final String VIEW_USER_DATA_RESPONSE = "(user(%s))";
+    public static final String VIEW_USERS_DATA_RESPONSE = "(count,users(%s))";
+    public static final String VIEW_USERS_LOOKUP_DATA_RESPONSE = "(count,users(%s),missing)";
+
+    /*
+     * Rejection
+     */
+    public static final String UNKNOWN_FIELD_REASON = "Unknown field [%s], expected any of " + USER_FIELDS;
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private FieldProjectionConstants() {
+    }
+}
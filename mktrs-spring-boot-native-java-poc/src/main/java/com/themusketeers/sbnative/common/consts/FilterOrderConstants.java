@@ -0,0 +1,44 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FILTERORDERCONSTANTS.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Concurrency limit filter order.
+ Oct.19/2026  COQ  Rate limit filter order.
+ Oct.19/2026  COQ  Replica read only filter order.
+ Oct.19/2026  COQ  Idempotency filter order.
+ Oct.19/2026  COQ  Resource accounting filter order.
+ Oct.19/2026  COQ  Flight recorder filter order.
+ Oct.19/2026  COQ  Deadline filter order.
+ Oct.19/2026  COQ  Idempotency filter inside the compression one.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+import org.springframework.core.Ordered;
+
+/**
+ * Order of the Servlet filters registered by the application, lower values run first (outermost).
+ * Kept in a single place so the whole filter chain can be read at once.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class FilterOrderConstants {
+    public static final int FIRST_REQUEST_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE;
+    public static final int RESOURCE_ACCOUNTING_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 1;
+    public static final int REPLICA_READ_ONLY_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 2;
+    public static final int FLIGHT_RECORDER_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 3;
+    public static final int DEADLINE_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 4;
+    public static final int RATE_LIMIT_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 5;
+    public static final int CONCURRENCY_LIMIT_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+    public static final int COMPRESSION_FILTER_ORDER = 0;
+    // Inside the compression, so the response kept is not encoded and every replay negotiates its own coding.
+    public static final int IDEMPOTENCY_FILTER_ORDER = COMPRESSION_FILTER_ORDER + 1;
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private FilterOrderConstants() {
+    }
+}
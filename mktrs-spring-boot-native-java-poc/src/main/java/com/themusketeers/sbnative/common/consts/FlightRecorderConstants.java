@@ -0,0 +1,62 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FLIGHTRECORDERCONSTANTS.JAVA                                */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get operation.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the Java Flight Recorder events and recordings.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class FlightRecorderConstants {
+    /*
+     * Events
+     */
+    public static final String EVENT_USER_SERVICE = "com.themusketeers.sbnative.UserServiceOperation";
+    public static final String EVENT_USER_REQUEST = "com.themusketeers.sbnative.UserRequest";
+    public static final String CATEGORY_APPLICATION = "Musketeers";
+    public static final String CATEGORY_USER_SERVICE = "User Service";
+    public static final String CATEGORY_USER_API = "User API";
+    public static final String FIELD_OPERATION = "operation";
+    public static final String FIELD_METHOD = "method";
+    public static final String FIELD_URI = "uri";
+    public static final String FIELD_USER_ID = "userId";
+    public static final String FIELD_STORE_SIZE = "storeSize";
+    public static final String FIELD_STATUS = "status";
+    public static final String OPERATION_EXISTS = "exists";
+    public static final String OPERATION_INSERT = "insert";
+    public static final String OPERATION_RETRIEVE = "retrieve";
+    public static final String OPERATION_DELETE = "delete";
+    public static final String OPERATION_UPDATE = "update";
+    public static final String OPERATION_RETRIEVE_ALL = "retrieveAll";
+    public static final String OPERATION_RETRIEVE_MANY = "retrieveMany";
+    public static final String OPERATION_COUNT = "count";
+    public static final String PATH_VARIABLE_USER_ID = "userId";
+    public static final String URI_UNKNOWN = "UNKNOWN";
+    public static final long STORE_SIZE_UNKNOWN = -1L;
+
+    /*
+     * Recordings
+     */
+    public static final String FLIGHT_RECORDER_ENDPOINT_ID = "flightrecorder";
+    public static final String RECORDING_NAME_PREFIX = "recording-";
+    public static final String RECORDING_NAME_PATTERN = "[A-Za-z0-9._-]{1,64}";
+    public static final String RECORDING_FILE_SUFFIX = ".jfr";
+    public static final String VIEW_SUMMARY = "summary";
+    public static final String VIEW_JFR = "jfr";
+    public static final String MEDIA_TYPE_ACTUATOR_JSON = "application/vnd.spring-boot.actuator.v3+json";
+    public static final String MEDIA_TYPE_JFR = "application/octet-stream";
+    public static final int STATUS_CONFLICT = 409;
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private FlightRecorderConstants() {
+    }
+}
@@ -5,6 +5,8 @@
 /*-----------------------------------------------------------------------------
  History
  May.30/2023  COQ  File created.
+ Oct.19/2026  COQ  Stream users log message.
+ Oct.19/2026  COQ  Look up users log message.
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative.common.consts;
 
@@ -15,8 +17,10 @@ package com.themusketeers.sbnative.common.consts;
  */
 public class GlobalConstants {
     public static final String USER_CONTROLLER_GET_RETRIEVE_USERS_INFO = "GET api/v1/users -> Retrieving Users";
+    public static final String USER_CONTROLLER_GET_STREAM_USERS_INFO = "GET api/v1/users/stream -> Streaming Users";
     public static final String USER_CONTROLLER_POST_INSERT_USER_INFO = "POST api/v1/users -> Create user.";
     public static final String USER_CONTROLLER_GET_RETRIEVE_USER_INFO = "GET api/v1/users/{userId} -> Retrieve user.";
+    public static final String USER_CONTROLLER_GET_LOOKUP_USERS_INFO = "GET api/v1/users?ids= -> Look up users.";
     public static final String USER_CONTROLLER_PATCH_USER_INFO = "PATCH api/v1/users -> Update user.";
     public static final String USER_CONTROLLER_DELETE_USER_INFO = "DELETE api/v1/users/{userId} -> Remove user.";
     public static final String COLON_SPACE_DELIMITER = ": ";
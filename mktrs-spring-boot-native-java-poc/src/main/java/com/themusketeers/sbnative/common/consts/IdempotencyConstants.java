@@ -0,0 +1,61 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   IDEMPOTENCYCONSTANTS.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Body too large rejection.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the {@code Idempotency-Key} support.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class IdempotencyConstants {
+    /*
+     * Headers (IETF draft "The Idempotency-Key HTTP Header Field")
+     */
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    public static final String IDEMPOTENT_REPLAYED_VALUE = "true";
+
+    /*
+     * Request fingerprint
+     */
+    public static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    /*
+     * Rejections
+     */
+    public static final int SC_UNPROCESSABLE_CONTENT = 422;
+    public static final String KEY_TOO_LONG_BODY = """
+        {"type":"about:blank","title":"Bad Request","status":400,\
+        "detail":"Idempotency-Key is too long"}""";
+    public static final String KEY_REUSED_BODY = """
+        {"type":"about:blank","title":"Unprocessable Content","status":422,\
+        "detail":"Idempotency-Key already used with a different request"}""";
+    public static final String BODY_TOO_LARGE_BODY = """
+        {"type":"about:blank","title":"Content Too Large","status":413,\
+        "detail":"Request body too large to be kept for an Idempotency-Key"}""";
+    public static final String KEY_IN_FLIGHT_BODY = """
+        {"type":"about:blank","title":"Conflict","status":409,\
+        "detail":"A request with this Idempotency-Key is still being processed, retry later"}""";
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_IDEMPOTENCY_KEYS = "http.server.idempotency.keys";
+    public static final String METRIC_IDEMPOTENCY_KEYS_DESCRIPTION = "Idempotency keys whose response is kept";
+    public static final String METRIC_IDEMPOTENCY_REPLAYS = "http.server.idempotency.replays";
+    public static final String METRIC_IDEMPOTENCY_REPLAYS_DESCRIPTION =
+        "Requests answered with the response kept for their idempotency key";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private IdempotencyConstants() {
+    }
+}
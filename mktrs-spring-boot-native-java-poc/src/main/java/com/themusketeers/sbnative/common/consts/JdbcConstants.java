@@ -0,0 +1,55 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   JDBCCONSTANTS.JAVA                                          */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get statement.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the JDBC User Service.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class JdbcConstants {
+    /*
+     * Schema
+     */
+    public static final String SCHEMA_LOCATION = "db/users-schema.sql";
+
+    /*
+     * Statements
+     */
+    public static final String SQL_EXISTS = "SELECT 1 FROM users WHERE id = ?";
+    public static final String SQL_INSERT = "INSERT INTO users (id, name, address) VALUES (?, ?, ?)";
+    public static final String SQL_RETRIEVE = "SELECT id, name, address FROM users WHERE id = ?";
+    public static final String SQL_RETRIEVE_MANY = "SELECT id, name, address FROM users WHERE id IN (:ids)";
+    public static final String PARAM_IDS = "ids";
+    public static final String SQL_DELETE = "DELETE FROM users WHERE id = ?";
+    public static final String SQL_UPDATE = "UPDATE users SET name = ?, address = ? WHERE id = ?";
+    public static final String SQL_RETRIEVE_PAGE = "SELECT id, name, address FROM users WHERE id > ? ORDER BY id LIMIT ?";
+    public static final String SQL_COUNT = "SELECT COUNT(*) FROM users";
+    public static final String FIRST_PAGE_KEY = "";
+
+    /*
+     * Insert batching
+     */
+    public static final String THREAD_INSERT_BATCHER = "jdbc-insert-batcher";
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_JDBC_INSERT_BATCHES = "user.service.jdbc.insert.batches";
+    public static final String METRIC_JDBC_INSERT_BATCHES_DESCRIPTION = "Round trips writing the single inserts";
+    public static final String METRIC_JDBC_INSERTS = "user.service.jdbc.inserts";
+    public static final String METRIC_JDBC_INSERTS_DESCRIPTION = "Single inserts written, grouped in the batches";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private JdbcConstants() {
+    }
+}
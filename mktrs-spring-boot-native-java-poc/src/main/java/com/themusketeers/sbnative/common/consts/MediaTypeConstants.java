@@ -0,0 +1,33 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   MEDIATYPECONSTANTS.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media types exchanged by the User API besides {@code application/json}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class MediaTypeConstants {
+    public static final String APPLICATION_CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+    public static final String APPLICATION_PROTOBUF_STANDARD_VALUE = "application/protobuf";
+
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+    public static final MediaType APPLICATION_PROTOBUF = MediaType.valueOf(APPLICATION_PROTOBUF_VALUE);
+    public static final MediaType APPLICATION_PROTOBUF_STANDARD = MediaType.valueOf(APPLICATION_PROTOBUF_STANDARD_VALUE);
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private MediaTypeConstants() {
+    }
+}
@@ -0,0 +1,44 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   R2DBCCONSTANTS.JAVA                                         */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the R2DBC User Service.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class R2dbcConstants {
+    /*
+     * Statements (named parameters, translated to the bind markers of the driver)
+     */
+    public static final String SQL_EXISTS = "SELECT 1 FROM users WHERE id = :id";
+    public static final String SQL_INSERT_PREFIX = "INSERT INTO users (id, name, address) VALUES ";
+    public static final String SQL_INSERT_ROW = "(:id%1$d, :name%1$d, :address%1$d)";
+    public static final String SQL_RETRIEVE = "SELECT id, name, address FROM users WHERE id = :id";
+    public static final String SQL_DELETE = "DELETE FROM users WHERE id = :id";
+    public static final String SQL_UPDATE = "UPDATE users SET name = :name, address = :address WHERE id = :id";
+    public static final String SQL_RETRIEVE_PAGE =
+        "SELECT id, name, address FROM users WHERE id > :afterId ORDER BY id LIMIT :limit";
+    public static final String SQL_COUNT = "SELECT COUNT(*) FROM users";
+
+    /*
+     * Parameters
+     */
+    public static final String PARAM_ID = "id";
+    public static final String PARAM_NAME = "name";
+    public static final String PARAM_ADDRESS = "address";
+    public static final String PARAM_AFTER_ID = "afterId";
+    public static final String PARAM_LIMIT = "limit";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private R2dbcConstants() {
+    }
+}
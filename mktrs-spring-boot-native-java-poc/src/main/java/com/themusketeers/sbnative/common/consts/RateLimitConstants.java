@@ -0,0 +1,48 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RATELIMITCONSTANTS.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the per client Rate Limit.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class RateLimitConstants {
+    /*
+     * Headers (IETF draft "RateLimit header fields for HTTP")
+     */
+    public static final String HEADER_RATE_LIMIT_LIMIT = "RateLimit-Limit";
+    public static final String HEADER_RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    public static final String HEADER_RATE_LIMIT_RESET = "RateLimit-Reset";
+
+    /*
+     * Rejection
+     */
+    public static final int SC_TOO_MANY_REQUESTS = 429;
+    public static final String REJECTION_BODY = """
+        {"type":"about:blank","title":"Too Many Requests","status":429,\
+        "detail":"Rate limit exceeded, retry later"}""";
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_RATE_LIMIT_REJECTED = "http.server.rate-limit.rejected";
+    public static final String METRIC_RATE_LIMIT_REJECTED_DESCRIPTION = "Requests rejected as the client ran out of budget";
+    public static final String METRIC_RATE_LIMIT_CLIENTS = "http.server.rate-limit.clients";
+    public static final String METRIC_RATE_LIMIT_CLIENTS_DESCRIPTION = "Clients whose budget is being tracked";
+    public static final String METRIC_TAG_BUDGET = "budget";
+    public static final String BUDGET_READ = "read";
+    public static final String BUDGET_WRITE = "write";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private RateLimitConstants() {
+    }
+}
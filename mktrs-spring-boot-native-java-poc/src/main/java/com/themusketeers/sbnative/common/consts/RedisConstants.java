@@ -0,0 +1,51 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REDISCONSTANTS.JAVA                                         */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the Redis User Service.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class RedisConstants {
+    /*
+     * Keys, a hash per User ({@code <prefix>id:<id>}) and the number of Users ({@code <prefix>count})
+     */
+    public static final String KEY_USER_INFIX = "id:";
+    public static final String KEY_COUNT_SUFFIX = "count";
+    public static final String KEY_MATCH_ALL = "*";
+
+    /*
+     * Hash fields, kept short as they are stored in every hash
+     */
+    public static final String FIELD_NAME = "n";
+    public static final String FIELD_ADDRESS = "a";
+
+    /*
+     * Scripts, so a write and the count change together. KEYS[1] is the User hash, KEYS[2] the count.
+     */
+    public static final String SCRIPT_INSERT = """
+        local added = redis.call('HSET', KEYS[1], 'n', ARGV[1], 'a', ARGV[2])
+        if added > 0 then redis.call('INCR', KEYS[2]) end
+        return added""";
+    public static final String SCRIPT_UPDATE = """
+        if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+        redis.call('HSET', KEYS[1], 'n', ARGV[1], 'a', ARGV[2])
+        return 1""";
+    public static final String SCRIPT_DELETE = """
+        local removed = redis.call('DEL', KEYS[1])
+        if removed > 0 then redis.call('DECR', KEYS[2]) end
+        return removed""";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private RedisConstants() {
+    }
+}
@@ -0,0 +1,79 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONCONSTANTS.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Protocol limits.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the primary/replica Replication.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ReplicationConstants {
+    /*
+     * Protocol frame types
+     */
+    public static final byte FRAME_HELLO = 1;
+    public static final byte FRAME_SNAPSHOT = 2;
+    public static final byte FRAME_BATCH = 3;
+    public static final byte FRAME_ACK = 4;
+    public static final byte FRAME_HEARTBEAT = 5;
+
+    /*
+     * Protocol
+     */
+    public static final int PROTOCOL_MAGIC = 0x55535231; // "USR1"
+    public static final int SOCKET_BUFFER_SIZE = 64 * 1024;
+    public static final int HEARTBEATS_BEFORE_TIMEOUT = 3;
+    public static final long NO_EPOCH = 0L;
+
+    /*
+     * Protocol limits, so a corrupt or hostile peer cannot make the reader allocate at will
+     */
+    public static final int MAX_SNAPSHOT_USERS = 64 * 1024 * 1024;
+    public static final int MAX_BATCH_MUTATIONS = 64 * 1024;
+    public static final int MAX_STRING_BYTES = 1024 * 1024;
+    public static final int MAX_PREALLOCATED_ITEMS = 1024;
+
+    /*
+     * Threads
+     */
+    public static final String THREAD_REPLICATION_ACCEPTOR = "replication-acceptor";
+    public static final String THREAD_REPLICATION_SENDER = "replication-sender-";
+    public static final String THREAD_REPLICATION_ACK_READER = "replication-ack-reader-";
+    public static final String THREAD_REPLICATION_CLIENT = "replication-client";
+
+    /*
+     * Rejection of writes on a replica
+     */
+    public static final int SC_MISDIRECTED_REQUEST = 421;
+    public static final String REPLICA_REJECTION_BODY = """
+        {"type":"about:blank","title":"Misdirected Request","status":421,\
+        "detail":"This instance is a read replica, send writes to the primary"}""";
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_REPLICATION_SEQUENCE = "replication.sequence";
+    public static final String METRIC_REPLICATION_SEQUENCE_DESCRIPTION = "Sequence of the last change applied";
+    public static final String METRIC_REPLICATION_LAG = "replication.lag";
+    public static final String METRIC_REPLICATION_LAG_DESCRIPTION = "Changes of the primary not yet applied (acknowledged) by the replica(s)";
+    public static final String METRIC_REPLICATION_APPLY_DELAY = "replication.apply.delay";
+    public static final String METRIC_REPLICATION_APPLY_DELAY_DESCRIPTION = "Time from the primary applying the last change to the replica applying it";
+    public static final String METRIC_REPLICATION_CONNECTED = "replication.connected";
+    public static final String METRIC_REPLICATION_CONNECTED_DESCRIPTION = "Replicas connected (primary) or 1 if connected to the primary (replica)";
+    public static final String METRIC_TAG_ROLE = "role";
+    public static final String ROLE_PRIMARY = "primary";
+    public static final String ROLE_REPLICA = "replica";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private ReplicationConstants() {
+    }
+}
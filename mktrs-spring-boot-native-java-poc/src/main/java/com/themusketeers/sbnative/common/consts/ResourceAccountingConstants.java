@@ -0,0 +1,47 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RESOURCEACCOUNTINGCONSTANTS.JAVA                            */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the per request CPU time and allocation accounting.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ResourceAccountingConstants {
+    /*
+     * Debug headers
+     */
+    public static final String HEADER_SERVER_TIMING = "Server-Timing";
+    public static final String SERVER_TIMING_CPU_FORMAT = "cpu;dur=%.3f";
+    public static final String HEADER_ALLOCATED_BYTES = "X-Allocated-Bytes";
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_REQUEST_CPU = "http.server.requests.cpu";
+    public static final String METRIC_REQUEST_CPU_DESCRIPTION = "CPU time spent by the thread serving the requests";
+    public static final String METRIC_REQUEST_ALLOCATED = "http.server.requests.allocated";
+    public static final String METRIC_REQUEST_ALLOCATED_DESCRIPTION =
+        "Heap allocated by the thread serving the requests";
+    public static final String METRIC_REQUEST_UNMEASURED = "http.server.requests.unmeasured";
+    public static final String METRIC_REQUEST_UNMEASURED_DESCRIPTION =
+        "Requests served on a thread without CPU time or allocation counters, such as a virtual thread";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_URI = "uri";
+    public static final String TAG_STATUS = "status";
+    public static final String TAG_EXCEPTION = "exception";
+    public static final String TAG_VALUE_UNKNOWN = "UNKNOWN";
+    public static final String TAG_VALUE_NONE = "none";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private ResourceAccountingConstants() {
+    }
+}
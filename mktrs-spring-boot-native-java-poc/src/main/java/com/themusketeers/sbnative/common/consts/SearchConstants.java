@@ -0,0 +1,58 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   SEARCHCONSTANTS.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Fuzzy name search.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the User Search.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class SearchConstants {
+    public static final String USER_SEARCH_CONTROLLER_GET_SEARCH_INFO = "GET api/v1/users/search -> Searching Users";
+    public static final String USER_SEARCH_CONTROLLER_GET_SEARCH_QUERY_INFO = "==> Query q=[{}] limit=[{}]";
+    public static final String USER_SEARCH_CONTROLLER_GET_FUZZY_SEARCH_INFO =
+        "GET api/v1/users/search/fuzzy -> Searching Users by name";
+    public static final String USER_SEARCH_CONTROLLER_GET_FUZZY_SEARCH_QUERY_INFO =
+        "==> Query name=[{}] threshold=[{}] limit=[{}]";
+
+    /*
+     * Index sizing
+     */
+    public static final int INITIAL_DOCUMENTS = 1024;
+    public static final int INITIAL_POSTINGS = 4;
+    public static final int MIN_DEAD_POSTINGS_TO_COMPACT = 4096;
+
+    /*
+     * Trigrams, taken from the name padded with two spaces ahead and one behind, so the start of a word weighs more
+     */
+    public static final int GRAM_LENGTH = 3;
+    public static final String GRAM_PADDING_START = "  ";
+    public static final String GRAM_PADDING_END = " ";
+    public static final int EDITS_LOSING_GRAMS = 4;
+
+    /*
+     * Metrics
+     */
+    public static final String METRIC_SEARCH_DOCUMENTS = "user.search.documents";
+    public static final String METRIC_SEARCH_DOCUMENTS_DESCRIPTION = "Users in the search index";
+    public static final String METRIC_SEARCH_TERMS = "user.search.terms";
+    public static final String METRIC_SEARCH_TERMS_DESCRIPTION = "Distinct terms in the search index";
+    public static final String METRIC_SEARCH_DEAD_POSTINGS = "user.search.postings.dead";
+    public static final String METRIC_SEARCH_DEAD_POSTINGS_DESCRIPTION =
+        "Postings of removed or replaced users not yet compacted away";
+    public static final String METRIC_FUZZY_SEARCH_GRAMS = "user.search.fuzzy.grams";
+    public static final String METRIC_FUZZY_SEARCH_GRAMS_DESCRIPTION = "Distinct name trigrams in the fuzzy index";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private SearchConstants() {
+    }
+}
@@ -0,0 +1,59 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPTIMELINECONSTANTS.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Search index load milestones.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the Startup Timeline.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class StartupTimelineConstants {
+    /*
+     * General
+     */
+    public static final int STARTUP_STEPS_CAPACITY = 8192;
+    public static final String STARTUP_TIMELINE_ENDPOINT_ID = "startuptimeline";
+
+    /*
+     * Milestones
+     */
+    public static final String MILESTONE_JVM_STARTED = "jvm.started";
+    public static final String MILESTONE_CONTEXT_REFRESHED = "context.refreshed";
+    public static final String MILESTONE_WEB_SERVER_STARTING = "web-server.starting";
+    public static final String MILESTONE_WEB_SERVER_STARTED = "web-server.started";
+    public static final String MILESTONE_APPLICATION_STARTED = "application.started";
+    public static final String MILESTONE_APPLICATION_READY = "application.ready";
+    public static final String MILESTONE_FIRST_REQUEST = "first-request.completed";
+    public static final String MILESTONE_STORE_LOAD = "store.load";
+    public static final String MILESTONE_SEARCH_INDEX_LOAD = "search-index.load";
+    public static final String MILESTONE_FUZZY_INDEX_LOAD = "fuzzy-index.load";
+
+    /*
+     * Startup steps
+     */
+    public static final String STEP_BEANS_INSTANTIATE = "spring.beans.instantiate";
+    public static final String STEP_TAG_BEAN_NAME = "beanName";
+
+    /*
+     * Log messages
+     */
+    public static final String LOG_STARTUP_SUMMARY = "Startup timeline: ready in {} ms since JVM start";
+    public static final String LOG_STARTUP_MILESTONE = "==> {} at {} ms{}";
+    public static final String LOG_STARTUP_MILESTONE_DURATION = " (took {0} ms)";
+    public static final String LOG_STARTUP_PHASE = "==> Phase {} took {} ms";
+    public static final String LOG_STARTUP_SLOW_BEAN = "==> Bean [{}] instantiated in {} ms";
+    public static final String LOG_FIRST_REQUEST = "Startup timeline: first request completed {} ms since JVM start";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private StartupTimelineConstants() {
+    }
+}
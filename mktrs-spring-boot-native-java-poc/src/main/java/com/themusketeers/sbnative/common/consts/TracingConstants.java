@@ -0,0 +1,51 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   TRACINGCONSTANTS.JAVA                                       */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the Observation spans of the User API and their export.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class TracingConstants {
+    /*
+     * Observations, all of them under the "user" prefix so they can be turned off at once with
+     * management.observations.enable.user=false
+     */
+    public static final String OBSERVATION_USER_SERVICE = "user.service";
+    public static final String OBSERVATION_USER_VALIDATION = "user.validation";
+    public static final String OBSERVATION_USER_SERIALIZATION = "user.serialization";
+    public static final String CONTEXTUAL_NAME_SERVICE_PREFIX = "user-service ";
+    public static final String CONTEXTUAL_NAME_VALIDATION_PREFIX = "validate ";
+    public static final String CONTEXTUAL_NAME_SERIALIZATION_PREFIX = "json ";
+
+    /*
+     * Key values
+     */
+    public static final String KEY_OPERATION = "operation";
+    public static final String KEY_USER_ID = "user.id";
+    public static final String KEY_TYPE = "type";
+    public static final String KEY_VALID = "valid";
+    public static final String KEY_DIRECTION = "direction";
+    public static final String KEY_FORMAT = "format";
+    public static final String DIRECTION_READ = "read";
+    public static final String DIRECTION_WRITE = "write";
+    public static final String FORMAT_JSON = "json";
+
+    /*
+     * File exporter, "%g" being the generation of the rotated file
+     */
+    public static final String SPAN_FILE_PATTERN = "spans.%g.jsonl";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private TracingConstants() {
+    }
+}
@@ -0,0 +1,66 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSERVICECONSTANTS.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Caching constants.
+ Oct.19/2026  COQ  HAMT store metrics.
+ Oct.19/2026  COQ  Multi-get constants.
+ Oct.19/2026  COQ  Mutation write lock stripes.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.consts;
+
+/**
+ * Constants associated with the User Service decorators.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class UserServiceConstants {
+    /*
+     * Coalescing
+     */
+    public static final String METRIC_COALESCING_CALLS = "user.service.coalescing.calls";
+    public static final String METRIC_COALESCING_CALLS_DESCRIPTION = "Reads by id, either loaded or joined to an in-flight load";
+    public static final String METRIC_COALESCING_RATIO = "user.service.coalescing.ratio";
+    public static final String METRIC_COALESCING_RATIO_DESCRIPTION = "Share of reads by id served by another caller's load";
+    public static final String METRIC_TAG_OPERATION = "operation";
+    public static final String METRIC_TAG_RESULT = "result";
+    public static final String OPERATION_RETRIEVE = "retrieve";
+    public static final String OPERATION_EXISTS = "exists";
+    public static final String RESULT_LOADED = "loaded";
+    public static final String RESULT_COALESCED = "coalesced";
+
+    /*
+     * Caching
+     */
+    public static final String CACHE_NAME_USERS = "users";
+    public static final int CACHE_WRITE_LOCK_STRIPES = 64;
+    public static final int USER_WEIGHT_OVERHEAD = 96;
+
+    /*
+     * Mutation publishing
+     */
+    public static final int MUTATION_WRITE_LOCK_STRIPES = 64;
+
+    /*
+     * HAMT store
+     */
+    public static final String METRIC_HAMT_CAS_RETRIES = "user.service.hamt.cas.retries";
+    public static final String METRIC_HAMT_CAS_RETRIES_DESCRIPTION =
+        "Writes redone as another write replaced the store version first";
+
+    /*
+     * Multi-get
+     */
+    public static final int RETRIEVE_MANY_MAX_IDS = 100;
+    public static final int RETRIEVE_MANY_PARALLELISM = 16;
+    public static final String THREAD_RETRIEVE_MANY = "user-retrieve-many";
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private UserServiceConstants() {
+    }
+}
@@ -0,0 +1,28 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEADLINEEXCEEDEDEXCEPTION.JAVA                              */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.common.exception;
+
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.DEADLINE_EXCEEDED;
+
+/**
+ * Raised when the deadline of the request being served has expired, so the work left is given up: the client is no
+ * longer waiting for it.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * Constructor without parameters.
+     */
+    public DeadlineExceededException() {
+        // No stack trace: it is an expected outcome under overload, raised where it is cheapest to stop.
+        super(DEADLINE_EXCEEDED, null, false, false);
+    }
+}
@@ -6,6 +6,7 @@
  History
  Jun.21/2023  COQ  File created.
  May.29/2024  COQ  Change implementation for handlers.
+ Oct.19/2026  COQ  Deadline exceeded handler.
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative.common.exception.handler;
 
@@ -19,6 +20,7 @@ import static com.themusketeers.sbnative.common.consts.ControllerExceptionHandle
 import static com.themusketeers.sbnative.common.consts.GlobalConstants.COLON_SPACE_DELIMITER;
 
 import com.themusketeers.sbnative.common.exception.ApiException;
+import com.themusketeers.sbnative.common.exception.DeadlineExceededException;
 import com.themusketeers.sbnative.common.exception.UserNotFoundException;
 import java.net.URI;
 import java.time.Instant;
@@ -95,6 +97,27 @@ public class GlobalControllerExceptionHandler extends ResponseEntityExceptionHan
         return this.createResponseEntity(problemDetail, httpHeaders, httpStatus, request);
     }
 
+    /**
+     * Reports as response when the deadline of the request expired while it was being served.
+     *
+     * @param ex      Instance to the whole problem.
+     * @param request Instance with information about the request.
+     * @return A {@code 504 Gateway Timeout}, which the client is most likely no longer waiting for.
+     * @see DeadlineExceededException
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<Object> handleDeadlineExceededException(RuntimeException ex, WebRequest request) {
+        var httpStatus = HttpStatus.GATEWAY_TIMEOUT;
+        var problemDetail = ProblemDetail.forStatusAndDetail(httpStatus, ex.getMessage());
+        var instanceURL = ((ServletWebRequest) request).getRequest().getRequestURI(); // This cast is for Servlet use case.
+
+        problemDetail.setInstance(URI.create(instanceURL));
+        problemDetail.setProperty(PROPERTY_ERROR_CATEGORY, ERROR_CATEGORY_GENERIC);
+        problemDetail.setProperty(PROPERTY_TIMESTAMP, Instant.now());
+
+        return this.createResponseEntity(problemDetail, new HttpHeaders(), httpStatus, request);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
                                                                   HttpHeaders headers,
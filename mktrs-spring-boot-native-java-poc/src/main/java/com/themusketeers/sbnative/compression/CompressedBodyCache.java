@@ -0,0 +1,132 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COMPRESSEDBODYCACHE.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Bounded by weight in a Caffeine cache, keeping a digest of the uncompressed body only.
+ Oct.19/2026  COQ  Content type added to the key.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.compression;
+
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.BODY_DIGEST_ALGORITHM;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the compressed variants of response bodies so they are reused across requests and not recompressed
+ * each time. An entry is only reused while the freshly produced uncompressed body is the same as the one it was
+ * compressed from, as told by their length and SHA-256 digest, thus the cache never serves stale data no matter how
+ * the store changed. Only the digest is kept, not the uncompressed body.
+ * <p>Entries are kept per resource, content type and content coding, so the representations of a resource
+ * negotiated by {@code Accept} (JSON, CBOR, ...) do not evict each other.</p>
+ * <p>It is a Caffeine cache bounded by the size of the compressed bodies it keeps; its admission being frequency
+ * aware (W-TinyLFU), the popular bodies (the full list, the most requested users) stay.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class CompressedBodyCache {
+    private final long maxWeight;
+    private final int maxBodySize;
+    private final Cache<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param maxWeight   Indicates the size (in bytes) of the compressed bodies kept at most, 0 disables the cache.
+     * @param maxBodySize Indicates the biggest uncompressed body (in bytes) whose compressed variant is kept.
+     */
+    public CompressedBodyCache(long maxWeight, int maxBodySize) {
+        this.maxWeight = maxWeight;
+        this.maxBodySize = maxBodySize;
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher(CompressedBodyCache::weigh)
+            .build();
+    }
+
+    /**
+     * Gives the compressed variant of the body, compressing it only when there is no reusable variant.
+     *
+     * @param resource    Identifies the resource (path and query) the body belongs to.
+     * @param contentType Indicates the content type of the body, if any.
+     * @param encoding    Indicates the content coding to apply.
+     * @param body        Holds the uncompressed body.
+     * @return The compressed body.
+     */
+    public byte[] compress(String resource, String contentType, ContentEncoding encoding, byte[] body) {
+        if (maxWeight <= 0 || body.length > maxBodySize) {
+            misses.increment();
+            return encoding.compress(body, body.length);
+        }
+
+        var key = new Key(resource, contentType, encoding);
+        var entry = entries.getIfPresent(key);
+        var digest = digest(body);
+
+        if (entry != null && entry.length() == body.length && MessageDigest.isEqual(entry.digest(), digest)) {
+            hits.increment();
+            return entry.compressed();
+        }
+
+        misses.increment();
+
+        var compressed = encoding.compress(body, body.length);
+
+        entries.put(key, new Entry(body.length, digest, compressed));
+        return compressed;
+    }
+
+    /**
+     * Gives how many compressed bodies were reused.
+     *
+     * @return Number of hits.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gives how many bodies had to be compressed.
+     *
+     * @return Number of misses.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gives how many compressed bodies are kept.
+     *
+     * @return Number of entries.
+     */
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    private static int weigh(Key key, Entry entry) {
+        return entry.compressed().length + entry.digest().length;
+    }
+
+    private static byte[] digest(byte[] body) {
+        try {
+            return MessageDigest.getInstance(BODY_DIGEST_ALGORITHM).digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(String resource, String contentType, ContentEncoding encoding) {
+    }
+
+    private record Entry(int length, byte[] digest, byte[] compressed) {
+    }
+}
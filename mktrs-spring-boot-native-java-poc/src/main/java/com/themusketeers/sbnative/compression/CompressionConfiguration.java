@@ -0,0 +1,70 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COMPRESSIONCONFIGURATION.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Cache bounded by the size of the compressed bodies.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.compression;
+
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.METRIC_COMPRESSION_CACHE;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.METRIC_COMPRESSION_CACHE_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.METRIC_COMPRESSION_CACHE_SIZE;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.METRIC_COMPRESSION_CACHE_SIZE_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.METRIC_TAG_RESULT;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.RESULT_HIT;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.RESULT_MISS;
+import static com.themusketeers.sbnative.common.consts.FilterOrderConstants.COMPRESSION_FILTER_ORDER;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires Response Compression for the User API. Disabled by means of {@code app.compression.enabled=false}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.compression", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionConfiguration {
+
+    @Bean
+    public CompressedBodyCache compressedBodyCache(CompressionProperties properties) {
+        return new CompressedBodyCache(properties.cacheMaxWeight().toBytes(), (int) properties.cacheMaxBodySize().toBytes());
+    }
+
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(CompressionProperties properties,
+                                                                       CompressedBodyCache cache) {
+        var filter = new CompressionFilter(properties.encodings(), (int) properties.minResponseSize().toBytes(), cache);
+        var registration = new FilterRegistrationBean<>(filter);
+
+        registration.setUrlPatterns(properties.urlPatterns());
+        registration.setOrder(COMPRESSION_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder compressedBodyCacheMetrics(CompressedBodyCache cache) {
+        return registry -> {
+            FunctionCounter.builder(METRIC_COMPRESSION_CACHE, cache, CompressedBodyCache::hits)
+                .description(METRIC_COMPRESSION_CACHE_DESCRIPTION)
+                .tag(METRIC_TAG_RESULT, RESULT_HIT)
+                .register(registry);
+            FunctionCounter.builder(METRIC_COMPRESSION_CACHE, cache, CompressedBodyCache::misses)
+                .description(METRIC_COMPRESSION_CACHE_DESCRIPTION)
+                .tag(METRIC_TAG_RESULT, RESULT_MISS)
+                .register(registry);
+            Gauge.builder(METRIC_COMPRESSION_CACHE_SIZE, cache, CompressedBodyCache::size)
+                .description(METRIC_COMPRESSION_CACHE_SIZE_DESCRIPTION)
+                .register(registry);
+        };
+    }
+}
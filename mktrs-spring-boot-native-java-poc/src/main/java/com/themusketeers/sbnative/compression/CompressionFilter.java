@@ -0,0 +1,148 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COMPRESSIONFILTER.JAVA                                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Streaming responses pass through.
+ Oct.19/2026  COQ  Compressed bodies cached per content type as well.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.compression;
+
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.QUERY_STRING_SEPARATOR;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.STREAMING_MEDIA_TYPES;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Negotiates the content coding of GET responses by means of the {@code Accept-Encoding} header and compresses
+ * bodies at least as big as the configured threshold. The compressed variants are taken from the
+ * {@link CompressedBodyCache} when the body did not change, so the CPU is not spent compressing the same
+ * listing over and over. Streaming responses (Server-Sent Events, NDJSON) are written through as they come.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+    private final List<ContentEncoding> encodings;
+    private final int minResponseSize;
+    private final CompressedBodyCache cache;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param encodings       Indicates the content codings offered, in order of preference.
+     * @param minResponseSize Indicates the smallest response body (in bytes) that gets compressed.
+     * @param cache           Instance keeping the compressed bodies for reuse.
+     */
+    public CompressionFilter(List<ContentEncoding> encodings, int minResponseSize, CompressedBodyCache cache) {
+        this.encodings = List.copyOf(encodings);
+        this.minResponseSize = minResponseSize;
+        this.cache = cache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        var encoding = ContentEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING), encodings);
+
+        if (encoding == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var responseWrapper = new StreamingAwareResponseWrapper(response);
+
+        filterChain.doFilter(request, responseWrapper);
+
+        if (responseWrapper.isStreaming()) {
+            return;
+        }
+
+        if (!isCompressible(responseWrapper)) {
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+
+        var compressed = cache.compress(resource(request),
+            responseWrapper.getContentType(),
+            encoding,
+            responseWrapper.getContentAsByteArray());
+
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.coding());
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+        response.flushBuffer();
+    }
+
+    private boolean isCompressible(ContentCachingResponseWrapper response) {
+        return response.getStatus() == HttpServletResponse.SC_OK
+            && response.getContentSize() >= minResponseSize
+            && !response.containsHeader(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private static String resource(HttpServletRequest request) {
+        var queryString = request.getQueryString();
+
+        return queryString == null
+            ? request.getRequestURI()
+            : request.getRequestURI() + QUERY_STRING_SEPARATOR + queryString;
+    }
+
+    /**
+     * Holds the body to compress it, unless its content type is a streaming one: such a body goes straight to the
+     * response, flushes included, as it may be written long after the filter returned (asynchronous requests).
+     */
+    private static final class StreamingAwareResponseWrapper extends ContentCachingResponseWrapper {
+
+        StreamingAwareResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreaming()) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+
+        boolean isStreaming() {
+            var contentType = getContentType();
+
+            return contentType != null && STREAMING_MEDIA_TYPES.stream()
+                .anyMatch(streaming -> streaming.isCompatibleWith(MediaType.parseMediaType(contentType)));
+        }
+    }
+}
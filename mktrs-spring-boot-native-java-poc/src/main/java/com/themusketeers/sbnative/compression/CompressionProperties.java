@@ -0,0 +1,36 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COMPRESSIONPROPERTIES.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Cache bounded by the size of the compressed bodies.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.compression;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for Response Compression.
+ * <p><b>Prefix:</b>{@code app.compression}</p>
+ *
+ * @param enabled          Indicates if responses are compressed.
+ * @param urlPatterns      Indicates the Servlet URL patterns whose responses are compressed.
+ * @param encodings        Indicates the content codings offered, in order of preference.
+ * @param minResponseSize  Indicates the smallest response body that gets compressed.
+ * @param cacheMaxWeight   Indicates the size of the compressed bodies kept for reuse, 0 disables the cache.
+ * @param cacheMaxBodySize Indicates the biggest uncompressed body whose compressed variant is kept.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.compression")
+public record CompressionProperties(@DefaultValue("true") boolean enabled,
+                                    @DefaultValue({"/api/v1/users", "/api/v1/users/*"}) List<String> urlPatterns,
+                                    @DefaultValue({"zstd", "gzip"}) List<ContentEncoding> encodings,
+                                    @DefaultValue("1KB") DataSize minResponseSize,
+                                    @DefaultValue("16MB") DataSize cacheMaxWeight,
+                                    @DefaultValue("1MB") DataSize cacheMaxBodySize) {
+}
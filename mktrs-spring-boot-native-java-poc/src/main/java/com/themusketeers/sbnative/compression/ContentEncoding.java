@@ -0,0 +1,153 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CONTENTENCODING.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.compression;
+
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.CODING_ANY;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.CODING_GZIP;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.CODING_PARAMETER_SEPARATOR;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.CODING_SEPARATOR;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.CODING_ZSTD;
+import static com.themusketeers.sbnative.common.consts.CompressionConstants.QUALITY_PARAMETER;
+
+import io.airlift.compress.zstd.ZstdCompressor;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content codings the application is able to compress a response body with. Only pure Java implementations
+ * are used so they run unchanged in the native image.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public enum ContentEncoding {
+    /**
+     * Zstandard (RFC 8878), pure Java encoder from aircompressor.
+     */
+    ZSTD(CODING_ZSTD) {
+        @Override
+        public byte[] compress(byte[] body, int length) {
+            var compressor = new ZstdCompressor();
+            var compressed = new byte[compressor.maxCompressedLength(length)];
+            var compressedLength = compressor.compress(body, 0, length, compressed, 0, compressed.length);
+
+            return Arrays.copyOf(compressed, compressedLength);
+        }
+    },
+
+    /**
+     * GZIP (RFC 1952), JDK encoder.
+     */
+    GZIP(CODING_GZIP) {
+        @Override
+        public byte[] compress(byte[] body, int length) {
+            var compressed = new ByteArrayOutputStream(Math.max(64, length / 4));
+
+            try (var gzip = new GZIPOutputStream(compressed, GZIP_BUFFER_SIZE)) {
+                gzip.write(body, 0, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return compressed.toByteArray();
+        }
+    };
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final String coding;
+
+    ContentEncoding(String coding) {
+        this.coding = coding;
+    }
+
+    /**
+     * Gives the content coding token used in the {@code Accept-Encoding} and {@code Content-Encoding} headers.
+     *
+     * @return The content coding token.
+     */
+    public String coding() {
+        return coding;
+    }
+
+    /**
+     * Compresses the given body.
+     *
+     * @param body   Holds the uncompressed body.
+     * @param length Indicates how many bytes of {@code body} are used.
+     * @return The compressed body.
+     */
+    public abstract byte[] compress(byte[] body, int length);
+
+    /**
+     * Selects the content coding to use for the response according to the {@code Accept-Encoding} request header
+     * (RFC 9110, section 12.5.3). The highest quality value wins, on a tie the first of {@code supported} wins.
+     *
+     * @param acceptEncoding Indicates the {@code Accept-Encoding} request header, it may be NULL.
+     * @param supported      Indicates the enabled content codings, in order of preference.
+     * @return The selected content coding, NULL if the response must not be compressed.
+     */
+    public static ContentEncoding negotiate(String acceptEncoding, List<ContentEncoding> supported) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+
+        ContentEncoding selected = null;
+        var selectedQuality = 0.0d;
+
+        for (var encoding : supported) {
+            var quality = quality(acceptEncoding, encoding.coding());
+
+            if (quality > selectedQuality) {
+                selected = encoding;
+                selectedQuality = quality;
+            }
+        }
+
+        return selected;
+    }
+
+    private static double quality(String acceptEncoding, String coding) {
+        var anyQuality = 0.0d;
+
+        for (var element : acceptEncoding.split(CODING_SEPARATOR)) {
+            var parameters = element.split(CODING_PARAMETER_SEPARATOR);
+            var token = parameters[0].trim();
+
+            if (token.equalsIgnoreCase(coding)) {
+                return parseQuality(parameters);
+            }
+
+            if (CODING_ANY.equals(token)) {
+                anyQuality = parseQuality(parameters);
+            }
+        }
+
+        return anyQuality;
+    }
+
+    private static double parseQuality(String[] parameters) {
+        for (var i = 1; i < parameters.length; i++) {
+            var parameter = parameters[i].trim();
+
+            if (parameter.startsWith(QUALITY_PARAMETER)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()));
+                } catch (NumberFormatException e) {
+                    return 0.0d;
+                }
+            }
+        }
+
+        return 1.0d;
+    }
+}
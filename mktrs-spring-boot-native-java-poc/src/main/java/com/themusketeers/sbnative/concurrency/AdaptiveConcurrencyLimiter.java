@@ -0,0 +1,123 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   ADAPTIVECONCURRENCYLIMITER.JAVA                             */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Admits requests while the number in flight is under the {@link GradientLimit}, whose value is adapted from
+ * the latency of the requests admitted. Admission is a lock-free compare-and-set, so a request over the limit
+ * is turned away right away instead of piling up on a virtual thread.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final GradientLimit limit;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param limit Instance estimating the limit.
+     */
+    public AdaptiveConcurrencyLimiter(GradientLimit limit) {
+        this(limit, System::nanoTime);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param limit     Instance estimating the limit.
+     * @param nanoClock Indicates the source of the time measuring the request latency.
+     */
+    AdaptiveConcurrencyLimiter(GradientLimit limit, LongSupplier nanoClock) {
+        this.limit = limit;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Admits a request if the limit allows it.
+     *
+     * @return The permit to give back with {@link #onSuccess(Permit)} or {@link #onIgnore(Permit)} once the request
+     * completes, or {@code null} if the request is rejected.
+     */
+    public Permit tryAcquire() {
+        int current;
+
+        do {
+            current = inFlight.get();
+
+            if (current >= limit.limit()) {
+                rejected.increment();
+                return null;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        return new Permit(nanoClock.getAsLong(), current + 1);
+    }
+
+    /**
+     * Gives back the permit of a request that completed normally, its latency takes part in the limit estimation.
+     *
+     * @param permit Indicates the permit given on admission.
+     */
+    public void onSuccess(Permit permit) {
+        inFlight.decrementAndGet();
+        limit.onSample(nanoClock.getAsLong() - permit.startedAt(), permit.inFlight());
+    }
+
+    /**
+     * Gives back the permit of a request whose latency does not tell about the load (it failed).
+     *
+     * @param permit Indicates the permit given on admission.
+     */
+    public void onIgnore(Permit permit) {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Gives the current limit.
+     *
+     * @return The number of requests allowed in flight.
+     */
+    public int limit() {
+        return limit.limit();
+    }
+
+    /**
+     * Gives how many requests are being served.
+     *
+     * @return Number of requests in flight.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gives how many requests were rejected as the limit was reached.
+     *
+     * @return Number of rejections.
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Admission of a request.
+     *
+     * @param startedAt Indicates when the request was admitted (nanoseconds).
+     * @param inFlight  Indicates the requests in flight, this one included, when it was admitted.
+     */
+    public record Permit(long startedAt, int inFlight) {
+    }
+}
@@ -0,0 +1,74 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CONCURRENCYLIMITCONFIGURATION.JAVA                          */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Pass the excluded paths to the filter.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.concurrency;
+
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.METRIC_CONCURRENCY_IN_FLIGHT;
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.METRIC_CONCURRENCY_IN_FLIGHT_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.METRIC_CONCURRENCY_LIMIT;
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.METRIC_CONCURRENCY_LIMIT_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.METRIC_CONCURRENCY_REJECTED;
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.METRIC_CONCURRENCY_REJECTED_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.FilterOrderConstants.CONCURRENCY_LIMIT_FILTER_ORDER;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the Adaptive Concurrency Limit for the User API. Disabled by means of
+ * {@code app.concurrency-limit.enabled=false}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfiguration {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(new GradientLimit(properties.initialLimit(),
+            properties.minLimit(),
+            properties.maxLimit(),
+            properties.smoothing(),
+            properties.rttTolerance(),
+            properties.longWindow()));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                                                                 AdaptiveConcurrencyLimiter limiter) {
+        var registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter,
+            properties.retryAfter(),
+            properties.excludedPaths()));
+
+        registration.setUrlPatterns(properties.urlPatterns());
+        registration.setOrder(CONCURRENCY_LIMIT_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(AdaptiveConcurrencyLimiter limiter) {
+        return registry -> {
+            Gauge.builder(METRIC_CONCURRENCY_LIMIT, limiter, AdaptiveConcurrencyLimiter::limit)
+                .description(METRIC_CONCURRENCY_LIMIT_DESCRIPTION)
+                .register(registry);
+            Gauge.builder(METRIC_CONCURRENCY_IN_FLIGHT, limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description(METRIC_CONCURRENCY_IN_FLIGHT_DESCRIPTION)
+                .register(registry);
+            FunctionCounter.builder(METRIC_CONCURRENCY_REJECTED, limiter, AdaptiveConcurrencyLimiter::rejected)
+                .description(METRIC_CONCURRENCY_REJECTED_DESCRIPTION)
+                .register(registry);
+        };
+    }
+}
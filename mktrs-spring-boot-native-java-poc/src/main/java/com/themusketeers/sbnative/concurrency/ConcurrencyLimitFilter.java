@@ -0,0 +1,96 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CONCURRENCYLIMITFILTER.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Leave async requests out of the sampling and skip the excluded paths.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.concurrency;
+
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.REJECTION_BODY;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Serves a request only if the {@link AdaptiveConcurrencyLimiter} admits it, otherwise answers right away with
+ * {@code 503 Service Unavailable} and a {@code Retry-After} header, so an overload shows up as fast rejections
+ * instead of an ever growing latency.
+ * <p>The latency of requests answered with a server error is left out of the limit estimation, as a fast
+ * failure would look like spare capacity.</p>
+ * <p>A request that went async (an SSE or NDJSON stream) gives its permit back once the chain returns without a
+ * sample, its latency being how long the client stays connected; long-lived streams are better excluded
+ * altogether by path, as Servlet URL patterns cannot leave a sub-path out.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private static final byte[] REJECTION_BODY_BYTES = REJECTION_BODY.getBytes(StandardCharsets.UTF_8);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfter;
+    private final Set<String> excludedPaths;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param limiter       Instance admitting the requests.
+     * @param retryAfter    Indicates how long a rejected client is asked to wait before retrying.
+     * @param excludedPaths Indicates the paths (without the context path) whose requests are not limited.
+     */
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, Duration retryAfter, Collection<String> excludedPaths) {
+        this.limiter = limiter;
+        this.retryAfter = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.excludedPaths = Set.copyOf(excludedPaths);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return excludedPaths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        var permit = limiter.tryAcquire();
+
+        if (permit == null) {
+            reject(response);
+            return;
+        }
+
+        var succeeded = false;
+
+        try {
+            filterChain.doFilter(request, response);
+            succeeded = !request.isAsyncStarted() && response.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            if (succeeded) {
+                limiter.onSuccess(permit);
+            } else {
+                limiter.onIgnore(permit);
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(REJECTION_BODY_BYTES.length);
+        response.getOutputStream().write(REJECTION_BODY_BYTES);
+    }
+}
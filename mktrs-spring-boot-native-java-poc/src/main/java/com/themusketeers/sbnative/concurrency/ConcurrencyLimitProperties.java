@@ -0,0 +1,44 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CONCURRENCYLIMITPROPERTIES.JAVA                             */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Excluded paths added, leaving the streaming endpoints out by default.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.concurrency;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the Adaptive Concurrency Limit.
+ * <p><b>Prefix:</b>{@code app.concurrency-limit}</p>
+ *
+ * @param enabled       Indicates if the number of requests in flight is limited.
+ * @param urlPatterns   Indicates the Servlet URL patterns whose requests are limited.
+ * @param excludedPaths Indicates the paths matched by {@code urlPatterns} whose requests are not limited.
+ * @param initialLimit  Indicates the limit to start with.
+ * @param minLimit      Indicates the lowest limit allowed.
+ * @param maxLimit      Indicates the highest limit allowed.
+ * @param smoothing     Indicates how much of each new estimation is applied (0 to 1).
+ * @param rttTolerance  Indicates how much the latest latency may exceed the long term one before the limit shrinks.
+ * @param longWindow    Indicates the number of samples averaged in the long term latency.
+ * @param retryAfter    Indicates how long a rejected client is asked to wait ({@code Retry-After}).
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.concurrency-limit")
+public record ConcurrencyLimitProperties(@DefaultValue("true") boolean enabled,
+                                         @DefaultValue("/api/v1/*") List<String> urlPatterns,
+                                         @DefaultValue({"/api/v1/users/changes", "/api/v1/users/stream"}) List<String> excludedPaths,
+                                         @DefaultValue("20") int initialLimit,
+                                         @DefaultValue("4") int minLimit,
+                                         @DefaultValue("1000") int maxLimit,
+                                         @DefaultValue("0.2") double smoothing,
+                                         @DefaultValue("1.5") double rttTolerance,
+                                         @DefaultValue("600") int longWindow,
+                                         @DefaultValue("1s") Duration retryAfter) {
+}
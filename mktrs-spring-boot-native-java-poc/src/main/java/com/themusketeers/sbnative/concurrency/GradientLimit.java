@@ -0,0 +1,115 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   GRADIENTLIMIT.JAVA                                          */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Keep the limit from growing only, not from shrinking, while most of it is unused.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.concurrency;
+
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.LONG_RTT_DRIFT_DECAY;
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.LONG_RTT_DRIFT_RATIO;
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.MAX_GRADIENT;
+import static com.themusketeers.sbnative.common.consts.ConcurrencyLimitConstants.MIN_GRADIENT;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit estimated from the gradient between the long term and the latest request latency (RTT).
+ * <p>While the latest RTT stays close to the long term one (within {@code rttTolerance}) the service is not
+ * queueing and the limit grows by a queue allowance of {@code sqrt(limit)}; as soon as latency goes up the
+ * gradient drops below 1 and the limit shrinks proportionally (at most by half on each sample). Changes are
+ * smoothed, kept within {@code [minLimit, maxLimit]}, and the limit does not grow while less than half of it is in
+ * use, so an idle service does not end up with a limit it never proved it can handle.</p>
+ * <p>Samples are folded in under a lock only when it is free, a contended sample is just skipped: the
+ * estimation does not need every sample and request threads never wait on it.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class GradientLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int longWindow;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param initialLimit Indicates the limit to start with.
+     * @param minLimit     Indicates the lowest limit allowed.
+     * @param maxLimit     Indicates the highest limit allowed.
+     * @param smoothing    Indicates how much of each new estimation is applied (0 to 1).
+     * @param rttTolerance Indicates how much the latest RTT may exceed the long term one before the limit shrinks.
+     * @param longWindow   Indicates the number of samples averaged in the long term RTT.
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, double rttTolerance, int longWindow) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Expected 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.rttTolerance = rttTolerance;
+        this.longWindow = longWindow;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Gives the current limit.
+     *
+     * @return The number of requests allowed in flight.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Folds a request latency sample into the limit estimation.
+     *
+     * @param rttNanos Indicates the request latency in nanoseconds.
+     * @param inFlight Indicates the requests in flight when the request started.
+     */
+    public void onSample(long rttNanos, int inFlight) {
+        if (rttNanos <= 0 || !lock.tryLock()) {
+            return;
+        }
+
+        try {
+            update(rttNanos, inFlight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(double shortRtt, int inFlight) {
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / longWindow;
+
+        if (longRtt / shortRtt > LONG_RTT_DRIFT_RATIO) {
+            // Latency recovered from a spike, do not let the long term average hold the limit down.
+            longRtt *= LONG_RTT_DRIFT_DECAY;
+        }
+
+        var gradient = Math.max(MIN_GRADIENT, Math.min(MAX_GRADIENT, rttTolerance * longRtt / shortRtt));
+        var newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+
+        if (newLimit > estimatedLimit && inFlight < estimatedLimit / 2) {
+            // Growth has to be proven under load, shrinking does not.
+            return;
+        }
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,59 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERCHANGEFEEDCONTROLLER.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.controller.api.v1;
+
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.HEADER_LAST_EVENT_ID;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.USER_CHANGE_FEED_CONTROLLER_GET_CHANGES_INFO;
+import static com.themusketeers.sbnative.common.consts.ChangeFeedConstants.USER_CHANGE_FEED_CONTROLLER_GET_CHANGES_RESUME_INFO;
+
+import com.themusketeers.sbnative.changefeed.ChangeFeedStreamer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * User Change Feed API Controller, served when the feed is enabled ({@code app.change-feed.enabled}).
+ * <p><b>Path:</b>{@code api/v1/users/changes}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@RestController
+@RequestMapping("api/v1/users")
+@ConditionalOnProperty(prefix = "app.change-feed", name = "enabled", havingValue = "true", matchIfMissing = true)
+public record UserChangeFeedController(ChangeFeedStreamer changeFeedStreamer) {
+
+    private static final Logger log = LoggerFactory.getLogger(UserChangeFeedController.class);
+
+    /**
+     * Streams the inserts, updates and deletes of Users as Server-Sent Events, from now on or resuming after the
+     * last event a client got.
+     * <p>{@code GET: api/v1/users/changes} with {@code Last-Event-ID: <id>} to resume</p>
+     *
+     * @param lastEventId      Indicates the id of the last event got, as sent by an {@code EventSource} reconnecting.
+     * @param lastEventIdParam Indicates the same for clients unable to set the header.
+     * @return The stream of changes.
+     */
+    @GetMapping(path = "changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(name = HEADER_LAST_EVENT_ID, required = false) String lastEventId,
+                                    @RequestParam(name = "lastEventId", required = false) String lastEventIdParam) {
+        var resumeFrom = lastEventId == null ? lastEventIdParam : lastEventId;
+
+        log.info(USER_CHANGE_FEED_CONTROLLER_GET_CHANGES_INFO);
+        log.info(USER_CHANGE_FEED_CONTROLLER_GET_CHANGES_RESUME_INFO, resumeFrom);
+
+        return changeFeedStreamer.subscribe(resumeFrom);
+    }
+}
@@ -5,21 +5,30 @@
 /*-----------------------------------------------------------------------------
  History
  May.30/2023  COQ  File created.
+ Oct.19/2026  COQ  Look up users by id (multi-get).
+ Oct.19/2026  COQ  Users listed and their count from a single read.
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative.controller.api.v1;
 
+import static com.themusketeers.sbnative.common.consts.ExceptionConstants.TOO_MANY_USER_IDS;
 import static com.themusketeers.sbnative.common.consts.GlobalConstants.USER_CONTROLLER_DELETE_USER_INFO;
+import static com.themusketeers.sbnative.common.consts.GlobalConstants.USER_CONTROLLER_GET_LOOKUP_USERS_INFO;
 import static com.themusketeers.sbnative.common.consts.GlobalConstants.USER_CONTROLLER_GET_RETRIEVE_USERS_INFO;
 import static com.themusketeers.sbnative.common.consts.GlobalConstants.USER_CONTROLLER_GET_RETRIEVE_USER_INFO;
 import static com.themusketeers.sbnative.common.consts.GlobalConstants.USER_CONTROLLER_PATCH_USER_INFO;
 import static com.themusketeers.sbnative.common.consts.GlobalConstants.USER_CONTROLLER_POST_INSERT_USER_INFO;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.RETRIEVE_MANY_MAX_IDS;
 
 import com.themusketeers.sbnative.common.exception.UserNotFoundException;
 import com.themusketeers.sbnative.domain.User;
 import com.themusketeers.sbnative.domain.response.UserDataResponse;
 import com.themusketeers.sbnative.domain.response.UsersDataResponse;
+import com.themusketeers.sbnative.domain.response.UsersLookupDataResponse;
 import com.themusketeers.sbnative.service.intr.UserService;
 import jakarta.validation.Valid;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -30,8 +39,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * User API Controller.
@@ -46,7 +57,7 @@ public record UserController(UserService userService) {
     private static final Logger log = LoggerFactory.getLogger(UserController.class);
 
     /**
-     * Retrieves all users registered in the system.
+     * Retrieves all users registered in the system, counted from the same read so the count matches them.
      * <p>{@code GET: api/v1/users}</p>
      *
      * @return Registered information.
@@ -55,7 +66,9 @@ public record UserController(UserService userService) {
     public UsersDataResponse retrieveUsers() {
         log.info(USER_CONTROLLER_GET_RETRIEVE_USERS_INFO);
 
-        return new UsersDataResponse(userService.count(), userService.retrieveAll());
+        var users = userService.retrieveAll();
+
+        return new UsersDataResponse((long) users.size(), users);
     }
 
     /**
@@ -79,6 +92,36 @@ public record UserController(UserService userService) {
         return new UserDataResponse(userRetrieved);
     }
 
+    /**
+     * Retrieves many users registered in the system at once, by their ids (multi-get): a single call instead of one
+     * per user, the store reading them in one go when it can.
+     * <p>{@code GET: api/v1/users?ids=id1,id2,id3}</p>
+     *
+     * @param userIds Indicates the user unique identifiers to search, comma separated or repeated; the ones repeated
+     *                are looked up once. At most {@code RETRIEVE_MANY_MAX_IDS} of them, else an HTTP 400 is returned.
+     * @return An HTTP 200 with the users found and the ids not found, both in the order given.
+     */
+    @GetMapping(params = "ids")
+    public UsersLookupDataResponse lookupUsers(@RequestParam("ids") List<String> userIds) {
+        log.info(USER_CONTROLLER_GET_LOOKUP_USERS_INFO);
+        log.info("==> User Ids=[" + userIds + "]");
+
+        var ids = new LinkedHashSet<String>();
+
+        userIds.stream().filter(userId -> !userId.isBlank()).map(String::strip).forEach(ids::add);
+
+        if (ids.size() > RETRIEVE_MANY_MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                TOO_MANY_USER_IDS.formatted(RETRIEVE_MANY_MAX_IDS, ids.size()));
+        }
+
+        var users = userService.retrieveMany(ids);
+        var found = users.stream().map(User::id).collect(Collectors.toSet());
+        var missing = ids.stream().filter(userId -> !found.contains(userId)).toList();
+
+        return new UsersLookupDataResponse(users.size(), users, missing);
+    }
+
     /**
      * Add new record to the User List system.
      * <p>{@code POST: api/v1/users}</p>
@@ -0,0 +1,89 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSEARCHCONTROLLER.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Fuzzy name search.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.controller.api.v1;
+
+import static com.themusketeers.sbnative.common.consts.SearchConstants.USER_SEARCH_CONTROLLER_GET_FUZZY_SEARCH_INFO;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.USER_SEARCH_CONTROLLER_GET_FUZZY_SEARCH_QUERY_INFO;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.USER_SEARCH_CONTROLLER_GET_SEARCH_INFO;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.USER_SEARCH_CONTROLLER_GET_SEARCH_QUERY_INFO;
+
+import com.themusketeers.sbnative.domain.response.UserSearchDataResponse;
+import com.themusketeers.sbnative.search.SearchProperties;
+import com.themusketeers.sbnative.search.UserNameFuzzyIndex;
+import com.themusketeers.sbnative.search.UserSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * User Search API Controller, served when the search is enabled ({@code app.search.enabled}).
+ * <p><b>Path:</b>{@code api/v1/users/search}, {@code api/v1/users/search/fuzzy}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@RestController
+@RequestMapping("api/v1/users")
+@ConditionalOnProperty(prefix = "app.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public record UserSearchController(UserSearchIndex userSearchIndex,
+                                   UserNameFuzzyIndex userNameFuzzyIndex,
+                                   SearchProperties properties) {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSearchController.class);
+
+    /**
+     * Finds the users whose name or address best match the query, ranked by relevance (BM25).
+     * <p>{@code GET: api/v1/users/search?q=main street&limit=10}</p>
+     *
+     * @param query Indicates the text to look for; any of its words is enough.
+     * @param limit Indicates the users given at most, capped to {@code app.search.max-limit}.
+     * @return Users found, the most relevant first.
+     */
+    @GetMapping("search")
+    public UserSearchDataResponse searchUsers(@RequestParam("q") String query,
+                                              @RequestParam(name = "limit", required = false) Integer limit) {
+        log.info(USER_SEARCH_CONTROLLER_GET_SEARCH_INFO);
+        log.info(USER_SEARCH_CONTROLLER_GET_SEARCH_QUERY_INFO, query, limit);
+
+        var hits = userSearchIndex.search(query, limit(limit));
+
+        return new UserSearchDataResponse(hits.size(), hits);
+    }
+
+    /**
+     * Finds the users whose name is similar to the one given, tolerating typos; the score is the similarity, from 0
+     * to 1 (the same name).
+     * <p>{@code GET: api/v1/users/search/fuzzy?name=jhon smiht&threshold=0.8&limit=10}</p>
+     *
+     * @param name      Indicates the name to look for.
+     * @param threshold Indicates the lowest similarity accepted, {@code app.search.fuzzy-threshold} if not given.
+     * @param limit     Indicates the users given at most, capped to {@code app.search.max-limit}.
+     * @return Users found, the most similar first.
+     */
+    @GetMapping("search/fuzzy")
+    public UserSearchDataResponse fuzzySearchUsers(@RequestParam("name") String name,
+                                                   @RequestParam(name = "threshold", required = false) Double threshold,
+                                                   @RequestParam(name = "limit", required = false) Integer limit) {
+        log.info(USER_SEARCH_CONTROLLER_GET_FUZZY_SEARCH_INFO);
+        log.info(USER_SEARCH_CONTROLLER_GET_FUZZY_SEARCH_QUERY_INFO, name, threshold, limit);
+
+        var similarity = threshold == null ? properties.fuzzyThreshold() : threshold;
+        var hits = userNameFuzzyIndex.search(name, similarity, limit(limit));
+
+        return new UserSearchDataResponse(hits.size(), hits);
+    }
+
+    private int limit(Integer limit) {
+        return limit == null ? properties.defaultLimit() : Math.clamp(limit, 1, properties.maxLimit());
+    }
+}
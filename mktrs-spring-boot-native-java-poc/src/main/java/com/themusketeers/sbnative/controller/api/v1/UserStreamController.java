@@ -0,0 +1,76 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSTREAMCONTROLLER.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Request deadline checked while streaming.
+ Oct.19/2026  COQ  Class documentation added.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.controller.api.v1;
+
+import static com.themusketeers.sbnative.common.consts.GlobalConstants.USER_CONTROLLER_GET_STREAM_USERS_INFO;
+
+import com.themusketeers.sbnative.common.exception.DeadlineExceededException;
+import com.themusketeers.sbnative.deadline.RequestDeadline;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.ReactiveUserService;
+import com.themusketeers.sbnative.service.intr.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * User Stream API Controller.
+ * <p><b>Path:</b>{@code api/v1/users/stream}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@RestController
+@RequestMapping("api/v1/users")
+public record UserStreamController(UserService userService, ObjectProvider<ReactiveUserService> reactiveUserService) {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStreamController.class);
+
+    /**
+     * Streams all users registered in the system as newline delimited JSON, one user per line, written as they are
+     * read. With a reactive store (R2DBC) the users are read as the client takes them, otherwise the full list is
+     * read first.
+     * <p>The users are written on other threads, thus the deadline of the request is taken here and checked before
+     * each user; once expired the stream ends with an error, cancelling the read of the rest.</p>
+     * <p>{@code GET: api/v1/users/stream}</p>
+     *
+     * @return Registered information.
+     */
+    @GetMapping(path = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<User> streamUsers() {
+        log.info(USER_CONTROLLER_GET_STREAM_USERS_INFO);
+
+        var reactive = reactiveUserService.getIfAvailable();
+        var users = reactive != null
+            ? reactive.retrieveAll()
+            : Flux.defer(() -> Flux.fromIterable(userService.retrieveAll()));
+
+        return withDeadline(users, RequestDeadline.current());
+    }
+
+    private static Flux<User> withDeadline(Flux<User> users, RequestDeadline deadline) {
+        if (deadline == null) {
+            return users;
+        }
+
+        return users.handle((user, sink) -> {
+            if (deadline.isExpired()) {
+                sink.error(new DeadlineExceededException());
+            } else {
+                sink.next(user);
+            }
+        });
+    }
+}
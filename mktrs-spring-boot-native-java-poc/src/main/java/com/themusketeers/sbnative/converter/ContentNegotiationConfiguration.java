@@ -0,0 +1,79 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CONTENTNEGOTIATIONCONFIGURATION.JAVA                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  JSON written with build-time generated adapters.
+ Oct.19/2026  COQ  Observation registry for the generated JSON converter.
+ Oct.19/2026  COQ  User Lookup response.
+ Oct.19/2026  COQ  User Search response.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.converter;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserDataResponse;
+import com.themusketeers.sbnative.domain.response.UserSearchDataResponse;
+import com.themusketeers.sbnative.domain.response.UserSearchHit;
+import com.themusketeers.sbnative.domain.response.UsersDataResponse;
+import com.themusketeers.sbnative.domain.response.UsersLookupDataResponse;
+import io.avaje.jsonb.Jsonb;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Content negotiation for the User API. Besides JSON (the default), the domain records are exchanged as:
+ * <ul>
+ * <li>CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}), registered by Spring MVC
+ * itself as soon as the Jackson data formats are in the classpath.</li>
+ * <li>Protobuf ({@code application/x-protobuf}), by means of {@link ProtobufJacksonHttpMessageConverter}.</li>
+ * </ul>
+ * The converters are appended after the default ones so a request with {@code Accept: *}{@code /*} or without
+ * {@code Accept} keeps getting JSON. That JSON is written by {@link GeneratedJsonHttpMessageConverter}, placed in
+ * front of Jackson, unless {@code app.content-negotiation.generated-json-codecs} is {@code false}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ContentNegotiationProperties.class)
+public class ContentNegotiationConfiguration implements WebMvcConfigurer {
+    private static final Set<Class<?>> DOMAIN_TYPES = Set.of(
+        User.class,
+        UserDataResponse.class,
+        UsersDataResponse.class,
+        UsersLookupDataResponse.class,
+        UserSearchHit.class,
+        UserSearchDataResponse.class);
+
+    private final ContentNegotiationProperties properties;
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param properties          Indicates the Content Negotiation settings.
+     * @param observationRegistry Indicates the registry the JSON reads and writes are observed by, if any.
+     */
+    public ContentNegotiationConfiguration(ContentNegotiationProperties properties,
+                                           ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.properties = properties;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (properties.generatedJsonCodecs()) {
+            converters.add(0, new GeneratedJsonHttpMessageConverter(Jsonb.builder().build(), DOMAIN_TYPES,
+                observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP)));
+        }
+
+        converters.add(new ProtobufJacksonHttpMessageConverter(DOMAIN_TYPES));
+    }
+}
@@ -0,0 +1,24 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CONTENTNEGOTIATIONPROPERTIES.JAVA                           */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.converter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the Content Negotiation of the User API.
+ * <p><b>Prefix:</b>{@code app.content-negotiation}</p>
+ *
+ * @param generatedJsonCodecs Indicates if the domain records are exchanged as JSON with the adapters generated at
+ *                            build time, otherwise Jackson's {@code ObjectMapper} is used.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.content-negotiation")
+public record ContentNegotiationProperties(@DefaultValue("true") boolean generatedJsonCodecs) {
+}
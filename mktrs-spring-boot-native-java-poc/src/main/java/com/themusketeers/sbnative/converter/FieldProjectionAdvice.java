@@ -0,0 +1,103 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FIELDPROJECTIONADVICE.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Projects the multi-get response too.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.converter;
+
+import static com.themusketeers.sbnative.common.consts.FieldProjectionConstants.FIELDS_SEPARATOR;
+import static com.themusketeers.sbnative.common.consts.FieldProjectionConstants.QUERY_PARAM_FIELDS;
+import static com.themusketeers.sbnative.common.consts.FieldProjectionConstants.UNKNOWN_FIELD_REASON;
+import static com.themusketeers.sbnative.common.consts.FieldProjectionConstants.USER_FIELDS;
+import static com.themusketeers.sbnative.common.consts.FieldProjectionConstants.VIEW_USER;
+import static com.themusketeers.sbnative.common.consts.FieldProjectionConstants.VIEW_USERS_DATA_RESPONSE;
+import static com.themusketeers.sbnative.common.consts.FieldProjectionConstants.VIEW_USERS_LOOKUP_DATA_RESPONSE;
+import static com.themusketeers.sbnative.common.consts.FieldProjectionConstants.VIEW_USER_DATA_RESPONSE;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserDataResponse;
+import com.themusketeers.sbnative.domain.response.UsersDataResponse;
+import com.themusketeers.sbnative.domain.response.UsersLookupDataResponse;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sparse field projection for the User read endpoints: {@code GET api/v1/users?fields=id,name} writes only the
+ * {@code id} and {@code name} of every User; so does the multi-get, {@code GET api/v1/users?ids=...&fields=id,name},
+ * which keeps writing the ids not found. The body is handed to the {@link GeneratedJsonHttpMessageConverter} as a
+ * {@link ProjectedBody}, which writes the records through a view of their generated adapter: the properties left out
+ * are never read nor written, and no map or copy of the records is built.
+ * <p>The other formats (CBOR, Smile, Protobuf, or JSON written by Jackson) keep writing every property.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ControllerAdvice
+public class FieldProjectionAdvice implements ResponseBodyAdvice<Object> {
+    private static final Map<Class<?>, String> VIEWS = Map.of(
+        User.class, VIEW_USER,
+        UserDataResponse.class, VIEW_USER_DATA_RESPONSE,
+        UsersDataResponse.class, VIEW_USERS_DATA_RESPONSE,
+        UsersLookupDataResponse.class, VIEW_USERS_LOOKUP_DATA_RESPONSE);
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return GeneratedJsonHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        if (body == null || !HttpMethod.GET.equals(request.getMethod())
+            || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+
+        var view = VIEWS.get(body.getClass());
+        var fields = servletRequest.getServletRequest().getParameter(QUERY_PARAM_FIELDS);
+
+        if (view == null || fields == null || fields.isBlank()) {
+            return body;
+        }
+
+        return new ProjectedBody(body, view.formatted(userFields(fields)));
+    }
+
+    /**
+     * Gives the User properties asked for in the order they are written, so the same set always gives the same view.
+     */
+    static String userFields(String fields) {
+        var asked = Arrays.stream(fields.split(FIELDS_SEPARATOR))
+            .map(String::strip)
+            .filter(field -> !field.isEmpty())
+            .collect(Collectors.toSet());
+
+        for (var field : asked) {
+            if (!USER_FIELDS.contains(field)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, UNKNOWN_FIELD_REASON.formatted(field));
+            }
+        }
+
+        return USER_FIELDS.stream().filter(asked::contains).collect(Collectors.joining(FIELDS_SEPARATOR));
+    }
+}
@@ -0,0 +1,160 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   GENERATEDJSONHTTPMESSAGECONVERTER.JAVA                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Sparse field projection (ProjectedBody).
+ Oct.19/2026  COQ  Serialization observations.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.converter;
+
+import static com.themusketeers.sbnative.common.consts.TracingConstants.CONTEXTUAL_NAME_SERIALIZATION_PREFIX;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.DIRECTION_READ;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.DIRECTION_WRITE;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.FORMAT_JSON;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_DIRECTION;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_FORMAT;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_TYPE;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.OBSERVATION_USER_SERIALIZATION;
+
+import io.avaje.json.JsonException;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.JsonView;
+import io.avaje.jsonb.Jsonb;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Reads and writes the domain records as JSON with the adapters generated at build time (annotation processing
+ * of {@code @Json}) instead of Jackson's reflective bean introspection.
+ * <p>The generated adapters follow the record component order, which is the one given by
+ * {@code @JsonPropertyOrder}, and leave out {@code null} values as {@code @JsonInclude(NON_NULL)} does, so the
+ * output is the same Jackson produces. Any other type (a {@code Boolean}, an error {@code ProblemDetail}) stays
+ * with Jackson.</p>
+ * <p>A {@link ProjectedBody} is written through a view of the adapter, with only the properties it asks for; the
+ * views are built once per type and set of properties.</p>
+ * <p>Each read and write is a {@code user.serialization} {@link Observation}, so the span of a request tells how
+ * long its body took to be parsed or written (the bytes included).</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class GeneratedJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+    private final Map<Class<?>, JsonType<Object>> jsonTypes;
+    private final Map<ViewKey, JsonView<Object>> jsonViews = new ConcurrentHashMap<>();
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Constructor with parameters, without observations.
+     *
+     * @param jsonb          Indicates the registry of generated adapters.
+     * @param supportedTypes Indicates the types exchanged with the generated adapters.
+     */
+    public GeneratedJsonHttpMessageConverter(Jsonb jsonb, Set<Class<?>> supportedTypes) {
+        this(jsonb, supportedTypes, ObservationRegistry.NOOP);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param jsonb               Indicates the registry of generated adapters.
+     * @param supportedTypes      Indicates the types exchanged with the generated adapters.
+     * @param observationRegistry Indicates the registry the reads and writes are observed by.
+     */
+    @SuppressWarnings("unchecked")
+    public GeneratedJsonHttpMessageConverter(Jsonb jsonb, Set<Class<?>> supportedTypes,
+                                             ObservationRegistry observationRegistry) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.jsonTypes = supportedTypes.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), type -> (JsonType<Object>) jsonb.type(type)));
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return jsonTypes.containsKey(clazz);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        var observation = observation(DIRECTION_READ, clazz).start();
+
+        try (var scope = observation.openScope()) {
+            return jsonTypes.get(clazz).fromJson(inputMessage.getBody().readAllBytes());
+        } catch (JsonException e) {
+            observation.error(e);
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getMessage(), e, inputMessage);
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        var value = object instanceof ProjectedBody projected ? projected.value() : object;
+        var observation = observation(DIRECTION_WRITE, value.getClass()).start();
+
+        try (var scope = observation.openScope()) {
+            write(object, outputMessage);
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private void write(Object object, HttpOutputMessage outputMessage) throws IOException {
+        byte[] body;
+
+        try {
+            body = object instanceof ProjectedBody projected
+                ? view(projected).toJsonBytes(projected.value())
+                : jsonTypes.get(object.getClass()).toJsonBytes(object);
+        } catch (JsonException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getMessage(), e);
+        }
+
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+
+    private Observation observation(String direction, Class<?> type) {
+        var observation = Observation.createNotStarted(OBSERVATION_USER_SERIALIZATION, observationRegistry);
+
+        if (observation.isNoop()) {
+            return observation;
+        }
+
+        return observation.contextualName(CONTEXTUAL_NAME_SERIALIZATION_PREFIX + direction)
+            .lowCardinalityKeyValue(KEY_DIRECTION, direction)
+            .lowCardinalityKeyValue(KEY_FORMAT, FORMAT_JSON)
+            .lowCardinalityKeyValue(KEY_TYPE, type.getSimpleName());
+    }
+
+    private JsonView<Object> view(ProjectedBody projected) {
+        var type = projected.value().getClass();
+
+        return jsonViews.computeIfAbsent(new ViewKey(type, projected.view()),
+            key -> jsonTypes.get(key.type()).view(key.view()));
+    }
+
+    private record ViewKey(Class<?> type, String view) {
+    }
+}
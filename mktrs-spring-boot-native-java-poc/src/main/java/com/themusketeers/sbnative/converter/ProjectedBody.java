@@ -0,0 +1,19 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   PROJECTEDBODY.JAVA                                          */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.converter;
+
+/**
+ * Response body to be written with only some of its properties, as asked by {@code fields=}.
+ *
+ * @param value Holds the body as returned by the controller.
+ * @param view  Indicates the properties to write (avaje-jsonb view DSL, i.e. {@code (count,users(id,name))}).
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record ProjectedBody(Object value, String view) {
+}
@@ -0,0 +1,91 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   PROTOBUFJACKSONHTTPMESSAGECONVERTER.JAVA                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  No Spring nullability annotations, their JSR-305 meta-annotations warn javac.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.converter;
+
+import static com.themusketeers.sbnative.common.consts.MediaTypeConstants.APPLICATION_PROTOBUF;
+import static com.themusketeers.sbnative.common.consts.MediaTypeConstants.APPLICATION_PROTOBUF_STANDARD;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+/**
+ * Reads and writes the domain records as Protocol Buffers messages ({@code application/x-protobuf}).
+ * <p>The {@code .proto} schema of each record is generated by Jackson from the record itself, so the same
+ * annotations ({@code @JsonPropertyOrder} gives the field numbers) drive JSON, CBOR, Smile and Protobuf,
+ * and no code generation step is needed. Only the given types are supported, as a Protobuf message must
+ * be an object (a {@code Boolean} or an error {@code ProblemDetail} stays with the other converters).</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ProtobufJacksonHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+    private final Set<Class<?>> supportedTypes;
+    private final Map<JavaType, ProtobufSchema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param supportedTypes Indicates the types exchanged as Protobuf messages.
+     */
+    public ProtobufJacksonHttpMessageConverter(Set<Class<?>> supportedTypes) {
+        super(new ProtobufMapper(), APPLICATION_PROTOBUF, APPLICATION_PROTOBUF_STANDARD);
+        this.supportedTypes = Set.copyOf(supportedTypes);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type instanceof Class<?> clazz
+            && supportedTypes.contains(clazz)
+            && super.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return supportedTypes.contains(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected ObjectReader customizeReader(ObjectReader reader, JavaType javaType) {
+        return reader.with(schemaFor(javaType));
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        return writer.with(schemaFor(javaType));
+    }
+
+    /**
+     * Gives the Protobuf schema for the type, generating it on first use.
+     *
+     * @param javaType Indicates the type to exchange.
+     * @return The Protobuf schema.
+     */
+    public ProtobufSchema schemaFor(JavaType javaType) {
+        return schemas.computeIfAbsent(javaType, this::generateSchema);
+    }
+
+    private ProtobufSchema generateSchema(JavaType javaType) {
+        try {
+            return ((ProtobufMapper) getObjectMapper()).generateSchemaFor(javaType);
+        } catch (JsonMappingException e) {
+            throw new HttpMessageConversionException("Could not generate Protobuf schema for " + javaType, e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEADLINECHECKINGUSERSERVICE.JAVA                            */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get checked.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.deadline;
+
+import com.themusketeers.sbnative.common.exception.DeadlineExceededException;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.UserService;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decorates a {@link UserService} so no operation starts once the {@link RequestDeadline#current() deadline} of the
+ * request has expired; a {@link DeadlineExceededException} is raised instead. An operation already started is left
+ * to end, the stores listing page by page checking the deadline between pages themselves.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class DeadlineCheckingUserService implements UserService {
+    private final UserService delegate;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param delegate Instance of the decorated service.
+     */
+    public DeadlineCheckingUserService(UserService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Boolean exists(String userId) {
+        RequestDeadline.checkCurrent();
+        return delegate.exists(userId);
+    }
+
+    @Override
+    public User insert(User user) {
+        RequestDeadline.checkCurrent();
+        return delegate.insert(user);
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        RequestDeadline.checkCurrent();
+        return delegate.retrieve(userId);
+    }
+
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        RequestDeadline.checkCurrent();
+        return delegate.retrieveMany(userIds);
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        RequestDeadline.checkCurrent();
+        return delegate.delete(userId);
+    }
+
+    @Override
+    public Boolean update(User user) {
+        RequestDeadline.checkCurrent();
+        return delegate.update(user);
+    }
+
+    @Override
+    public List<User> retrieveAll() {
+        RequestDeadline.checkCurrent();
+        return delegate.retrieveAll();
+    }
+
+    @Override
+    public Long count() {
+        RequestDeadline.checkCurrent();
+        return delegate.count();
+    }
+}
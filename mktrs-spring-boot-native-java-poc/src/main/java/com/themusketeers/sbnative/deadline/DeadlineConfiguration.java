@@ -0,0 +1,62 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEADLINECONFIGURATION.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.deadline;
+
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.METRIC_DEADLINE_EXCEEDED;
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.METRIC_DEADLINE_EXCEEDED_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.METRIC_TAG_STAGE;
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.STAGE_ENTRY;
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.STAGE_PROCESSING;
+import static com.themusketeers.sbnative.common.consts.FilterOrderConstants.DEADLINE_FILTER_ORDER;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the request deadlines for the User API. Disabled by means of {@code app.deadline.enabled=false}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfiguration {
+
+    @Bean
+    public DeadlineFilter deadlineFilter(DeadlineProperties properties) {
+        return new DeadlineFilter(properties.defaultTimeout(), properties.maxTimeout());
+    }
+
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilterRegistration(DeadlineProperties properties,
+                                                                             DeadlineFilter deadlineFilter) {
+        var registration = new FilterRegistrationBean<>(deadlineFilter);
+
+        registration.setUrlPatterns(properties.urlPatterns());
+        registration.setOrder(DEADLINE_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder deadlineMetrics(DeadlineFilter deadlineFilter) {
+        return registry -> {
+            FunctionCounter.builder(METRIC_DEADLINE_EXCEEDED, deadlineFilter, DeadlineFilter::expiredOnEntry)
+                .description(METRIC_DEADLINE_EXCEEDED_DESCRIPTION)
+                .tag(METRIC_TAG_STAGE, STAGE_ENTRY)
+                .register(registry);
+            FunctionCounter.builder(METRIC_DEADLINE_EXCEEDED, deadlineFilter, DeadlineFilter::expiredInProcessing)
+                .description(METRIC_DEADLINE_EXCEEDED_DESCRIPTION)
+                .tag(METRIC_TAG_STAGE, STAGE_PROCESSING)
+                .register(registry);
+        };
+    }
+}
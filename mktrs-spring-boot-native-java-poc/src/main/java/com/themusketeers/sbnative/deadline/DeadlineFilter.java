@@ -0,0 +1,184 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEADLINEFILTER.JAVA                                         */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.deadline;
+
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.EXPIRED_BODY;
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.GRPC_TIMEOUT_PATTERN;
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.HEADER_GRPC_TIMEOUT;
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.HEADER_REQUEST_DEADLINE;
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.INVALID_BODY;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Gives each request of the User API the deadline its client asked for, bound to the thread serving it as the
+ * {@link RequestDeadline#current() current deadline}, so the work below stops once the client gave up waiting:
+ * <ul>
+ * <li>{@code X-Request-Deadline}: an RFC 3339 instant, such as {@code 2026-10-19T10:15:30.250Z}; it relies on the
+ * client and server clocks agreeing.</li>
+ * <li>{@code grpc-timeout}: the time left, as gRPC sends it, such as {@code 250m} (milliseconds) or {@code 2S}.</li>
+ * </ul>
+ * When both are sent the earliest wins; without any, the default timeout applies, if set. The time left is capped at
+ * the maximum timeout. A request whose deadline already expired is answered with {@code 504 Gateway Timeout} without
+ * being served, and a malformed header with {@code 400 Bad Request}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+    private static final Pattern GRPC_TIMEOUT = Pattern.compile(GRPC_TIMEOUT_PATTERN);
+    private static final byte[] EXPIRED_BODY_BYTES = EXPIRED_BODY.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INVALID_BODY_BYTES = INVALID_BODY.getBytes(StandardCharsets.UTF_8);
+
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+    private final Clock clock;
+    private final LongSupplier nanoClock;
+    private final LongAdder expiredOnEntry = new LongAdder();
+    private final LongAdder expiredInProcessing = new LongAdder();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param defaultTimeout Indicates the time left of the requests without deadline, zero for no deadline at all.
+     * @param maxTimeout     Indicates the time left at most, whatever the client asks for.
+     */
+    public DeadlineFilter(Duration defaultTimeout, Duration maxTimeout) {
+        this(defaultTimeout, maxTimeout, Clock.systemUTC(), System::nanoTime);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param defaultTimeout Indicates the time left of the requests without deadline, zero for no deadline at all.
+     * @param maxTimeout     Indicates the time left at most, whatever the client asks for.
+     * @param clock          Indicates the wall clock, for the absolute deadlines.
+     * @param nanoClock      Indicates the source of the time.
+     */
+    DeadlineFilter(Duration defaultTimeout, Duration maxTimeout, Clock clock, LongSupplier nanoClock) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+        this.clock = clock;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Gives the requests rejected as their deadline had already expired when received.
+     *
+     * @return The total so far.
+     */
+    public long expiredOnEntry() {
+        return expiredOnEntry.sum();
+    }
+
+    /**
+     * Gives the requests whose deadline expired while being served, given up or not.
+     *
+     * @return The total so far.
+     */
+    public long expiredInProcessing() {
+        return expiredInProcessing.sum();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Duration timeout;
+
+        try {
+            timeout = timeout(request);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            reject(response, HttpServletResponse.SC_BAD_REQUEST, INVALID_BODY_BYTES);
+            return;
+        }
+
+        if (timeout == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (timeout.isNegative() || timeout.isZero()) {
+            expiredOnEntry.increment();
+            reject(response, HttpServletResponse.SC_GATEWAY_TIMEOUT, EXPIRED_BODY_BYTES);
+            return;
+        }
+
+        var deadline = RequestDeadline.after(timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout, nanoClock);
+
+        try (var scope = RequestDeadline.bind(deadline)) {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (deadline.isExpired()) {
+                expiredInProcessing.increment();
+            }
+        }
+    }
+
+    private Duration timeout(HttpServletRequest request) {
+        var deadlineHeader = request.getHeader(HEADER_REQUEST_DEADLINE);
+        var grpcTimeoutHeader = request.getHeader(HEADER_GRPC_TIMEOUT);
+        var timeout = (Duration) null;
+
+        if (deadlineHeader != null) {
+            timeout = Duration.between(clock.instant(), Instant.parse(deadlineHeader.strip()));
+        }
+
+        if (grpcTimeoutHeader != null) {
+            var grpcTimeout = grpcTimeout(grpcTimeoutHeader.strip());
+
+            timeout = timeout == null || grpcTimeout.compareTo(timeout) < 0 ? grpcTimeout : timeout;
+        }
+
+        if (timeout == null && !defaultTimeout.isZero()) {
+            timeout = defaultTimeout;
+        }
+
+        return timeout;
+    }
+
+    private static Duration grpcTimeout(String value) {
+        if (!GRPC_TIMEOUT.matcher(value).matches()) {
+            throw new IllegalArgumentException(value);
+        }
+
+        var amount = Long.parseLong(value, 0, value.length() - 1, 10);
+        var unit = switch (value.charAt(value.length() - 1)) {
+            case 'H' -> ChronoUnit.HOURS;
+            case 'M' -> ChronoUnit.MINUTES;
+            case 'S' -> ChronoUnit.SECONDS;
+            case 'm' -> ChronoUnit.MILLIS;
+            case 'u' -> ChronoUnit.MICROS;
+            default -> ChronoUnit.NANOS;
+        };
+
+        return Duration.of(amount, unit);
+    }
+
+    private static void reject(HttpServletResponse response, int status, byte[] body) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,31 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEADLINEPROPERTIES.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.deadline;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the request deadlines.
+ * <p><b>Prefix:</b>{@code app.deadline}</p>
+ *
+ * @param enabled        Indicates if the deadlines sent by the clients are honored.
+ * @param urlPatterns    Indicates the Servlet URL patterns of the requests with a deadline.
+ * @param defaultTimeout Indicates the time left of the requests sent without deadline, zero for no deadline at all.
+ * @param maxTimeout     Indicates the time left at most, whatever the client asks for.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.deadline")
+public record DeadlineProperties(@DefaultValue("true") boolean enabled,
+                                 @DefaultValue("/api/v1/*") List<String> urlPatterns,
+                                 @DefaultValue("0s") Duration defaultTimeout,
+                                 @DefaultValue("5m") Duration maxTimeout) {
+}
@@ -0,0 +1,127 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REQUESTDEADLINE.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.deadline;
+
+import com.themusketeers.sbnative.common.exception.DeadlineExceededException;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Point in time after which the client no longer waits for the request being served. It is bound to the thread
+ * serving the request by {@link DeadlineFilter}, so any layer below checks it with {@link #checkCurrent()} without
+ * having it passed along; work handed to another thread takes it with {@link #current()} and binds it there.
+ * <p>Measured with the monotonic clock ({@link System#nanoTime()}), thus unaffected by wall clock adjustments.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public final class RequestDeadline {
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAt;
+    private final LongSupplier nanoClock;
+
+    private RequestDeadline(long expiresAt, LongSupplier nanoClock) {
+        this.expiresAt = expiresAt;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Gives the deadline expiring after a timeout, from now on.
+     *
+     * @param timeout Indicates the time left.
+     * @return The deadline.
+     */
+    public static RequestDeadline after(Duration timeout) {
+        return after(timeout, System::nanoTime);
+    }
+
+    /**
+     * Gives the deadline expiring after a timeout, from now on.
+     *
+     * @param timeout   Indicates the time left.
+     * @param nanoClock Indicates the source of the time.
+     * @return The deadline.
+     */
+    static RequestDeadline after(Duration timeout, LongSupplier nanoClock) {
+        return new RequestDeadline(nanoClock.getAsLong() + timeout.toNanos(), nanoClock);
+    }
+
+    /**
+     * Gives the deadline bound to this thread.
+     *
+     * @return {@code null} if none, the request then having no deadline.
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Checks the deadline bound to this thread, if any, has not expired.
+     *
+     * @throws DeadlineExceededException If it has.
+     */
+    public static void checkCurrent() {
+        var deadline = CURRENT.get();
+
+        if (deadline != null) {
+            deadline.check();
+        }
+    }
+
+    /**
+     * Binds a deadline to this thread until the scope returned is closed, the previous one being bound again then.
+     *
+     * @param deadline Indicates the deadline, {@code null} for none.
+     * @return The scope, to close in the same thread.
+     */
+    public static Scope bind(RequestDeadline deadline) {
+        var previous = CURRENT.get();
+
+        CURRENT.set(deadline);
+        return previous == null ? CURRENT::remove : () -> CURRENT.set(previous);
+    }
+
+    /**
+     * Gives the time left.
+     *
+     * @return Zero or negative once expired.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(expiresAt - nanoClock.getAsLong());
+    }
+
+    /**
+     * Tells if the deadline has expired.
+     *
+     * @return True if no time is left.
+     */
+    public boolean isExpired() {
+        return expiresAt - nanoClock.getAsLong() <= 0;
+    }
+
+    /**
+     * Checks the deadline has not expired.
+     *
+     * @throws DeadlineExceededException If it has.
+     */
+    public void check() {
+        if (isExpired()) {
+            throw new DeadlineExceededException();
+        }
+    }
+
+    /**
+     * Binding of a deadline to a thread.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
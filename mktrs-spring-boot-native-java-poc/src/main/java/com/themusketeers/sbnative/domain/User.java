@@ -5,11 +5,13 @@
 /*-----------------------------------------------------------------------------
  History
  May.30/2023  COQ  File created.
+ Oct.19/2026  COQ  Build-time generated JSON adapter (@Json).
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative.domain;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.avaje.jsonb.Json;
 import jakarta.validation.constraints.NotEmpty;
 
 /**
@@ -20,6 +22,7 @@ import jakarta.validation.constraints.NotEmpty;
  * @param address Indicates the location of the User (mandatory).
  * @author COQ - Carlos Adolfo Ortiz Q.
  */
+@Json
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
     "id",
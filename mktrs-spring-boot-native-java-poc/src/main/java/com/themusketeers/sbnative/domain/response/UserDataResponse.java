@@ -5,12 +5,14 @@
 /*-----------------------------------------------------------------------------
  History
  May.30/2023  COQ  File created.
+ Oct.19/2026  COQ  Build-time generated JSON adapter (@Json).
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative.domain.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.themusketeers.sbnative.domain.User;
+import io.avaje.jsonb.Json;
 
 /**
  * Keeps the users for the User List response.
@@ -18,6 +20,7 @@ import com.themusketeers.sbnative.domain.User;
  * @param user Indicates one user information record retrieved.
  * @author COQ - Carlos Adolfo Ortiz Q.
  */
+@Json
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({"user"})
 public record UserDataResponse(User user) {
@@ -0,0 +1,27 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSEARCHDATARESPONSE.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.domain.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.avaje.jsonb.Json;
+import java.util.List;
+
+/**
+ * Keeps the users found for the User Search response.
+ *
+ * @param count Indicates how many users are given.
+ * @param hits  Indicates the users found, the most relevant first.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Json
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"count", "hits"})
+public record UserSearchDataResponse(Integer count, List<UserSearchHit> hits) {
+}
@@ -0,0 +1,29 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSEARCHHIT.JAVA                                          */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Score of both the relevance and the fuzzy searches.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.domain.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.themusketeers.sbnative.domain.User;
+import io.avaje.jsonb.Json;
+
+/**
+ * A User found by a search.
+ *
+ * @param score Indicates how well the User matches, the higher the better: the BM25 relevance for a search by terms,
+ *              the name similarity (0 to 1) for a fuzzy search.
+ * @param user  Indicates the User found.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Json
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"score", "user"})
+public record UserSearchHit(double score, User user) {
+}
@@ -5,12 +5,14 @@
 /*-----------------------------------------------------------------------------
  History
  Jun.20/2023  COQ  File created.
+ Oct.19/2026  COQ  Build-time generated JSON adapter (@Json).
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative.domain.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.themusketeers.sbnative.domain.User;
+import io.avaje.jsonb.Json;
 import java.util.List;
 
 /**
@@ -20,6 +22,7 @@ import java.util.List;
  * @param users Indicates the registered User List.
  * @author COQ - Carlos Adolfo Ortiz Q.
  */
+@Json
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({"count", "users"})
 public record UsersDataResponse(Long count, List<User> users) {
@@ -0,0 +1,29 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSLOOKUPDATARESPONSE.JAVA                                */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.domain.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.themusketeers.sbnative.domain.User;
+import io.avaje.jsonb.Json;
+import java.util.List;
+
+/**
+ * Keeps the users looked up by id for the User Lookup response.
+ *
+ * @param count   Indicates how many users are found.
+ * @param users   Indicates the users found, in the order their ids were given.
+ * @param missing Indicates the ids of the users not found, in the order they were given.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Json
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"count", "users", "missing"})
+public record UsersLookupDataResponse(Integer count, List<User> users, List<String> missing) {
+}
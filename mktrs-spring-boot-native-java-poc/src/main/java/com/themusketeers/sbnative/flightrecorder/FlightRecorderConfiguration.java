@@ -0,0 +1,42 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FLIGHTRECORDERCONFIGURATION.JAVA                            */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import static com.themusketeers.sbnative.common.consts.FilterOrderConstants.FLIGHT_RECORDER_FILTER_ORDER;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the Flight Recorder request events and the {@code flightrecorder} endpoint. Disabled by means of
+ * {@code app.flight-recorder.enabled=false}; the User Service events are a decorator, see
+ * {@code app.user-service.flight-recorder}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.flight-recorder", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecorderConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<FlightRecordingFilter> flightRecordingFilter(FlightRecorderProperties properties) {
+        var registration = new FilterRegistrationBean<>(new FlightRecordingFilter());
+
+        registration.setUrlPatterns(properties.urlPatterns());
+        registration.setOrder(FLIGHT_RECORDER_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(FlightRecorderProperties properties) {
+        return new FlightRecorderEndpoint(properties);
+    }
+}
@@ -0,0 +1,358 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FLIGHTRECORDERENDPOINT.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.EVENT_USER_REQUEST;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.EVENT_USER_SERVICE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.FIELD_METHOD;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.FIELD_OPERATION;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.FIELD_URI;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.FLIGHT_RECORDER_ENDPOINT_ID;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.MEDIA_TYPE_ACTUATOR_JSON;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.MEDIA_TYPE_JFR;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.RECORDING_FILE_SUFFIX;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.RECORDING_NAME_PATTERN;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.RECORDING_NAME_PREFIX;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.STATUS_CONFLICT;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.VIEW_JFR;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.VIEW_SUMMARY;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Actuator endpoint starting, stopping and dumping bounded Flight Recorder recordings, with the application events
+ * ({@link UserServiceEvent}, {@link UserRequestEvent}) always on, so the application can be profiled in place
+ * without attaching any tool.
+ * <ul>
+ *     <li>{@code GET: actuator/flightrecorder} lists the recordings.</li>
+ *     <li>{@code POST: actuator/flightrecorder} with {@code name}, {@code duration} and {@code maxSize}, all
+ *     optional, starts one.</li>
+ *     <li>{@code GET: actuator/flightrecorder/{name}/summary} gives the hottest operations recorded so far.</li>
+ *     <li>{@code GET: actuator/flightrecorder/{name}/jfr} gives the recording file, for JDK Mission Control or
+ *     {@code jfr print}.</li>
+ *     <li>{@code POST: actuator/flightrecorder/{name}} stops it, keeping its data; {@code DELETE} discards it.</li>
+ * </ul>
+ * <p>At most {@code app.flight-recorder.max-recordings} are kept at once, each one running at most
+ * {@code max-duration} and keeping at most {@code max-size} on disk.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Endpoint(id = FLIGHT_RECORDER_ENDPOINT_ID)
+public class FlightRecorderEndpoint implements AutoCloseable {
+    private final FlightRecorderProperties properties;
+    private final Map<String, Recording> recordings = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param properties Settings for the recordings.
+     */
+    public FlightRecorderEndpoint(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Lists the recordings.
+     *
+     * @return The recordings, running or stopped.
+     */
+    @ReadOperation
+    public List<FlightRecordingInfo> recordings() {
+        return recordings.values().stream()
+            .map(FlightRecordingInfo::of)
+            .sorted(Comparator.comparing(FlightRecordingInfo::startTime))
+            .toList();
+    }
+
+    /**
+     * Starts a recording.
+     *
+     * @param name     Indicates the name of the recording, one is given if missing.
+     * @param duration Indicates how long it runs, {@code app.flight-recorder.duration} if missing.
+     * @param maxSize  Indicates the size it keeps at most on disk, {@code app.flight-recorder.max-size} if missing.
+     * @return The recording started, {@code 409} if the name is taken, {@code 429} if there are too many recordings
+     *     and {@code 503} if the Flight Recorder is unavailable.
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<FlightRecordingInfo> start(@Nullable String name,
+                                                                        @Nullable Duration duration,
+                                                                        @Nullable DataSize maxSize) {
+        if (!FlightRecorder.isAvailable()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+
+        var recordingName = name == null ? RECORDING_NAME_PREFIX + sequence.incrementAndGet() : name;
+
+        if (!recordingName.matches(RECORDING_NAME_PATTERN)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        if (recordings.containsKey(recordingName)) {
+            return new WebEndpointResponse<>(STATUS_CONFLICT);
+        }
+
+        if (recordings.size() >= properties.maxRecordings()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+
+        var recording = new Recording(settings());
+        var requestedDuration = duration == null ? properties.duration() : duration;
+        var requestedMaxSize = maxSize == null ? properties.maxSize() : maxSize;
+
+        recording.enable(UserServiceEvent.class);
+        recording.enable(UserRequestEvent.class);
+        recording.setName(recordingName);
+        recording.setToDisk(true);
+        recording.setDuration(min(requestedDuration, properties.maxDuration()));
+        recording.setMaxSize(Math.min(requestedMaxSize.toBytes(), properties.maxSize().toBytes()));
+        recording.start();
+        recordings.put(recordingName, recording);
+        return new WebEndpointResponse<>(FlightRecordingInfo.of(recording));
+    }
+
+    /**
+     * Gives a view of a recording: its {@code summary}, the hottest operations recorded so far, or its {@code jfr}
+     * file.
+     *
+     * @param name Indicates the name of the recording.
+     * @param view Indicates {@code summary} or {@code jfr}.
+     * @return The view, {@code 404} if there is no such recording or view.
+     */
+    @ReadOperation(produces = {MEDIA_TYPE_ACTUATOR_JSON, MediaType.APPLICATION_JSON_VALUE, MEDIA_TYPE_JFR})
+    public WebEndpointResponse<Object> view(@Selector String name, @Selector String view) {
+        var recording = recordings.get(name);
+
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+
+        return switch (view) {
+            case VIEW_SUMMARY -> new WebEndpointResponse<>(summary(recording));
+            case VIEW_JFR -> new WebEndpointResponse<>(new TemporaryFileResource(dump(recording)),
+                WebEndpointResponse.STATUS_OK, MimeType.valueOf(MEDIA_TYPE_JFR));
+            default -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        };
+    }
+
+    /**
+     * Stops a recording, keeping its data for the summary and the file.
+     *
+     * @param name Indicates the name of the recording.
+     * @return The recording stopped, {@code 404} if there is no such recording.
+     */
+    @WriteOperation
+    public WebEndpointResponse<FlightRecordingInfo> stop(@Selector String name) {
+        var recording = recordings.get(name);
+
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+
+        return new WebEndpointResponse<>(FlightRecordingInfo.of(recording));
+    }
+
+    /**
+     * Discards a recording and its data.
+     *
+     * @param name Indicates the name of the recording.
+     * @return The recording discarded, {@code 404} if there is no such recording.
+     */
+    @DeleteOperation
+    public WebEndpointResponse<FlightRecordingInfo> discard(@Selector String name) {
+        var recording = recordings.remove(name);
+
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+
+        var info = FlightRecordingInfo.of(recording);
+
+        recording.close();
+        return new WebEndpointResponse<>(info);
+    }
+
+    @Override
+    public void close() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+
+    /**
+     * Adds up the time of the application events of a recording per operation.
+     *
+     * @param recording Indicates the recording.
+     * @return The summary, the hottest operations first.
+     */
+    FlightRecordingSummary summary(Recording recording) {
+        var file = dump(recording);
+        var operations = new HashMap<String, OperationTime>();
+
+        try (var events = new RecordingFile(file)) {
+            while (events.hasMoreEvents()) {
+                var event = events.readEvent();
+                var operation = operation(event);
+
+                if (operation != null) {
+                    operations.computeIfAbsent(event.getEventType().getName() + ' ' + operation,
+                            key -> new OperationTime(event.getEventType().getName(), operation))
+                        .add(event.getDuration());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            delete(file);
+        }
+
+        var hottest = operations.values().stream()
+            .sorted(Comparator.comparingLong(OperationTime::totalNanos).reversed())
+            .limit(properties.summarySize())
+            .map(OperationTime::toHotOperation)
+            .toList();
+
+        return new FlightRecordingSummary(FlightRecordingInfo.of(recording), hottest);
+    }
+
+    private Configuration settings() {
+        try {
+            return Configuration.getConfiguration(properties.settings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String operation(RecordedEvent event) {
+        return switch (event.getEventType().getName()) {
+            case EVENT_USER_SERVICE -> event.getString(FIELD_OPERATION);
+            case EVENT_USER_REQUEST -> event.getString(FIELD_METHOD) + ' ' + event.getString(FIELD_URI);
+            default -> null;
+        };
+    }
+
+    private static Path dump(Recording recording) {
+        try {
+            var file = Files.createTempFile(recording.getName(), RECORDING_FILE_SUFFIX);
+
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Left to the temporary directory cleanup.
+        }
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    /**
+     * Time spent in one kind of operation, added up event by event.
+     */
+    private static final class OperationTime {
+        private final String event;
+        private final String operation;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        OperationTime(String event, String operation) {
+            this.event = event;
+            this.operation = operation;
+        }
+
+        void add(Duration duration) {
+            var nanos = duration.toNanos();
+
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        long totalNanos() {
+            return totalNanos;
+        }
+
+        HotOperation toHotOperation() {
+            return new HotOperation(event, operation, count, totalNanos / 1e6, totalNanos / 1e6 / count,
+                maxNanos / 1e6);
+        }
+    }
+
+    /**
+     * Recording file deleted once it has been read.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        delete(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            // Makes the converters read the stream, so the file is deleted once sent.
+            return false;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FLIGHTRECORDERPROPERTIES.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the Flight Recorder request events and the recordings started through the {@code flightrecorder}
+ * endpoint.
+ * <p><b>Prefix:</b>{@code app.flight-recorder}</p>
+ *
+ * @param enabled       Indicates if the requests are recorded and the endpoint is available.
+ * @param urlPatterns   Indicates the Servlet URL patterns of the requests recorded.
+ * @param settings      Indicates the JDK event settings of the recordings, {@code default} (about 1% overhead) or
+ *                      {@code profile} (about 2%, with method sampling every 10 ms); the application events are
+ *                      always on.
+ * @param maxRecordings Indicates the recordings kept at once, running or stopped.
+ * @param duration      Indicates how long a recording runs when the request does not tell.
+ * @param maxDuration   Indicates how long a recording runs at most.
+ * @param maxSize       Indicates the size a recording keeps at most on disk, the oldest data being dropped first.
+ * @param summarySize   Indicates the hottest operations listed by the summary of a recording.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.flight-recorder")
+public record FlightRecorderProperties(@DefaultValue("true") boolean enabled,
+                                       @DefaultValue("/api/v1/*") List<String> urlPatterns,
+                                       @DefaultValue("default") String settings,
+                                       @DefaultValue("4") int maxRecordings,
+                                       @DefaultValue("5m") Duration duration,
+                                       @DefaultValue("1h") Duration maxDuration,
+                                       @DefaultValue("64MB") DataSize maxSize,
+                                       @DefaultValue("20") int summarySize) {
+}
@@ -0,0 +1,58 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FLIGHTRECORDINGFILTER.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.PATH_VARIABLE_USER_ID;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.URI_UNKNOWN;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Makes each request to the User API a {@link UserRequestEvent} in the Flight Recorder recordings, with the endpoint
+ * pattern, the user id of the path if any, and the status.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class FlightRecordingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        var event = new UserRequestEvent();
+
+        event.begin();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                event.uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String uri
+                    ? uri
+                    : URI_UNKNOWN;
+                event.userId = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)
+                    instanceof Map<?, ?> variables && variables.get(PATH_VARIABLE_USER_ID) instanceof String userId
+                    ? userId
+                    : null;
+                event.status = response.getStatus();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FLIGHTRECORDINGINFO.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import java.time.Duration;
+import java.time.Instant;
+import jdk.jfr.Recording;
+
+/**
+ * State of a Flight Recorder recording.
+ *
+ * @param name      Indicates the name of the recording.
+ * @param state     Indicates whether it is {@code RUNNING} or {@code STOPPED}.
+ * @param startTime Indicates when it started.
+ * @param duration  Indicates how long it runs at most.
+ * @param maxSize   Indicates the bytes it keeps at most.
+ * @param size      Indicates the bytes it holds so far.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record FlightRecordingInfo(String name,
+                                  String state,
+                                  Instant startTime,
+                                  Duration duration,
+                                  long maxSize,
+                                  long size) {
+
+    /**
+     * Gives the state of a recording.
+     *
+     * @param recording Indicates the recording.
+     * @return The state.
+     */
+    public static FlightRecordingInfo of(Recording recording) {
+        return new FlightRecordingInfo(recording.getName(),
+            recording.getState().name(),
+            recording.getStartTime(),
+            recording.getDuration(),
+            recording.getMaxSize(),
+            recording.getSize());
+    }
+}
@@ -0,0 +1,21 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FLIGHTRECORDINGSUMMARY.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import java.util.List;
+
+/**
+ * Summary of a Flight Recorder recording.
+ *
+ * @param recording  Indicates the state of the recording.
+ * @param operations Indicates the operations that took the most time altogether, the hottest first.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record FlightRecordingSummary(FlightRecordingInfo recording, List<HotOperation> operations) {
+}
@@ -0,0 +1,167 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FLIGHTRECORDINGUSERSERVICE.JAVA                             */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get recorded.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_COUNT;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_DELETE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_EXISTS;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_INSERT;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_RETRIEVE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_RETRIEVE_ALL;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_RETRIEVE_MANY;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_UPDATE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.STORE_SIZE_UNKNOWN;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.UserService;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decorates a {@link UserService} so each operation is a {@link UserServiceEvent} in the Flight Recorder
+ * recordings. While no recording asks for the event, an operation costs a single check on top of the decorated one.
+ * <p>The store size is read only when an event is committed, and only from stores able to tell it in memory; asking
+ * a database for it on every operation would skew what is being recorded.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class FlightRecordingUserService implements UserService {
+    private final UserService delegate;
+    private final boolean storeSize;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param delegate  Instance of the decorated service.
+     * @param storeSize Indicates if the events carry the store size, for stores counting their Users in memory.
+     */
+    public FlightRecordingUserService(UserService delegate, boolean storeSize) {
+        this.delegate = delegate;
+        this.storeSize = storeSize;
+    }
+
+    @Override
+    public Boolean exists(String userId) {
+        var event = new UserServiceEvent();
+
+        event.begin();
+
+        try {
+            return delegate.exists(userId);
+        } finally {
+            commit(event, OPERATION_EXISTS, userId);
+        }
+    }
+
+    @Override
+    public User insert(User user) {
+        var event = new UserServiceEvent();
+        var inserted = (User) null;
+
+        event.begin();
+
+        try {
+            inserted = delegate.insert(user);
+            return inserted;
+        } finally {
+            commit(event, OPERATION_INSERT, inserted == null ? user.id() : inserted.id());
+        }
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        var event = new UserServiceEvent();
+
+        event.begin();
+
+        try {
+            return delegate.retrieve(userId);
+        } finally {
+            commit(event, OPERATION_RETRIEVE, userId);
+        }
+    }
+
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        var event = new UserServiceEvent();
+
+        event.begin();
+
+        try {
+            return delegate.retrieveMany(userIds);
+        } finally {
+            commit(event, OPERATION_RETRIEVE_MANY, null);
+        }
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        var event = new UserServiceEvent();
+
+        event.begin();
+
+        try {
+            return delegate.delete(userId);
+        } finally {
+            commit(event, OPERATION_DELETE, userId);
+        }
+    }
+
+    @Override
+    public Boolean update(User user) {
+        var event = new UserServiceEvent();
+
+        event.begin();
+
+        try {
+            return delegate.update(user);
+        } finally {
+            commit(event, OPERATION_UPDATE, user.id());
+        }
+    }
+
+    @Override
+    public List<User> retrieveAll() {
+        var event = new UserServiceEvent();
+
+        event.begin();
+
+        try {
+            return delegate.retrieveAll();
+        } finally {
+            commit(event, OPERATION_RETRIEVE_ALL, null);
+        }
+    }
+
+    @Override
+    public Long count() {
+        var event = new UserServiceEvent();
+
+        event.begin();
+
+        try {
+            return delegate.count();
+        } finally {
+            commit(event, OPERATION_COUNT, null);
+        }
+    }
+
+    private void commit(UserServiceEvent event, String operation, String userId) {
+        event.end();
+
+        // Fields are filled in only for the events kept: the duration threshold is known once the operation ended.
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.userId = userId;
+            event.storeSize = storeSize ? delegate.count() : STORE_SIZE_UNKNOWN;
+            event.commit();
+        }
+    }
+}
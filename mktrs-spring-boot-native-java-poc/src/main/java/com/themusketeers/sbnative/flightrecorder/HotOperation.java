@@ -0,0 +1,28 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   HOTOPERATION.JAVA                                           */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+/**
+ * Time spent in one kind of operation during a recording.
+ *
+ * @param event       Indicates the event recording it, a store operation or a request.
+ * @param operation   Indicates the store operation, or the method and endpoint pattern of the request.
+ * @param count       Indicates how many times it ran.
+ * @param totalMillis Indicates the time spent in it altogether.
+ * @param meanMillis  Indicates the time it took on average.
+ * @param maxMillis   Indicates the time it took at most.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record HotOperation(String event,
+                           String operation,
+                           long count,
+                           double totalMillis,
+                           double meanMillis,
+                           double maxMillis) {
+}
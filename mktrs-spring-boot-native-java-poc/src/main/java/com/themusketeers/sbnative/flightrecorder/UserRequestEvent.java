@@ -0,0 +1,46 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERREQUESTEVENT.JAVA                                       */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.CATEGORY_APPLICATION;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.CATEGORY_USER_API;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.EVENT_USER_REQUEST;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of one request to the User API; its duration is the one of serving the request on the
+ * thread it came in.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Name(EVENT_USER_REQUEST)
+@Label("User API Request")
+@Category({CATEGORY_APPLICATION, CATEGORY_USER_API})
+@Description("A request to the User API")
+@StackTrace(false)
+public final class UserRequestEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    @Description("Pattern of the endpoint, not the path")
+    String uri;
+
+    @Label("User Id")
+    String userId;
+
+    @Label("Status")
+    int status;
+}
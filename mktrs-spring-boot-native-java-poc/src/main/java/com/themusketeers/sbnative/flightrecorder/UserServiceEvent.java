@@ -0,0 +1,43 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSERVICEEVENT.JAVA                                       */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.CATEGORY_APPLICATION;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.CATEGORY_USER_SERVICE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.EVENT_USER_SERVICE;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of one operation of the store behind the User Service; its duration is the one of the
+ * operation.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Name(EVENT_USER_SERVICE)
+@Label("User Service Operation")
+@Category({CATEGORY_APPLICATION, CATEGORY_USER_SERVICE})
+@Description("An operation of the store behind the User Service")
+@StackTrace(false)
+public final class UserServiceEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("User Id")
+    String userId;
+
+    @Label("Store Size")
+    @Description("Users in the store once the operation ended, -1 if the store cannot tell it cheaply")
+    long storeSize;
+}
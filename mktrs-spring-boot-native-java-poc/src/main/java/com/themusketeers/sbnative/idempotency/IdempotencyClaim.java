@@ -0,0 +1,44 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   IDEMPOTENCYCLAIM.JAVA                                       */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.idempotency;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Outcome of claiming an idempotency key in the {@link IdempotencyStore}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public sealed interface IdempotencyClaim {
+
+    /**
+     * The key is new: the request is served and its response given back by means of
+     * {@link IdempotencyStore#complete(IdempotencyKey, Execute, IdempotentResponse, long)} or
+     * {@link IdempotencyStore#abandon(IdempotencyKey, Execute)}.
+     *
+     * @param response Instance completed with the response once served, {@code null} if abandoned.
+     */
+    record Execute(CompletableFuture<IdempotentResponse> response) implements IdempotencyClaim {
+    }
+
+    /**
+     * The key was already claimed by the same request: its response is (or will be) the one to give.
+     *
+     * @param response Instance completed with the response once served, {@code null} if abandoned (the request has
+     *                 to claim the key again).
+     */
+    record Replay(CompletableFuture<IdempotentResponse> response) implements IdempotencyClaim {
+    }
+
+    /**
+     * The key was already claimed by a different request.
+     */
+    record Mismatch() implements IdempotencyClaim {
+    }
+}
@@ -0,0 +1,70 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   IDEMPOTENCYCONFIGURATION.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Maximum body size.
+ Oct.19/2026  COQ  Client identified as by the rate limit.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.idempotency;
+
+import static com.themusketeers.sbnative.common.consts.FilterOrderConstants.IDEMPOTENCY_FILTER_ORDER;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.METRIC_IDEMPOTENCY_KEYS;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.METRIC_IDEMPOTENCY_KEYS_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.METRIC_IDEMPOTENCY_REPLAYS;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.METRIC_IDEMPOTENCY_REPLAYS_DESCRIPTION;
+
+import com.themusketeers.sbnative.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the {@code Idempotency-Key} support for the User API. Disabled by means of
+ * {@code app.idempotency.enabled=false}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfiguration {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties) {
+        return new IdempotencyStore(properties.timeToLive(), properties.maxEntries());
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyProperties properties,
+                                                                       RateLimitProperties rateLimitProperties,
+                                                                       IdempotencyStore store) {
+        var filter = new IdempotencyFilter(store,
+            properties.maxKeyLength(),
+            Math.toIntExact(properties.maxBodySize().toBytes()),
+            properties.waitTimeout(),
+            rateLimitProperties.clientKeyHeader());
+        var registration = new FilterRegistrationBean<>(filter);
+
+        registration.setUrlPatterns(properties.urlPatterns());
+        registration.setOrder(IDEMPOTENCY_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder idempotencyMetrics(IdempotencyStore store) {
+        return registry -> {
+            FunctionCounter.builder(METRIC_IDEMPOTENCY_REPLAYS, store, IdempotencyStore::replays)
+                .description(METRIC_IDEMPOTENCY_REPLAYS_DESCRIPTION)
+                .register(registry);
+            Gauge.builder(METRIC_IDEMPOTENCY_KEYS, store, IdempotencyStore::size)
+                .description(METRIC_IDEMPOTENCY_KEYS_DESCRIPTION)
+                .register(registry);
+        };
+    }
+}
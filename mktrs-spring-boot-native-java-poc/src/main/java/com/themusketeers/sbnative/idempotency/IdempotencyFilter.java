@@ -0,0 +1,306 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   IDEMPOTENCYFILTER.JAVA                                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Request body bounded, read listener per the Servlet spec.
+ Oct.19/2026  COQ  Keys scoped to the client.
+ Oct.19/2026  COQ  Time kept by the store.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.idempotency;
+
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.BODY_TOO_LARGE_BODY;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.FINGERPRINT_ALGORITHM;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.HEADER_IDEMPOTENCY_KEY;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.HEADER_IDEMPOTENT_REPLAYED;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.IDEMPOTENT_REPLAYED_VALUE;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.KEY_IN_FLIGHT_BODY;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.KEY_REUSED_BODY;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.KEY_TOO_LONG_BODY;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.SC_UNPROCESSABLE_CONTENT;
+
+import com.themusketeers.sbnative.ratelimit.RateLimitFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Makes {@code POST} requests carrying an {@code Idempotency-Key} header safe to retry: the first request with a
+ * key is served and its response kept in the {@link IdempotencyStore}; the retries get that response back, marked
+ * with {@code Idempotent-Replayed: true}, without serving the request again. A retry arriving while the first
+ * request is still being served waits for its response. A key belongs to the client that sent it, identified as the
+ * rate limit does.
+ * <ul>
+ *     <li>The same key sent with a different body is answered with {@code 422 Unprocessable Content}.</li>
+ *     <li>A retry that waited too long for the first request is answered with {@code 409 Conflict}.</li>
+ *     <li>A body larger than the limit is answered with {@code 413 Content Too Large}, as it is read whole.</li>
+ *     <li>A request failing with a server error (or an exception) keeps nothing, so it can be retried.</li>
+ * </ul>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    private static final byte[] KEY_TOO_LONG_BODY_BYTES = KEY_TOO_LONG_BODY.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] KEY_REUSED_BODY_BYTES = KEY_REUSED_BODY.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] KEY_IN_FLIGHT_BODY_BYTES = KEY_IN_FLIGHT_BODY.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BODY_TOO_LARGE_BODY_BYTES = BODY_TOO_LARGE_BODY.getBytes(StandardCharsets.UTF_8);
+
+    private final IdempotencyStore store;
+    private final int maxKeyLength;
+    private final int maxBodySize;
+    private final Duration waitTimeout;
+    private final String clientKeyHeader;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param store           Instance keeping the responses.
+     * @param maxKeyLength    Indicates the longest key accepted.
+     * @param maxBodySize     Indicates the largest request body accepted, in bytes.
+     * @param waitTimeout     Indicates how long a retry waits for the request still being served.
+     * @param clientKeyHeader Indicates the header identifying the client, blank to use the remote address.
+     */
+    public IdempotencyFilter(IdempotencyStore store,
+                             int maxKeyLength,
+                             int maxBodySize,
+                             Duration waitTimeout,
+                             String clientKeyHeader) {
+        this.store = store;
+        this.maxKeyLength = maxKeyLength;
+        this.maxBodySize = maxBodySize;
+        this.waitTimeout = waitTimeout;
+        this.clientKeyHeader = clientKeyHeader;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(HEADER_IDEMPOTENCY_KEY) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        var idempotencyKey = request.getHeader(HEADER_IDEMPOTENCY_KEY);
+
+        if (idempotencyKey.length() > maxKeyLength) {
+            reject(response, HttpServletResponse.SC_BAD_REQUEST, KEY_TOO_LONG_BODY_BYTES);
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxBodySize) {
+            reject(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, BODY_TOO_LARGE_BODY_BYTES);
+            return;
+        }
+
+        // Read one byte past the limit, to tell a chunked body too large without reading it all.
+        var body = request.getInputStream().readNBytes(maxBodySize + 1);
+
+        if (body.length > maxBodySize) {
+            reject(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, BODY_TOO_LARGE_BODY_BYTES);
+            return;
+        }
+
+        var cachedRequest = new CachedBodyRequest(request, body);
+        var key = new IdempotencyKey(RateLimitFilter.clientKey(request, clientKeyHeader),
+            request.getMethod(),
+            request.getRequestURI(),
+            idempotencyKey);
+        var fingerprint = fingerprint(cachedRequest.body);
+
+        while (true) {
+            switch (store.claim(key, fingerprint)) {
+                case IdempotencyClaim.Execute execute -> {
+                    execute(cachedRequest, response, filterChain, key, execute);
+                    return;
+                }
+                case IdempotencyClaim.Replay replay -> {
+                    var stored = await(replay);
+
+                    if (stored == null) {
+                        // Failed, or not answered in time: the wait gave up (409) or the key is free again.
+                        if (!replay.response().isDone()) {
+                            reject(response, HttpServletResponse.SC_CONFLICT, KEY_IN_FLIGHT_BODY_BYTES);
+                            return;
+                        }
+
+                        continue;
+                    }
+
+                    replay(response, stored);
+                    return;
+                }
+                case IdempotencyClaim.Mismatch mismatch -> {
+                    reject(response, SC_UNPROCESSABLE_CONTENT, KEY_REUSED_BODY_BYTES);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain filterChain,
+                         IdempotencyKey key,
+                         IdempotencyClaim.Execute claim) throws ServletException, IOException {
+        var outerHeaders = new HashSet<>(response.getHeaderNames());
+        var responseWrapper = new ContentCachingResponseWrapper(response);
+        var served = false;
+
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            served = responseWrapper.getStatus() < HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        } finally {
+            if (served) {
+                store.complete(key, claim, stored(responseWrapper, outerHeaders));
+            } else {
+                store.abandon(key, claim);
+            }
+        }
+
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private IdempotentResponse await(IdempotencyClaim.Replay replay) throws ServletException {
+        try {
+            return replay.response().get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException(e);
+        } catch (ExecutionException e) {
+            throw new ServletException(e.getCause());
+        }
+    }
+
+    private static IdempotentResponse stored(ContentCachingResponseWrapper response, HashSet<String> outerHeaders) {
+        var headers = new LinkedHashMap<String, List<String>>();
+
+        for (var name : response.getHeaderNames()) {
+            if (!outerHeaders.contains(name) && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+
+        if (response.getContentType() != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, List.of(response.getContentType()));
+        }
+
+        return new IdempotentResponse(response.getStatus(), headers, response.getContentAsByteArray());
+    }
+
+    private static void replay(HttpServletResponse response, IdempotentResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(HEADER_IDEMPOTENT_REPLAYED, IDEMPOTENT_REPLAYED_VALUE);
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static void reject(HttpServletResponse response, int status, byte[] body) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] fingerprint(byte[] body) {
+        try {
+            return MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Holds the whole body, read up front to fingerprint it, and gives it again to whoever reads the request next.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var input = new ByteArrayInputStream(body);
+
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    if (!isAsyncStarted()) {
+                        throw new IllegalStateException("The request is neither upgraded nor in async mode");
+                    }
+
+                    // The body is all in memory: it is available at once, then read.
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            var encoding = getCharacterEncoding();
+            var charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   IDEMPOTENCYKEY.JAVA                                         */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Scoped to the client.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.idempotency;
+
+/**
+ * Scope of an {@code Idempotency-Key}: the same key sent by another client, or to another resource or method, is
+ * another key, so a client can neither replay nor block the requests of another one by guessing its keys.
+ *
+ * @param client Identifies the client, as the rate limit does.
+ * @param method Indicates the HTTP method.
+ * @param path   Indicates the request path.
+ * @param key    Indicates the value sent by the client.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record IdempotencyKey(String client, String method, String path, String key) {
+}
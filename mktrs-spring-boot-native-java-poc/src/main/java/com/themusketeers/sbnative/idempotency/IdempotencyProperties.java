@@ -0,0 +1,39 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   IDEMPOTENCYPROPERTIES.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Maximum body size.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the {@code Idempotency-Key} support.
+ * <p><b>Prefix:</b>{@code app.idempotency}</p>
+ *
+ * @param enabled      Indicates if the {@code Idempotency-Key} header is honored.
+ * @param urlPatterns  Indicates the Servlet URL patterns whose {@code POST} requests honor it.
+ * @param timeToLive   Indicates how long the response of a key is kept.
+ * @param maxEntries   Indicates the keys kept before they are evicted.
+ * @param maxKeyLength Indicates the longest key accepted.
+ * @param maxBodySize  Indicates the largest body of a request with a key, read whole to fingerprint it.
+ * @param waitTimeout  Indicates how long a retry waits for the request with the same key still being served.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.idempotency")
+public record IdempotencyProperties(@DefaultValue("true") boolean enabled,
+                                    @DefaultValue("/api/v1/users") List<String> urlPatterns,
+                                    @DefaultValue("24h") Duration timeToLive,
+                                    @DefaultValue("10000") int maxEntries,
+                                    @DefaultValue("255") int maxKeyLength,
+                                    @DefaultValue("1MB") DataSize maxBodySize,
+                                    @DefaultValue("10s") Duration waitTimeout) {
+}
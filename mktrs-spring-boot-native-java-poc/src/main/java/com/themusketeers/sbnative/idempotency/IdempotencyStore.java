@@ -0,0 +1,166 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   IDEMPOTENCYSTORE.JAVA                                       */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Answered keys kept in a Caffeine cache, the claims in flight apart.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the first response given for each idempotency key, so the retries of a request get it back instead of
+ * running the request again.
+ * <p>A key is claimed with the fingerprint of its request before serving it; the requests arriving meanwhile with
+ * the same key share the pending response of the first one. The claims in flight are held in a map of their own,
+ * which is never evicted and only holds as many keys as requests being served. Once answered, the key moves to a
+ * Caffeine cache dropping it after the time to live and, over {@code maxEntries} keys, evicting in amortized constant
+ * time the least worth keeping (W-TinyLFU); a retry of an evicted key is served again.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class IdempotencyStore {
+    private final Map<IdempotencyKey, Entry> inFlight = new ConcurrentHashMap<>();
+    private final Cache<IdempotencyKey, Entry> answered;
+    private final LongAdder replays = new LongAdder();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param timeToLive Indicates how long a response is kept.
+     * @param maxEntries Indicates the answered keys kept before they are evicted.
+     */
+    public IdempotencyStore(Duration timeToLive, int maxEntries) {
+        this(timeToLive, maxEntries, System::nanoTime);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param timeToLive Indicates how long a response is kept.
+     * @param maxEntries Indicates the answered keys kept before they are evicted.
+     * @param nanoClock  Indicates the source of the time the responses expire by, in nanoseconds.
+     */
+    IdempotencyStore(Duration timeToLive, int maxEntries, LongSupplier nanoClock) {
+        if (!timeToLive.isPositive() || maxEntries < 1) {
+            throw new IllegalArgumentException("Expected a positive time to live and maximum of entries");
+        }
+
+        this.answered = Caffeine.newBuilder()
+            .expireAfterWrite(timeToLive)
+            .maximumSize(maxEntries)
+            .ticker(nanoClock::getAsLong)
+            .executor(Runnable::run)
+            .build();
+    }
+
+    /**
+     * Claims a key for a request.
+     *
+     * @param key         Identifies the key.
+     * @param fingerprint Identifies the request (digest of its body).
+     * @return What to do with the request.
+     */
+    public IdempotencyClaim claim(IdempotencyKey key, byte[] fingerprint) {
+        while (true) {
+            // In flight first: a key answered meanwhile is in the cache before it leaves the claims in flight.
+            var entry = inFlight.get(key);
+
+            if (entry == null) {
+                entry = answered.getIfPresent(key);
+            }
+
+            if (entry == null) {
+                var claimed = new Entry(fingerprint);
+
+                if (inFlight.putIfAbsent(key, claimed) != null) {
+                    continue;
+                }
+
+                if (answered.getIfPresent(key) != null) {
+                    // Answered between the lookups: the claim goes, the requests that saw it claim again.
+                    inFlight.remove(key, claimed);
+                    claimed.response.complete(null);
+                    continue;
+                }
+
+                return new IdempotencyClaim.Execute(claimed.response);
+            }
+
+            if (!Arrays.equals(entry.fingerprint, fingerprint)) {
+                return new IdempotencyClaim.Mismatch();
+            }
+
+            replays.increment();
+            return new IdempotencyClaim.Replay(entry.response);
+        }
+    }
+
+    /**
+     * Keeps the response of a claimed key and hands it to the requests waiting for it.
+     *
+     * @param key      Identifies the key.
+     * @param claim    Indicates the claim given for the key.
+     * @param response Holds the response.
+     */
+    public void complete(IdempotencyKey key, IdempotencyClaim.Execute claim, IdempotentResponse response) {
+        var entry = inFlight.get(key);
+
+        if (entry != null && entry.response == claim.response()) {
+            answered.put(key, entry);
+            inFlight.remove(key, entry);
+        }
+
+        claim.response().complete(response);
+    }
+
+    /**
+     * Releases a claimed key whose request failed, so it can be retried; the requests waiting for it claim it again.
+     *
+     * @param key   Identifies the key.
+     * @param claim Indicates the claim given for the key.
+     */
+    public void abandon(IdempotencyKey key, IdempotencyClaim.Execute claim) {
+        inFlight.computeIfPresent(key, (ignored, entry) -> entry.response == claim.response() ? null : entry);
+        claim.response().complete(null);
+    }
+
+    /**
+     * Gives how many keys are kept, answered or being served.
+     *
+     * @return Number of keys.
+     */
+    public int size() {
+        answered.cleanUp();
+        return inFlight.size() + (int) answered.estimatedSize();
+    }
+
+    /**
+     * Gives how many requests were answered with the response of their key.
+     *
+     * @return Number of replays.
+     */
+    public long replays() {
+        return replays.sum();
+    }
+
+    private static final class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<IdempotentResponse> response = new CompletableFuture<>();
+
+        private Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
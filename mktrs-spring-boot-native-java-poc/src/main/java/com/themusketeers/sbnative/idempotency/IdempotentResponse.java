@@ -0,0 +1,23 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   IDEMPOTENTRESPONSE.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.idempotency;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response kept for an idempotency key, replayed as is to the retries of the request.
+ *
+ * @param status  Indicates the HTTP status.
+ * @param headers Holds the headers set while serving the request (those set by outer filters are left out).
+ * @param body    Holds the body.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record IdempotentResponse(int status, Map<String, List<String>> headers, byte[] body) {
+}
@@ -0,0 +1,125 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RATELIMITBUDGET.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Buckets kept in a Caffeine cache, expiring once full.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per client, refilled at a steady rate up to a burst capacity.
+ * <p>Each bucket is a single {@link AtomicLong} holding the theoretical arrival time of the next request
+ * (Generic Cell Rate Algorithm), updated with compare-and-set: no lock and no refill timer. A bucket whose
+ * theoretical arrival time is in the past is full, so it holds no information and can be dropped. The buckets are
+ * kept in a Caffeine cache expiring them once untouched for the burst window (capacity times the emission interval),
+ * by when they are full again; the cache drops them in amortized constant time, on the calling thread. Only more
+ * than {@code maxClients} clients using their budget within the window make the cache evict buckets still in use;
+ * its admission being frequency aware (W-TinyLFU), a flood of new clients evicts its own buckets rather than those
+ * of the busy clients.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class RateLimitBudget {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long capacity;
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final Cache<String, AtomicLong> buckets;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param capacity        Indicates the requests allowed in a burst.
+     * @param refillPerSecond Indicates the requests per second the budget is refilled with.
+     * @param maxClients      Indicates the clients tracked before buckets are evicted.
+     */
+    public RateLimitBudget(long capacity, double refillPerSecond, int maxClients) {
+        this(capacity, refillPerSecond, maxClients, System::nanoTime);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param capacity        Indicates the requests allowed in a burst.
+     * @param refillPerSecond Indicates the requests per second the budget is refilled with.
+     * @param maxClients      Indicates the clients tracked before buckets are evicted.
+     * @param nanoClock       Indicates the source of the current time the buckets expire by, in nanoseconds.
+     */
+    RateLimitBudget(long capacity, double refillPerSecond, int maxClients, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0 || maxClients < 1) {
+            throw new IllegalArgumentException("Expected a positive capacity, refill rate and maximum of clients");
+        }
+
+        this.capacity = capacity;
+        this.emissionInterval = Math.max(1, (long) (NANOS_PER_SECOND / refillPerSecond));
+        this.burstTolerance = capacity * emissionInterval;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxClients)
+            .expireAfterAccess(Duration.ofNanos(burstTolerance))
+            .ticker(nanoClock::getAsLong)
+            .executor(Runnable::run)
+            .build();
+    }
+
+    /**
+     * Takes a token from the client's bucket if there is one.
+     *
+     * @param client Identifies the client.
+     * @param now    Indicates the current time in nanoseconds ({@link System#nanoTime()}).
+     * @return The decision with the data for the {@code RateLimit-*} headers.
+     */
+    public RateLimitDecision tryAcquire(String client, long now) {
+        var bucket = buckets.get(client, key -> new AtomicLong(Long.MIN_VALUE));
+
+        while (true) {
+            var arrival = bucket.get();
+            var start = Math.max(arrival, now);
+            var debt = start + emissionInterval - now;
+
+            if (debt > burstTolerance) {
+                rejected.increment();
+                return new RateLimitDecision(false, capacity, 0, toSeconds(start - now), toSeconds(debt - burstTolerance));
+            }
+
+            if (bucket.compareAndSet(arrival, start + emissionInterval)) {
+                return new RateLimitDecision(true, capacity, (burstTolerance - debt) / emissionInterval, toSeconds(debt), 0);
+            }
+        }
+    }
+
+    /**
+     * Gives how many clients have a bucket.
+     *
+     * @return Number of buckets.
+     */
+    public int clients() {
+        buckets.cleanUp();
+        return (int) buckets.estimatedSize();
+    }
+
+    /**
+     * Gives how many requests were rejected as the client ran out of budget.
+     *
+     * @return Number of rejections.
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+}
@@ -0,0 +1,78 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RATELIMITCONFIGURATION.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.ratelimit;
+
+import static com.themusketeers.sbnative.common.consts.FilterOrderConstants.RATE_LIMIT_FILTER_ORDER;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.BUDGET_READ;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.BUDGET_WRITE;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.METRIC_RATE_LIMIT_CLIENTS;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.METRIC_RATE_LIMIT_CLIENTS_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.METRIC_RATE_LIMIT_REJECTED;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.METRIC_RATE_LIMIT_REJECTED_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.METRIC_TAG_BUDGET;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the per client Rate Limit for the User API. Disabled by means of {@code app.rate-limit.enabled=false}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfiguration {
+
+    @Bean
+    public RateLimitBudget readRateLimitBudget(RateLimitProperties properties) {
+        return new RateLimitBudget(properties.readCapacity(), properties.readRefillPerSecond(), properties.maxClients());
+    }
+
+    @Bean
+    public RateLimitBudget writeRateLimitBudget(RateLimitProperties properties) {
+        return new RateLimitBudget(properties.writeCapacity(), properties.writeRefillPerSecond(), properties.maxClients());
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+                                                                   RateLimitBudget readRateLimitBudget,
+                                                                   RateLimitBudget writeRateLimitBudget) {
+        var filter = new RateLimitFilter(readRateLimitBudget, writeRateLimitBudget, properties.clientKeyHeader());
+        var registration = new FilterRegistrationBean<>(filter);
+
+        registration.setUrlPatterns(properties.urlPatterns());
+        registration.setOrder(RATE_LIMIT_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder rateLimitMetrics(RateLimitBudget readRateLimitBudget, RateLimitBudget writeRateLimitBudget) {
+        return registry -> {
+            bindBudget(registry, BUDGET_READ, readRateLimitBudget);
+            bindBudget(registry, BUDGET_WRITE, writeRateLimitBudget);
+        };
+    }
+
+    private static void bindBudget(MeterRegistry registry, String name, RateLimitBudget budget) {
+        FunctionCounter.builder(METRIC_RATE_LIMIT_REJECTED, budget, RateLimitBudget::rejected)
+            .description(METRIC_RATE_LIMIT_REJECTED_DESCRIPTION)
+            .tag(METRIC_TAG_BUDGET, name)
+            .register(registry);
+        Gauge.builder(METRIC_RATE_LIMIT_CLIENTS, budget, RateLimitBudget::clients)
+            .description(METRIC_RATE_LIMIT_CLIENTS_DESCRIPTION)
+            .tag(METRIC_TAG_BUDGET, name)
+            .register(registry);
+    }
+}
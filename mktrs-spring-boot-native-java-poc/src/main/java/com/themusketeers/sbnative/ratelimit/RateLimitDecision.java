@@ -0,0 +1,22 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RATELIMITDECISION.JAVA                                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.ratelimit;
+
+/**
+ * Outcome of asking a {@link RateLimitBudget} for a request.
+ *
+ * @param allowed           Indicates if the request may go on.
+ * @param limit             Indicates the budget size (requests allowed in a burst).
+ * @param remaining         Indicates the requests still allowed right away.
+ * @param resetSeconds      Indicates the seconds until the budget is full again.
+ * @param retryAfterSeconds Indicates the seconds to wait before the next request is allowed, 0 when allowed.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+}
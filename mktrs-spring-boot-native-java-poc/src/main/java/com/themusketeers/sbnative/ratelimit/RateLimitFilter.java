@@ -0,0 +1,119 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RATELIMITFILTER.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Client key shared with the idempotency support.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.ratelimit;
+
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.HEADER_RATE_LIMIT_LIMIT;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.HEADER_RATE_LIMIT_REMAINING;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.HEADER_RATE_LIMIT_RESET;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.REJECTION_BODY;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.SC_TOO_MANY_REQUESTS;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rate limits each client of the User API, so a batch client cannot starve the interactive ones. The client is
+ * identified by the configured header or, without it, by the remote address. Reads ({@code GET}, {@code HEAD},
+ * {@code OPTIONS}) and writes are taken from separate budgets.
+ * <p>Every response carries the {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset}
+ * headers; a request over the budget is answered with {@code 429 Too Many Requests} and {@code Retry-After}.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final byte[] REJECTION_BODY_BYTES = REJECTION_BODY.getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimitBudget readBudget;
+    private final RateLimitBudget writeBudget;
+    private final String clientKeyHeader;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param readBudget      Instance with the budget of the reads.
+     * @param writeBudget     Instance with the budget of the writes.
+     * @param clientKeyHeader Indicates the header identifying the client, blank to use the remote address.
+     */
+    public RateLimitFilter(RateLimitBudget readBudget, RateLimitBudget writeBudget, String clientKeyHeader) {
+        this(readBudget, writeBudget, clientKeyHeader, System::nanoTime);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param readBudget      Instance with the budget of the reads.
+     * @param writeBudget     Instance with the budget of the writes.
+     * @param clientKeyHeader Indicates the header identifying the client, blank to use the remote address.
+     * @param nanoClock       Indicates the source of the time.
+     */
+    RateLimitFilter(RateLimitBudget readBudget, RateLimitBudget writeBudget, String clientKeyHeader, LongSupplier nanoClock) {
+        this.readBudget = readBudget;
+        this.writeBudget = writeBudget;
+        this.clientKeyHeader = clientKeyHeader;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        var budget = isRead(request.getMethod()) ? readBudget : writeBudget;
+        var decision = budget.tryAcquire(clientKey(request, clientKeyHeader), nanoClock.getAsLong());
+
+        response.setHeader(HEADER_RATE_LIMIT_LIMIT, String.valueOf(decision.limit()));
+        response.setHeader(HEADER_RATE_LIMIT_REMAINING, String.valueOf(decision.remaining()));
+        response.setHeader(HEADER_RATE_LIMIT_RESET, String.valueOf(decision.resetSeconds()));
+
+        if (!decision.allowed()) {
+            response.setStatus(SC_TOO_MANY_REQUESTS);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            response.setContentLength(REJECTION_BODY_BYTES.length);
+            response.getOutputStream().write(REJECTION_BODY_BYTES);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Identifies the client of a request: the value of the given header or, without it, the remote address.
+     *
+     * @param request         Indicates the request.
+     * @param clientKeyHeader Indicates the header identifying the client, blank to use the remote address.
+     * @return The key of the client.
+     */
+    public static String clientKey(HttpServletRequest request, String clientKeyHeader) {
+        if (StringUtils.hasText(clientKeyHeader)) {
+            var key = request.getHeader(clientKeyHeader);
+
+            if (StringUtils.hasText(key)) {
+                return key;
+            }
+        }
+
+        return request.getRemoteAddr();
+    }
+
+    private static boolean isRead(String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method);
+    }
+}
@@ -0,0 +1,38 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RATELIMITPROPERTIES.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.ratelimit;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the per client Rate Limit.
+ * <p><b>Prefix:</b>{@code app.rate-limit}</p>
+ *
+ * @param enabled              Indicates if the clients are rate limited.
+ * @param urlPatterns          Indicates the Servlet URL patterns whose requests are rate limited.
+ * @param clientKeyHeader      Indicates the header identifying the client, blank (or missing) uses the remote address.
+ * @param maxClients           Indicates the clients tracked per budget before their buckets are evicted.
+ * @param readCapacity         Indicates the reads ({@code GET}, {@code HEAD}, {@code OPTIONS}) allowed in a burst.
+ * @param readRefillPerSecond  Indicates the reads per second the read budget is refilled with.
+ * @param writeCapacity        Indicates the writes allowed in a burst.
+ * @param writeRefillPerSecond Indicates the writes per second the write budget is refilled with.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("/api/v1/*") List<String> urlPatterns,
+                                  @DefaultValue("X-Client-Id") String clientKeyHeader,
+                                  @DefaultValue("10000") int maxClients,
+                                  @DefaultValue("200") long readCapacity,
+                                  @DefaultValue("100") double readRefillPerSecond,
+                                  @DefaultValue("20") long writeCapacity,
+                                  @DefaultValue("10") double writeRefillPerSecond) {
+}
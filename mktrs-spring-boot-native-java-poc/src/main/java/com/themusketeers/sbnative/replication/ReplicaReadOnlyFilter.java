@@ -0,0 +1,51 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICAREADONLYFILTER.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.REPLICA_REJECTION_BODY;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.SC_MISDIRECTED_REQUEST;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Serves only reads on a replica; a write is answered with {@code 421 Misdirected Request}, as it must be sent to
+ * the primary, otherwise the replica would diverge from it.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ReplicaReadOnlyFilter extends OncePerRequestFilter {
+    private static final byte[] REJECTION_BODY_BYTES = REPLICA_REJECTION_BODY.getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isRead(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(SC_MISDIRECTED_REQUEST);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(REJECTION_BODY_BYTES.length);
+        response.getOutputStream().write(REJECTION_BODY_BYTES);
+    }
+
+    private static boolean isRead(String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method);
+    }
+}
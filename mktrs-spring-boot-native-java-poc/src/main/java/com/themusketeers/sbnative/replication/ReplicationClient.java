@@ -0,0 +1,298 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONCLIENT.JAVA                                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  First snapshot reported as a startup milestone.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.HEARTBEATS_BEFORE_TIMEOUT;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.NO_EPOCH;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.SOCKET_BUFFER_SIZE;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.THREAD_REPLICATION_CLIENT;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_STORE_LOAD;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Ack;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Batch;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Heartbeat;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Hello;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Snapshot;
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import com.themusketeers.sbnative.startup.StartupTimelineRecorder;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Replica side of the Replication: connects to the primary, applies the snapshot and batches of changes it streams
+ * to the local User Service and acknowledges each of them; it connects again whenever the connection drops or the
+ * primary stays silent for 3 heartbeat intervals.
+ * <p>Changes are applied through the decorated User Service, so local caches and listeners see them as any other
+ * write. Inserts and updates are both applied as "update, else insert", which makes applying a change twice
+ * harmless. The first snapshot applied is the load of the store, reported as the {@code store.load} startup
+ * milestone.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ReplicationClient implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ReplicationClient.class);
+
+    private final UserService userService;
+    private final String primaryHost;
+    private final int primaryPort;
+    private final Duration heartbeatInterval;
+    private final Duration reconnectDelay;
+    private final LongSupplier clock;
+
+    private volatile StartupTimelineRecorder startupTimeline;
+    private volatile boolean running;
+    private volatile Thread worker;
+    private volatile Socket socket;
+    private volatile boolean connected;
+    private volatile long epoch = NO_EPOCH;
+    private volatile long applied;
+    private volatile long primarySequence;
+    private volatile long applyDelayMillis;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param userService       Instance to apply the changes to.
+     * @param primaryHost       Indicates the host of the primary.
+     * @param primaryPort       Indicates the replication TCP port of the primary.
+     * @param heartbeatInterval Indicates how often the primary sends a heartbeat.
+     * @param reconnectDelay    Indicates how long to wait before connecting again.
+     * @param startupTimeline   Instance recording the load of the first snapshot, NULL if not recorded.
+     */
+    public ReplicationClient(UserService userService,
+                             String primaryHost,
+                             int primaryPort,
+                             Duration heartbeatInterval,
+                             Duration reconnectDelay,
+                             StartupTimelineRecorder startupTimeline) {
+        this(userService,
+            primaryHost,
+            primaryPort,
+            heartbeatInterval,
+            reconnectDelay,
+            startupTimeline,
+            System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param userService       Instance to apply the changes to.
+     * @param primaryHost       Indicates the host of the primary.
+     * @param primaryPort       Indicates the replication TCP port of the primary.
+     * @param heartbeatInterval Indicates how often the primary sends a heartbeat.
+     * @param reconnectDelay    Indicates how long to wait before connecting again.
+     * @param startupTimeline   Instance recording the load of the first snapshot, NULL if not recorded.
+     * @param clock             Indicates the source of the current time (epoch milliseconds) for the apply delay.
+     */
+    public ReplicationClient(UserService userService,
+                             String primaryHost,
+                             int primaryPort,
+                             Duration heartbeatInterval,
+                             Duration reconnectDelay,
+                             StartupTimelineRecorder startupTimeline,
+                             LongSupplier clock) {
+        this.userService = userService;
+        this.primaryHost = primaryHost;
+        this.primaryPort = primaryPort;
+        this.heartbeatInterval = heartbeatInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.startupTimeline = startupTimeline;
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name(THREAD_REPLICATION_CLIENT).start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        var current = socket;
+
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                log.debug("Unable to close the connection to the primary", e);
+            }
+        }
+
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Tells whether the replica is connected to the primary.
+     *
+     * @return True if connected.
+     */
+    public boolean connected() {
+        return connected;
+    }
+
+    /**
+     * Gives the sequence of the last change applied.
+     *
+     * @return 0 if nothing has been applied yet.
+     */
+    public long applied() {
+        return applied;
+    }
+
+    /**
+     * Gives how many changes of the primary, as last reported by it, are not applied yet.
+     *
+     * @return The changes not applied yet.
+     */
+    public long lag() {
+        return Math.max(0, primarySequence - applied);
+    }
+
+    /**
+     * Gives the time from the primary applying the last change applied to the replica applying it. It includes the
+     * clock difference of both hosts.
+     *
+     * @return The delay in milliseconds.
+     */
+    public long applyDelayMillis() {
+        return applyDelayMillis;
+    }
+
+    private void run() {
+        while (running) {
+            try (var current = new Socket()) {
+                socket = current;
+                current.connect(new InetSocketAddress(primaryHost, primaryPort), (int) reconnectDelay.toMillis());
+                current.setTcpNoDelay(true);
+                current.setSoTimeout((int) heartbeatInterval.multipliedBy(HEARTBEATS_BEFORE_TIMEOUT).toMillis());
+                replicate(current);
+            } catch (IOException e) {
+                if (running) {
+                    log.info("Replication from {}:{} interrupted: {}", primaryHost, primaryPort, e.getMessage());
+                }
+            } finally {
+                connected = false;
+                socket = null;
+            }
+
+            try {
+                Thread.sleep(reconnectDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void replicate(Socket current) throws IOException {
+        var in = new DataInputStream(new BufferedInputStream(current.getInputStream(), SOCKET_BUFFER_SIZE));
+        var out = new DataOutputStream(new BufferedOutputStream(current.getOutputStream(), SOCKET_BUFFER_SIZE));
+
+        ReplicationProtocol.write(out, new Hello(epoch, applied));
+        out.flush();
+        connected = true;
+        log.info("Replicating from {}:{} at sequence {}", primaryHost, primaryPort, applied);
+
+        while (running) {
+            switch (ReplicationProtocol.read(in)) {
+                case Snapshot snapshot -> {
+                    applySnapshot(snapshot);
+                    acknowledge(out);
+                }
+                case Batch batch -> {
+                    primarySequence = batch.primarySequence();
+                    batch.mutations().forEach(this::applyMutation);
+                    acknowledge(out);
+                }
+                case Heartbeat heartbeat -> primarySequence = heartbeat.primarySequence();
+                default -> throw new StreamCorruptedException("Unexpected frame from the primary");
+            }
+        }
+    }
+
+    private void applySnapshot(Snapshot snapshot) {
+        var recorder = startupTimeline;
+
+        // Only the first one is the load of the store, those after a reconnection are catching up.
+        startupTimeline = null;
+
+        try (var load = recorder == null ? null : recorder.begin(MILESTONE_STORE_LOAD)) {
+            replaceUsers(snapshot);
+        }
+
+        epoch = snapshot.epoch();
+        applied = snapshot.sequence();
+        primarySequence = Math.max(primarySequence, snapshot.sequence());
+        log.info("Applied snapshot of {} users at sequence {}", snapshot.users().size(), snapshot.sequence());
+    }
+
+    private void replaceUsers(Snapshot snapshot) {
+        var ids = new HashSet<String>();
+
+        snapshot.users().forEach(user -> ids.add(user.id()));
+        userService.retrieveAll()
+            .stream()
+            .map(User::id)
+            .filter(id -> !ids.contains(id))
+            .toList()
+            .forEach(userService::delete);
+        snapshot.users().forEach(this::upsert);
+    }
+
+    private void applyMutation(UserMutation mutation) {
+        if (mutation.sequence() <= applied) {
+            return;
+        }
+
+        if (mutation.type() == UserMutation.Type.DELETE) {
+            userService.delete(mutation.userId());
+        } else {
+            upsert(mutation.user());
+        }
+
+        applied = mutation.sequence();
+        applyDelayMillis = Math.max(0, clock.getAsLong() - mutation.timestamp());
+    }
+
+    private void upsert(User user) {
+        if (!Boolean.TRUE.equals(userService.update(user))) {
+            userService.insert(user);
+        }
+    }
+
+    private void acknowledge(DataOutputStream out) throws IOException {
+        ReplicationProtocol.write(out, new Ack(applied));
+        out.flush();
+    }
+}
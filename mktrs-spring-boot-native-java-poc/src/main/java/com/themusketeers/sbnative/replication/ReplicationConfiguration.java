@@ -0,0 +1,142 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONCONFIGURATION.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Replication bound to an address, first snapshot as a startup milestone.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+import static com.themusketeers.sbnative.common.consts.FilterOrderConstants.REPLICA_READ_ONLY_FILTER_ORDER;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.METRIC_REPLICATION_APPLY_DELAY;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.METRIC_REPLICATION_APPLY_DELAY_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.METRIC_REPLICATION_CONNECTED;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.METRIC_REPLICATION_CONNECTED_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.METRIC_REPLICATION_LAG;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.METRIC_REPLICATION_LAG_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.METRIC_REPLICATION_SEQUENCE;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.METRIC_REPLICATION_SEQUENCE_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.METRIC_TAG_ROLE;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.ROLE_PRIMARY;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.ROLE_REPLICA;
+
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import com.themusketeers.sbnative.startup.StartupTimelineRecorder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the primary/replica Replication according to {@code app.replication.role}; nothing is wired for the default
+ * role {@code none}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReplicationConfiguration {
+
+    /**
+     * Primary: keeps the log of the changes and streams it to the replicas.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.replication", name = "role", havingValue = "primary")
+    static class PrimaryConfiguration {
+
+        @Bean
+        public ReplicationLog replicationLog(ReplicationProperties properties) {
+            return new ReplicationLog(properties.logCapacity());
+        }
+
+        @Bean
+        public ReplicationServer replicationServer(ReplicationProperties properties,
+                                                   UserService userService,
+                                                   UserMutationPublisher publisher,
+                                                   ReplicationLog replicationLog) {
+            return new ReplicationServer(userService,
+                publisher,
+                replicationLog,
+                properties.bindAddress(),
+                properties.port(),
+                properties.maxBatchSize(),
+                properties.heartbeatInterval());
+        }
+
+        @Bean
+        public MeterBinder replicationPrimaryMetrics(UserMutationPublisher publisher, ReplicationServer server) {
+            return registry -> {
+                Gauge.builder(METRIC_REPLICATION_SEQUENCE, publisher, UserMutationPublisher::lastSequence)
+                    .description(METRIC_REPLICATION_SEQUENCE_DESCRIPTION)
+                    .tag(METRIC_TAG_ROLE, ROLE_PRIMARY)
+                    .register(registry);
+                Gauge.builder(METRIC_REPLICATION_LAG, server, ReplicationServer::lag)
+                    .description(METRIC_REPLICATION_LAG_DESCRIPTION)
+                    .tag(METRIC_TAG_ROLE, ROLE_PRIMARY)
+                    .register(registry);
+                Gauge.builder(METRIC_REPLICATION_CONNECTED, server, ReplicationServer::replicas)
+                    .description(METRIC_REPLICATION_CONNECTED_DESCRIPTION)
+                    .tag(METRIC_TAG_ROLE, ROLE_PRIMARY)
+                    .register(registry);
+            };
+        }
+    }
+
+    /**
+     * Replica: applies the changes streamed by the primary and rejects writes.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.replication", name = "role", havingValue = "replica")
+    static class ReplicaConfiguration {
+
+        @Bean
+        public ReplicationClient replicationClient(ReplicationProperties properties,
+                                                   UserService userService,
+                                                   StartupTimelineRecorder startupTimelineRecorder) {
+            return new ReplicationClient(userService,
+                properties.primaryHost(),
+                properties.primaryPort(),
+                properties.heartbeatInterval(),
+                properties.reconnectDelay(),
+                startupTimelineRecorder);
+        }
+
+        @Bean
+        public FilterRegistrationBean<ReplicaReadOnlyFilter> replicaReadOnlyFilter(ReplicationProperties properties) {
+            var registration = new FilterRegistrationBean<>(new ReplicaReadOnlyFilter());
+
+            registration.setUrlPatterns(properties.urlPatterns());
+            registration.setOrder(REPLICA_READ_ONLY_FILTER_ORDER);
+            return registration;
+        }
+
+        @Bean
+        public MeterBinder replicationReplicaMetrics(ReplicationClient client) {
+            return registry -> {
+                Gauge.builder(METRIC_REPLICATION_SEQUENCE, client, ReplicationClient::applied)
+                    .description(METRIC_REPLICATION_SEQUENCE_DESCRIPTION)
+                    .tag(METRIC_TAG_ROLE, ROLE_REPLICA)
+                    .register(registry);
+                Gauge.builder(METRIC_REPLICATION_LAG, client, ReplicationClient::lag)
+                    .description(METRIC_REPLICATION_LAG_DESCRIPTION)
+                    .tag(METRIC_TAG_ROLE, ROLE_REPLICA)
+                    .register(registry);
+                TimeGauge.builder(METRIC_REPLICATION_APPLY_DELAY, client, TimeUnit.MILLISECONDS,
+                        ReplicationClient::applyDelayMillis)
+                    .description(METRIC_REPLICATION_APPLY_DELAY_DESCRIPTION)
+                    .tag(METRIC_TAG_ROLE, ROLE_REPLICA)
+                    .register(registry);
+                Gauge.builder(METRIC_REPLICATION_CONNECTED, client, replica -> replica.connected() ? 1 : 0)
+                    .description(METRIC_REPLICATION_CONNECTED_DESCRIPTION)
+                    .tag(METRIC_TAG_ROLE, ROLE_REPLICA)
+                    .register(registry);
+            };
+        }
+    }
+}
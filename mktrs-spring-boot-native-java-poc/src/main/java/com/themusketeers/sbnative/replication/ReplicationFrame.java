@@ -0,0 +1,66 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONFRAME.JAVA                                       */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import java.util.List;
+
+/**
+ * Messages exchanged between the primary and a replica, see {@link ReplicationProtocol} for their encoding.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public sealed interface ReplicationFrame {
+
+    /**
+     * Replica to primary, first frame on a connection.
+     *
+     * @param epoch       Indicates the epoch of the primary the replica applied changes from, 0 if none.
+     * @param lastApplied Indicates the sequence of the last change the replica applied.
+     */
+    record Hello(long epoch, long lastApplied) implements ReplicationFrame {
+    }
+
+    /**
+     * Primary to replica, the full content of the primary, replacing the content of the replica.
+     *
+     * @param epoch    Indicates the epoch of the primary, it changes each time the primary starts.
+     * @param sequence Indicates the sequence of the last change included.
+     * @param users    Indicates the Users of the primary.
+     */
+    record Snapshot(long epoch, long sequence, List<User> users) implements ReplicationFrame {
+    }
+
+    /**
+     * Primary to replica, the changes following the last one sent.
+     *
+     * @param primarySequence Indicates the sequence of the last change of the primary, to compute the lag.
+     * @param mutations       Indicates the changes, in sequence order and without gaps.
+     */
+    record Batch(long primarySequence, List<UserMutation> mutations) implements ReplicationFrame {
+    }
+
+    /**
+     * Replica to primary, after applying a {@link Snapshot} or a {@link Batch}.
+     *
+     * @param sequence Indicates the sequence of the last change applied.
+     */
+    record Ack(long sequence) implements ReplicationFrame {
+    }
+
+    /**
+     * Primary to replica, sent when there are no changes to tell the primary is alive.
+     *
+     * @param primarySequence Indicates the sequence of the last change of the primary.
+     * @param timestamp       Indicates when it was sent (epoch milliseconds).
+     */
+    record Heartbeat(long primarySequence, long timestamp) implements ReplicationFrame {
+    }
+}
@@ -0,0 +1,114 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONLOG.JAVA                                         */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import com.themusketeers.sbnative.service.mutation.UserMutationListener;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ordered log of the last changes of the primary, kept in a ring of fixed capacity so a replica reconnecting shortly
+ * after catches up from where it left; an older position is no longer in the log and needs a full snapshot.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ReplicationLog implements UserMutationListener {
+    private final UserMutation[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+
+    private long lastSequence;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param capacity Indicates the changes kept at most.
+     */
+    public ReplicationLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Replication log capacity must be positive");
+        }
+
+        ring = new UserMutation[capacity];
+    }
+
+    @Override
+    public void onMutation(UserMutation mutation) {
+        lock.lock();
+        try {
+            ring[(int) (mutation.sequence() % ring.length)] = mutation;
+            lastSequence = mutation.sequence();
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives the changes following a position, waiting for one if there are none yet.
+     *
+     * @param after   Indicates the sequence of the last change already known.
+     * @param max     Indicates the changes to give at most.
+     * @param timeout Indicates how long to wait for a change.
+     * @return The changes in sequence order, empty if none came within the timeout, or {@code null} if the position
+     *     is no longer (or not) in the log.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public List<UserMutation> readAfter(long after, int max, Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            var remaining = timeout.toNanos();
+
+            while (after == lastSequence) {
+                if (remaining <= 0) {
+                    return List.of();
+                }
+
+                remaining = appended.awaitNanos(remaining);
+            }
+
+            if (after > lastSequence || after < firstSequence() - 1) {
+                return null;
+            }
+
+            var last = Math.min(lastSequence, after + max);
+            var mutations = new ArrayList<UserMutation>((int) (last - after));
+
+            for (var sequence = after + 1; sequence <= last; sequence++) {
+                mutations.add(ring[(int) (sequence % ring.length)]);
+            }
+
+            return mutations;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives the sequence of the last change in the log.
+     *
+     * @return 0 if the log is empty.
+     */
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long firstSequence() {
+        return Math.max(1, lastSequence - ring.length + 1);
+    }
+}
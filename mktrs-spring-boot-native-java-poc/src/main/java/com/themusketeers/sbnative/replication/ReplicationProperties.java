@@ -0,0 +1,47 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONPROPERTIES.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Bind address.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the primary/replica Replication.
+ * <p><b>Prefix:</b>{@code app.replication}</p>
+ *
+ * @param role              Indicates the role of the instance.
+ * @param bindAddress       Indicates the address the primary listens on for replicas, the loopback one by default
+ *                          as the protocol has no authentication.
+ * @param port              Indicates the TCP port the primary listens on for replicas.
+ * @param primaryHost       Indicates the host of the primary a replica connects to.
+ * @param primaryPort       Indicates the TCP port of the primary a replica connects to.
+ * @param logCapacity       Indicates the changes the primary keeps for replicas catching up, beyond that a replica
+ *                          gets a full snapshot.
+ * @param maxBatchSize      Indicates the changes sent at most in one batch.
+ * @param heartbeatInterval Indicates how often the primary tells an idle replica it is alive; a replica hearing
+ *                          nothing for 3 intervals reconnects.
+ * @param reconnectDelay    Indicates how long a replica waits before connecting again.
+ * @param urlPatterns       Indicates the URL patterns a replica serves reads only for.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.replication")
+public record ReplicationProperties(@DefaultValue("none") ReplicationRole role,
+                                    @DefaultValue("127.0.0.1") String bindAddress,
+                                    @DefaultValue("7070") int port,
+                                    @DefaultValue("localhost") String primaryHost,
+                                    @DefaultValue("7070") int primaryPort,
+                                    @DefaultValue("100000") int logCapacity,
+                                    @DefaultValue("256") int maxBatchSize,
+                                    @DefaultValue("1s") Duration heartbeatInterval,
+                                    @DefaultValue("1s") Duration reconnectDelay,
+                                    @DefaultValue("/api/v1/*") List<String> urlPatterns) {
+}
@@ -0,0 +1,234 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONPROTOCOL.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Frame types expected and sizes bounded.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.FRAME_ACK;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.FRAME_BATCH;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.FRAME_HEARTBEAT;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.FRAME_HELLO;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.FRAME_SNAPSHOT;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.MAX_BATCH_MUTATIONS;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.MAX_PREALLOCATED_ITEMS;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.MAX_SNAPSHOT_USERS;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.MAX_STRING_BYTES;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.PROTOCOL_MAGIC;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Ack;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Batch;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Heartbeat;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Hello;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Snapshot;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of the {@link ReplicationFrame}s over a TCP connection: one type byte followed by the fields in
+ * big endian order; a {@link Hello} starts with a magic number so a stray client is told apart right away. Strings
+ * are written as a presence flag, a length and their UTF-8 bytes (not {@code writeUTF}, limited to 64 KB).
+ * <p>Every count and length read is checked against a limit before anything is allocated for it, and a reader
+ * expecting a given frame type rejects any other before reading further, so a stray or hostile peer is dropped at
+ * its first byte wrong.</p>
+ * <p>Writes do not flush, so several frames may share one TCP segment; the caller flushes once done.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public final class ReplicationProtocol {
+    private static final UserMutation.Type[] MUTATION_TYPES = UserMutation.Type.values();
+
+    private ReplicationProtocol() {
+    }
+
+    /**
+     * Writes a frame.
+     *
+     * @param out   Indicates where to write.
+     * @param frame Indicates the frame to write.
+     * @throws IOException If the connection fails.
+     */
+    public static void write(DataOutputStream out, ReplicationFrame frame) throws IOException {
+        switch (frame) {
+            case Hello hello -> {
+                out.writeByte(FRAME_HELLO);
+                out.writeInt(PROTOCOL_MAGIC);
+                out.writeLong(hello.epoch());
+                out.writeLong(hello.lastApplied());
+            }
+            case Snapshot snapshot -> {
+                out.writeByte(FRAME_SNAPSHOT);
+                out.writeLong(snapshot.epoch());
+                out.writeLong(snapshot.sequence());
+                out.writeInt(snapshot.users().size());
+
+                for (var user : snapshot.users()) {
+                    writeUser(out, user);
+                }
+            }
+            case Batch batch -> {
+                out.writeByte(FRAME_BATCH);
+                out.writeLong(batch.primarySequence());
+                out.writeInt(batch.mutations().size());
+
+                for (var mutation : batch.mutations()) {
+                    out.writeLong(mutation.sequence());
+                    out.writeByte(mutation.type().ordinal());
+                    writeString(out, mutation.userId());
+                    out.writeBoolean(mutation.user() != null);
+
+                    if (mutation.user() != null) {
+                        writeUser(out, mutation.user());
+                    }
+
+                    out.writeLong(mutation.timestamp());
+                }
+            }
+            case Ack ack -> {
+                out.writeByte(FRAME_ACK);
+                out.writeLong(ack.sequence());
+            }
+            case Heartbeat heartbeat -> {
+                out.writeByte(FRAME_HEARTBEAT);
+                out.writeLong(heartbeat.primarySequence());
+                out.writeLong(heartbeat.timestamp());
+            }
+        }
+    }
+
+    /**
+     * Reads a frame, blocking until it is fully received.
+     *
+     * @param in Indicates where to read from.
+     * @return The frame read.
+     * @throws IOException If the connection fails or what is read is not a frame.
+     */
+    public static ReplicationFrame read(DataInputStream in) throws IOException {
+        return readBody(in, in.readByte());
+    }
+
+    /**
+     * Reads a frame of a given type, blocking until it is fully received. Any other type is rejected before reading
+     * the rest of the frame.
+     *
+     * @param in           Indicates where to read from.
+     * @param expectedType Indicates the only frame type accepted.
+     * @return The frame read.
+     * @throws IOException If the connection fails or what is read is not a frame of the type expected.
+     */
+    public static ReplicationFrame read(DataInputStream in, byte expectedType) throws IOException {
+        var type = in.readByte();
+
+        if (type != expectedType) {
+            throw new StreamCorruptedException("Expected replication frame type " + expectedType + ", got " + type);
+        }
+
+        return readBody(in, type);
+    }
+
+    private static ReplicationFrame readBody(DataInputStream in, byte type) throws IOException {
+        return switch (type) {
+            case FRAME_HELLO -> {
+                if (in.readInt() != PROTOCOL_MAGIC) {
+                    throw new StreamCorruptedException("Not a replication client");
+                }
+
+                yield new Hello(in.readLong(), in.readLong());
+            }
+            case FRAME_SNAPSHOT -> {
+                var epoch = in.readLong();
+                var sequence = in.readLong();
+                var size = readCount(in, MAX_SNAPSHOT_USERS);
+                var users = new ArrayList<User>(Math.min(size, MAX_PREALLOCATED_ITEMS));
+
+                for (var i = 0; i < size; i++) {
+                    users.add(readUser(in));
+                }
+
+                yield new Snapshot(epoch, sequence, users);
+            }
+            case FRAME_BATCH -> {
+                var primarySequence = in.readLong();
+                var size = readCount(in, MAX_BATCH_MUTATIONS);
+                var mutations = new ArrayList<UserMutation>(Math.min(size, MAX_PREALLOCATED_ITEMS));
+
+                for (var i = 0; i < size; i++) {
+                    var sequence = in.readLong();
+                    var mutationType = readMutationType(in);
+                    var userId = readString(in);
+                    var user = in.readBoolean() ? readUser(in) : null;
+
+                    mutations.add(new UserMutation(sequence, mutationType, userId, user, in.readLong()));
+                }
+
+                yield new Batch(primarySequence, mutations);
+            }
+            case FRAME_ACK -> new Ack(in.readLong());
+            case FRAME_HEARTBEAT -> new Heartbeat(in.readLong(), in.readLong());
+            default -> throw new StreamCorruptedException("Unknown replication frame type " + type);
+        };
+    }
+
+    private static int readCount(DataInputStream in, int max) throws IOException {
+        var count = in.readInt();
+
+        if (count < 0 || count > max) {
+            throw new StreamCorruptedException("Replication frame count " + count + " out of range [0, " + max + "]");
+        }
+
+        return count;
+    }
+
+    private static UserMutation.Type readMutationType(DataInputStream in) throws IOException {
+        var ordinal = in.readByte();
+
+        if (ordinal < 0 || ordinal >= MUTATION_TYPES.length) {
+            throw new StreamCorruptedException("Unknown mutation type " + ordinal);
+        }
+
+        return MUTATION_TYPES[ordinal];
+    }
+
+    private static void writeUser(DataOutputStream out, User user) throws IOException {
+        writeString(out, user.id());
+        writeString(out, user.name());
+        writeString(out, user.address());
+    }
+
+    private static User readUser(DataInputStream in) throws IOException {
+        return new User(readString(in), readString(in), readString(in));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+
+        if (value != null) {
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+
+        var bytes = new byte[readCount(in, MAX_STRING_BYTES)];
+
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
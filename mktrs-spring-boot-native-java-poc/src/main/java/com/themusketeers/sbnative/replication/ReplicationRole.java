@@ -0,0 +1,31 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONROLE.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+/**
+ * Role of the instance in the Replication.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public enum ReplicationRole {
+    /**
+     * Standalone instance, no replication.
+     */
+    NONE,
+
+    /**
+     * Takes the writes and streams them to the replicas.
+     */
+    PRIMARY,
+
+    /**
+     * Applies the writes streamed by the primary and serves reads only.
+     */
+    REPLICA
+}
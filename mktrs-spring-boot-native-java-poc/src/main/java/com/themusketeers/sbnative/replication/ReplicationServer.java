@@ -0,0 +1,292 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONSERVER.JAVA                                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Snapshot taken while the writes go on.
+ Oct.19/2026  COQ  Bound to a configurable address, only the frames expected read.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.FRAME_ACK;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.FRAME_HELLO;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.MAX_BATCH_MUTATIONS;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.NO_EPOCH;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.SOCKET_BUFFER_SIZE;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.THREAD_REPLICATION_ACCEPTOR;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.THREAD_REPLICATION_ACK_READER;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.THREAD_REPLICATION_SENDER;
+
+import com.themusketeers.sbnative.replication.ReplicationFrame.Ack;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Batch;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Heartbeat;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Hello;
+import com.themusketeers.sbnative.replication.ReplicationFrame.Snapshot;
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Primary side of the Replication: accepts replicas over TCP and streams them the changes of the
+ * {@link ReplicationLog} in batches, one virtual thread per replica sending and another one reading its
+ * acknowledgements.
+ * <p>A replica gets a full snapshot first when it is new, when it applied changes of a former run of the primary
+ * (told apart by an epoch drawn at start) or when it is too far behind for the log. The snapshot is read while the
+ * writes go on, so it holds every change up to its sequence and maybe some later ones, which the replica applies
+ * again from the batches that follow as no-ops.</p>
+ * <p>The protocol has no authentication, so the primary listens on the loopback address unless told otherwise. From
+ * a replica only a hello and then acknowledgements are read; anything else drops the connection.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ReplicationServer implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ReplicationServer.class);
+
+    private final UserService userService;
+    private final UserMutationPublisher publisher;
+    private final ReplicationLog replicationLog;
+    private final String bindAddress;
+    private final int port;
+    private final int maxBatchSize;
+    private final Duration heartbeatInterval;
+    private final long epoch;
+    private final Map<Integer, Replica> replicas = new ConcurrentHashMap<>();
+    private final AtomicInteger replicaIds = new AtomicInteger();
+
+    private volatile ServerSocket serverSocket;
+    private volatile boolean running;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param userService       Instance holding the Users to snapshot.
+     * @param publisher         Instance ordering the writes, to read a snapshot consistent with the log.
+     * @param replicationLog    Instance holding the last changes.
+     * @param bindAddress       Indicates the address to listen on.
+     * @param port              Indicates the TCP port to listen on, 0 for any free port.
+     * @param maxBatchSize      Indicates the changes sent at most in one batch, up to what a replica accepts.
+     * @param heartbeatInterval Indicates how often an idle replica is told the primary is alive.
+     */
+    public ReplicationServer(UserService userService,
+                             UserMutationPublisher publisher,
+                             ReplicationLog replicationLog,
+                             String bindAddress,
+                             int port,
+                             int maxBatchSize,
+                             Duration heartbeatInterval) {
+        this.userService = userService;
+        this.publisher = publisher;
+        this.replicationLog = replicationLog;
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.maxBatchSize = Math.min(maxBatchSize, MAX_BATCH_MUTATIONS);
+        this.heartbeatInterval = heartbeatInterval;
+        this.epoch = drawEpoch();
+    }
+
+    @Override
+    public void start() {
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.setReuseAddress(true);
+            serverSocket.bind(new InetSocketAddress(bindAddress, port));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to listen for replicas on " + bindAddress + ":" + port, e);
+        }
+
+        running = true;
+        Thread.ofVirtual().name(THREAD_REPLICATION_ACCEPTOR).start(this::accept);
+        log.info("Replication primary listening on {}:{} (epoch {})", bindAddress, localPort(), epoch);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(serverSocket);
+        replicas.values().forEach(replica -> closeQuietly(replica.socket()));
+        replicas.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gives the TCP port listened on, useful when started on port 0.
+     *
+     * @return The port, -1 if not started.
+     */
+    public int localPort() {
+        var current = serverSocket;
+
+        return current == null ? -1 : current.getLocalPort();
+    }
+
+    /**
+     * Gives the number of replicas connected.
+     *
+     * @return The replicas connected.
+     */
+    public int replicas() {
+        return replicas.size();
+    }
+
+    /**
+     * Gives how many changes the most lagging connected replica has not acknowledged yet.
+     *
+     * @return 0 if there are no replicas connected.
+     */
+    public long lag() {
+        var last = publisher.lastSequence();
+
+        return replicas.values()
+            .stream()
+            .mapToLong(replica -> Math.max(0, last - replica.acked))
+            .max()
+            .orElse(0);
+    }
+
+    private void accept() {
+        while (running) {
+            try {
+                var socket = serverSocket.accept();
+                var replica = new Replica(replicaIds.incrementAndGet(), socket);
+
+                replicas.put(replica.id(), replica);
+                Thread.ofVirtual().name(THREAD_REPLICATION_SENDER + replica.id()).start(() -> serve(replica));
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Unable to accept a replica", e);
+                }
+            }
+        }
+    }
+
+    private void serve(Replica replica) {
+        var socket = replica.socket();
+
+        try (socket) {
+            socket.setTcpNoDelay(true);
+
+            var in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), SOCKET_BUFFER_SIZE));
+            var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), SOCKET_BUFFER_SIZE));
+
+            var hello = (Hello) ReplicationProtocol.read(in, FRAME_HELLO);
+
+            log.info("Replica {} connected from {} at sequence {}", replica.id(), socket.getRemoteSocketAddress(),
+                hello.lastApplied());
+            var resumes = hello.epoch() == epoch;
+
+            replica.acked = resumes ? hello.lastApplied() : 0;
+            Thread.ofVirtual().name(THREAD_REPLICATION_ACK_READER + replica.id()).start(() -> readAcks(replica, in));
+
+            var position = resumes ? hello.lastApplied() : sendSnapshot(out);
+
+            while (running) {
+                var mutations = replicationLog.readAfter(position, maxBatchSize, heartbeatInterval);
+
+                if (mutations == null) {
+                    position = sendSnapshot(out);
+                } else if (mutations.isEmpty()) {
+                    ReplicationProtocol.write(out, new Heartbeat(publisher.lastSequence(), System.currentTimeMillis()));
+                    out.flush();
+                } else {
+                    ReplicationProtocol.write(out, new Batch(publisher.lastSequence(), mutations));
+                    out.flush();
+                    position = mutations.getLast().sequence();
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                log.info("Replica {} disconnected: {}", replica.id(), e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            replicas.remove(replica.id());
+        }
+    }
+
+    private long sendSnapshot(DataOutputStream out) throws IOException {
+        // Fuzzy: it may hold changes after its sequence too, which the replica applies again as no-ops.
+        var snapshot = publisher.readFuzzy(() -> List.copyOf(userService.retrieveAll()));
+
+        ReplicationProtocol.write(out, new Snapshot(epoch, snapshot.sequence(), snapshot.value()));
+        out.flush();
+        return snapshot.sequence();
+    }
+
+    private void readAcks(Replica replica, DataInputStream in) {
+        try {
+            while (running) {
+                replica.acked = ((Ack) ReplicationProtocol.read(in, FRAME_ACK)).sequence();
+            }
+        } catch (IOException e) {
+            closeQuietly(replica.socket());
+        }
+    }
+
+    private static long drawEpoch() {
+        var drawn = NO_EPOCH;
+
+        while (drawn == NO_EPOCH) {
+            drawn = new SecureRandom().nextLong();
+        }
+
+        return drawn;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Unable to close {}", closeable, e);
+        }
+    }
+
+    /**
+     * A connected replica.
+     */
+    private static final class Replica {
+        private final int id;
+        private final Socket socket;
+        private volatile long acked;
+
+        private Replica(int id, Socket socket) {
+            this.id = id;
+            this.socket = socket;
+        }
+
+        private int id() {
+            return id;
+        }
+
+        private Socket socket() {
+            return socket;
+        }
+    }
+}
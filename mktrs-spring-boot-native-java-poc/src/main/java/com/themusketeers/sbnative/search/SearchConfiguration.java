@@ -0,0 +1,72 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   SEARCHCONFIGURATION.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Fuzzy name index.
+ Oct.19/2026  COQ  Indexes loaded while the writes go on.
+ Oct.19/2026  COQ  Index loads reported as startup milestones.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.search;
+
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_FUZZY_INDEX_LOAD;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_SEARCH_INDEX_LOAD;
+
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import com.themusketeers.sbnative.startup.StartupTimelineRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the User Search indexes, enabled unless {@code app.search.enabled} is {@code false}. Each one is loaded from
+ * the User Service at startup, reported as a milestone of the Startup Timeline.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SearchConfiguration {
+
+    @Bean
+    public UserSearchIndex userSearchIndex(SearchProperties properties,
+                                           UserService userService,
+                                           UserMutationPublisher mutationPublisher,
+                                           StartupTimelineRecorder startupTimelineRecorder,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        var index = new UserSearchIndex(properties.k1(), properties.b());
+
+        // Loaded with the delivery held, not the writes: a change the load already saw is applied again right after,
+        // which the index takes as a no-op, so none is missed.
+        try (var load = startupTimelineRecorder.begin(MILESTONE_SEARCH_INDEX_LOAD)) {
+            mutationPublisher.readConsistent(() -> {
+                index.load(userService.retrieveAll());
+                return index.size();
+            });
+        }
+        meterRegistry.ifAvailable(index::bindTo);
+        return index;
+    }
+
+    @Bean
+    public UserNameFuzzyIndex userNameFuzzyIndex(UserService userService,
+                                                 UserMutationPublisher mutationPublisher,
+                                                 StartupTimelineRecorder startupTimelineRecorder,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        var index = new UserNameFuzzyIndex();
+
+        try (var load = startupTimelineRecorder.begin(MILESTONE_FUZZY_INDEX_LOAD)) {
+            mutationPublisher.readConsistent(() -> {
+                index.load(userService.retrieveAll());
+                return index.size();
+            });
+        }
+        meterRegistry.ifAvailable(index::bindTo);
+        return index;
+    }
+}
@@ -0,0 +1,35 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   SEARCHPROPERTIES.JAVA                                       */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Fuzzy name search threshold.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the embedded User Search.
+ * <p><b>Prefix:</b>{@code app.search}</p>
+ *
+ * @param enabled        Indicates whether the users are indexed and the search endpoint is served.
+ * @param defaultLimit   Indicates the results given when the request does not ask a number.
+ * @param maxLimit       Indicates the results given at most.
+ * @param k1             Indicates the BM25 term frequency saturation: the higher, the more a repeated term counts.
+ * @param b              Indicates the BM25 length normalization, from 0 (none) to 1 (full).
+ * @param fuzzyThreshold Indicates the lowest name similarity accepted by the fuzzy search when the request does not
+ *                       ask one, from 0 to 1 (the same name).
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.search")
+public record SearchProperties(@DefaultValue("true") boolean enabled,
+                               @DefaultValue("10") int defaultLimit,
+                               @DefaultValue("100") int maxLimit,
+                               @DefaultValue("1.2") double k1,
+                               @DefaultValue("0.75") double b,
+                               @DefaultValue("0.8") double fuzzyThreshold) {
+}
@@ -0,0 +1,83 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   TOKENIZER.JAVA                                              */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Whole text normalization for the fuzzy search.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a text into terms: runs of letters and digits, lower cased and without diacritics, so {@code Bogotá} and
+ * {@code BOGOTA} are the same term.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+final class Tokenizer {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private Tokenizer() {
+    }
+
+    /**
+     * Gives the terms of a text, in order and repeated as they appear.
+     *
+     * @param text Indicates the text, may be {@code null}.
+     * @return The terms, empty if there is none.
+     */
+    static List<String> tokenize(String text) {
+        var terms = new ArrayList<String>();
+
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        var folded = fold(text);
+        var start = -1;
+
+        for (var i = 0; i <= folded.length(); i++) {
+            var termChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                terms.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+
+        return terms;
+    }
+
+    /**
+     * Gives a text as a single string of its terms separated by one space, e.g. {@code "  José  O'Neil"} gives
+     * {@code "jose o neil"}.
+     *
+     * @param text Indicates the text, may be {@code null}.
+     * @return The normalized text, empty if there are no terms.
+     */
+    static String normalize(String text) {
+        return String.join(" ", tokenize(text));
+    }
+
+    private static String fold(String text) {
+        var lower = text.toLowerCase(Locale.ROOT);
+
+        if (Normalizer.isNormalized(lower, Normalizer.Form.NFD)) {
+            return lower;
+        }
+
+        return DIACRITICS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
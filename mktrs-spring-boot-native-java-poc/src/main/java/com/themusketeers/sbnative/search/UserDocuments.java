@@ -0,0 +1,422 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERDOCUMENTS.JAVA                                          */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.search;
+
+import static com.themusketeers.sbnative.common.consts.SearchConstants.INITIAL_DOCUMENTS;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.INITIAL_POSTINGS;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.MIN_DEAD_POSTINGS_TO_COMPACT;
+
+import com.themusketeers.sbnative.domain.User;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Documents of an in-process index over the Users and the posting lists of their keys (the terms, or the grams, an
+ * index looks them up by), shared by the {@link UserSearchIndex} and the {@link UserNameFuzzyIndex}.
+ * <ul>
+ *     <li>Every User added gets a document number, in increasing order, so each key's posting list (the documents
+ *     holding it and how many times) stays sorted just by appending.</li>
+ *     <li>A removed User's document is only marked dead, its postings are left for the searches to skip; a list
+ *     whose documents are all dead goes at once. Once the dead postings are half of them all, the lists are
+ *     compacted, renumbering the live documents.</li>
+ *     <li>The User and its length (the keys it holds, counting repeats) are kept per document; any other data an
+ *     index keeps per document, in arrays of its own, follows the numbering through {@link Columns}.</li>
+ * </ul>
+ * <p>Not thread safe: the index owning it guards it.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+final class UserDocuments {
+    private static final Columns NO_COLUMNS = new Columns() {
+        @Override
+        public void grow(int capacity) {
+        }
+
+        @Override
+        public void move(int from, int to) {
+        }
+
+        @Override
+        public void clear(int from, int to) {
+        }
+    };
+
+    private final Function<User, Map<String, Integer>> keys;
+    private final Columns columns;
+    private final Map<String, Postings> postingsByKey = new HashMap<>();
+    private final Map<String, Integer> documentByUserId = new HashMap<>();
+
+    private User[] users = new User[INITIAL_DOCUMENTS];
+    private int[] lengths = new int[INITIAL_DOCUMENTS];
+    private int numbered;
+    private int live;
+    private long liveLength;
+    private long postings;
+    private long deadPostings;
+
+    /**
+     * Constructor with parameters, for an index keeping no data per document besides the User and its length.
+     *
+     * @param keys Indicates how to find the keys of a User and how many times each is found.
+     */
+    UserDocuments(Function<User, Map<String, Integer>> keys) {
+        this(keys, NO_COLUMNS);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param keys    Indicates how to find the keys of a User and how many times each is found.
+     * @param columns Instance keeping the data of the index per document.
+     */
+    UserDocuments(Function<User, Map<String, Integer>> keys, Columns columns) {
+        this.keys = keys;
+        this.columns = columns;
+    }
+
+    /**
+     * Numbers a document for the User and appends it to the posting list of each of its keys.
+     *
+     * @param user Indicates the User to add.
+     * @return The document number.
+     */
+    int add(User user) {
+        var frequencies = keys.apply(user);
+        var document = numbered++;
+        var length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        if (document == users.length) {
+            users = Arrays.copyOf(users, document * 2);
+            lengths = Arrays.copyOf(lengths, document * 2);
+            columns.grow(users.length);
+        }
+
+        for (var entry : frequencies.entrySet()) {
+            postingsByKey.computeIfAbsent(entry.getKey(), key -> new Postings())
+                .add(document, entry.getValue(), length);
+        }
+
+        users[document] = user;
+        lengths[document] = length;
+        documentByUserId.put(user.id(), document);
+        live++;
+        liveLength += length;
+        postings += frequencies.size();
+        return document;
+    }
+
+    /**
+     * Marks the document of the User dead.
+     *
+     * @param userId Identifies the User to remove.
+     * @return The document number, -1 if the User is not indexed.
+     */
+    int remove(String userId) {
+        var document = documentByUserId.remove(userId);
+
+        if (document == null) {
+            return -1;
+        }
+
+        for (var key : keys.apply(users[document]).keySet()) {
+            var list = postingsByKey.get(key);
+
+            if (list.markDead() == 0) {
+                // No live document holds the key any longer: its whole list goes now.
+                postingsByKey.remove(key);
+                postings -= list.size;
+                deadPostings -= list.size - 1;
+            } else {
+                deadPostings++;
+            }
+        }
+
+        users[document] = null;
+        live--;
+        liveLength -= lengths[document];
+        return document;
+    }
+
+    /**
+     * Compacts the posting lists once the dead postings are half of them all, renumbering the live documents in
+     * the same order.
+     *
+     * @return The new number of every document, -1 for a dead one; {@code null} if not compacted.
+     */
+    int[] compactIfMostlyDead() {
+        if (deadPostings < MIN_DEAD_POSTINGS_TO_COMPACT || deadPostings * 2 < postings) {
+            return null;
+        }
+
+        var renumbered = new int[numbered];
+        var kept = 0;
+
+        for (var document = 0; document < numbered; document++) {
+            if (users[document] == null) {
+                renumbered[document] = -1;
+                continue;
+            }
+
+            renumbered[document] = kept;
+
+            if (kept != document) {
+                users[kept] = users[document];
+                lengths[kept] = lengths[document];
+                columns.move(document, kept);
+                documentByUserId.put(users[kept].id(), kept);
+            }
+
+            kept++;
+        }
+
+        Arrays.fill(users, kept, numbered, null);
+        columns.clear(kept, numbered);
+        postingsByKey.values().forEach(list -> list.compact(renumbered));
+        numbered = kept;
+        postings -= deadPostings;
+        deadPostings = 0;
+        return renumbered;
+    }
+
+    /**
+     * Gives the User of a document.
+     *
+     * @param document Indicates the document number.
+     * @return The User, {@code null} if the document is dead.
+     */
+    User user(int document) {
+        return users[document];
+    }
+
+    /**
+     * Gives the length of a document.
+     *
+     * @param document Indicates the document number.
+     * @return The keys the document holds, counting repeats.
+     */
+    int length(int document) {
+        return lengths[document];
+    }
+
+    /**
+     * Gives the posting list of a key.
+     *
+     * @param key Indicates the key.
+     * @return The list, {@code null} if no live document holds the key.
+     */
+    Postings postings(String key) {
+        return postingsByKey.get(key);
+    }
+
+    /**
+     * Gives the document numbers handed out, the live and the dead ones.
+     *
+     * @return Every document number is below it.
+     */
+    int numbered() {
+        return numbered;
+    }
+
+    /**
+     * Gives the live documents.
+     *
+     * @return Number of Users indexed.
+     */
+    int live() {
+        return live;
+    }
+
+    /**
+     * Gives the length of the live documents together.
+     *
+     * @return The keys they hold, counting repeats.
+     */
+    long liveLength() {
+        return liveLength;
+    }
+
+    /**
+     * Gives the keys held by a live document.
+     *
+     * @return Number of posting lists.
+     */
+    int keys() {
+        return postingsByKey.size();
+    }
+
+    /**
+     * Gives the postings of dead documents still in the lists.
+     *
+     * @return Number of dead postings.
+     */
+    long deadPostings() {
+        return deadPostings;
+    }
+
+    /**
+     * Data an index keeps per document besides the User, in arrays indexed by document number, sized
+     * {@code INITIAL_DOCUMENTS} at first.
+     */
+    interface Columns {
+        /**
+         * Grows the arrays to the capacity given, keeping their content.
+         *
+         * @param capacity Indicates the documents they hold at least.
+         */
+        void grow(int capacity);
+
+        /**
+         * Moves a live document to a lower number while compacting.
+         *
+         * @param from Indicates the current document number.
+         * @param to   Indicates the new document number.
+         */
+        void move(int from, int to);
+
+        /**
+         * Clears the documents no longer numbered once compacted, so they hold nothing back.
+         *
+         * @param from Indicates the first document number cleared.
+         * @param to   Indicates the document number after the last one cleared.
+         */
+        void clear(int from, int to);
+    }
+
+    /**
+     * Posting list of a key: the documents holding it, in increasing order, and how many times each.
+     */
+    static final class Postings {
+        static final Postings EMPTY = new Postings();
+
+        private int[] documents = new int[INITIAL_POSTINGS];
+        private int[] frequencies = new int[INITIAL_POSTINGS];
+        private int size;
+        private int live;
+        private int maxFrequency;
+        private int minLength = Integer.MAX_VALUE;
+
+        /**
+         * Appends a document; the frequency and length bounds only widen, they stay valid as documents go.
+         *
+         * @param document  Indicates the document number, above those already in the list.
+         * @param frequency Indicates how many times the document holds the key.
+         * @param length    Indicates the keys the document holds in all, counting repeats.
+         */
+        void add(int document, int frequency, int length) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+            live++;
+            maxFrequency = Math.max(maxFrequency, frequency);
+            minLength = Math.min(minLength, length);
+        }
+
+        /**
+         * Counts one of the documents of the list as dead; its posting stays until compacted.
+         *
+         * @return The live documents left in the list.
+         */
+        int markDead() {
+            return --live;
+        }
+
+        /**
+         * Gives the postings in the list, those of dead documents included.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Gives the live documents in the list.
+         */
+        int live() {
+            return live;
+        }
+
+        /**
+         * Gives the document of a posting.
+         */
+        int document(int position) {
+            return documents[position];
+        }
+
+        /**
+         * Gives how many times the document of a posting holds the key.
+         */
+        int frequency(int position) {
+            return frequencies[position];
+        }
+
+        /**
+         * Gives the highest frequency in the list.
+         */
+        int maxFrequency() {
+            return maxFrequency;
+        }
+
+        /**
+         * Gives the length of the shortest document in the list.
+         */
+        int minLength() {
+            return minLength;
+        }
+
+        /**
+         * Finds a document by binary search, from a position on.
+         *
+         * @param from     Indicates the first position searched.
+         * @param document Indicates the document number.
+         * @return The position of the document, or {@code -(insertion point) - 1} if not in the list.
+         */
+        int find(int from, int document) {
+            return Arrays.binarySearch(documents, from, size, document);
+        }
+
+        /**
+         * Runs an action on every document of the list, in increasing order.
+         *
+         * @param action Indicates the action to run.
+         */
+        void forEach(IntConsumer action) {
+            for (var i = 0; i < size; i++) {
+                action.accept(documents[i]);
+            }
+        }
+
+        /**
+         * Drops the dead documents and renumbers the live ones, keeping their order.
+         *
+         * @param renumbered Indicates the new number of every document, -1 for a dead one.
+         */
+        void compact(int[] renumbered) {
+            var kept = 0;
+
+            for (var i = 0; i < size; i++) {
+                var document = renumbered[documents[i]];
+
+                if (document >= 0) {
+                    documents[kept] = document;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+
+            size = kept;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERNAMEFUZZYINDEX.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Documents and posting lists shared with the search index (UserDocuments).
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.search;
+
+import static com.themusketeers.sbnative.common.consts.SearchConstants.EDITS_LOSING_GRAMS;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.GRAM_LENGTH;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.GRAM_PADDING_END;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.GRAM_PADDING_START;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.INITIAL_DOCUMENTS;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.METRIC_FUZZY_SEARCH_GRAMS;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.METRIC_FUZZY_SEARCH_GRAMS_DESCRIPTION;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserSearchHit;
+import com.themusketeers.sbnative.search.UserDocuments.Postings;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import com.themusketeers.sbnative.service.mutation.UserMutationListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process trigram index over the names of the Users, for searches tolerant of typos.
+ * <p>A name (normalized as the {@link Tokenizer} does) is split into its overlapping three letter grams. An edit (a
+ * letter inserted, removed or replaced, or two neighbouring letters swapped) changes at most 4 of them, so a name
+ * within {@code d} edits of the query holds all but {@code 4d} of the query's distinct grams. Only the Users sharing
+ * enough grams with the query, for the edits their name length allows, are candidates, and only those within that
+ * edit distance are given.</p>
+ * <p>The similarity is {@code 1 - edits / length of the longer name}, 1 being the same name. Where the edits allowed
+ * could change every gram (short names and low thresholds) all the names of that length are checked.</p>
+ * <p>As the {@link UserSearchIndex}, and by means of the same {@link UserDocuments}, it follows the writes, marks
+ * removed Users dead and compacts them away once they hold half of the postings.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class UserNameFuzzyIndex implements UserMutationListener, MeterBinder {
+    private static final double ROUNDING_TOLERANCE = 1e-9;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final UserDocuments documents = new UserDocuments(UserNameFuzzyIndex::gramsOf, new Names());
+    private final Map<Integer, Postings> postingsByLength = new HashMap<>();
+
+    private String[] names = new String[INITIAL_DOCUMENTS];
+
+    /**
+     * Indexes the Users already stored, before any change is heard.
+     *
+     * @param users Indicates the Users to index.
+     */
+    public void load(Collection<User> users) {
+        lock.writeLock().lock();
+        try {
+            users.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMutation(UserMutation mutation) {
+        lock.writeLock().lock();
+        try {
+            remove(mutation.userId());
+
+            if (mutation.type() != UserMutation.Type.DELETE) {
+                add(mutation.user());
+            }
+
+            var renumbered = documents.compactIfMostlyDead();
+
+            if (renumbered != null) {
+                postingsByLength.values().forEach(list -> list.compact(renumbered));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the Users whose name is similar enough to the one given.
+     *
+     * @param name      Indicates the name to look for, maybe misspelled.
+     * @param threshold Indicates the lowest similarity accepted, from 0 to 1 (the same name).
+     * @param limit     Indicates the Users given at most.
+     * @return The Users found, the most similar first, their similarity as score; empty if the name has no letters.
+     */
+    public List<UserSearchHit> search(String name, double threshold, int limit) {
+        var query = Tokenizer.normalize(name);
+        var similarity = Math.clamp(threshold, 0.0, 1.0);
+
+        if (query.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return topHits(query, similarity, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gives the Users indexed.
+     *
+     * @return Number of live documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.live();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_FUZZY_SEARCH_GRAMS, this, UserNameFuzzyIndex::grams)
+            .description(METRIC_FUZZY_SEARCH_GRAMS_DESCRIPTION)
+            .register(registry);
+    }
+
+    private int grams() {
+        lock.readLock().lock();
+        try {
+            return documents.keys();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<UserSearchHit> topHits(String query, double similarity, int limit) {
+        var candidates = candidates(query, similarity);
+        // Lowest similarity on top, so it is the one dropped; on equal ones the later document goes first.
+        var best = new PriorityQueue<Scored>(limit + 1, Comparator.comparingDouble(Scored::score)
+            .thenComparing(Comparator.comparingInt(Scored::document).reversed()));
+
+        for (var document = candidates.nextSetBit(0); document >= 0; document = candidates.nextSetBit(document + 1)) {
+            var candidate = names[document];
+
+            if (candidate == null) {
+                continue;
+            }
+
+            var longest = Math.max(query.length(), candidate.length());
+            var edits = editDistance(query, candidate, allowedEdits(similarity, longest));
+
+            if (edits >= 0) {
+                best.offer(new Scored(document, 1 - (double) edits / longest));
+
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+
+        var hits = new ArrayList<UserSearchHit>(best.size());
+
+        while (!best.isEmpty()) {
+            var scored = best.poll();
+
+            hits.add(new UserSearchHit(scored.score(), documents.user(scored.document())));
+        }
+
+        return hits.reversed();
+    }
+
+    /**
+     * Gives the documents that may be within the edits allowed. A name of a given length may be at most so many edits
+     * away, so it must share at least so many of the query's grams: the documents of the query's grams are counted
+     * and those short of that are left out. The names whose length allows losing every gram are all candidates.
+     */
+    private BitSet candidates(String query, double similarity) {
+        var candidates = new BitSet(documents.numbered());
+
+        if (similarity == 0) {
+            candidates.set(0, documents.numbered());
+            return candidates;
+        }
+
+        var grams = grams(query);
+        // A longer name may be at most query length / similarity long.
+        var required = new int[(int) Math.floor(query.length() / similarity + ROUNDING_TOLERANCE) + 1];
+        var counted = false;
+
+        for (var length = 0; length < required.length; length++) {
+            var edits = allowedEdits(similarity, Math.max(length, query.length()));
+
+            if (Math.abs(length - query.length()) > edits) {
+                required[length] = Integer.MAX_VALUE;
+            } else if ((required[length] = grams.size() - EDITS_LOSING_GRAMS * edits) <= 0) {
+                postingsByLength.getOrDefault(length, Postings.EMPTY).forEach(candidates::set);
+            } else {
+                counted = true;
+            }
+        }
+
+        if (!counted) {
+            return candidates;
+        }
+
+        var shared = new int[documents.numbered()];
+        var lists = grams.stream().map(documents::postings).filter(list -> list != null).toList();
+
+        lists.forEach(list -> list.forEach(document -> shared[document]++));
+        lists.forEach(list -> list.forEach(document -> {
+            var name = names[document];
+
+            if (name != null && name.length() < required.length && shared[document] >= required[name.length()]) {
+                candidates.set(document);
+            }
+        }));
+
+        return candidates;
+    }
+
+    private void add(User user) {
+        var document = documents.add(user);
+        var name = Tokenizer.normalize(user.name());
+
+        postingsByLength.computeIfAbsent(name.length(), key -> new Postings()).add(document, 1, 1);
+        names[document] = name;
+    }
+
+    private void remove(String userId) {
+        var document = documents.remove(userId);
+
+        if (document < 0) {
+            return;
+        }
+
+        var length = names[document].length();
+
+        if (postingsByLength.get(length).markDead() == 0) {
+            postingsByLength.remove(length);
+        }
+
+        names[document] = null;
+    }
+
+    private static int allowedEdits(double similarity, int length) {
+        return (int) Math.floor((1 - similarity) * length + ROUNDING_TOLERANCE);
+    }
+
+    private static Map<String, Integer> gramsOf(User user) {
+        var grams = new LinkedHashMap<String, Integer>();
+
+        grams(Tokenizer.normalize(user.name())).forEach(gram -> grams.put(gram, 1));
+        return grams;
+    }
+
+    private static Set<String> grams(String name) {
+        var padded = GRAM_PADDING_START + name + GRAM_PADDING_END;
+        var grams = new LinkedHashSet<String>();
+
+        for (var i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+
+        return grams;
+    }
+
+    /**
+     * Edit distance counting a swap of two neighbouring letters as one edit (optimal string alignment), given up as
+     * soon as it exceeds the edits allowed.
+     *
+     * @param left     Indicates a text.
+     * @param right    Indicates the other text.
+     * @param maxEdits Indicates the edits allowed.
+     * @return The distance, -1 if above {@code maxEdits}.
+     */
+    public static int editDistance(String left, String right, int maxEdits) {
+        if (Math.abs(left.length() - right.length()) > maxEdits) {
+            return -1;
+        }
+
+        var beforePrevious = new int[right.length() + 1];
+        var previous = new int[right.length() + 1];
+        var current = new int[right.length() + 1];
+        var previousMin = 0;
+
+        for (var j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (var i = 1; i <= left.length(); i++) {
+            var rowMin = current[0] = i;
+
+            for (var j = 1; j <= right.length(); j++) {
+                var same = left.charAt(i - 1) == right.charAt(j - 1);
+                var distance = Math.min(previous[j - 1] + (same ? 0 : 1), Math.min(previous[j], current[j - 1]) + 1);
+
+                if (i > 1 && j > 1 && left.charAt(i - 1) == right.charAt(j - 2)
+                    && left.charAt(i - 2) == right.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+
+                current[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+
+            // A row is never below both the row above and the one above it plus a swap: two rows past the edits
+            // allowed leave no way back.
+            if (rowMin > maxEdits && previousMin > maxEdits) {
+                return -1;
+            }
+
+            var recycled = beforePrevious;
+
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+            previousMin = rowMin;
+        }
+
+        return previous[right.length()] <= maxEdits ? previous[right.length()] : -1;
+    }
+
+    /**
+     * A document and its similarity for a search.
+     *
+     * @param document Indicates the document number.
+     * @param score    Indicates the similarity.
+     */
+    private record Scored(int document, double score) {
+    }
+
+    /**
+     * Normalized name of every document, the one the edit distance is measured to.
+     */
+    private final class Names implements UserDocuments.Columns {
+        @Override
+        public void grow(int capacity) {
+            names = Arrays.copyOf(names, capacity);
+        }
+
+        @Override
+        public void move(int from, int to) {
+            names[to] = names[from];
+        }
+
+        @Override
+        public void clear(int from, int to) {
+            Arrays.fill(names, from, to, null);
+        }
+    }
+}
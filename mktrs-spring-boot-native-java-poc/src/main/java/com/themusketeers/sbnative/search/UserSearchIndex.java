@@ -0,0 +1,331 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSEARCHINDEX.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Documents and posting lists shared with the fuzzy index (UserDocuments).
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.search;
+
+import static com.themusketeers.sbnative.common.consts.SearchConstants.METRIC_SEARCH_DEAD_POSTINGS;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.METRIC_SEARCH_DEAD_POSTINGS_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.METRIC_SEARCH_DOCUMENTS;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.METRIC_SEARCH_DOCUMENTS_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.METRIC_SEARCH_TERMS;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.METRIC_SEARCH_TERMS_DESCRIPTION;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserSearchHit;
+import com.themusketeers.sbnative.search.UserDocuments.Postings;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import com.themusketeers.sbnative.service.mutation.UserMutationListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-process inverted index over the name and address of the Users, ranked with BM25.
+ * <ul>
+ *     <li>Every User indexed is a document holding the terms of its name and address, each with a posting list in
+ *     document order (see {@link UserDocuments}).</li>
+ *     <li>The index follows the writes as a {@link UserMutationListener}: a removed User's document is only marked
+ *     dead and skipped by the searches, an updated User is removed and indexed again. Once the dead postings are
+ *     half of them all the lists are compacted, renumbering the live documents.</li>
+ *     <li>A search walks the posting lists of its terms side by side, document by document, scoring each document
+ *     found and keeping the best ones in a heap of the size asked, so its cost grows with the postings of the
+ *     query terms, not with the Users indexed.</li>
+ * </ul>
+ * <p>Searches run concurrently; a change waits for them and the other way round.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class UserSearchIndex implements UserMutationListener, MeterBinder {
+    private final double k1;
+    private final double b;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final UserDocuments documents = new UserDocuments(UserSearchIndex::termFrequencies);
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param k1 Indicates the BM25 term frequency saturation.
+     * @param b  Indicates the BM25 length normalization, from 0 to 1.
+     */
+    public UserSearchIndex(double k1, double b) {
+        this.k1 = k1;
+        this.b = b;
+    }
+
+    /**
+     * Indexes the Users already stored, before any change is heard.
+     *
+     * @param users Indicates the Users to index.
+     */
+    public void load(Collection<User> users) {
+        lock.writeLock().lock();
+        try {
+            users.forEach(documents::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onMutation(UserMutation mutation) {
+        lock.writeLock().lock();
+        try {
+            documents.remove(mutation.userId());
+
+            if (mutation.type() != UserMutation.Type.DELETE) {
+                documents.add(mutation.user());
+            }
+
+            documents.compactIfMostlyDead();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the Users whose name or address best match the query, any of its terms being enough.
+     *
+     * @param query Indicates the text to look for.
+     * @param limit Indicates the Users given at most.
+     * @return The Users found, the most relevant first; empty if the query has no terms.
+     */
+    public List<UserSearchHit> search(String query, int limit) {
+        var terms = Tokenizer.tokenize(query).stream().distinct().toList();
+
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return topHits(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gives the Users indexed.
+     *
+     * @return Number of live documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.live();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_SEARCH_DOCUMENTS, this, UserSearchIndex::size)
+            .description(METRIC_SEARCH_DOCUMENTS_DESCRIPTION)
+            .register(registry);
+        Gauge.builder(METRIC_SEARCH_TERMS, this, index -> index.read(index.documents::keys))
+            .description(METRIC_SEARCH_TERMS_DESCRIPTION)
+            .register(registry);
+        Gauge.builder(METRIC_SEARCH_DEAD_POSTINGS, this, index -> index.read(index.documents::deadPostings))
+            .description(METRIC_SEARCH_DEAD_POSTINGS_DESCRIPTION)
+            .register(registry);
+    }
+
+    private List<UserSearchHit> topHits(List<String> terms, int limit) {
+        var averageLength = (double) documents.liveLength() / documents.live();
+        // Lowest bound first: these are the lists skipped first once they can no longer lift a document to the top.
+        var lists = terms.stream()
+            .map(documents::postings)
+            .filter(list -> list != null)
+            .map(list -> new Cursor(list, idf(list), averageLength))
+            .sorted(Comparator.comparingDouble(Cursor::maxScore))
+            .toList();
+
+        if (lists.isEmpty()) {
+            return List.of();
+        }
+
+        var boundUpTo = new double[lists.size()];
+        // Lowest score on top, so it is the one dropped; on equal scores the later document goes first.
+        var best = new PriorityQueue<Scored>(limit + 1, (left, right) -> left.score() != right.score()
+            ? Double.compare(left.score(), right.score())
+            : Integer.compare(right.document(), left.document()));
+        var threshold = 0.0;
+        var firstEssential = 0;
+
+        for (var i = 0; i < lists.size(); i++) {
+            boundUpTo[i] = (i == 0 ? 0 : boundUpTo[i - 1]) + lists.get(i).maxScore();
+        }
+
+        while (true) {
+            // Only the essential lists bring candidates: the others together cannot beat the threshold.
+            var document = Integer.MAX_VALUE;
+
+            for (var i = firstEssential; i < lists.size(); i++) {
+                document = Math.min(document, lists.get(i).document());
+            }
+
+            if (document == Integer.MAX_VALUE) {
+                break;
+            }
+
+            var live = documents.user(document) != null;
+            var norm = live ? k1 * (1 - b + b * documents.length(document) / averageLength) : 0;
+            var score = 0.0;
+
+            for (var i = firstEssential; i < lists.size(); i++) {
+                var cursor = lists.get(i);
+
+                if (cursor.document() == document) {
+                    score += live ? cursor.score(norm) : 0;
+                    cursor.next();
+                }
+            }
+
+            if (!live) {
+                continue;
+            }
+
+            for (var i = firstEssential - 1; i >= 0 && score + boundUpTo[i] > threshold; i--) {
+                var cursor = lists.get(i);
+
+                if (cursor.advance(document)) {
+                    score += cursor.score(norm);
+                    cursor.next();
+                }
+            }
+
+            if (best.size() < limit || score > threshold) {
+                best.offer(new Scored(document, score));
+
+                if (best.size() > limit) {
+                    best.poll();
+                }
+
+                if (best.size() == limit) {
+                    threshold = best.peek().score();
+
+                    while (firstEssential < lists.size() && boundUpTo[firstEssential] <= threshold) {
+                        firstEssential++;
+                    }
+                }
+            }
+        }
+
+        var hits = new ArrayList<UserSearchHit>(best.size());
+
+        while (!best.isEmpty()) {
+            var scored = best.poll();
+
+            hits.add(new UserSearchHit(scored.score(), documents.user(scored.document())));
+        }
+
+        return hits.reversed();
+    }
+
+    private double idf(Postings list) {
+        return Math.log(1 + (documents.live() - list.live() + 0.5) / (list.live() + 0.5));
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> termFrequencies(User user) {
+        var frequencies = new LinkedHashMap<String, Integer>();
+
+        for (var text : new String[] {user.name(), user.address()}) {
+            Tokenizer.tokenize(text).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        }
+
+        return frequencies;
+    }
+
+    /**
+     * A document and its score for a search.
+     *
+     * @param document Indicates the document number.
+     * @param score    Indicates the BM25 score.
+     */
+    private record Scored(int document, double score) {
+    }
+
+    /**
+     * Position of a search in a posting list.
+     */
+    private final class Cursor {
+        private final Postings list;
+        private final double idf;
+        private final double maxScore;
+        private int position;
+
+        Cursor(Postings list, double idf, double averageLength) {
+            this.list = list;
+            this.idf = idf;
+            this.maxScore = idf * list.maxFrequency() * (k1 + 1)
+                / (list.maxFrequency() + k1 * (1 - b + b * list.minLength() / averageLength));
+        }
+
+        /**
+         * Gives the highest score the term can add to a document: the score grows with the term frequency and drops
+         * with the document length, so it is the one of the list's highest frequency in its shortest document.
+         */
+        double maxScore() {
+            return maxScore;
+        }
+
+        int document() {
+            return position < list.size() ? list.document(position) : Integer.MAX_VALUE;
+        }
+
+        void next() {
+            position++;
+        }
+
+        /**
+         * Moves to the first document not before the one given, skipping by binary search.
+         *
+         * @return Whether the list holds exactly that document.
+         */
+        boolean advance(int document) {
+            if (document() < document) {
+                var found = list.find(position, document);
+
+                position = found >= 0 ? found : -found - 1;
+            }
+
+            return document() == document;
+        }
+
+        /**
+         * Gives the BM25 score the term adds to the current document.
+         *
+         * @param norm Indicates the length normalization of the document, {@code k1 * (1 - b + b * dl / avgdl)}.
+         */
+        double score(double norm) {
+            var frequency = list.frequency(position);
+
+            return idf * frequency * (k1 + 1) / (frequency + norm);
+        }
+    }
+}
@@ -5,26 +5,37 @@
 /*-----------------------------------------------------------------------------
  History
  Jun.15/2023  COQ  File created.
+ Oct.19/2026  COQ  Selected by means of app.user-service.store.type.
+ Oct.19/2026  COQ  Multi-get in a single pass.
+ Oct.19/2026  COQ  Copy-on-write list, safe under concurrent writers and readers.
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative.service;
 
 import com.themusketeers.sbnative.domain.User;
 import com.themusketeers.sbnative.service.intr.UserService;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 /**
  * Handles the list of user in the system. The internal representation is to
  * use a in-memory storage.
+ * <p>The list is copy-on-write: the writes to different ids may run at the same time, and a read (a replication
+ * snapshot copying every User included) goes over the version of the list it started with, never failing on the
+ * writes running meanwhile.</p>
  *
  * @author COQ - Carlos Adolfo Ortiz Q.
  */
 @Service
+@ConditionalOnProperty(prefix = "app.user-service.store", name = "type", havingValue = "memory", matchIfMissing = true)
 public class MemoryUserService implements UserService {
-    private List<User> userList = new ArrayList<>();
+    private final List<User> userList = new CopyOnWriteArrayList<>();
 
     @Override
     public Boolean exists(String userId) {
@@ -48,6 +59,24 @@ public class MemoryUserService implements UserService {
         return findUserInfo(userId).orElseGet(() -> null);
     }
 
+    /**
+     * Locates the users with the given ids in a single pass over the list of Users.
+     *
+     * @param userIds Denotes the unique user identifiers to retrieve.
+     * @return The users found, in the order of the ids; those not found are left out.
+     */
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        var found = new HashMap<String, User>();
+
+        userIds.forEach(userId -> found.put(userId, null));
+        userList.stream()
+            .filter(user -> found.containsKey(user.id()))
+            .forEach(user -> found.putIfAbsent(user.id(), user));
+
+        return userIds.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
     @Override
     public Boolean delete(String userId) {
         return userList.removeIf(user -> user.id().equals(userId));
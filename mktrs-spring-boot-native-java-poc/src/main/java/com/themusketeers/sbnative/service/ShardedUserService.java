@@ -0,0 +1,156 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   SHARDEDUSERSERVICE.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get in the calling thread.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.UserService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In memory User Service partitioned by user id: an id is hashed into one of N independent shards, each with its own
+ * map and lock, so operations on different ids seldom touch the same lock or the same cache lines. With as many
+ * shards as cores the threads of different cores mostly work on different shards.
+ * <p>{@link #count()} and {@link #retrieveAll()} span all the shards: each shard is visited in turn under its own
+ * lock and the partial results gathered (visiting them in parallel would cost more than copying in memory data).
+ * Thus they are not an atomic view across shards; {@link #retrieveAll()} returns a copy, grouped by shard.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ShardedUserService implements UserService {
+    private final Shard[] shards;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param shards Indicates the number of shards, 0 for one per available processor.
+     */
+    public ShardedUserService(int shards) {
+        if (shards < 0) {
+            throw new IllegalArgumentException("Shards must not be negative");
+        }
+
+        var count = shards == 0 ? Runtime.getRuntime().availableProcessors() : shards;
+
+        this.shards = new Shard[count];
+
+        for (var i = 0; i < count; i++) {
+            this.shards[i] = new Shard();
+        }
+    }
+
+    @Override
+    public Boolean exists(String userId) {
+        return shardOf(userId).apply(users -> users.containsKey(userId));
+    }
+
+    @Override
+    public User insert(User user) {
+        var userToInsert = user;
+
+        if (user.id() == null) {
+            userToInsert = new User(UUID.randomUUID().toString(), user.name(), user.address());
+        }
+
+        var inserted = userToInsert;
+
+        shardOf(inserted.id()).apply(users -> users.put(inserted.id(), inserted));
+        return inserted;
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        return shardOf(userId).apply(users -> users.get(userId));
+    }
+
+    /**
+     * Locates the users with the given ids one after the other in the calling thread: each is a map lookup under its
+     * shard lock, far cheaper than handing it to another thread.
+     *
+     * @param userIds Denotes the unique user identifiers to retrieve.
+     * @return The users found, in the order of the ids; those not found are left out.
+     */
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        return userIds.stream().map(this::retrieve).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        return shardOf(userId).apply(users -> users.remove(userId) != null);
+    }
+
+    @Override
+    public Boolean update(User user) {
+        return shardOf(user.id()).apply(users -> users.replace(user.id(), user) != null);
+    }
+
+    @Override
+    public List<User> retrieveAll() {
+        var all = new ArrayList<User>();
+
+        for (var shard : shards) {
+            shard.apply(users -> all.addAll(users.values()));
+        }
+
+        return all;
+    }
+
+    @Override
+    public Long count() {
+        var count = 0L;
+
+        for (var shard : shards) {
+            count += shard.apply(Map::size);
+        }
+
+        return count;
+    }
+
+    /**
+     * Gives the number of shards.
+     *
+     * @return The shards.
+     */
+    public int shards() {
+        return shards.length;
+    }
+
+    private Shard shardOf(String userId) {
+        var hash = userId.hashCode();
+
+        // Mixes the high bits into the low ones, as HashMap does, so the shard depends on the whole hash.
+        return shards[Math.floorMod(hash ^ (hash >>> 16), shards.length)];
+    }
+
+    /**
+     * A partition: a plain map guarded by its own lock.
+     */
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, User> users = new HashMap<>();
+
+        private <T> T apply(Function<Map<String, User>, T> operation) {
+            lock.lock();
+            try {
+                return operation.apply(users);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
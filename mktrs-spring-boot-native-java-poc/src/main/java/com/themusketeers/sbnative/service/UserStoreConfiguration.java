@@ -0,0 +1,157 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSTORECONFIGURATION.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  JDBC store.
+ Oct.19/2026  COQ  R2DBC store.
+ Oct.19/2026  COQ  Redis store.
+ Oct.19/2026  COQ  HAMT store.
+ Oct.19/2026  COQ  Schema creation reported as a startup milestone.
+ Oct.19/2026  COQ  JDBC store closed explicitly on shutdown.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service;
+
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SCHEMA_LOCATION;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_STORE_LOAD;
+
+import com.themusketeers.sbnative.service.hamt.HamtUserService;
+import com.themusketeers.sbnative.service.intr.ReactiveUserService;
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.jdbc.JdbcUserService;
+import com.themusketeers.sbnative.service.r2dbc.BlockingUserService;
+import com.themusketeers.sbnative.service.r2dbc.R2dbcUserService;
+import com.themusketeers.sbnative.service.redis.RedisUserService;
+import com.themusketeers.sbnative.startup.StartupTimelineRecorder;
+import io.lettuce.core.RedisClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.connection.init.DatabasePopulator;
+import org.springframework.r2dbc.connection.init.ScriptUtils;
+
+/**
+ * Wires the store backing the User Service selected by means of {@code app.user-service.store.type}; the default
+ * {@code memory} one is the {@link MemoryUserService} component.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+public class UserStoreConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.user-service.store", name = "type", havingValue = "sharded")
+    public UserService shardedUserService(UserStoreProperties properties) {
+        return new ShardedUserService(properties.shards());
+    }
+
+    /**
+     * HAMT store: publishes how often a write lost its compare and set to a concurrent one.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.user-service.store", name = "type", havingValue = "hamt")
+    public UserService hamtUserService(ObjectProvider<MeterRegistry> meterRegistry) {
+        var userService = new HamtUserService();
+
+        // Bound here, as the bean exposed is the decorated User Service.
+        meterRegistry.ifAvailable(userService::bindTo);
+        return userService;
+    }
+
+    /**
+     * JDBC store: creates the table if missing, reported as the {@code store.load} startup milestone, and publishes the
+     * insert batching metrics. On shutdown it is closed, writing the pending inserts, before the database goes away.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.user-service.store", name = "type", havingValue = "jdbc")
+    static class JdbcStoreConfiguration {
+
+        // Spring closes the bean it created, not the decorated User Service exposed in its place.
+        @Bean(destroyMethod = "close")
+        public UserService jdbcUserService(UserStoreProperties properties,
+                                           DataSource dataSource,
+                                           StartupTimelineRecorder startupTimelineRecorder,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+            try (var load = startupTimelineRecorder.begin(MILESTONE_STORE_LOAD)) {
+                new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_LOCATION)).execute(dataSource);
+            }
+
+            var userService = new JdbcUserService(dataSource,
+                properties.jdbc().maxBatchSize(),
+                properties.jdbc().pageSize());
+
+            // Bound here, as the bean exposed is the decorated User Service.
+            meterRegistry.ifAvailable(userService::bindTo);
+            return userService;
+        }
+    }
+
+    /**
+     * R2DBC store: creates the table if missing, reported as the {@code store.load} startup milestone; the Servlet
+     * endpoints use it through a {@link BlockingUserService}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.user-service.store", name = "type", havingValue = "r2dbc")
+    static class R2dbcStoreConfiguration {
+
+        @Bean(destroyMethod = "dispose")
+        public ConnectionPool r2dbcConnectionPool(UserStoreProperties properties) {
+            var settings = properties.r2dbc();
+            var configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(settings.url()))
+                .initialSize(Math.min(2, settings.poolMaxSize()))
+                .maxSize(settings.poolMaxSize())
+                .build();
+
+            return new ConnectionPool(configuration);
+        }
+
+        @Bean
+        public ReactiveUserService r2dbcUserService(UserStoreProperties properties,
+                                                    ConnectionPool r2dbcConnectionPool,
+                                                    StartupTimelineRecorder startupTimelineRecorder) {
+            DatabasePopulator schema = connection ->
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource(SCHEMA_LOCATION));
+
+            try (var load = startupTimelineRecorder.begin(MILESTONE_STORE_LOAD)) {
+                schema.populate(r2dbcConnectionPool).block();
+            }
+
+            return new R2dbcUserService(r2dbcConnectionPool,
+                properties.r2dbc().maxRowsPerInsert(),
+                properties.r2dbc().pageSize());
+        }
+
+        @Bean
+        public UserService blockingR2dbcUserService(ReactiveUserService r2dbcUserService) {
+            return new BlockingUserService(r2dbcUserService);
+        }
+    }
+
+    /**
+     * Redis store: the client's event loops are released once the User Service closed its connection.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "app.user-service.store", name = "type", havingValue = "redis")
+    static class RedisStoreConfiguration {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedisClient redisClient(UserStoreProperties properties) {
+            return RedisClient.create(properties.redis().url());
+        }
+
+        @Bean
+        public UserService redisUserService(UserStoreProperties properties, RedisClient redisClient) {
+            return new RedisUserService(redisClient, properties.redis().keyPrefix(), properties.redis().scanCount());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSTOREPROPERTIES.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  JDBC store settings.
+ Oct.19/2026  COQ  R2DBC store settings.
+ Oct.19/2026  COQ  Redis store settings.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the store backing the User Service.
+ * <p><b>Prefix:</b>{@code app.user-service.store}</p>
+ *
+ * @param type   Indicates the store to use.
+ * @param shards Indicates the partitions of the {@code sharded} store, 0 for one per available processor.
+ * @param jdbc   Indicates the settings of the {@code jdbc} store; the database is the {@code spring.datasource} one.
+ * @param r2dbc  Indicates the settings of the {@code r2dbc} store.
+ * @param redis  Indicates the settings of the {@code redis} store.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.user-service.store")
+public record UserStoreProperties(@DefaultValue("memory") UserStoreType type,
+                                  @DefaultValue("0") int shards,
+                                  @DefaultValue Jdbc jdbc,
+                                  @DefaultValue R2dbc r2dbc,
+                                  @DefaultValue Redis redis) {
+
+    /**
+     * Settings of the {@code jdbc} store.
+     *
+     * @param maxBatchSize Indicates the concurrent single inserts written at most in one round trip.
+     * @param pageSize     Indicates the Users read at most per query when listing them.
+     */
+    public record Jdbc(@DefaultValue("256") int maxBatchSize,
+                       @DefaultValue("1000") int pageSize) {
+    }
+
+    /**
+     * Settings of the {@code r2dbc} store.
+     *
+     * @param url              Indicates the R2DBC URL of the database.
+     * @param poolMaxSize      Indicates the connections of the pool at most.
+     * @param maxRowsPerInsert Indicates the rows written at most by one insert statement.
+     * @param pageSize         Indicates the Users read at most per query when streaming them.
+     */
+    public record R2dbc(@DefaultValue("r2dbc:h2:mem:///users-r2dbc?options=DB_CLOSE_DELAY=-1") String url,
+                        @DefaultValue("10") int poolMaxSize,
+                        @DefaultValue("256") int maxRowsPerInsert,
+                        @DefaultValue("1000") int pageSize) {
+    }
+
+    /**
+     * Settings of the {@code redis} store.
+     *
+     * @param url       Indicates the Redis URI of the server.
+     * @param keyPrefix Indicates the prefix of the keys written, so several applications may share a server.
+     * @param scanCount Indicates the keys asked per {@code SCAN} step when listing the Users.
+     */
+    public record Redis(@DefaultValue("redis://localhost:6379") String url,
+                        @DefaultValue("users:") String keyPrefix,
+                        @DefaultValue("1000") int scanCount) {
+    }
+}
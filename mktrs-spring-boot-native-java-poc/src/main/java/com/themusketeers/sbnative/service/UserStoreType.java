@@ -0,0 +1,67 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSTORETYPE.JAVA                                          */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  JDBC store.
+ Oct.19/2026  COQ  R2DBC store.
+ Oct.19/2026  COQ  Redis store.
+ Oct.19/2026  COQ  HAMT store.
+ Oct.19/2026  COQ  Whether the store is in memory.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service;
+
+/**
+ * Store backing the User Service.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public enum UserStoreType {
+    /**
+     * {@link MemoryUserService}, a single list.
+     */
+    MEMORY(true),
+
+    /**
+     * {@link ShardedUserService}, in memory partitioned by user id.
+     */
+    SHARDED(true),
+
+    /**
+     * {@link com.themusketeers.sbnative.service.hamt.HamtUserService}, in memory as a persistent trie read without
+     * locks.
+     */
+    HAMT(true),
+
+    /**
+     * {@link com.themusketeers.sbnative.service.jdbc.JdbcUserService}, a relational database through JDBC.
+     */
+    JDBC(false),
+
+    /**
+     * {@link com.themusketeers.sbnative.service.r2dbc.R2dbcUserService}, a relational database through R2DBC.
+     */
+    R2DBC(false),
+
+    /**
+     * {@link com.themusketeers.sbnative.service.redis.RedisUserService}, a Redis server.
+     */
+    REDIS(false);
+
+    private final boolean inMemory;
+
+    UserStoreType(boolean inMemory) {
+        this.inMemory = inMemory;
+    }
+
+    /**
+     * Tells if the store keeps the Users in this process, so counting them costs no round trip.
+     *
+     * @return True if in memory.
+     */
+    public boolean inMemory() {
+        return inMemory;
+    }
+}
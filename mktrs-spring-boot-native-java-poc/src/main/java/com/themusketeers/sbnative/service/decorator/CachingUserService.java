@@ -0,0 +1,252 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CACHINGUSERSERVICE.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get reading the misses in one batch.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.decorator;
+
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.CACHE_NAME_USERS;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.CACHE_WRITE_LOCK_STRIPES;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.USER_WEIGHT_OVERHEAD;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Decorates a {@link UserService} with a bounded read-through/write-through cache of users by id.
+ * <p>The cache is a Caffeine one: admission is frequency aware (W-TinyLFU), so a scan of cold ids does not flush
+ * the hot working set, and eviction is by the estimated size of the users ({@code maxWeight} bytes), so the heap
+ * taken is bounded whatever the users look like.</p>
+ * <p>A miss is loaded by the calling thread itself and published to the cache as a future, concurrent callers for
+ * the same id wait for that load instead of repeating it; waiting parks the thread, no monitor is held while the
+ * store is read. Users not found are not cached. Writes go to the store first and then to the cache, serialized per
+ * id with striped locks so two writers of the same id cannot leave the older value in the cache; a load that
+ * started before a write never replaces the value the write put.</p>
+ * <p>A multi-get takes the ids cached (or being loaded) from the cache and loads all the misses with a single
+ * multi-get of the decorated service, publishing one future per missed id as a single retrieve does.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class CachingUserService implements UserService, MeterBinder {
+    private final UserService delegate;
+    private final AsyncCache<String, User> cache;
+    private final ReentrantLock[] writeLocks = new ReentrantLock[CACHE_WRITE_LOCK_STRIPES];
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param delegate  Instance of the decorated service.
+     * @param maxWeight Indicates the estimated size in bytes of the users the cache may keep.
+     */
+    public CachingUserService(UserService delegate, long maxWeight) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher(CachingUserService::weigh)
+            .recordStats()
+            .buildAsync();
+
+        for (int i = 0; i < writeLocks.length; i++) {
+            writeLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Boolean exists(String userId) {
+        var cached = userId == null ? null : cache.getIfPresent(userId);
+
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally() && cached.join() != null) {
+            return true;
+        }
+
+        return delegate.exists(userId);
+    }
+
+    @Override
+    public User insert(User user) {
+        return write(user.id(), () -> {
+            var inserted = delegate.insert(user);
+
+            cache.put(inserted.id(), CompletableFuture.completedFuture(inserted));
+            return inserted;
+        });
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        if (userId == null) {
+            return delegate.retrieve(null);
+        }
+
+        var load = new CompletableFuture<User>();
+        var cached = cache.get(userId, (id, executor) -> load);
+
+        if (cached == load) {
+            try {
+                load.complete(delegate.retrieve(userId));
+            } catch (RuntimeException | Error e) {
+                load.completeExceptionally(e);
+            }
+        }
+
+        return await(cached);
+    }
+
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        var entries = new ArrayList<CompletableFuture<User>>(userIds.size());
+        var loads = new LinkedHashMap<String, CompletableFuture<User>>();
+
+        for (var userId : userIds) {
+            var load = new CompletableFuture<User>();
+            var cached = cache.get(userId, (id, executor) -> load);
+
+            if (cached == load) {
+                loads.put(userId, load);
+            }
+
+            entries.add(cached);
+        }
+
+        if (!loads.isEmpty()) {
+            try {
+                var found = new HashMap<String, User>();
+
+                delegate.retrieveMany(loads.keySet()).forEach(user -> found.put(user.id(), user));
+                loads.forEach((userId, load) -> load.complete(found.get(userId)));
+            } catch (RuntimeException | Error e) {
+                loads.values().forEach(load -> load.completeExceptionally(e));
+            }
+        }
+
+        var users = new ArrayList<User>(entries.size());
+
+        for (var entry : entries) {
+            var user = await(entry);
+
+            if (user != null) {
+                users.add(user);
+            }
+        }
+
+        return users;
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        return write(userId, () -> {
+            try {
+                return delegate.delete(userId);
+            } finally {
+                cache.synchronous().invalidate(userId);
+            }
+        });
+    }
+
+    @Override
+    public Boolean update(User user) {
+        return write(user.id(), () -> {
+            try {
+                var updated = delegate.update(user);
+
+                if (Boolean.TRUE.equals(updated)) {
+                    cache.put(user.id(), CompletableFuture.completedFuture(user));
+                }
+
+                return updated;
+            } catch (RuntimeException | Error e) {
+                cache.synchronous().invalidate(user.id());
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public List<User> retrieveAll() {
+        return delegate.retrieveAll();
+    }
+
+    @Override
+    public Long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME_USERS);
+    }
+
+    /**
+     * Gives access to the cache, for the statistics.
+     *
+     * @return The underlying cache.
+     */
+    AsyncCache<String, User> cache() {
+        return cache;
+    }
+
+    private <T> T write(String userId, Supplier<T> write) {
+        if (userId == null) {
+            return write.get();
+        }
+
+        var lock = writeLocks[Math.floorMod(userId.hashCode(), writeLocks.length)];
+
+        lock.lock();
+        try {
+            return write.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static User await(CompletableFuture<User> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Estimates the bytes taken by a cached user: the entry and record overhead plus its strings (the id twice, as
+     * key and component), taking a byte per character (compact strings).
+     */
+    private static int weigh(String userId, User user) {
+        return USER_WEIGHT_OVERHEAD
+            + userId.length()
+            + length(user.id())
+            + length(user.name())
+            + length(user.address());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,215 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COALESCINGUSERSERVICE.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get passed through.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.decorator;
+
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.METRIC_COALESCING_CALLS;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.METRIC_COALESCING_CALLS_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.METRIC_COALESCING_RATIO;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.METRIC_COALESCING_RATIO_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.METRIC_TAG_OPERATION;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.METRIC_TAG_RESULT;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.OPERATION_EXISTS;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.OPERATION_RETRIEVE;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.RESULT_COALESCED;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.RESULT_LOADED;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.UserService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Decorates a {@link UserService} so concurrent {@code retrieve} (or {@code exists}) calls for the same user id
+ * share a single load from the decorated service: the first caller loads, the ones arriving while the load is in
+ * flight wait for its result.
+ * <p>Waiting is done on a {@link CompletableFuture}, which parks the thread instead of holding a monitor, so a
+ * virtual thread is unmounted while it waits. A failed load is rethrown to every waiter and is not kept, the next
+ * call loads again. A write for an id detaches the load in flight for it, so a call arriving after the write does
+ * not get the value read before it.</p>
+ * <p>A multi-get goes straight to the decorated service, so the store reads the batch in one go.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class CoalescingUserService implements UserService, MeterBinder {
+    private final UserService delegate;
+    private final Coalescer<User> retrieves = new Coalescer<>();
+    private final Coalescer<Boolean> exists = new Coalescer<>();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param delegate Instance of the decorated service.
+     */
+    public CoalescingUserService(UserService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Boolean exists(String userId) {
+        return exists.load(userId, delegate::exists);
+    }
+
+    @Override
+    public User insert(User user) {
+        var inserted = delegate.insert(user);
+
+        invalidate(inserted.id());
+        return inserted;
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        return retrieves.load(userId, delegate::retrieve);
+    }
+
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        return delegate.retrieveMany(userIds);
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        try {
+            return delegate.delete(userId);
+        } finally {
+            invalidate(userId);
+        }
+    }
+
+    @Override
+    public Boolean update(User user) {
+        try {
+            return delegate.update(user);
+        } finally {
+            invalidate(user.id());
+        }
+    }
+
+    @Override
+    public List<User> retrieveAll() {
+        return delegate.retrieveAll();
+    }
+
+    @Override
+    public Long count() {
+        return delegate.count();
+    }
+
+    /**
+     * Gives the share of the reads by id that were served by another caller's load.
+     *
+     * @return A value between 0 and 1.
+     */
+    public double coalescingRatio() {
+        var calls = retrieves.calls() + exists.calls();
+
+        return calls == 0 ? 0 : (double) (retrieves.coalesced.sum() + exists.coalesced.sum()) / calls;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCalls(registry, OPERATION_RETRIEVE, retrieves);
+        bindCalls(registry, OPERATION_EXISTS, exists);
+        Gauge.builder(METRIC_COALESCING_RATIO, this, CoalescingUserService::coalescingRatio)
+            .description(METRIC_COALESCING_RATIO_DESCRIPTION)
+            .register(registry);
+    }
+
+    private void invalidate(String userId) {
+        if (userId != null) {
+            retrieves.invalidate(userId);
+            exists.invalidate(userId);
+        }
+    }
+
+    private static void bindCalls(MeterRegistry registry, String operation, Coalescer<?> coalescer) {
+        FunctionCounter.builder(METRIC_COALESCING_CALLS, coalescer.loaded, LongAdder::sum)
+            .description(METRIC_COALESCING_CALLS_DESCRIPTION)
+            .tags(METRIC_TAG_OPERATION, operation, METRIC_TAG_RESULT, RESULT_LOADED)
+            .register(registry);
+        FunctionCounter.builder(METRIC_COALESCING_CALLS, coalescer.coalesced, LongAdder::sum)
+            .description(METRIC_COALESCING_CALLS_DESCRIPTION)
+            .tags(METRIC_TAG_OPERATION, operation, METRIC_TAG_RESULT, RESULT_COALESCED)
+            .register(registry);
+    }
+
+    /**
+     * Loads in flight of one operation, by user id.
+     *
+     * @param <T> Type of the loaded value.
+     */
+    private static class Coalescer<T> {
+        private final Map<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+        private final LongAdder loaded = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+
+        T load(String userId, Function<String, T> loader) {
+            if (userId == null) {
+                return loader.apply(null);
+            }
+
+            var load = new CompletableFuture<T>();
+            var existing = inFlight.putIfAbsent(userId, load);
+
+            if (existing != null) {
+                coalesced.increment();
+                return await(existing);
+            }
+
+            loaded.increment();
+
+            try {
+                var value = loader.apply(userId);
+
+                load.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                load.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(userId, load);
+            }
+        }
+
+        void invalidate(String userId) {
+            inFlight.remove(userId);
+        }
+
+        long calls() {
+            return loaded.sum() + coalesced.sum();
+        }
+
+        private T await(CompletableFuture<T> load) {
+            try {
+                return load.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   MUTATIONPUBLISHINGUSERSERVICE.JAVA                          */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get passed through.
+ Oct.19/2026  COQ  Writes ordered per id.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.decorator;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decorates a {@link UserService} so every successful write is published, in order, through the
+ * {@link UserMutationPublisher}. Reads go straight to the decorated service.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class MutationPublishingUserService implements UserService {
+    private final UserService delegate;
+    private final UserMutationPublisher publisher;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param delegate  Instance of the decorated service.
+     * @param publisher Instance ordering and publishing the writes.
+     */
+    public MutationPublishingUserService(UserService delegate, UserMutationPublisher publisher) {
+        this.delegate = delegate;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Boolean exists(String userId) {
+        return delegate.exists(userId);
+    }
+
+    @Override
+    public User insert(User user) {
+        return publisher.write(user.id(), () -> {
+            var inserted = delegate.insert(user);
+
+            publisher.publish(UserMutation.Type.INSERT, inserted.id(), inserted);
+            return inserted;
+        });
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        return delegate.retrieve(userId);
+    }
+
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        return delegate.retrieveMany(userIds);
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        return publisher.write(userId, () -> {
+            var deleted = delegate.delete(userId);
+
+            if (Boolean.TRUE.equals(deleted)) {
+                publisher.publish(UserMutation.Type.DELETE, userId, null);
+            }
+
+            return deleted;
+        });
+    }
+
+    @Override
+    public Boolean update(User user) {
+        return publisher.write(user.id(), () -> {
+            var updated = delegate.update(user);
+
+            if (Boolean.TRUE.equals(updated)) {
+                publisher.publish(UserMutation.Type.UPDATE, user.id(), user);
+            }
+
+            return updated;
+        });
+    }
+
+    @Override
+    public List<User> retrieveAll() {
+        return delegate.retrieveAll();
+    }
+
+    @Override
+    public Long count() {
+        return delegate.count();
+    }
+}
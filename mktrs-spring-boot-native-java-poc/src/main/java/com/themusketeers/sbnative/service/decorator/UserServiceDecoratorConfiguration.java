@@ -0,0 +1,46 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSERVICEDECORATORCONFIGURATION.JAVA                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Mutation publisher.
+ Oct.19/2026  COQ  Store settings for the decorators.
+ Oct.19/2026  COQ  Observation registry for the decorators.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.decorator;
+
+import com.themusketeers.sbnative.service.UserStoreProperties;
+import com.themusketeers.sbnative.service.mutation.UserMutationListener;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the decorators of the User Service and the publisher of its writes to the {@link UserMutationListener}s.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+public class UserServiceDecoratorConfiguration {
+
+    @Bean
+    public static UserServiceDecoratorPostProcessor userServiceDecoratorPostProcessor(
+        ObjectProvider<UserServiceDecoratorProperties> properties,
+        ObjectProvider<UserStoreProperties> storeProperties,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        ObjectProvider<UserMutationPublisher> mutationPublisher,
+        ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new UserServiceDecoratorPostProcessor(properties, storeProperties, meterRegistry, mutationPublisher,
+            observationRegistry);
+    }
+
+    @Bean
+    public UserMutationPublisher userMutationPublisher(ObjectProvider<UserMutationListener> listeners) {
+        return new UserMutationPublisher(() -> listeners.orderedStream().toList());
+    }
+}
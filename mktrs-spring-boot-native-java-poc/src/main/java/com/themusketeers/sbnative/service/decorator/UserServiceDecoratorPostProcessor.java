@@ -0,0 +1,112 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSERVICEDECORATORPOSTPROCESSOR.JAVA                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Caching decorator.
+ Oct.19/2026  COQ  Mutation publishing decorator.
+ Oct.19/2026  COQ  Flight recording decorator.
+ Oct.19/2026  COQ  Observation decorator.
+ Oct.19/2026  COQ  Deadline checking decorator.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.decorator;
+
+import com.themusketeers.sbnative.deadline.DeadlineCheckingUserService;
+import com.themusketeers.sbnative.flightrecorder.FlightRecordingUserService;
+import com.themusketeers.sbnative.service.UserStoreProperties;
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import com.themusketeers.sbnative.tracing.ObservedUserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Wraps the User Service bean (the store) with the decorators enabled in {@link UserServiceDecoratorProperties},
+ * so the store implementations stay unaware of them and every consumer gets the decorated service. The innermost
+ * decorator records the store operations as Flight Recorder events, so they time the store alone. The outermost
+ * decorator but one publishes the writes through the {@link UserMutationPublisher}, so the listeners see them once
+ * every other decorator is up to date. The two outermost ones make each operation an Observation, so its span covers
+ * all the service does for the controller, and refuse to start it once the deadline of the request has expired.
+ * <p>The settings and the registries are looked up lazily, when the User Service is created, as a
+ * {@link BeanPostProcessor} is created before the regular beans.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class UserServiceDecoratorPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<UserServiceDecoratorProperties> properties;
+    private final ObjectProvider<UserStoreProperties> storeProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<UserMutationPublisher> mutationPublisher;
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param properties          Indicates the decorators to apply.
+     * @param storeProperties     Indicates the store being decorated.
+     * @param meterRegistry       Indicates the registry the decorators publish their metrics to, if any.
+     * @param mutationPublisher   Indicates the publisher of the writes, if any.
+     * @param observationRegistry Indicates the registry the operations are observed by, if any.
+     */
+    public UserServiceDecoratorPostProcessor(ObjectProvider<UserServiceDecoratorProperties> properties,
+                                             ObjectProvider<UserStoreProperties> storeProperties,
+                                             ObjectProvider<MeterRegistry> meterRegistry,
+                                             ObjectProvider<UserMutationPublisher> mutationPublisher,
+                                             ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.properties = properties;
+        this.storeProperties = storeProperties;
+        this.meterRegistry = meterRegistry;
+        this.mutationPublisher = mutationPublisher;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof UserService userService)) {
+            return bean;
+        }
+
+        var settings = properties.getObject();
+        var decorated = userService;
+
+        if (settings.flightRecorder()) {
+            decorated = new FlightRecordingUserService(decorated, storeProperties.getObject().type().inMemory());
+        }
+
+        if (settings.cache()) {
+            decorated = bind(new CachingUserService(decorated, settings.cacheMaxWeight().toBytes()));
+        }
+
+        if (settings.coalescing()) {
+            decorated = bind(new CoalescingUserService(decorated));
+        }
+
+        var publisher = mutationPublisher.getIfAvailable();
+
+        if (publisher != null) {
+            decorated = new MutationPublishingUserService(decorated, publisher);
+        }
+
+        if (settings.deadline()) {
+            decorated = new DeadlineCheckingUserService(decorated);
+        }
+
+        var registry = observationRegistry.getIfUnique();
+
+        if (settings.observation() && registry != null) {
+            decorated = new ObservedUserService(decorated, registry);
+        }
+
+        return decorated;
+    }
+
+    private <T extends MeterBinder> T bind(T decorator) {
+        meterRegistry.ifAvailable(decorator::bindTo);
+        return decorator;
+    }
+}
@@ -0,0 +1,39 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSERVICEDECORATORPROPERTIES.JAVA                         */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Caching settings.
+ Oct.19/2026  COQ  Flight recorder setting.
+ Oct.19/2026  COQ  Observation setting.
+ Oct.19/2026  COQ  Deadline setting.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.decorator;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the decorators wrapped around the User Service.
+ * <p><b>Prefix:</b>{@code app.user-service}</p>
+ *
+ * @param coalescing     Indicates if concurrent reads of the same user id share a single load.
+ * @param cache          Indicates if the users are cached by id (read-through/write-through), worth it in front of a
+ *                       store slower than the in-memory one.
+ * @param cacheMaxWeight Indicates the estimated size of the users the cache may keep.
+ * @param flightRecorder Indicates if each operation of the store is a Flight Recorder event.
+ * @param observation    Indicates if each operation of the service is an Observation, thus a span when traced.
+ * @param deadline       Indicates if no operation starts once the deadline of the request has expired.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.user-service")
+public record UserServiceDecoratorProperties(@DefaultValue("true") boolean coalescing,
+                                             @DefaultValue("false") boolean cache,
+                                             @DefaultValue("64MB") DataSize cacheMaxWeight,
+                                             @DefaultValue("true") boolean flightRecorder,
+                                             @DefaultValue("true") boolean observation,
+                                             @DefaultValue("true") boolean deadline) {
+}
@@ -0,0 +1,163 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   HAMTUSERSERVICE.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get from a single version.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.hamt;
+
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.METRIC_HAMT_CAS_RETRIES;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.METRIC_HAMT_CAS_RETRIES_DESCRIPTION;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.UserService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * In memory User Service over a persistent {@link UserTrie} behind an atomic reference to its current version.
+ * <ul>
+ *     <li>Reads take the current version and never block nor retry; a version never changes once published.</li>
+ *     <li>{@link #retrieveAll()} and {@link #snapshot()} hand out a version as is, in O(1): listing, streaming or
+ *     exporting it is a consistent point-in-time view, whatever the writes meanwhile.</li>
+ *     <li>Writes build the next version by path copying and publish it with compare-and-set, redoing it if another
+ *     write got in first.</li>
+ * </ul>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class HamtUserService implements UserService, MeterBinder {
+    private final AtomicReference<UserTrie> current = new AtomicReference<>(UserTrie.EMPTY);
+    private final LongAdder casRetries = new LongAdder();
+
+    @Override
+    public Boolean exists(String userId) {
+        return current.get().get(userId) != null;
+    }
+
+    @Override
+    public User insert(User user) {
+        var userToInsert = user.id() == null
+            ? new User(UUID.randomUUID().toString(), user.name(), user.address())
+            : user;
+
+        write(trie -> trie.put(userToInsert));
+        return userToInsert;
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        return current.get().get(userId);
+    }
+
+    /**
+     * Locates the users with the given ids in the current version, so they are all as of the same point in time.
+     *
+     * @param userIds Denotes the unique user identifiers to retrieve.
+     * @return The users found, in the order of the ids; those not found are left out.
+     */
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        var trie = current.get();
+
+        return userIds.stream().map(trie::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        return write(trie -> trie.remove(userId));
+    }
+
+    @Override
+    public Boolean update(User user) {
+        while (true) {
+            var trie = current.get();
+
+            if (trie.get(user.id()) == null) {
+                return false;
+            }
+
+            var changed = trie.put(user);
+
+            if (changed == trie || current.compareAndSet(trie, changed)) {
+                return true;
+            }
+
+            casRetries.increment();
+        }
+    }
+
+    /**
+     * Gives the current version of the Users as an unmodifiable list.
+     *
+     * @return The Users at this point in time.
+     */
+    @Override
+    public List<User> retrieveAll() {
+        return current.get().asList();
+    }
+
+    @Override
+    public Long count() {
+        return (long) current.get().size();
+    }
+
+    /**
+     * Gives the current version of the Users, to read (list, stream, export) as many times as needed with no change
+     * showing up.
+     *
+     * @return The Users at this point in time.
+     */
+    public UserTrie snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Gives how many writes were redone as another write published its version first.
+     *
+     * @return Number of retries.
+     */
+    public long casRetries() {
+        return casRetries.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_HAMT_CAS_RETRIES, casRetries, LongAdder::sum)
+            .description(METRIC_HAMT_CAS_RETRIES_DESCRIPTION)
+            .register(registry);
+    }
+
+    /**
+     * Publishes the version given by the change, unless it left the current one as is.
+     *
+     * @return {@code true} if a new version was published.
+     */
+    private boolean write(UnaryOperator<UserTrie> change) {
+        while (true) {
+            var trie = current.get();
+            var changed = change.apply(trie);
+
+            if (changed == trie) {
+                return false;
+            }
+
+            if (current.compareAndSet(trie, changed)) {
+                return true;
+            }
+
+            casRetries.increment();
+        }
+    }
+}
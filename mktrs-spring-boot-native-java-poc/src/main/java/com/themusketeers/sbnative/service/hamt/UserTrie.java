@@ -0,0 +1,453 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERTRIE.JAVA                                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.hamt;
+
+import com.themusketeers.sbnative.domain.User;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable map of Users by id, as a hash array mapped trie: each level takes 5 bits of the id hash to pick one of
+ * up to 32 slots, a slot holding either a User or the next level. A change copies only the nodes on the path to the
+ * User (path copying), at most 8 small arrays, and shares every other node with the previous version, which stays
+ * valid and unchanged. A version is thus a point-in-time snapshot that costs nothing to keep.
+ * <p>Every node knows how many Users it holds, so {@link #size()} is O(1) and the {@link #asList() list view} reaches
+ * a position without walking the Users before it.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public final class UserTrie implements Iterable<User> {
+    /**
+     * Trie without Users.
+     */
+    public static final UserTrie EMPTY = new UserTrie(BitmapNode.EMPTY);
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int HASH_BITS = Integer.SIZE;
+    private static final int MAX_DEPTH = HASH_BITS / BITS_PER_LEVEL + 2;
+
+    private final Node root;
+
+    private UserTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Gives the number of Users.
+     *
+     * @return 0 if empty.
+     */
+    public int size() {
+        return root.size();
+    }
+
+    /**
+     * Locates a User.
+     *
+     * @param userId Identifies the User.
+     * @return {@code null} if not found.
+     */
+    public User get(String userId) {
+        return root.find(userId, hash(userId), 0);
+    }
+
+    /**
+     * Gives the version with the User added, or replacing the one with its id.
+     *
+     * @param user Indicates the User, with its id.
+     * @return The new version, this one if the very same User is already there.
+     */
+    public UserTrie put(User user) {
+        var newRoot = root.put(Objects.requireNonNull(user.id()), user, hash(user.id()), 0);
+
+        return newRoot == root ? this : new UserTrie(newRoot);
+    }
+
+    /**
+     * Gives the version without a User.
+     *
+     * @param userId Identifies the User.
+     * @return The new version, this one if there is no such User.
+     */
+    public UserTrie remove(String userId) {
+        var newRoot = root.remove(userId, hash(userId), 0);
+
+        return newRoot == root ? this : new UserTrie(newRoot);
+    }
+
+    /**
+     * Gives the Users as an unmodifiable list, without copying them: iterating is linear and reaching a position takes
+     * at most a few dozen steps. The order is the one of the id hashes, stable for this version.
+     *
+     * @return The list view.
+     */
+    public List<User> asList() {
+        return new ListView(this);
+    }
+
+    /**
+     * Gives the Users as a stream, without copying them.
+     *
+     * @return The stream.
+     */
+    public Stream<User> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Iterator<User> iterator() {
+        return new TrieIterator(root);
+    }
+
+    @Override
+    public Spliterator<User> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+            Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    private static int hash(String userId) {
+        var hash = userId.hashCode();
+
+        // Mixes the high bits into the low ones, as HashMap does, so the first levels depend on the whole hash.
+        return hash ^ (hash >>> 16);
+    }
+
+    private static Node merge(User first, int firstHash, User second, int secondHash, int shift) {
+        if (shift >= HASH_BITS) {
+            return new CollisionNode(new User[]{first, second});
+        }
+
+        var firstIndex = (firstHash >>> shift) & LEVEL_MASK;
+        var secondIndex = (secondHash >>> shift) & LEVEL_MASK;
+
+        if (firstIndex == secondIndex) {
+            return new BitmapNode(1 << firstIndex,
+                new Object[]{merge(first, firstHash, second, secondHash, shift + BITS_PER_LEVEL)}, 2);
+        }
+
+        var slots = firstIndex < secondIndex ? new Object[]{first, second} : new Object[]{second, first};
+
+        return new BitmapNode((1 << firstIndex) | (1 << secondIndex), slots, 2);
+    }
+
+    /**
+     * A level of the trie.
+     */
+    private sealed interface Node permits BitmapNode, CollisionNode {
+        int size();
+
+        Object[] slots();
+
+        User find(String userId, int hash, int shift);
+
+        Node put(String userId, User user, int hash, int shift);
+
+        Node remove(String userId, int hash, int shift);
+
+        User at(int index);
+    }
+
+    /**
+     * Level whose bitmap tells which of the 32 slots are taken; only those are kept, in order.
+     */
+    private record BitmapNode(int bitmap, Object[] slots, int size) implements Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0], 0);
+
+        @Override
+        public User find(String userId, int hash, int shift) {
+            var bit = 1 << ((hash >>> shift) & LEVEL_MASK);
+
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+
+            // The User cases go first: a User is told apart by its exact class, cheaper than an interface check.
+            return switch (slots[index(bit)]) {
+                case User user when user.id().equals(userId) -> user;
+                case User user -> null;
+                case Node node -> node.find(userId, hash, shift + BITS_PER_LEVEL);
+                default -> null;
+            };
+        }
+
+        @Override
+        public Node put(String userId, User user, int hash, int shift) {
+            var bit = 1 << ((hash >>> shift) & LEVEL_MASK);
+            var index = index(bit);
+
+            if ((bitmap & bit) == 0) {
+                var newSlots = new Object[slots.length + 1];
+
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = user;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return new BitmapNode(bitmap | bit, newSlots, size + 1);
+            }
+
+            return switch (slots[index]) {
+                case User stored when stored == user -> this;
+                case User stored when stored.id().equals(userId) -> with(index, user, size);
+                case User stored ->
+                    with(index, merge(stored, UserTrie.hash(stored.id()), user, hash, shift + BITS_PER_LEVEL), size + 1);
+                case Node node -> {
+                    var newNode = node.put(userId, user, hash, shift + BITS_PER_LEVEL);
+
+                    yield newNode == node ? this : with(index, newNode, size + newNode.size() - node.size());
+                }
+                default -> throw new IllegalStateException();
+            };
+        }
+
+        @Override
+        public Node remove(String userId, int hash, int shift) {
+            var bit = 1 << ((hash >>> shift) & LEVEL_MASK);
+
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            var index = index(bit);
+
+            return switch (slots[index]) {
+                case User stored when stored.id().equals(userId) -> without(bit, index);
+                case User stored -> this;
+                case Node node -> {
+                    var newNode = node.remove(userId, hash, shift + BITS_PER_LEVEL);
+
+                    if (newNode == node) {
+                        yield this;
+                    }
+
+                    // A level left with a single User is folded into this one, so the trie stays as shallow as new.
+                    yield newNode.size() == 1 && newNode.slots()[0] instanceof User only
+                        ? with(index, only, size - 1)
+                        : with(index, newNode, size - 1);
+                }
+                default -> this;
+            };
+        }
+
+        @Override
+        public User at(int index) {
+            var remaining = index;
+
+            for (var slot : slots) {
+                if (slot instanceof User user) {
+                    if (remaining-- == 0) {
+                        return user;
+                    }
+                } else {
+                    var node = (Node) slot;
+
+                    if (remaining < node.size()) {
+                        return node.at(remaining);
+                    }
+
+                    remaining -= node.size();
+                }
+            }
+
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapNode with(int index, Object slot, int newSize) {
+            var newSlots = slots.clone();
+
+            newSlots[index] = slot;
+            return new BitmapNode(bitmap, newSlots, newSize);
+        }
+
+        private BitmapNode without(int bit, int index) {
+            if (slots.length == 1) {
+                return EMPTY;
+            }
+
+            var newSlots = new Object[slots.length - 1];
+
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, newSlots.length - index);
+            return new BitmapNode(bitmap ^ bit, newSlots, size - 1);
+        }
+    }
+
+    /**
+     * Last level, for the Users whose ids have the very same hash.
+     */
+    private record CollisionNode(User[] slots) implements Node {
+
+        @Override
+        public int size() {
+            return slots.length;
+        }
+
+        @Override
+        public User find(String userId, int hash, int shift) {
+            var index = indexOf(userId);
+
+            return index < 0 ? null : slots[index];
+        }
+
+        @Override
+        public Node put(String userId, User user, int hash, int shift) {
+            var index = indexOf(userId);
+
+            if (index >= 0) {
+                if (slots[index] == user) {
+                    return this;
+                }
+
+                var newSlots = slots.clone();
+
+                newSlots[index] = user;
+                return new CollisionNode(newSlots);
+            }
+
+            var newSlots = Arrays.copyOf(slots, slots.length + 1);
+
+            newSlots[slots.length] = user;
+            return new CollisionNode(newSlots);
+        }
+
+        @Override
+        public Node remove(String userId, int hash, int shift) {
+            var index = indexOf(userId);
+
+            if (index < 0) {
+                return this;
+            }
+
+            var newSlots = new User[slots.length - 1];
+
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, newSlots.length - index);
+            return new CollisionNode(newSlots);
+        }
+
+        @Override
+        public User at(int index) {
+            return slots[index];
+        }
+
+        private int indexOf(String userId) {
+            for (var i = 0; i < slots.length; i++) {
+                if (slots[i].id().equals(userId)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+
+    /**
+     * Depth first walk keeping the path from the root, thus without recursion nor copies.
+     */
+    private static final class TrieIterator implements Iterator<User> {
+        private final Object[][] path = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private User next;
+
+        TrieIterator(Node root) {
+            path[0] = root.slots();
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public User next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            var user = next;
+
+            advance();
+            return user;
+        }
+
+        private void advance() {
+            while (depth >= 0) {
+                var slots = path[depth];
+
+                if (positions[depth] == slots.length) {
+                    depth--;
+                    continue;
+                }
+
+                var slot = slots[positions[depth]++];
+
+                if (slot instanceof User user) {
+                    next = user;
+                    return;
+                }
+
+                depth++;
+                path[depth] = ((Node) slot).slots();
+                positions[depth] = 0;
+            }
+
+            next = null;
+        }
+    }
+
+    /**
+     * Unmodifiable list over a version of the trie.
+     */
+    private static final class ListView extends AbstractList<User> {
+        private final UserTrie trie;
+
+        ListView(UserTrie trie) {
+            this.trie = trie;
+        }
+
+        @Override
+        public User get(int index) {
+            Objects.checkIndex(index, trie.size());
+            return trie.root.at(index);
+        }
+
+        @Override
+        public int size() {
+            return trie.size();
+        }
+
+        @Override
+        public Iterator<User> iterator() {
+            return trie.iterator();
+        }
+
+        @Override
+        public Spliterator<User> spliterator() {
+            return trie.spliterator();
+        }
+
+        @Override
+        public Stream<User> stream() {
+            return trie.stream();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REACTIVEUSERSERVICE.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.intr;
+
+import com.themusketeers.sbnative.domain.User;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link UserService}: nothing happens until subscribed, and no thread waits for the
+ * store meanwhile.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public interface ReactiveUserService {
+    /**
+     * Checks if user data is present in the list of Users.
+     *
+     * @param userId Indicates the unique identifier for user we want to validate.
+     * @return True if present.
+     */
+    Mono<Boolean> exists(String userId);
+
+    /**
+     * Adds a new user into the list of Users. When the user {@code id} is set as null then implementer must provide
+     * the right id.
+     *
+     * @param user Instance of data to be saved in the list of Users.
+     * @return The User inserted, with its id.
+     */
+    Mono<User> insert(User user);
+
+    /**
+     * Adds many users into the list of Users at once, all of them or none.
+     *
+     * @param users Instances of data to be saved in the list of Users.
+     * @return The Users inserted, with their ids.
+     */
+    Flux<User> insertAll(List<User> users);
+
+    /**
+     * Locates the user with the given user {@code id}.
+     *
+     * @param userId Denotes the unique user identifier to retrieve.
+     * @return Empty if data not found.
+     */
+    Mono<User> retrieve(String userId);
+
+    /**
+     * Removes the user data from the list of Users.
+     *
+     * @param userId Denotes the unique user identifier to remove.
+     * @return True if it was removed.
+     */
+    Mono<Boolean> delete(String userId);
+
+    /**
+     * Changes the data for the User. All fields are changed except the user {@code id}.
+     *
+     * @param user Instance of data to be updated in the list of Users.
+     * @return True if the User exists.
+     */
+    Mono<Boolean> update(User user);
+
+    /**
+     * Streams the full list of Users stored in the system, read as the subscriber asks for them.
+     *
+     * @return Stored list of Users.
+     */
+    Flux<User> retrieveAll();
+
+    /**
+     * Gives the total number of elements of the stored list of Users.
+     *
+     * @return 0 if List of Users is empty.
+     */
+    Mono<Long> count();
+}
@@ -0,0 +1,101 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RETRIEVEMANYFANOUT.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.intr;
+
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.THREAD_RETRIEVE_MANY;
+
+import com.themusketeers.sbnative.deadline.RequestDeadline;
+import com.themusketeers.sbnative.domain.User;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Multi-get of the stores without a batch read: the Users are retrieved one by one, a bounded number at a time,
+ * each worker on its own virtual thread, so a store waiting on the network is waited on in parallel.
+ * <p>The fan-out is structured: the workers are forked in an executor scoped to the call, and closing it joins them,
+ * so none outlives the call, not even when the caller is interrupted. The first failure stops the workers from
+ * taking more ids and is rethrown to the caller. The deadline of the request is bound to every worker, which takes
+ * no more ids once it expired.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+final class RetrieveManyFanOut {
+    private static final ThreadFactory WORKERS = Thread.ofVirtual().name(THREAD_RETRIEVE_MANY + "-", 0).factory();
+
+    /**
+     * Utility class, thus no constructor allowed.
+     */
+    private RetrieveManyFanOut() {
+    }
+
+    /**
+     * Retrieves many Users, each by itself.
+     *
+     * @param userService Instance of the service to retrieve each User from.
+     * @param userIds     Indicates the ids of the Users to retrieve.
+     * @param parallelism Indicates the Users retrieved at most at the same time.
+     * @return The Users found, in the order of the ids; those not found are left out.
+     */
+    static List<User> retrieveMany(UserService userService, Collection<String> userIds, int parallelism) {
+        var ids = List.copyOf(userIds);
+
+        if (ids.size() <= 1) {
+            // Nothing to wait on in parallel: no thread is worth starting.
+            return ids.stream().map(userService::retrieve).filter(Objects::nonNull).toList();
+        }
+
+        var found = new AtomicReferenceArray<User>(ids.size());
+        var next = new AtomicInteger();
+        var failure = new AtomicReference<Throwable>();
+        var deadline = RequestDeadline.current();
+        Runnable worker = () -> {
+            try (var scope = RequestDeadline.bind(deadline)) {
+                for (var i = next.getAndIncrement(); i < ids.size() && failure.get() == null; i = next.getAndIncrement()) {
+                    RequestDeadline.checkCurrent();
+                    found.set(i, userService.retrieve(ids.get(i)));
+                }
+            } catch (RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            }
+        };
+
+        try (var workers = Executors.newThreadPerTaskExecutor(WORKERS)) {
+            for (var i = Math.min(parallelism, ids.size()); i > 0; i--) {
+                workers.execute(worker);
+            }
+        }
+
+        if (failure.get() instanceof RuntimeException e) {
+            throw e;
+        }
+
+        if (failure.get() instanceof Error e) {
+            throw e;
+        }
+
+        var users = new ArrayList<User>(ids.size());
+
+        for (var i = 0; i < ids.size(); i++) {
+            var user = found.get(i);
+
+            if (user != null) {
+                users.add(user);
+            }
+        }
+
+        return users;
+    }
+}
@@ -5,11 +5,15 @@
 /*-----------------------------------------------------------------------------
  History
  Jun.15/2023  COQ  File created.
+ Oct.19/2026  COQ  Multi-get, with a virtual thread fan-out by default.
  -----------------------------------------------------------------------------*/
 
 package com.themusketeers.sbnative.service.intr;
 
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.RETRIEVE_MANY_PARALLELISM;
+
 import com.themusketeers.sbnative.domain.User;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -44,6 +48,17 @@ public interface UserService {
      */
     User retrieve(String userId);
 
+    /**
+     * Locates the users with the given user ids at once (multi-get). Stores able to read many users in one go
+     * override it; otherwise each user is retrieved by itself, a bounded number at a time on virtual threads.
+     *
+     * @param userIds Denotes the unique user identifiers to retrieve.
+     * @return The users found, in the order of the ids; those not found are left out.
+     */
+    default List<User> retrieveMany(Collection<String> userIds) {
+        return RetrieveManyFanOut.retrieveMany(this, userIds, RETRIEVE_MANY_PARALLELISM);
+    }
+
     /**
      * Removes the user data from the list of Users.
      *
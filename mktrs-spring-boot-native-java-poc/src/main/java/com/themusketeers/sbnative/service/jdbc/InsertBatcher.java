@@ -0,0 +1,176 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   INSERTBATCHER.JAVA                                          */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Pending inserts written, not failed, when closed.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.jdbc;
+
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.THREAD_INSERT_BATCHER;
+
+import com.themusketeers.sbnative.domain.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Groups the single inserts of concurrent callers into one batch, hence one round trip to the database. A single
+ * writer thread takes whatever inserts are waiting (up to a maximum) each time it is free, so nothing waits for a
+ * batch to fill: alone, an insert is written right away; under load, the inserts arriving while a batch is written
+ * make up the next one.
+ * <p>A batch is written in one transaction; if it fails, its inserts are retried one by one so only the offending
+ * ones fail.</p>
+ * <p>Closing it refuses new inserts but writes the pending ones before returning.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class InsertBatcher implements AutoCloseable {
+    private static final PendingInsert CLOSED = new PendingInsert(null, null);
+
+    private final Consumer<List<User>> batchWriter;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingInsert> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong inserts = new AtomicLong();
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param batchWriter  Indicates how to write a batch, all or nothing.
+     * @param maxBatchSize Indicates the inserts written at most in one batch.
+     */
+    InsertBatcher(Consumer<List<User>> batchWriter, int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+
+        this.batchWriter = batchWriter;
+        this.maxBatchSize = maxBatchSize;
+        this.writer = Thread.ofVirtual().name(THREAD_INSERT_BATCHER).start(this::run);
+    }
+
+    /**
+     * Inserts a User along with the ones of other callers, waiting for it to be written.
+     *
+     * @param user Indicates the User to insert, with its id set.
+     */
+    void insert(User user) {
+        if (!running) {
+            throw new IllegalStateException("Insert batcher closed");
+        }
+
+        var pending = new PendingInsert(user, new CompletableFuture<>());
+
+        queue.add(pending);
+
+        if (!running && queue.remove(pending)) {
+            throw new IllegalStateException("Insert batcher closed");
+        }
+
+        try {
+            pending.written().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Gives the number of batches written.
+     *
+     * @return The batches written.
+     */
+    long batches() {
+        return batches.get();
+    }
+
+    /**
+     * Gives the number of inserts written.
+     *
+     * @return The inserts written.
+     */
+    long inserts() {
+        return inserts.get();
+    }
+
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        queue.add(CLOSED);
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        var batch = new ArrayList<PendingInsert>(maxBatchSize);
+        var closed = false;
+
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            queue.drainTo(batch, maxBatchSize - 1);
+            closed = batch.removeIf(pending -> pending == CLOSED);
+
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+
+        // Inserts racing the close are queued after it, they are written as well.
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingInsert> batch) {
+        try {
+            batchWriter.accept(batch.stream().map(PendingInsert::user).toList());
+            batches.incrementAndGet();
+            inserts.addAndGet(batch.size());
+            batch.forEach(pending -> pending.written().complete(null));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.getFirst().written().completeExceptionally(e);
+            } else {
+                batch.forEach(pending -> write(List.of(pending)));
+            }
+        }
+    }
+
+    /**
+     * An insert waiting to be written.
+     *
+     * @param user    Indicates the User to insert.
+     * @param written Completed once written.
+     */
+    private record PendingInsert(User user, CompletableFuture<Void> written) {
+    }
+}
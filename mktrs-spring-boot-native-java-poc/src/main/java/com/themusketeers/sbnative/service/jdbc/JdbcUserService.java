@@ -0,0 +1,244 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   JDBCUSERSERVICE.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Request deadline checked between pages.
+ Oct.19/2026  COQ  Multi-get with IN queries.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.jdbc;
+
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.FIRST_PAGE_KEY;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.METRIC_JDBC_INSERTS;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.METRIC_JDBC_INSERTS_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.METRIC_JDBC_INSERT_BATCHES;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.METRIC_JDBC_INSERT_BATCHES_DESCRIPTION;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.PARAM_IDS;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SQL_COUNT;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SQL_DELETE;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SQL_EXISTS;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SQL_INSERT;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SQL_RETRIEVE;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SQL_RETRIEVE_MANY;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SQL_RETRIEVE_PAGE;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SQL_UPDATE;
+
+import com.themusketeers.sbnative.deadline.RequestDeadline;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.UserService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * User Service over a relational database through JDBC, tuned for throughput:
+ * <ul>
+ *     <li>Concurrent single inserts are grouped into batches by an {@link InsertBatcher}, one round trip each.</li>
+ *     <li>{@link #insertAll(List)} writes many Users in one prepared statement batch.</li>
+ *     <li>{@link #retrieveMany(Collection)} reads many Users with one {@code WHERE id IN (...)} query per page of
+ *     ids, each an index lookup per id.</li>
+ *     <li>Listings page by key ({@code WHERE id > ? ORDER BY id}), so each page is an index range scan whatever
+ *     its position, unlike an {@code OFFSET} one.</li>
+ * </ul>
+ * <p>The number of connections is bounded by the pool, not by the callers: with virtual threads there may be far
+ * more callers than connections, and those waiting for one are unmounted.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class JdbcUserService implements UserService, MeterBinder, AutoCloseable {
+    private static final RowMapper<User> USER_ROW_MAPPER =
+        (rs, rowNum) -> new User(rs.getString(1), rs.getString(2), rs.getString(3));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InsertBatcher insertBatcher;
+    private final int pageSize;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param dataSource   Instance giving the connections.
+     * @param maxBatchSize Indicates the concurrent single inserts written at most in one batch.
+     * @param pageSize     Indicates the Users read at most per query when listing them.
+     */
+    public JdbcUserService(DataSource dataSource, int maxBatchSize, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+        this.insertBatcher = new InsertBatcher(this::writeBatch, maxBatchSize);
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Boolean exists(String userId) {
+        return !jdbcTemplate.queryForList(SQL_EXISTS, Integer.class, userId).isEmpty();
+    }
+
+    @Override
+    public User insert(User user) {
+        var userToInsert = withId(user);
+
+        insertBatcher.insert(userToInsert);
+        return userToInsert;
+    }
+
+    /**
+     * Inserts many Users in one batch and one transaction: all of them are inserted or none.
+     *
+     * @param users Indicates the Users to insert. When a {@code id} is null one is provided.
+     * @return The Users inserted, with their ids.
+     */
+    public List<User> insertAll(List<User> users) {
+        var usersToInsert = users.stream().map(JdbcUserService::withId).toList();
+
+        if (usersToInsert.isEmpty()) {
+            return usersToInsert;
+        }
+
+        writeBatch(usersToInsert);
+        return usersToInsert;
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        return jdbcTemplate.query(SQL_RETRIEVE, USER_ROW_MAPPER, userId).stream().findFirst().orElse(null);
+    }
+
+    /**
+     * Locates the users with the given ids, a query per page of ids.
+     *
+     * @param userIds Denotes the unique user identifiers to retrieve.
+     * @return The users found, in the order of the ids; those not found are left out.
+     */
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        var ids = List.copyOf(userIds);
+        var found = new HashMap<String, User>();
+
+        for (var from = 0; from < ids.size(); from += pageSize) {
+            if (from > 0) {
+                // The client may have given up meanwhile: no point in reading the rest.
+                RequestDeadline.checkCurrent();
+            }
+
+            var page = ids.subList(from, Math.min(from + pageSize, ids.size()));
+
+            namedParameterJdbcTemplate.query(SQL_RETRIEVE_MANY, Map.of(PARAM_IDS, page), USER_ROW_MAPPER)
+                .forEach(user -> found.put(user.id(), user));
+        }
+
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        return jdbcTemplate.update(SQL_DELETE, userId) > 0;
+    }
+
+    @Override
+    public Boolean update(User user) {
+        return jdbcTemplate.update(SQL_UPDATE, user.name(), user.address(), user.id()) > 0;
+    }
+
+    @Override
+    public List<User> retrieveAll() {
+        var all = new ArrayList<User>();
+        var page = retrievePage(FIRST_PAGE_KEY, pageSize);
+
+        while (!page.isEmpty()) {
+            all.addAll(page);
+
+            if (page.size() < pageSize) {
+                break;
+            }
+
+            // The client may have given up meanwhile: no point in reading the rest.
+            RequestDeadline.checkCurrent();
+            page = retrievePage(page.getLast().id(), pageSize);
+        }
+
+        return all;
+    }
+
+    /**
+     * Gives the Users following an id, in id order.
+     *
+     * @param afterId Indicates the id of the last User of the previous page, empty for the first page.
+     * @param limit   Indicates the Users to give at most.
+     * @return The Users, empty once past the last one.
+     */
+    public List<User> retrievePage(String afterId, int limit) {
+        return jdbcTemplate.query(SQL_RETRIEVE_PAGE, USER_ROW_MAPPER, afterId, limit);
+    }
+
+    @Override
+    public Long count() {
+        return jdbcTemplate.queryForObject(SQL_COUNT, Long.class);
+    }
+
+    /**
+     * Gives the number of round trips writing the single inserts.
+     *
+     * @return The batches written.
+     */
+    public long insertBatches() {
+        return insertBatcher.batches();
+    }
+
+    /**
+     * Gives the number of single inserts written.
+     *
+     * @return The inserts written.
+     */
+    public long batchedInserts() {
+        return insertBatcher.inserts();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_JDBC_INSERT_BATCHES, insertBatcher, InsertBatcher::batches)
+            .description(METRIC_JDBC_INSERT_BATCHES_DESCRIPTION)
+            .register(registry);
+        FunctionCounter.builder(METRIC_JDBC_INSERTS, insertBatcher, InsertBatcher::inserts)
+            .description(METRIC_JDBC_INSERTS_DESCRIPTION)
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        insertBatcher.close();
+    }
+
+    private void writeBatch(List<User> users) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(SQL_INSERT, users, users.size(),
+            (ps, user) -> {
+                ps.setString(1, user.id());
+                ps.setString(2, user.name());
+                ps.setString(3, user.address());
+            }));
+    }
+
+    private static User withId(User user) {
+        return user.id() == null ? new User(UUID.randomUUID().toString(), user.name(), user.address()) : user;
+    }
+}
@@ -0,0 +1,33 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERMUTATION.JAVA                                           */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.mutation;
+
+import com.themusketeers.sbnative.domain.User;
+
+/**
+ * A change applied to the User Service, in the order given by its sequence.
+ *
+ * @param sequence  Indicates the position of the change, starting at 1 and without gaps.
+ * @param type      Indicates the kind of change.
+ * @param userId    Identifies the User changed.
+ * @param user      Indicates the User as left by the change, {@code null} for a {@link Type#DELETE}.
+ * @param timestamp Indicates when the change was applied (epoch milliseconds).
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record UserMutation(long sequence, Type type, String userId, User user, long timestamp) {
+
+    /**
+     * Kind of change.
+     */
+    public enum Type {
+        INSERT,
+        UPDATE,
+        DELETE
+    }
+}
@@ -0,0 +1,26 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERMUTATIONLISTENER.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Called outside of the writes.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.mutation;
+
+/**
+ * Gets notified of every change applied to the User Service. Declare an implementation as a bean to get notified.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public interface UserMutationListener {
+    /**
+     * Called once the change is applied, one change at a time and in sequence order. It runs once the write let go
+     * of its id, while other writes reach the store, but those writes return only after their changes are delivered
+     * too, so it must be quick and must not write to the User Service.
+     *
+     * @param mutation Indicates the change applied.
+     */
+    void onMutation(UserMutation mutation);
+}
@@ -0,0 +1,226 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERMUTATIONPUBLISHER.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Writes serialized per id only, listeners called outside of the writes.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.mutation;
+
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.MUTATION_WRITE_LOCK_STRIPES;
+
+import com.themusketeers.sbnative.domain.User;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Orders the writes to the User Service and hands each one, with its sequence number, to the
+ * {@link UserMutationListener}s.
+ * <p>When there are listeners, writes to the same id are serialized with striped locks (not monitors, so a virtual
+ * thread waiting for one is unmounted), so their changes get sequence numbers in the order they were applied; writes
+ * to other ids reach the store at the same time. Numbering a change and queueing it is all that is done under a lock
+ * shared by every write. The listeners are called once the write let go of its id, under a delivery lock: the first
+ * writer to take it hands over every change queued up to its own, so the writers waiting behind mostly find theirs
+ * already delivered (as a group commit). A write returns once the listeners got its change. The listeners are looked
+ * up on the first write, once they (which may depend on the User Service) exist. A listener failing is logged, it
+ * does not undo nor fail the write.</p>
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class UserMutationPublisher {
+    private static final Logger log = LoggerFactory.getLogger(UserMutationPublisher.class);
+
+    private final Supplier<List<UserMutationListener>> listenerLookup;
+    private final LongSupplier clock;
+    private final ReentrantLock[] writeLocks = new ReentrantLock[MUTATION_WRITE_LOCK_STRIPES];
+    private final ReentrantLock sequenceLock = new ReentrantLock();
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+    private final Queue<UserMutation> pending = new ConcurrentLinkedQueue<>();
+
+    private volatile List<UserMutationListener> listeners;
+    private volatile long lastSequence;
+    private volatile long deliveredSequence;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param listenerLookup Indicates how to find the listeners, called once on the first write.
+     */
+    public UserMutationPublisher(Supplier<List<UserMutationListener>> listenerLookup) {
+        this(listenerLookup, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param listenerLookup Indicates how to find the listeners, called once on the first write.
+     * @param clock          Indicates the source of the mutation timestamps (epoch milliseconds).
+     */
+    public UserMutationPublisher(Supplier<List<UserMutationListener>> listenerLookup, LongSupplier clock) {
+        this.listenerLookup = listenerLookup;
+        this.clock = clock;
+
+        for (int i = 0; i < writeLocks.length; i++) {
+            writeLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Runs a write, serialized with the other writes of the same id if there are listeners. The write calls
+     * {@link #publish(UserMutation.Type, String, User)} for the change it made, if any, and returns once the listeners
+     * got it.
+     *
+     * @param userId Identifies the User written, {@code null} for an insert letting the store assign the id.
+     * @param write  Indicates the write to run.
+     * @param <T>    Type of the write result.
+     * @return The write result.
+     */
+    public <T> T write(String userId, Supplier<T> write) {
+        if (listeners().isEmpty()) {
+            return write.get();
+        }
+
+        T result;
+
+        if (userId == null) {
+            // The id is new, assigned by the store: no other write can be racing for it.
+            result = write.get();
+        } else {
+            var lock = writeLocks[Math.floorMod(userId.hashCode(), writeLocks.length)];
+
+            lock.lock();
+            try {
+                result = write.get();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // At least up to the change just published, if any.
+        deliverUpTo(lastSequence);
+        return result;
+    }
+
+    /**
+     * Numbers a change and queues it for the listeners. Only valid from within {@link #write(String, Supplier)}.
+     *
+     * @param type   Indicates the kind of change.
+     * @param userId Identifies the User changed.
+     * @param user   Indicates the User as left by the change, {@code null} for a delete.
+     */
+    public void publish(UserMutation.Type type, String userId, User user) {
+        if (listeners().isEmpty()) {
+            return;
+        }
+
+        sequenceLock.lock();
+        try {
+            var mutation = new UserMutation(lastSequence + 1, type, userId, user, clock.getAsLong());
+
+            pending.add(mutation);
+            lastSequence = mutation.sequence();
+        } finally {
+            sequenceLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the User Service with the delivery to the listeners held, while the writes to the store go on. The result
+     * includes every change up to the sequence returned along, and maybe some later ones: it is exact once the changes
+     * after that sequence are applied to it, which a listener whose changes are idempotent gets right after.
+     *
+     * @param read Indicates the read to run.
+     * @param <T>  Type of the read result.
+     * @return The read result and the sequence of the last change the listeners got before it.
+     */
+    public <T> Consistent<T> readConsistent(Supplier<T> read) {
+        deliveryLock.lock();
+        try {
+            return new Consistent<>(deliveredSequence, read.get());
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the User Service without holding anything. The result includes every change up to the sequence returned
+     * along, and maybe some later ones, as {@link #readConsistent(Supplier)} but without delaying the listeners: the
+     * reader replays the changes after that sequence, idempotently, to get an exact copy.
+     *
+     * @param read Indicates the read to run.
+     * @param <T>  Type of the read result.
+     * @return The read result and the sequence of the last change the listeners got before it.
+     */
+    public <T> Consistent<T> readFuzzy(Supplier<T> read) {
+        // A change is numbered once applied to the store, so all those delivered so far are in the read.
+        var sequence = deliveredSequence;
+
+        return new Consistent<>(sequence, read.get());
+    }
+
+    /**
+     * Gives the sequence of the last change published.
+     *
+     * @return 0 if nothing has been published yet.
+     */
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    private void deliverUpTo(long sequence) {
+        if (deliveredSequence >= sequence) {
+            return;
+        }
+
+        deliveryLock.lock();
+        try {
+            // Every change up to the sequence is queued already, as it is numbered and queued at once.
+            while (deliveredSequence < sequence) {
+                var mutation = pending.poll();
+
+                notifyListeners(mutation);
+                deliveredSequence = mutation.sequence();
+            }
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    private void notifyListeners(UserMutation mutation) {
+        for (var listener : listeners()) {
+            try {
+                listener.onMutation(mutation);
+            } catch (RuntimeException e) {
+                log.error("Listener {} failed on mutation {}", listener, mutation.sequence(), e);
+            }
+        }
+    }
+
+    private List<UserMutationListener> listeners() {
+        var current = listeners;
+
+        if (current == null) {
+            current = List.copyOf(listenerLookup.get());
+            listeners = current;
+        }
+
+        return current;
+    }
+
+    /**
+     * Result of a read along with the sequence of the last change it includes.
+     *
+     * @param sequence Indicates the last change included.
+     * @param value    Indicates the read result.
+     * @param <T>      Type of the read result.
+     */
+    public record Consistent<T>(long sequence, T value) {
+    }
+}
@@ -0,0 +1,71 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   BLOCKINGUSERSERVICE.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get by the default fan-out.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.r2dbc;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.ReactiveUserService;
+import com.themusketeers.sbnative.service.intr.UserService;
+import java.util.List;
+
+/**
+ * {@link UserService} view of a {@link ReactiveUserService}, waiting for each result, so the Servlet endpoints (and
+ * the decorators) work over a reactive store. Waiting on a virtual thread unmounts it, so no carrier is held.
+ * <p>{@link #retrieveMany(java.util.Collection)} is left to the default fan-out of {@link UserService}: its virtual
+ * threads wait on as many reads as the connection pool serves at once.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class BlockingUserService implements UserService {
+    private final ReactiveUserService delegate;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param delegate Instance of the reactive service.
+     */
+    public BlockingUserService(ReactiveUserService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Boolean exists(String userId) {
+        return delegate.exists(userId).block();
+    }
+
+    @Override
+    public User insert(User user) {
+        return delegate.insert(user).block();
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        return delegate.retrieve(userId).block();
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        return delegate.delete(userId).block();
+    }
+
+    @Override
+    public Boolean update(User user) {
+        return delegate.update(user).block();
+    }
+
+    @Override
+    public List<User> retrieveAll() {
+        return delegate.retrieveAll().collectList().block();
+    }
+
+    @Override
+    public Long count() {
+        return delegate.count().block();
+    }
+}
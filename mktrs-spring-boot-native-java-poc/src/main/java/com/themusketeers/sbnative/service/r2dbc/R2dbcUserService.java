@@ -0,0 +1,180 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   R2DBCUSERSERVICE.JAVA                                       */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.r2dbc;
+
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.FIRST_PAGE_KEY;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.PARAM_ADDRESS;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.PARAM_AFTER_ID;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.PARAM_ID;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.PARAM_LIMIT;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.PARAM_NAME;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.SQL_COUNT;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.SQL_DELETE;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.SQL_EXISTS;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.SQL_INSERT_PREFIX;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.SQL_INSERT_ROW;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.SQL_RETRIEVE;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.SQL_RETRIEVE_PAGE;
+import static com.themusketeers.sbnative.common.consts.R2dbcConstants.SQL_UPDATE;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.ReactiveUserService;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking User Service over a relational database through R2DBC:
+ * <ul>
+ *     <li>Inserts of many Users are written as multi-row {@code INSERT ... VALUES (...), (...)} statements of up to
+ *     {@code maxRowsPerInsert} rows, in one transaction.</li>
+ *     <li>{@link #retrieveAll()} streams the Users page by page (by key, {@code WHERE id > ? ORDER BY id}), reading
+ *     the next page only once the subscriber asks for more, so a slow subscriber neither fills the memory nor keeps
+ *     a connection of the pool.</li>
+ * </ul>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class R2dbcUserService implements ReactiveUserService {
+    private static final Function<Readable, User> USER_MAPPER =
+        row -> new User(row.get(0, String.class), row.get(1, String.class), row.get(2, String.class));
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final int maxRowsPerInsert;
+    private final int pageSize;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param connectionFactory Instance giving the connections, usually a pool.
+     * @param maxRowsPerInsert  Indicates the rows written at most by one insert statement.
+     * @param pageSize          Indicates the Users read at most per query when streaming them.
+     */
+    public R2dbcUserService(ConnectionFactory connectionFactory, int maxRowsPerInsert, int pageSize) {
+        if (maxRowsPerInsert < 1 || pageSize < 1) {
+            throw new IllegalArgumentException("Rows per insert and page size must be positive");
+        }
+
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+        this.maxRowsPerInsert = maxRowsPerInsert;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Mono<Boolean> exists(String userId) {
+        return databaseClient.sql(SQL_EXISTS)
+            .bind(PARAM_ID, userId)
+            .map(row -> Boolean.TRUE)
+            .first()
+            .hasElement();
+    }
+
+    @Override
+    public Mono<User> insert(User user) {
+        var userToInsert = withId(user);
+
+        return insertRows(List.of(userToInsert)).thenReturn(userToInsert);
+    }
+
+    @Override
+    public Flux<User> insertAll(List<User> users) {
+        var usersToInsert = users.stream().map(R2dbcUserService::withId).toList();
+        var statements = IntStream.iterate(0, from -> from < usersToInsert.size(), from -> from + maxRowsPerInsert)
+            .mapToObj(from -> usersToInsert.subList(from, Math.min(from + maxRowsPerInsert, usersToInsert.size())))
+            .toList();
+
+        return Flux.fromIterable(statements)
+            .concatMap(this::insertRows)
+            .thenMany(Flux.fromIterable(usersToInsert))
+            .as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<User> retrieve(String userId) {
+        return databaseClient.sql(SQL_RETRIEVE)
+            .bind(PARAM_ID, userId)
+            .map(USER_MAPPER)
+            .first();
+    }
+
+    @Override
+    public Mono<Boolean> delete(String userId) {
+        return databaseClient.sql(SQL_DELETE)
+            .bind(PARAM_ID, userId)
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<Boolean> update(User user) {
+        return databaseClient.sql(SQL_UPDATE)
+            .bind(PARAM_NAME, user.name())
+            .bind(PARAM_ADDRESS, user.address())
+            .bind(PARAM_ID, user.id())
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Flux<User> retrieveAll() {
+        return retrievePage(FIRST_PAGE_KEY)
+            .expand(page -> page.size() < pageSize ? Mono.empty() : retrievePage(page.getLast().id()))
+            .concatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return databaseClient.sql(SQL_COUNT)
+            .map(row -> row.get(0, Long.class))
+            .one();
+    }
+
+    private Mono<List<User>> retrievePage(String afterId) {
+        return databaseClient.sql(SQL_RETRIEVE_PAGE)
+            .bind(PARAM_AFTER_ID, afterId)
+            .bind(PARAM_LIMIT, pageSize)
+            .map(USER_MAPPER)
+            .all()
+            .collectList();
+    }
+
+    private Mono<Void> insertRows(List<User> users) {
+        var sql = IntStream.range(0, users.size())
+            .mapToObj(SQL_INSERT_ROW::formatted)
+            .collect(Collectors.joining(", ", SQL_INSERT_PREFIX, ""));
+        var spec = databaseClient.sql(sql);
+
+        for (var i = 0; i < users.size(); i++) {
+            var user = users.get(i);
+
+            spec = spec.bind(PARAM_ID + i, user.id())
+                .bind(PARAM_NAME + i, user.name())
+                .bind(PARAM_ADDRESS + i, user.address());
+        }
+
+        return spec.fetch().rowsUpdated().then();
+    }
+
+    private static User withId(User user) {
+        return user.id() == null ? new User(UUID.randomUUID().toString(), user.name(), user.address()) : user;
+    }
+}
@@ -0,0 +1,61 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FIRSTREQUESTFILTER.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.LOG_FIRST_REQUEST;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Records the first request readiness milestone, that is when the first request has been fully served.
+ * Once recorded the filter is skipped for every other request.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class FirstRequestFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(FirstRequestFilter.class);
+
+    private final StartupTimelineRecorder recorder;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param recorder Instance recording the startup timeline.
+     */
+    public FirstRequestFilter(StartupTimelineRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return recorder.isFirstRequestCompleted();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            var milestone = recorder.markFirstRequest();
+
+            if (milestone != null) {
+                log.info(LOG_FIRST_REQUEST, milestone.atMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPMILESTONE.JAVA                                       */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Represents a point reached while the application starts.
+ *
+ * @param name           Identifies the milestone.
+ * @param atMillis       Indicates the milliseconds elapsed since the JVM started when the milestone was reached.
+ * @param durationMillis Indicates how long the measured activity took, NULL when it is a single point in time.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"name", "atMillis", "durationMillis"})
+public record StartupMilestone(String name, long atMillis, Long durationMillis) {
+}
@@ -0,0 +1,25 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPSTEPDURATION.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Represents a Spring startup step (context phase or bean instantiation) and how long it took.
+ *
+ * @param name           Indicates the step name or the bean name.
+ * @param atMillis       Indicates the milliseconds elapsed since the JVM started when the step began.
+ * @param durationMillis Indicates how long the step took, nested steps included.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"name", "atMillis", "durationMillis"})
+public record StartupStepDuration(String name, long atMillis, long durationMillis) {
+}
@@ -0,0 +1,60 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPTIMELINECONFIGURATION.JAVA                           */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import static com.themusketeers.sbnative.common.consts.FilterOrderConstants.FIRST_REQUEST_FILTER_ORDER;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the Startup Timeline: the recorder, the listeners marking each milestone and the endpoint.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupTimelineConfiguration {
+
+    @Bean
+    public StartupTimelineRecorder startupTimelineRecorder(ConfigurableApplicationContext context) {
+        var applicationStartup = context.getApplicationStartup() instanceof BufferingApplicationStartup buffering
+            ? buffering
+            : null;
+
+        return new StartupTimelineRecorder(applicationStartup);
+    }
+
+    @Bean
+    public StartupTimelineListener startupTimelineListener(StartupTimelineRecorder recorder,
+                                                           StartupTimelineProperties properties) {
+        return new StartupTimelineListener(recorder, properties);
+    }
+
+    @Bean
+    public WebServerStartingMarker webServerStartingMarker(StartupTimelineRecorder recorder) {
+        return new WebServerStartingMarker(recorder);
+    }
+
+    @Bean
+    public FilterRegistrationBean<FirstRequestFilter> firstRequestFilter(StartupTimelineRecorder recorder) {
+        var registration = new FilterRegistrationBean<>(new FirstRequestFilter(recorder));
+
+        registration.setOrder(FIRST_REQUEST_FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public StartupTimelineEndpoint startupTimelineEndpoint(StartupTimelineRecorder recorder,
+                                                           StartupTimelineProperties properties) {
+        return new StartupTimelineEndpoint(recorder, properties);
+    }
+}
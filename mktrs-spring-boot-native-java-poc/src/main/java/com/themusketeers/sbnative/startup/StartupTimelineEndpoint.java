@@ -0,0 +1,39 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPTIMELINEENDPOINT.JAVA                                */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.STARTUP_TIMELINE_ENDPOINT_ID;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint exposing the startup timeline.
+ * <p><b>Path:</b>{@code actuator/startuptimeline}</p>
+ * <p>Unlike the stock {@code actuator/startup} endpoint, reading it does not drain the buffered steps and it
+ * includes the milestones recorded by the application (Undertow start, store load, first request).</p>
+ *
+ * @param recorder   Instance recording the startup timeline.
+ * @param properties Settings for the Startup Timeline.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Endpoint(id = STARTUP_TIMELINE_ENDPOINT_ID)
+public record StartupTimelineEndpoint(StartupTimelineRecorder recorder, StartupTimelineProperties properties) {
+
+    /**
+     * Retrieves the startup timeline.
+     * <p>{@code GET: actuator/startuptimeline}</p>
+     *
+     * @return The milestones, context phases and slowest bean instantiations.
+     */
+    @ReadOperation
+    public StartupTimelineReport timeline() {
+        return recorder.report(properties.slowestBeans());
+    }
+}
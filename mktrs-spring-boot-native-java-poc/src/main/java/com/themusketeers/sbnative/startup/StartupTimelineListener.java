@@ -0,0 +1,97 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPTIMELINELISTENER.JAVA                                */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.LOG_STARTUP_MILESTONE;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.LOG_STARTUP_MILESTONE_DURATION;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.LOG_STARTUP_PHASE;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.LOG_STARTUP_SLOW_BEAN;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.LOG_STARTUP_SUMMARY;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_APPLICATION_READY;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_APPLICATION_STARTED;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_CONTEXT_REFRESHED;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_WEB_SERVER_STARTED;
+
+import java.text.MessageFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Marks the milestones announced by Spring application events and logs the startup summary once the
+ * application is ready.
+ *
+ * @param recorder   Instance recording the startup timeline.
+ * @param properties Settings for the Startup Timeline.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public record StartupTimelineListener(StartupTimelineRecorder recorder, StartupTimelineProperties properties) {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimelineListener.class);
+
+    /**
+     * Marks the Undertow web server as started and listening.
+     *
+     * @param event Instance announcing the web server is up.
+     */
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        recorder.mark(MILESTONE_WEB_SERVER_STARTED);
+    }
+
+    /**
+     * Marks the Spring context as refreshed.
+     *
+     * @param event Instance announcing the context refresh.
+     */
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        recorder.mark(MILESTONE_CONTEXT_REFRESHED);
+    }
+
+    /**
+     * Marks the application as started (runners not called yet).
+     *
+     * @param event Instance announcing the application started.
+     */
+    @EventListener
+    public void onApplicationStarted(ApplicationStartedEvent event) {
+        recorder.mark(MILESTONE_APPLICATION_STARTED);
+    }
+
+    /**
+     * Marks the application as ready to serve requests and logs the startup summary.
+     *
+     * @param event Instance announcing the application is ready.
+     */
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        var ready = recorder.mark(MILESTONE_APPLICATION_READY);
+
+        if (properties.logSummary()) {
+            logSummary(ready);
+        }
+    }
+
+    private void logSummary(StartupMilestone ready) {
+        var report = recorder.report(properties.slowestBeans());
+
+        log.info(LOG_STARTUP_SUMMARY, ready.atMillis());
+        report.milestones().forEach(milestone -> log.info(LOG_STARTUP_MILESTONE,
+            milestone.name(),
+            milestone.atMillis(),
+            milestone.durationMillis() == null ? "" : MessageFormat.format(LOG_STARTUP_MILESTONE_DURATION, milestone.durationMillis())));
+        report.phases().forEach(phase -> log.info(LOG_STARTUP_PHASE, phase.name(), phase.durationMillis()));
+        report.slowestBeans().forEach(bean -> log.info(LOG_STARTUP_SLOW_BEAN, bean.name(), bean.durationMillis()));
+    }
+}
@@ -0,0 +1,25 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPTIMELINEPROPERTIES.JAVA                              */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the Startup Timeline.
+ * <p><b>Prefix:</b>{@code app.startup-timeline}</p>
+ *
+ * @param logSummary   Indicates if the timeline summary is logged once the application is ready.
+ * @param slowestBeans Indicates how many of the slowest bean instantiations are reported.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.startup-timeline")
+public record StartupTimelineProperties(@DefaultValue("true") boolean logSummary,
+                                        @DefaultValue("10") int slowestBeans) {
+}
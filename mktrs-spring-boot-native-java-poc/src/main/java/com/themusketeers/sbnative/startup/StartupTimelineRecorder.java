@@ -0,0 +1,195 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPTIMELINERECORDER.JAVA                                */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_FIRST_REQUEST;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.STEP_BEANS_INSTANTIATE;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.STEP_TAG_BEAN_NAME;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * Records the milestones reached while the application starts, measured from the JVM start. The same
+ * clock is used in the JVM and in the native image, so both builds report comparable numbers.
+ * <p>Components doing work at startup (for instance restoring or loading a store) report it by means
+ * of {@link #begin(String)}.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class StartupTimelineRecorder {
+    private final long jvmStartedAt;
+    private final LongSupplier clock;
+    private final BufferingApplicationStartup applicationStartup;
+    private final List<StartupMilestone> milestones = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean firstRequestCompleted = new AtomicBoolean();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param applicationStartup Instance holding the buffered Spring startup steps, NULL if not buffered.
+     */
+    public StartupTimelineRecorder(BufferingApplicationStartup applicationStartup) {
+        this(ManagementFactory.getRuntimeMXBean().getStartTime(), System::currentTimeMillis, applicationStartup);
+    }
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param jvmStartedAt       Indicates the epoch milliseconds when the JVM started.
+     * @param clock              Supplies the current epoch milliseconds.
+     * @param applicationStartup Instance holding the buffered Spring startup steps, NULL if not buffered.
+     */
+    StartupTimelineRecorder(long jvmStartedAt, LongSupplier clock, BufferingApplicationStartup applicationStartup) {
+        this.jvmStartedAt = jvmStartedAt;
+        this.clock = clock;
+        this.applicationStartup = applicationStartup;
+    }
+
+    /**
+     * Records that a milestone has been reached right now.
+     *
+     * @param name Identifies the milestone.
+     * @return The recorded milestone.
+     */
+    public StartupMilestone mark(String name) {
+        var milestone = new StartupMilestone(name, elapsed(), null);
+
+        milestones.add(milestone);
+        return milestone;
+    }
+
+    /**
+     * Starts measuring a startup activity. The milestone is recorded with its duration when the returned
+     * span is closed.
+     *
+     * @param name Identifies the milestone.
+     * @return The span to close when the activity finishes.
+     */
+    public Span begin(String name) {
+        return new Span(name, clock.getAsLong());
+    }
+
+    /**
+     * Records the first request completion. Only the first call has effect.
+     *
+     * @return The milestone if this was the first request, NULL otherwise.
+     */
+    public StartupMilestone markFirstRequest() {
+        if (firstRequestCompleted.get() || !firstRequestCompleted.compareAndSet(false, true)) {
+            return null;
+        }
+
+        return mark(MILESTONE_FIRST_REQUEST);
+    }
+
+    /**
+     * Checks if the first request has already been served.
+     *
+     * @return True if the first request milestone is already recorded.
+     */
+    public boolean isFirstRequestCompleted() {
+        return firstRequestCompleted.get();
+    }
+
+    /**
+     * Gives the milestones reached so far.
+     *
+     * @return Milestones in the order they were recorded.
+     */
+    public List<StartupMilestone> milestones() {
+        return List.copyOf(milestones);
+    }
+
+    /**
+     * Gives the milliseconds elapsed since the JVM started.
+     *
+     * @return Elapsed milliseconds.
+     */
+    public long elapsed() {
+        return clock.getAsLong() - jvmStartedAt;
+    }
+
+    /**
+     * Builds the whole startup timeline, joining the recorded milestones with the buffered Spring startup steps.
+     *
+     * @param slowestBeans Indicates how many of the slowest bean instantiations are reported.
+     * @return The startup timeline.
+     */
+    public StartupTimelineReport report(int slowestBeans) {
+        if (applicationStartup == null) {
+            return new StartupTimelineReport(jvmStartedAt, milestones(), List.of(), List.of());
+        }
+
+        var events = applicationStartup.getBufferedTimeline().getEvents();
+        var phases = events
+            .stream()
+            .filter(event -> event.getStartupStep().getParentId() == null)
+            .map(event -> toStepDuration(event.getStartupStep().getName(), event))
+            .toList();
+        var beans = events
+            .stream()
+            .filter(event -> STEP_BEANS_INSTANTIATE.equals(event.getStartupStep().getName()))
+            .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+            .limit(slowestBeans)
+            .map(event -> toStepDuration(beanName(event.getStartupStep()), event))
+            .toList();
+
+        return new StartupTimelineReport(jvmStartedAt, milestones(), phases, beans);
+    }
+
+    private StartupStepDuration toStepDuration(String name, StartupTimeline.TimelineEvent event) {
+        return new StartupStepDuration(name, sinceJvmStart(event.getStartTime()), event.getDuration().toMillis());
+    }
+
+    private long sinceJvmStart(Instant instant) {
+        return instant.toEpochMilli() - jvmStartedAt;
+    }
+
+    private static String beanName(StartupStep step) {
+        for (var tag : step.getTags()) {
+            if (STEP_TAG_BEAN_NAME.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+
+        return step.getName();
+    }
+
+    /**
+     * A startup activity being measured.
+     */
+    public final class Span implements AutoCloseable {
+        private final String name;
+        private final long startedAt;
+
+        private Span(String name, long startedAt) {
+            this.name = name;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * Records the milestone with the time taken since the span began.
+         */
+        @Override
+        public void close() {
+            var now = clock.getAsLong();
+
+            milestones.add(new StartupMilestone(name, now - jvmStartedAt, now - startedAt));
+        }
+    }
+}
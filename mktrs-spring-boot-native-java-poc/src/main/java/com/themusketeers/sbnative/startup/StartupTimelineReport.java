@@ -0,0 +1,30 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPTIMELINEREPORT.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.List;
+
+/**
+ * Keeps the whole startup timeline for the Startup Timeline endpoint.
+ *
+ * @param jvmStartedAt Indicates the epoch milliseconds when the JVM started.
+ * @param milestones   Indicates the milestones reached so far, in order.
+ * @param phases       Indicates the top level Spring context phases. Empty when steps were not buffered.
+ * @param slowestBeans Indicates the slowest bean instantiations. Empty when steps were not buffered.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"jvmStartedAt", "milestones", "phases", "slowestBeans"})
+public record StartupTimelineReport(long jvmStartedAt,
+                                    List<StartupMilestone> milestones,
+                                    List<StartupStepDuration> phases,
+                                    List<StartupStepDuration> slowestBeans) {
+}
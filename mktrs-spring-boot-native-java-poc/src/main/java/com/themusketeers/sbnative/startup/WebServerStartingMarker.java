@@ -0,0 +1,58 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   WEBSERVERSTARTINGMARKER.JAVA                                */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_WEB_SERVER_STARTING;
+
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Marks the moment right before the embedded web server (Undertow) is started. Its phase runs just before
+ * the one used by Spring Boot to start the web server, so the gap up to the {@code web-server.started}
+ * milestone is the Undertow start time.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class WebServerStartingMarker implements SmartLifecycle {
+    private static final int WEB_SERVER_START_STOP_PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024;
+
+    private final StartupTimelineRecorder recorder;
+    private volatile boolean running;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param recorder Instance recording the startup timeline.
+     */
+    public WebServerStartingMarker(StartupTimelineRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void start() {
+        recorder.mark(MILESTONE_WEB_SERVER_STARTING);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return WEB_SERVER_START_STOP_PHASE - 1;
+    }
+}
@@ -0,0 +1,113 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   OBSERVEDUSERSERVICE.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get observed.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.tracing;
+
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_COUNT;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_DELETE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_EXISTS;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_INSERT;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_RETRIEVE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_RETRIEVE_ALL;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_RETRIEVE_MANY;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_UPDATE;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.CONTEXTUAL_NAME_SERVICE_PREFIX;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_OPERATION;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_USER_ID;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.OBSERVATION_USER_SERVICE;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.intr.UserService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorates a {@link UserService} so each operation is an {@link Observation}: a child span of the request when
+ * tracing samples it, and a {@code user.service} timer tagged by operation. While observations are turned off (no
+ * handler, or {@code management.observations.enable.user.service=false}) an operation costs a single check on top
+ * of the decorated one.
+ * <p>The user id is a high cardinality key value, thus it goes to the span but not to the timer.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ObservedUserService implements UserService {
+    private final UserService delegate;
+    private final ObservationRegistry registry;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param delegate Instance of the decorated service.
+     * @param registry Indicates the registry the observations are reported to.
+     */
+    public ObservedUserService(UserService delegate, ObservationRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public Boolean exists(String userId) {
+        return observe(OPERATION_EXISTS, userId, () -> delegate.exists(userId));
+    }
+
+    @Override
+    public User insert(User user) {
+        return observe(OPERATION_INSERT, user.id(), () -> delegate.insert(user));
+    }
+
+    @Override
+    public User retrieve(String userId) {
+        return observe(OPERATION_RETRIEVE, userId, () -> delegate.retrieve(userId));
+    }
+
+    @Override
+    public List<User> retrieveMany(Collection<String> userIds) {
+        return observe(OPERATION_RETRIEVE_MANY, null, () -> delegate.retrieveMany(userIds));
+    }
+
+    @Override
+    public Boolean delete(String userId) {
+        return observe(OPERATION_DELETE, userId, () -> delegate.delete(userId));
+    }
+
+    @Override
+    public Boolean update(User user) {
+        return observe(OPERATION_UPDATE, user.id(), () -> delegate.update(user));
+    }
+
+    @Override
+    public List<User> retrieveAll() {
+        return observe(OPERATION_RETRIEVE_ALL, null, delegate::retrieveAll);
+    }
+
+    @Override
+    public Long count() {
+        return observe(OPERATION_COUNT, null, delegate::count);
+    }
+
+    private <T> T observe(String operation, String userId, Supplier<T> call) {
+        var observation = Observation.createNotStarted(OBSERVATION_USER_SERVICE, registry);
+
+        if (observation.isNoop()) {
+            return call.get();
+        }
+
+        observation.contextualName(CONTEXTUAL_NAME_SERVICE_PREFIX + operation)
+            .lowCardinalityKeyValue(KEY_OPERATION, operation);
+
+        if (userId != null) {
+            observation.highCardinalityKeyValue(KEY_USER_ID, userId);
+        }
+
+        return observation.observe(call);
+    }
+}
@@ -0,0 +1,91 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   OBSERVEDVALIDATOR.JAVA                                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.tracing;
+
+import static com.themusketeers.sbnative.common.consts.TracingConstants.CONTEXTUAL_NAME_VALIDATION_PREFIX;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_TYPE;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_VALID;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.OBSERVATION_USER_VALIDATION;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.Locale;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validator of the request bodies ({@code @Valid}) making each validation an {@link Observation}, so the span of a
+ * request tells how long its Bean Validation took apart from the rest of the handler. The validation itself is left
+ * to the decorated validator.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class ObservedValidator implements SmartValidator {
+    private final SmartValidator delegate;
+    private final ObservationRegistry registry;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param delegate Instance of the decorated validator.
+     * @param registry Indicates the registry the observations are reported to.
+     */
+    public ObservedValidator(SmartValidator delegate, ObservationRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, new Object[0]);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        var observation = Observation.createNotStarted(OBSERVATION_USER_VALIDATION, registry);
+
+        if (observation.isNoop()) {
+            delegate.validate(target, errors, validationHints);
+            return;
+        }
+
+        var type = target.getClass().getSimpleName();
+
+        // Lower case, as the tracing handler hyphenates the upper case letters of the span names.
+        observation.contextualName(CONTEXTUAL_NAME_VALIDATION_PREFIX + type.toLowerCase(Locale.ROOT))
+            .lowCardinalityKeyValue(KEY_TYPE, type)
+            .start();
+
+        try (var scope = observation.openScope()) {
+            delegate.validate(target, errors, validationHints);
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.lowCardinalityKeyValue(KEY_VALID, String.valueOf(!errors.hasErrors()));
+            observation.stop();
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return delegate.unwrap(type);
+    }
+}
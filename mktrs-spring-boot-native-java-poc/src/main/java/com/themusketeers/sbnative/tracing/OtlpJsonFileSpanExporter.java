@@ -0,0 +1,99 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   OTLPJSONFILESPANEXPORTER.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.tracing;
+
+import static com.themusketeers.sbnative.common.consts.TracingConstants.SPAN_FILE_PATTERN;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Exports the spans to local files, one OTLP JSON {@code ResourceSpans} document per line, the very format an
+ * OpenTelemetry Collector reads with its {@code otlpjsonfile} receiver.
+ * <p>The encoding is left to {@link OtlpJsonLoggingSpanExporter}, which writes each document to its own
+ * {@code java.util.logging} logger; that logger is taken away from the console and given a rotating file handler, so
+ * the files are bounded in size and number. Being a {@link SpanExporter} bean, the spans reach it in batches through
+ * the {@code BatchSpanProcessor} set up by Spring Boot, off the threads serving the requests.</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+public class OtlpJsonFileSpanExporter implements SpanExporter {
+    private final Logger logger = Logger.getLogger(OtlpJsonLoggingSpanExporter.class.getName());
+    private final SpanExporter delegate = OtlpJsonLoggingSpanExporter.create();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+    private final FileHandler fileHandler;
+    private final boolean useParentHandlers;
+    private final Level level;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param directory Indicates where the files are written, created if missing.
+     * @param maxSize   Indicates the bytes written at most to a file before rotating to the next.
+     * @param maxFiles  Indicates the files kept, the oldest being overwritten.
+     * @throws IOException If the directory or the first file can not be created.
+     */
+    public OtlpJsonFileSpanExporter(Path directory, long maxSize, int maxFiles) throws IOException {
+        Files.createDirectories(directory);
+        fileHandler = new FileHandler(directory.resolve(SPAN_FILE_PATTERN).toString(),
+            (int) Math.min(maxSize, Integer.MAX_VALUE), maxFiles, true);
+        fileHandler.setFormatter(new LineFormatter());
+        useParentHandlers = logger.getUseParentHandlers();
+        level = logger.getLevel();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        logger.addHandler(fileHandler);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        return delegate.export(spans);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        fileHandler.flush();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (shutdown.compareAndSet(false, true)) {
+            delegate.shutdown();
+            logger.removeHandler(fileHandler);
+            logger.setLevel(level);
+            logger.setUseParentHandlers(useParentHandlers);
+            fileHandler.close();
+        }
+
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Writes the message alone, a JSON document, one per line.
+     */
+    private static final class LineFormatter extends Formatter {
+        @Override
+        public String format(LogRecord logRecord) {
+            return logRecord.getMessage() + System.lineSeparator();
+        }
+    }
+}
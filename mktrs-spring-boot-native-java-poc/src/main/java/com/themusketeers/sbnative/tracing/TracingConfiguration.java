@@ -0,0 +1,73 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   TRACINGCONFIGURATION.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.tracing;
+
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Wires the spans of the User API besides the ones Spring Boot already gives (the {@code http.server.requests} span
+ * of each request, covering the controller):
+ * <ul>
+ * <li>The validation of the request bodies, through {@link ObservedValidator}.</li>
+ * <li>The User Service operations, through {@link ObservedUserService}, wrapped by the User Service decorators.</li>
+ * <li>The JSON reads and writes, observed by the generated JSON converter itself.</li>
+ * </ul>
+ * The spans sampled are exported to local files when {@code app.tracing.file.enabled} is {@code true}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TracingConfiguration implements WebMvcConfigurer {
+    private final ObjectProvider<jakarta.validation.Validator> validator;
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param validator           Indicates the Bean Validation validator, if any.
+     * @param observationRegistry Indicates the registry the validations are observed by, if any.
+     */
+    public TracingConfiguration(ObjectProvider<jakarta.validation.Validator> validator,
+                                ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.validator = validator;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Validator getValidator() {
+        var beanValidator = validator.getIfUnique();
+
+        if (beanValidator == null) {
+            return null;
+        }
+
+        var smartValidator = beanValidator instanceof SmartValidator smart
+            ? smart
+            : new SpringValidatorAdapter(beanValidator);
+
+        return new ObservedValidator(smartValidator, observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing.file", name = "enabled", havingValue = "true")
+    public OtlpJsonFileSpanExporter otlpJsonFileSpanExporter(TracingProperties properties) throws IOException {
+        var file = properties.file();
+
+        return new OtlpJsonFileSpanExporter(file.directory(), file.maxSize().toBytes(), file.maxFiles());
+    }
+}
@@ -0,0 +1,39 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   TRACINGPROPERTIES.JAVA                                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.tracing;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the export of the spans; which requests are traced is {@code management.tracing.sampling.probability}.
+ * <p><b>Prefix:</b>{@code app.tracing}</p>
+ *
+ * @param file Indicates the settings of the export to local files.
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@ConfigurationProperties("app.tracing")
+public record TracingProperties(@DefaultValue SpanFile file) {
+
+    /**
+     * Settings of the export to local files, as OTLP JSON lines.
+     *
+     * @param enabled   Indicates if the sampled spans are written to files.
+     * @param directory Indicates where the files are written.
+     * @param maxSize   Indicates the size of a file before rotating to the next one.
+     * @param maxFiles  Indicates the files kept, the oldest being overwritten.
+     */
+    public record SpanFile(@DefaultValue("false") boolean enabled,
+                           @DefaultValue("traces") Path directory,
+                           @DefaultValue("16MB") DataSize maxSize,
+                           @DefaultValue("4") int maxFiles) {
+    }
+}
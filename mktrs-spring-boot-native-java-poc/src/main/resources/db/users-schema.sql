@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS users (
+    id      VARCHAR(64)  NOT NULL PRIMARY KEY,
+    name    VARCHAR(255) NOT NULL,
+    address VARCHAR(255) NOT NULL
+);
@@ -0,0 +1,228 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RESOURCEACCOUNTINGFILTERTEST.JAVA                           */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Flushed and asynchronous streams with debug headers.
+ Oct.19/2026  COQ  Response committed by the container left to the metrics.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.accounting;
+
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.HEADER_ALLOCATED_BYTES;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.HEADER_SERVER_TIMING;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.METRIC_REQUEST_ALLOCATED;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.METRIC_REQUEST_CPU;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.METRIC_REQUEST_UNMEASURED;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.TAG_EXCEPTION;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.TAG_STATUS;
+import static com.themusketeers.sbnative.common.consts.ResourceAccountingConstants.TAG_URI;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Unit test for checking {@link ResourceAccountingFilter}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class ResourceAccountingFilterTest {
+    public static final String USER_PATH = "/api/v1/users/c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final String USER_PATTERN = "/api/v1/users/{userId}";
+    public static final String USER_BODY = "{\"id\":\"c56b2741-028e-4ff5-9e15-be4f96b4ea35\",\"name\":\"Name One\"}";
+    public static final long CPU_NANOS = 2_500_000L;
+    public static final long ALLOCATED_BYTES = 48_000L;
+    public static final int ALLOCATION_SIZE = 1_000_000;
+    public static final String NDJSON_LINE = "{\"id\":\"1\",\"name\":\"Name One\"}\n";
+
+    private SimpleMeterRegistry registry;
+    private AtomicLong cpuTime;
+    private AtomicLong allocatedBytes;
+
+    @BeforeEach
+    void beforeEach() {
+        registry = new SimpleMeterRegistry();
+        cpuTime = new AtomicLong();
+        allocatedBytes = new AtomicLong();
+    }
+
+    @Test
+    @DisplayName("Verify the CPU time and the allocation are recorded per endpoint pattern, without headers by default.")
+    void shouldRecordPerEndpoint() throws Exception {
+        var response = get(filter(false), null);
+        var timer = registry.get(METRIC_REQUEST_CPU).tag(TAG_URI, USER_PATTERN).tag(TAG_STATUS, "200").timer();
+        var summary = registry.get(METRIC_REQUEST_ALLOCATED).tag(TAG_URI, USER_PATTERN).summary();
+
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(CPU_NANOS);
+        assertThat(summary.totalAmount()).isEqualTo(ALLOCATED_BYTES);
+        assertThat(response.getHeader(HEADER_SERVER_TIMING)).isNull();
+        assertThat(response.getHeader(HEADER_ALLOCATED_BYTES)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(USER_BODY);
+    }
+
+    @Test
+    @DisplayName("Verify the measures are sent back as headers when asked, ahead of the body.")
+    void shouldSendDebugHeaders() throws Exception {
+        var response = get(filter(true), null);
+
+        assertThat(response.getHeader(HEADER_SERVER_TIMING)).isEqualTo("cpu;dur=2.500");
+        assertThat(response.getHeader(HEADER_ALLOCATED_BYTES)).isEqualTo(Long.toString(ALLOCATED_BYTES));
+        assertThat(response.getContentAsString()).isEqualTo(USER_BODY);
+    }
+
+    @Test
+    @DisplayName("Verify a response committed by the chain carries the measures up to then, its body not buffered.")
+    void shouldSendDebugHeadersOnCommit() throws Exception {
+        var request = new MockHttpServletRequest("GET", USER_PATH);
+        var response = new MockHttpServletResponse();
+        var committedBody = new StringBuilder();
+        var servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                cpuTime.addAndGet(CPU_NANOS);
+                resp.getOutputStream().write(NDJSON_LINE.getBytes(StandardCharsets.UTF_8));
+                resp.flushBuffer();
+                committedBody.append(response.getContentAsString());
+                cpuTime.addAndGet(CPU_NANOS);
+                allocatedBytes.addAndGet(ALLOCATED_BYTES);
+            }
+        };
+
+        filter(true).doFilter(request, response, new MockFilterChain(servlet));
+
+        assertThat(committedBody).hasToString(NDJSON_LINE);
+        assertThat(response.getHeader(HEADER_SERVER_TIMING)).isEqualTo("cpu;dur=2.500");
+        assertThat(response.getHeader(HEADER_ALLOCATED_BYTES)).isEqualTo("0");
+        assertThat(registry.get(METRIC_REQUEST_ALLOCATED).summary().totalAmount()).isEqualTo(ALLOCATED_BYTES);
+    }
+
+    @Test
+    @DisplayName("Verify a response the container committed on its own gets no headers, its measures in the metrics.")
+    void shouldLeaveMeasuresToMetricsOnceCommitted() throws Exception {
+        var request = new MockHttpServletRequest("GET", USER_PATH);
+        var response = new MockHttpServletResponse();
+        var servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.getOutputStream().write(USER_BODY.getBytes(StandardCharsets.UTF_8));
+                // As the container does once the body outgrows the response buffer.
+                response.setCommitted(true);
+                allocatedBytes.addAndGet(ALLOCATED_BYTES);
+            }
+        };
+
+        filter(true).doFilter(request, response, new MockFilterChain(servlet));
+
+        assertThat(response.getHeader(HEADER_ALLOCATED_BYTES)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(USER_BODY);
+        assertThat(registry.get(METRIC_REQUEST_ALLOCATED).summary().totalAmount()).isEqualTo(ALLOCATED_BYTES);
+    }
+
+    @Test
+    @DisplayName("Verify an asynchronous stream gets no measures and passes through unbuffered.")
+    void shouldPassAsyncStreamThrough() throws Exception {
+        var request = new MockHttpServletRequest("GET", USER_PATH);
+        var response = new MockHttpServletResponse();
+        var servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.startAsync();
+                resp.setContentType("application/x-ndjson");
+                resp.getOutputStream().write(NDJSON_LINE.getBytes(StandardCharsets.UTF_8));
+                resp.getOutputStream().flush();
+            }
+        };
+
+        request.setAsyncSupported(true);
+        filter(true).doFilter(request, response, new MockFilterChain(servlet));
+
+        assertThat(response.getContentAsString()).isEqualTo(NDJSON_LINE);
+        assertThat(response.getHeader(HEADER_SERVER_TIMING)).isNull();
+        assertThat(registry.find(METRIC_REQUEST_CPU).timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify the exception a controller advice handled is a tag.")
+    void shouldTagHandledException() throws Exception {
+        get(filter(false), new IllegalArgumentException());
+
+        var timer = registry.get(METRIC_REQUEST_CPU).tag(TAG_EXCEPTION, "IllegalArgumentException").timer();
+
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Verify a thread without counters is only counted as unmeasured.")
+    void shouldCountUnmeasured() throws Exception {
+        var response = get(new ResourceAccountingFilter(registry, true, () -> -1, () -> -1), null);
+
+        assertThat(registry.get(METRIC_REQUEST_UNMEASURED).counter().count()).isEqualTo(1);
+        assertThat(registry.find(METRIC_REQUEST_CPU).timers()).isEmpty();
+        assertThat(response.getHeader(HEADER_ALLOCATED_BYTES)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(USER_BODY);
+    }
+
+    @Test
+    @DisplayName("Verify the JVM counters of a platform thread see the allocation of the request.")
+    void shouldMeasurePlatformThread() throws Exception {
+        var filter = new ResourceAccountingFilter(registry, true);
+        var request = new MockHttpServletRequest("GET", USER_PATH);
+        var response = new MockHttpServletResponse();
+        var servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                var buffer = new byte[ALLOCATION_SIZE];
+
+                resp.getOutputStream().write(buffer, 0, 1);
+            }
+        };
+
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+
+        assertThat(Long.parseLong(response.getHeader(HEADER_ALLOCATED_BYTES))).isGreaterThanOrEqualTo(ALLOCATION_SIZE);
+        assertThat(registry.get(METRIC_REQUEST_ALLOCATED).summary().count()).isEqualTo(1);
+    }
+
+    private ResourceAccountingFilter filter(boolean debugHeaders) {
+        return new ResourceAccountingFilter(registry, debugHeaders, cpuTime::get, allocatedBytes::get);
+    }
+
+    private MockHttpServletResponse get(ResourceAccountingFilter filter, Exception handled) throws Exception {
+        var request = new MockHttpServletRequest("GET", USER_PATH);
+        var response = new MockHttpServletResponse();
+        var servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, USER_PATTERN);
+
+                if (handled != null) {
+                    req.setAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE, handled);
+                }
+
+                cpuTime.addAndGet(CPU_NANOS);
+                allocatedBytes.addAndGet(ALLOCATED_BYTES);
+                resp.getOutputStream().write(USER_BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+}
@@ -0,0 +1,106 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CONTENTFORMATBENCHMARK.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UsersDataResponse;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Payload size and encode/decode throughput of the {@code GET api/v1/users} response in each format the User API
+ * exchanges. The payload size of each combination is printed when the trial starts.
+ * <p>{@code mvn -Pbenchmark test -DskipTests -Dbenchmark=ContentFormatBenchmark}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentFormatBenchmark {
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    @Param({"1", "100", "1000"})
+    private int users;
+
+    private UsersDataResponse response;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        response = buildResponse(users);
+
+        switch (format) {
+            case "json" -> useMapper(new ObjectMapper());
+            case "cbor" -> useMapper(new CBORMapper());
+            case "smile" -> useMapper(new SmileMapper());
+            case "protobuf" -> {
+                var mapper = new ProtobufMapper();
+                var schema = mapper.generateSchemaFor(UsersDataResponse.class);
+
+                writer = mapper.writerFor(UsersDataResponse.class).with(schema);
+                reader = mapper.readerFor(UsersDataResponse.class).with(schema);
+            }
+            default -> throw new IllegalArgumentException(format);
+        }
+
+        payload = writer.writeValueAsBytes(response);
+        System.out.printf("%n==> Payload %s with %d users: %d bytes%n", format, users, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public UsersDataResponse decode() throws IOException {
+        return reader.readValue(payload);
+    }
+
+    private void useMapper(ObjectMapper mapper) {
+        writer = mapper.writerFor(UsersDataResponse.class);
+        reader = mapper.readerFor(UsersDataResponse.class);
+    }
+
+    static UsersDataResponse buildResponse(int users) {
+        var userList = IntStream.range(0, users)
+            .mapToObj(i -> new User(new UUID(i, i).toString(), "User Name " + i, i + " Main Street, Springfield"))
+            .toList();
+
+        return new UsersDataResponse((long) users, userList);
+    }
+}
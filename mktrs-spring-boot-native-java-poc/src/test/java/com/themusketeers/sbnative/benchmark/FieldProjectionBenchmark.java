@@ -0,0 +1,72 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FIELDPROJECTIONBENCHMARK.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import com.themusketeers.sbnative.converter.GeneratedJsonHttpMessageConverter;
+import com.themusketeers.sbnative.converter.ProjectedBody;
+import com.themusketeers.sbnative.domain.response.UsersDataResponse;
+import io.avaje.jsonb.Jsonb;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+/**
+ * Writes the {@code GET api/v1/users} response through the {@link GeneratedJsonHttpMessageConverter} with every
+ * property against the {@code fields=} projections. Allocation per operation is given by the GC profiler.
+ * <p>{@code mvn -Pbenchmark test -DskipTests -Dbenchmark=FieldProjectionBenchmark -Dbenchmark.args="-f 1 -prof gc"}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldProjectionBenchmark {
+
+    @Param({"all", "id,name", "id"})
+    private String fields;
+
+    @Param({"100", "1000"})
+    private int users;
+
+    private GeneratedJsonHttpMessageConverter converter;
+    private Object body;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var response = ContentFormatBenchmark.buildResponse(users);
+
+        converter = new GeneratedJsonHttpMessageConverter(Jsonb.builder().build(), Set.of(UsersDataResponse.class));
+        body = "all".equals(fields) ? response : new ProjectedBody(response, "(count,users(" + fields + "))");
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage write() throws IOException {
+        var output = new MockHttpOutputMessage();
+
+        converter.write(body, MediaType.APPLICATION_JSON, output);
+        return output;
+    }
+}
@@ -0,0 +1,106 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FUZZYNAMESEARCHBENCHMARK.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserSearchHit;
+import com.themusketeers.sbnative.search.UserNameFuzzyIndex;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of a fuzzy name search (top 10) by store size and similarity threshold, through the trigram index against
+ * checking the edit distance of every name ({@code scan}, what {@code retrieveAll()} plus a filter costs at best). The
+ * names are two words of 2 to 3 syllables picked at random out of 24; the query is one of them with a typo.
+ * <p>{@code mvn -Pbenchmark test -DskipTests -Dbenchmark=FuzzyNameSearchBenchmark [-Dbenchmark.args="-f 1"]}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class FuzzyNameSearchBenchmark {
+    private static final int LIMIT = 10;
+    private static final String[] SYLLABLES = {
+        "an", "be", "ca", "do", "el", "fi", "go", "ha", "ir", "jo", "ka", "lu",
+        "ma", "ne", "or", "pa", "qui", "ro", "sa", "te", "ul", "vi", "wen", "yo"};
+
+    @Param({"10000", "100000", "1000000"})
+    private int users;
+
+    @Param({"0.7", "0.8"})
+    private double threshold;
+
+    private UserNameFuzzyIndex index;
+    private List<User> stored;
+    private String query;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new Random(users);
+
+        stored = IntStream.range(0, users)
+            .mapToObj(i -> new User(new UUID(0, i).toString(), name(random), "Address " + i))
+            .toList();
+        index = new UserNameFuzzyIndex();
+        index.load(stored);
+
+        var name = stored.get(users / 2).name();
+
+        // A swap of two letters in the middle of the name.
+        query = name.substring(0, 2) + name.charAt(3) + name.charAt(2) + name.substring(4);
+    }
+
+    @Benchmark
+    public List<UserSearchHit> index() {
+        return index.search(query, threshold, LIMIT);
+    }
+
+    @Benchmark
+    public long scan() {
+        return stored.stream()
+            .map(User::name)
+            .filter(name -> {
+                var allowed = (int) ((1 - threshold) * Math.max(query.length(), name.length()) + 1e-9);
+
+                return UserNameFuzzyIndex.editDistance(query, name, allowed) >= 0;
+            })
+            .count();
+    }
+
+    private static String name(Random random) {
+        var name = new StringBuilder();
+
+        for (var word = 0; word < 2; word++) {
+            name.append(word == 0 ? "" : " ");
+            IntStream.range(0, 2 + random.nextInt(2))
+                .forEach(i -> name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]));
+        }
+
+        return name.toString();
+    }
+}
@@ -0,0 +1,114 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   JDBCUSERSERVICEBENCHMARK.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Measured through the mutation publishing, as the application does.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.FIRST_PAGE_KEY;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SCHEMA_LOCATION;
+
+import com.themusketeers.sbnative.changefeed.UserChangeFeed;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.search.UserNameFuzzyIndex;
+import com.themusketeers.sbnative.search.UserSearchIndex;
+import com.themusketeers.sbnative.service.decorator.MutationPublishingUserService;
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.jdbc.JdbcUserService;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Throughput of the JDBC User Service over an embedded H2 database behind a Hikari pool: concurrent single inserts
+ * with the micro-batching ({@code maxBatchSize} 256) against one round trip each ({@code maxBatchSize} 1), a bulk
+ * insert of 100 users, and a keyset page of 100 users. The single inserts go through the mutation publishing with
+ * the listeners of the default configuration (the search indexes and the change feed), as in the application.
+ * <p>{@code mvn -Pbenchmark test -DskipTests -Dbenchmark=JdbcUserServiceBenchmark [-Dbenchmark.args="-f 1 -t 32"]}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class JdbcUserServiceBenchmark {
+    private static final int BULK_SIZE = 100;
+    private static final int PAGED_USERS = 10_000;
+
+    @Param({"1", "256"})
+    private int maxBatchSize;
+
+    private HikariDataSource dataSource;
+    private JdbcUserService userService;
+    private UserService publishedUserService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var config = new HikariConfig();
+
+        config.setJdbcUrl("jdbc:h2:mem:benchmark-" + maxBatchSize + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(10);
+        dataSource = new HikariDataSource(config);
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_LOCATION)).execute(dataSource);
+        userService = new JdbcUserService(dataSource, maxBatchSize, 1000);
+        userService.insertAll(IntStream.range(0, PAGED_USERS)
+            .mapToObj(i -> new User(new UUID(0, i).toString(), "User Name " + i, i + " Main Street, Springfield"))
+            .toList());
+
+        var listeners = List.of(new UserSearchIndex(1.2, 0.75), new UserNameFuzzyIndex(), new UserChangeFeed(4096));
+
+        publishedUserService = new MutationPublishingUserService(userService, new UserMutationPublisher(() -> listeners));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        userService.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public User insert() {
+        return publishedUserService.insert(new User(null, "User Name", "Main Street, Springfield"));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<User> insertAll() {
+        return userService.insertAll(IntStream.range(0, BULK_SIZE)
+            .mapToObj(i -> new User(null, "User Name " + i, i + " Main Street, Springfield"))
+            .toList());
+    }
+
+    @Benchmark
+    public List<User> retrievePage() {
+        return userService.retrievePage(FIRST_PAGE_KEY, BULK_SIZE);
+    }
+}
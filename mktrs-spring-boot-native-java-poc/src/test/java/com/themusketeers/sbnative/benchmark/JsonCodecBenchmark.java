@@ -0,0 +1,79 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   JSONCODECBENCHMARK.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.themusketeers.sbnative.domain.response.UsersDataResponse;
+import io.avaje.jsonb.JsonType;
+import io.avaje.jsonb.Jsonb;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON encode/decode throughput of the {@code GET api/v1/users} response with the build-time generated adapters
+ * against the stock Jackson {@code ObjectMapper}. Allocation per operation is given by the GC profiler.
+ * <p>{@code mvn -Pbenchmark test -DskipTests -Dbenchmark=JsonCodecBenchmark -Dbenchmark.args="-f 1 -prof gc"}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    @Param({"jackson", "generated"})
+    private String codec;
+
+    @Param({"1", "100", "1000"})
+    private int users;
+
+    private UsersDataResponse response;
+    private byte[] payload;
+    private ObjectWriter jacksonWriter;
+    private ObjectReader jacksonReader;
+    private JsonType<UsersDataResponse> generatedType;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        var objectMapper = new ObjectMapper();
+
+        response = ContentFormatBenchmark.buildResponse(users);
+        jacksonWriter = objectMapper.writerFor(UsersDataResponse.class);
+        jacksonReader = objectMapper.readerFor(UsersDataResponse.class);
+        generatedType = Jsonb.builder().build().type(UsersDataResponse.class);
+        payload = jacksonWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return "jackson".equals(codec) ? jacksonWriter.writeValueAsBytes(response) : generatedType.toJsonBytes(response);
+    }
+
+    @Benchmark
+    public UsersDataResponse decode() throws IOException {
+        return "jackson".equals(codec) ? jacksonReader.readValue(payload) : generatedType.fromJson(payload);
+    }
+}
@@ -0,0 +1,67 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RATELIMITBENCHMARK.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import com.themusketeers.sbnative.ratelimit.RateLimitBudget;
+import com.themusketeers.sbnative.ratelimit.RateLimitDecision;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead per request of the per client rate limit: one budget lookup plus the compare-and-set on the client's
+ * bucket. The clients are cycled so the lookups spread over the whole map; with {@code maxClients} under the
+ * number of clients the eviction path is measured too.
+ * <p>{@code mvn -Pbenchmark test -DskipTests -Dbenchmark=RateLimitBenchmark [-Dbenchmark.args="-f 1 -t 4"]}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    private int clients;
+
+    @Param({"10000"})
+    private int maxClients;
+
+    private RateLimitBudget budget;
+    private String[] clientKeys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Big enough for the budget never to run out, so the allowed path is measured.
+        budget = new RateLimitBudget(Long.MAX_VALUE / 1_000_000_000L, 1_000_000_000, maxClients);
+        clientKeys = IntStream.range(0, clients).mapToObj(i -> "10.0." + (i >> 8) + "." + (i & 0xff)).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public RateLimitDecision tryAcquire() {
+        var client = clientKeys[next++ % clientKeys.length];
+
+        return budget.tryAcquire(client, System.nanoTime());
+    }
+}
@@ -0,0 +1,141 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REACTIVESTOREBENCHMARK.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SCHEMA_LOCATION;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.jdbc.JdbcUserService;
+import com.themusketeers.sbnative.service.r2dbc.R2dbcUserService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.connection.init.DatabasePopulator;
+import org.springframework.r2dbc.connection.init.ScriptUtils;
+import reactor.core.publisher.Flux;
+
+/**
+ * Blocking JDBC path (one virtual thread per request) against the non-blocking R2DBC path (one subscription per
+ * request) under high concurrency: each invocation serves {@code concurrency} reads by id at once, both over an
+ * embedded H2 database behind a pool of 10 connections. The time per invocation is the time to serve all of them,
+ * hence the latency of the slowest request and, divided by {@code concurrency}, the cost per request.
+ * <p>{@code mvn -Pbenchmark test -DskipTests -Dbenchmark=ReactiveStoreBenchmark}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReactiveStoreBenchmark {
+    private static final int USERS = 10_000;
+    private static final int POOL_SIZE = 10;
+
+    @Param({"100", "1000"})
+    private int concurrency;
+
+    private HikariDataSource dataSource;
+    private JdbcUserService jdbcUserService;
+    private ConnectionPool connectionPool;
+    private R2dbcUserService r2dbcUserService;
+    private String[] ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var users = IntStream.range(0, USERS)
+            .mapToObj(i -> new User(new UUID(0, i).toString(), "User Name " + i, i + " Main Street, Springfield"))
+            .toList();
+        var config = new HikariConfig();
+
+        config.setJdbcUrl("jdbc:h2:mem:blocking;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        dataSource = new HikariDataSource(config);
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_LOCATION)).execute(dataSource);
+        jdbcUserService = new JdbcUserService(dataSource, 256, 1000);
+        jdbcUserService.insertAll(users);
+
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+            .builder(ConnectionFactories.get("r2dbc:h2:mem:///reactive?options=DB_CLOSE_DELAY=-1"))
+            .initialSize(POOL_SIZE)
+            .maxSize(POOL_SIZE)
+            .build());
+        DatabasePopulator schema = connection ->
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(SCHEMA_LOCATION));
+
+        schema.populate(connectionPool).block();
+        r2dbcUserService = new R2dbcUserService(connectionPool, 256, 1000);
+        r2dbcUserService.insertAll(users).blockLast();
+
+        ids = users.stream().map(User::id).toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcUserService.close();
+        dataSource.close();
+        connectionPool.dispose();
+    }
+
+    @Benchmark
+    public int blockingJdbc() throws Exception {
+        var found = 0;
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var results = new ArrayList<Future<User>>(concurrency);
+
+            for (var i = 0; i < concurrency; i++) {
+                results.add(executor.submit(() -> jdbcUserService.retrieve(randomId())));
+            }
+
+            for (var result : results) {
+                found += result.get() == null ? 0 : 1;
+            }
+        }
+
+        return found;
+    }
+
+    @Benchmark
+    public long reactiveR2dbc() {
+        return Flux.range(0, concurrency)
+            .flatMap(i -> r2dbcUserService.retrieve(randomId()), concurrency)
+            .count()
+            .block();
+    }
+
+    private String randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
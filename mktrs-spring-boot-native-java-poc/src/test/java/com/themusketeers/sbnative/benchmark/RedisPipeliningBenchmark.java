@@ -0,0 +1,104 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REDISPIPELININGBENCHMARK.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get renamed to retrieveMany.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.redis.RedisUserService;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the Redis User Service writing and reading 100 users, pipelined (the bulk operations) against one
+ * round trip each (the single operations in a loop). Runs against an embedded Redis compatible server unless the
+ * forked JVM is given {@code -Dbenchmark.redis.url=redis://host:port} naming a real one.
+ * <p>{@code mvn -Pbenchmark test -DskipTests -Dbenchmark=RedisPipeliningBenchmark
+ * [-Dbenchmark.args="-f 1 -jvmArgsAppend -Dbenchmark.redis.url=redis://localhost:6379"]}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisPipeliningBenchmark {
+    private static final String REDIS_URL_PROPERTY = "benchmark.redis.url";
+    private static final String KEY_PREFIX = "benchmark:users:";
+    private static final int BULK_SIZE = 100;
+
+    @Param({"false", "true"})
+    private boolean pipelined;
+
+    private RedisServer server;
+    private RedisClient client;
+    private RedisUserService userService;
+    private List<User> users;
+    private List<String> userIds;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        var url = System.getProperty(REDIS_URL_PROPERTY, "");
+
+        if (url.isBlank()) {
+            server = RedisServer.newRedisServer().start();
+            client = RedisClient.create(RedisURI.create(server.getHost(), server.getBindPort()));
+        } else {
+            client = RedisClient.create(url);
+        }
+
+        userService = new RedisUserService(client, KEY_PREFIX, 1000);
+        users = IntStream.range(0, BULK_SIZE)
+            .mapToObj(i -> new User(new UUID(0, i).toString(), "User Name " + i, i + " Main Street, Springfield"))
+            .toList();
+        userIds = users.stream().map(User::id).toList();
+        userService.insertAll(users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        userIds.forEach(userService::delete);
+        userService.close();
+        client.shutdown();
+
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public List<User> insertAll() {
+        return pipelined ? userService.insertAll(users) : users.stream().map(userService::insert).toList();
+    }
+
+    @Benchmark
+    public List<User> retrieveAll() {
+        return pipelined ? userService.retrieveMany(userIds) : userIds.stream().map(userService::retrieve).toList();
+    }
+}
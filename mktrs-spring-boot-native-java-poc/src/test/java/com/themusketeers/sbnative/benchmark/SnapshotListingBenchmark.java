@@ -0,0 +1,86 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   SNAPSHOTLISTINGBENCHMARK.JAVA                               */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.ShardedUserService;
+import com.themusketeers.sbnative.service.hamt.HamtUserService;
+import com.themusketeers.sbnative.service.intr.UserService;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Listing all the users while another thread keeps updating them: the sharded store copies each shard under its lock,
+ * so listings and updates wait for one another, whereas the HAMT store hands out its current version without copying
+ * nor locking and updates only copy a path.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class SnapshotListingBenchmark {
+    @Param({"sharded", "hamt"})
+    private String store;
+
+    @Param({"10000"})
+    private int users;
+
+    private UserService userService;
+    private User[] stored;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        userService = "hamt".equals(store) ? new HamtUserService() : new ShardedUserService(0);
+        stored = new User[users];
+
+        for (var i = 0; i < users; i++) {
+            stored[i] = userService.insert(new User(new UUID(i, i).toString(), "User Name " + i,
+                i + " Main Street, Springfield"));
+        }
+    }
+
+    @Benchmark
+    @Group("listingUnderWrites")
+    @GroupThreads(1)
+    public void list(Blackhole blackhole) {
+        for (var user : userService.retrieveAll()) {
+            blackhole.consume(user);
+        }
+    }
+
+    @Benchmark
+    @Group("listingUnderWrites")
+    @GroupThreads(1)
+    public Boolean update() {
+        var user = stored[ThreadLocalRandom.current().nextInt(stored.length)];
+
+        // A new instance, as storing the very same one is no change at all for the HAMT store.
+        return userService.update(new User(user.id(), user.name(), user.address()));
+    }
+}
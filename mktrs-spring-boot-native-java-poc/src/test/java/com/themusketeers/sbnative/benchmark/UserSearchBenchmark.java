@@ -0,0 +1,73 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSEARCHBENCHMARK.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserSearchHit;
+import com.themusketeers.sbnative.search.UserSearchIndex;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of a top 10 search over the User Search index: a rare term (a street name held by 1 in 1000 users), the
+ * same with a city held by 1 in 10 users, and a term every user holds. Names vary in length, so the scores of a term
+ * do too.
+ * <p>{@code mvn -Pbenchmark test -DskipTests -Dbenchmark=UserSearchBenchmark [-Dbenchmark.args="-f 1 -p users=100000"]}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class UserSearchBenchmark {
+    private static final int LIMIT = 10;
+    private static final String[] CITIES = {
+        "Springfield", "Shelbyville", "Ogdenville", "Bogota", "Medellin",
+        "Cali", "Barranquilla", "Cartagena", "Pereira", "Manizales"};
+
+    @Param({"1000000"})
+    private int users;
+
+    @Param({"elm123", "elm123 bogota", "street"})
+    private String query;
+
+    private UserSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        index = new UserSearchIndex(1.2, 0.75);
+        index.load(IntStream.range(0, users)
+            .mapToObj(i -> new User(new UUID(0, i).toString(),
+                "User " + "Del ".repeat(i % 4) + i,
+                (i % 500) + " Street Elm" + (i % 1000) + ", " + CITIES[i % CITIES.length]))
+            .toList());
+    }
+
+    @Benchmark
+    public List<UserSearchHit> search() {
+        return index.search(query, LIMIT);
+    }
+}
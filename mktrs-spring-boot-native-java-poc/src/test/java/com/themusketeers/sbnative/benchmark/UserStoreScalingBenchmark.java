@@ -0,0 +1,102 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSTORESCALINGBENCHMARK.JAVA                              */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Measured through the mutation publishing, as the application does.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.benchmark;
+
+import com.themusketeers.sbnative.changefeed.UserChangeFeed;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.search.UserNameFuzzyIndex;
+import com.themusketeers.sbnative.search.UserSearchIndex;
+import com.themusketeers.sbnative.service.ShardedUserService;
+import com.themusketeers.sbnative.service.decorator.MutationPublishingUserService;
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the sharded store as threads are added, for a mix of 90% reads and 10% updates by id over a fixed
+ * set of users. A single shard is the baseline, a store with one lock; with one shard per core the throughput should
+ * grow close to linearly with the threads, up to the cores available. With {@code published} the store is reached
+ * through the mutation publishing with the listeners of the default configuration (the search indexes and the change
+ * feed), as the application does.
+ * <p>Run once per thread count, e.g.
+ * {@code for t in 1 2 4 8; do mvn -Pbenchmark test -DskipTests -Dbenchmark=UserStoreScalingBenchmark
+ * -Dbenchmark.args="-f 1 -t $t"; done}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserStoreScalingBenchmark {
+    private static final int UPDATE_PERCENT = 10;
+
+    /**
+     * 0 means one shard per available processor.
+     */
+    @Param({"1", "0"})
+    private int shards;
+
+    @Param({"false", "true"})
+    private boolean published;
+
+    @Param({"100000"})
+    private int users;
+
+    private UserService userService;
+    private User[] stored;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        userService = new ShardedUserService(shards);
+
+        if (published) {
+            var listeners = List.of(new UserSearchIndex(1.2, 0.75), new UserNameFuzzyIndex(), new UserChangeFeed(4096));
+
+            userService = new MutationPublishingUserService(userService, new UserMutationPublisher(() -> listeners));
+        }
+
+        stored = new User[users];
+
+        for (var i = 0; i < users; i++) {
+            stored[i] = userService.insert(new User(new UUID(i, i).toString(), "User Name " + i,
+                i + " Main Street, Springfield"));
+        }
+    }
+
+    @Benchmark
+    public Object readMostly() {
+        var random = ThreadLocalRandom.current();
+        var user = stored[random.nextInt(stored.length)];
+
+        if (random.nextInt(100) < UPDATE_PERCENT) {
+            return userService.update(user);
+        }
+
+        return userService.retrieve(user.id());
+    }
+}
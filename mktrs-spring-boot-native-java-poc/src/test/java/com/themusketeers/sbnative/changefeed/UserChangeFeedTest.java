@@ -0,0 +1,120 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERCHANGEFEEDTEST.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.changefeed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link UserChangeFeed}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class UserChangeFeedTest {
+    public static final int CAPACITY = 8;
+    public static final int MAX_COUNT = 100;
+    public static final Duration NO_WAIT = Duration.ZERO;
+    public static final Duration SHORT_WAIT = Duration.ofMillis(20);
+    public static final Duration LONG_WAIT = Duration.ofSeconds(10);
+    public static final long FUTURE_TIMEOUT_SECONDS = 5L;
+
+    private UserChangeFeed feed;
+    private long sequence;
+
+    @BeforeEach
+    void beforeEach() {
+        feed = new UserChangeFeed(CAPACITY);
+        sequence = 0;
+    }
+
+    @Test
+    @DisplayName("Verify a subscriber resumes right after the last change it got, in order.")
+    void shouldResumeAfterSequence() throws InterruptedException {
+        publish(5);
+
+        var read = feed.read(2, MAX_COUNT, NO_WAIT);
+
+        assertThat(read).isInstanceOf(ChangeFeedRead.Changes.class);
+        assertThat(((ChangeFeedRead.Changes) read).mutations())
+            .extracting(UserMutation::sequence)
+            .containsExactly(3L, 4L, 5L);
+        assertThat(((ChangeFeedRead.Changes) feed.read(0, 2, NO_WAIT)).mutations())
+            .extracting(UserMutation::sequence)
+            .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Verify a subscriber whose missed changes were overwritten is sent to resync, writes never waiting.")
+    void shouldResyncWhenOverwritten() throws InterruptedException {
+        publish(CAPACITY * 3);
+
+        assertThat(feed.read(CAPACITY, MAX_COUNT, NO_WAIT)).isEqualTo(new ChangeFeedRead.Resync(CAPACITY * 3));
+        assertThat(feed.read(CAPACITY * 2, MAX_COUNT, NO_WAIT)).isInstanceOf(ChangeFeedRead.Changes.class);
+    }
+
+    @Test
+    @DisplayName("Verify a subscriber ahead of the feed (another run) is sent to resync.")
+    void shouldResyncWhenAhead() throws InterruptedException {
+        publish(3);
+
+        assertThat(feed.read(10, MAX_COUNT, NO_WAIT)).isEqualTo(new ChangeFeedRead.Resync(3));
+    }
+
+    @Test
+    @DisplayName("Verify a subscriber waits for the next change, or is told the feed is idle.")
+    void shouldWaitForChanges() throws Exception {
+        assertThat(feed.read(0, MAX_COUNT, SHORT_WAIT)).isEqualTo(new ChangeFeedRead.Idle());
+
+        var waiting = CompletableFuture.supplyAsync(() -> read(0, LONG_WAIT));
+
+        publish(1);
+
+        var read = waiting.get(FUTURE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(read).isInstanceOf(ChangeFeedRead.Changes.class);
+        assertThat(((ChangeFeedRead.Changes) read).mutations()).extracting(UserMutation::sequence).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Verify closing the feed releases the subscribers waiting.")
+    void shouldReleaseWaitingOnClose() throws Exception {
+        var waiting = CompletableFuture.supplyAsync(() -> read(0, LONG_WAIT));
+
+        Thread.sleep(SHORT_WAIT);
+        feed.close();
+
+        assertThat(waiting.get(FUTURE_TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(new ChangeFeedRead.Closed());
+        assertThat(feed.read(0, MAX_COUNT, NO_WAIT)).isEqualTo(new ChangeFeedRead.Closed());
+    }
+
+    private void publish(int count) {
+        for (var i = 0; i < count; i++) {
+            sequence++;
+            feed.onMutation(new UserMutation(sequence, UserMutation.Type.INSERT, String.valueOf(sequence),
+                new User(String.valueOf(sequence), "Name " + sequence, "Address"), System.currentTimeMillis()));
+        }
+    }
+
+    private ChangeFeedRead read(long after, Duration wait) {
+        try {
+            return feed.read(after, MAX_COUNT, wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
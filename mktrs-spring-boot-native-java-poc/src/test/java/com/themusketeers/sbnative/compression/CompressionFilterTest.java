@@ -0,0 +1,211 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COMPRESSIONFILTERTEST.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Streaming responses pass through.
+ Oct.19/2026  COQ  Cache bounded by the size of the compressed bodies.
+ Oct.19/2026  COQ  Cache keyed by content type as well.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.airlift.compress.zstd.ZstdDecompressor;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit test for checking {@link CompressionFilter} and the content coding negotiation.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CompressionFilterTest {
+    public static final String USERS_PATH = "/api/v1/users";
+    public static final String ACCEPT_GZIP = "gzip";
+    public static final String ACCEPT_ALL = "gzip, deflate, br, zstd";
+    public static final int MIN_RESPONSE_SIZE = 64;
+    public static final String LARGE_BODY = "{\"count\":1,\"users\":[" + "{\"name\":\"User Name\"},".repeat(40) + "]}";
+    public static final String SMALL_BODY = "{\"count\":0,\"users\":[]}";
+    public static final String STREAM_PATH_SUFFIX = "/changes";
+    public static final int CACHE_MAX_WEIGHT = 1024 * 1024;
+    public static final int CACHE_MAX_BODY_SIZE = 1024 * 1024;
+    public static final int RESOURCES = 100;
+
+    private CompressedBodyCache cache;
+    private CompressionFilter filter;
+
+    @BeforeEach
+    void beforeEach() {
+        cache = new CompressedBodyCache(CACHE_MAX_WEIGHT, CACHE_MAX_BODY_SIZE);
+        filter = new CompressionFilter(List.of(ContentEncoding.ZSTD, ContentEncoding.GZIP), MIN_RESPONSE_SIZE, cache);
+    }
+
+    @Test
+    @DisplayName("Verify the preferred content coding is selected when the client accepts all of them.")
+    void shouldNegotiatePreferredEncoding() {
+        var supported = List.of(ContentEncoding.ZSTD, ContentEncoding.GZIP);
+
+        assertThat(ContentEncoding.negotiate(ACCEPT_ALL, supported)).isEqualTo(ContentEncoding.ZSTD);
+        assertThat(ContentEncoding.negotiate("gzip;q=1.0, zstd;q=0.5", supported)).isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("*;q=0.1", supported)).isEqualTo(ContentEncoding.ZSTD);
+        assertThat(ContentEncoding.negotiate("gzip;q=0, br", supported)).isNull();
+        assertThat(ContentEncoding.negotiate(null, supported)).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify a large body is compressed with gzip.")
+    void shouldCompressLargeBodyWithGzip() throws Exception {
+        var response = execute(ACCEPT_GZIP, LARGE_BODY);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo(ACCEPT_GZIP);
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    @DisplayName("Verify a large body is compressed with zstd.")
+    void shouldCompressLargeBodyWithZstd() throws Exception {
+        var response = execute(ACCEPT_ALL, LARGE_BODY);
+        var compressed = response.getContentAsByteArray();
+        var decompressed = new byte[LARGE_BODY.length()];
+        var length = new ZstdDecompressor().decompress(compressed, 0, compressed.length, decompressed, 0, decompressed.length);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo(ContentEncoding.ZSTD.coding());
+        assertThat(new String(decompressed, 0, length, StandardCharsets.UTF_8)).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    @DisplayName("Verify a body smaller than the threshold is not compressed.")
+    void shouldNotCompressSmallBody() throws Exception {
+        var response = execute(ACCEPT_GZIP, SMALL_BODY);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(SMALL_BODY);
+    }
+
+    @Test
+    @DisplayName("Verify the body is not compressed when the client does not accept any content coding.")
+    void shouldNotCompressWithoutAcceptEncoding() throws Exception {
+        var response = execute(null, LARGE_BODY);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    @DisplayName("Verify the compressed body is reused while the body does not change.")
+    void shouldReuseCompressedBodyWhileUnchanged() throws Exception {
+        var first = execute(ACCEPT_GZIP, LARGE_BODY);
+        var second = execute(ACCEPT_GZIP, LARGE_BODY);
+
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(cache.misses()).isEqualTo(1L);
+        assertThat(cache.hits()).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(1);
+
+        var changedBody = LARGE_BODY.replace("User Name", "Other Name");
+        var third = execute(ACCEPT_GZIP, changedBody);
+
+        assertThat(gunzip(third.getContentAsByteArray())).isEqualTo(changedBody);
+        assertThat(cache.misses()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Verify the representations of a resource in different content types are cached apart.")
+    void shouldCacheEachContentTypeApart() throws Exception {
+        var cborBody = LARGE_BODY.replace("User Name", "Binary Name");
+
+        for (int i = 0; i < 2; i++) {
+            var json = execute(ACCEPT_GZIP, MediaType.APPLICATION_JSON_VALUE, LARGE_BODY);
+            var cbor = execute(ACCEPT_GZIP, MediaType.APPLICATION_CBOR_VALUE, cborBody);
+
+            assertThat(gunzip(json.getContentAsByteArray())).isEqualTo(LARGE_BODY);
+            assertThat(gunzip(cbor.getContentAsByteArray())).isEqualTo(cborBody);
+        }
+
+        assertThat(cache.misses()).isEqualTo(2L);
+        assertThat(cache.hits()).isEqualTo(2L);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Verify the cache keeps no more compressed bodies than their size allows.")
+    void shouldBoundCacheByWeight() {
+        var body = LARGE_BODY.getBytes(StandardCharsets.UTF_8);
+        var compressedSize = ContentEncoding.GZIP.compress(body, body.length).length;
+        var boundedCache = new CompressedBodyCache(compressedSize * 10L, CACHE_MAX_BODY_SIZE);
+
+        for (int i = 0; i < RESOURCES; i++) {
+            boundedCache.compress(USERS_PATH + "/" + i, MediaType.APPLICATION_JSON_VALUE, ContentEncoding.GZIP, body);
+        }
+
+        assertThat(boundedCache.size()).isPositive().isLessThanOrEqualTo(10);
+        assertThat(boundedCache.misses()).isEqualTo(RESOURCES);
+    }
+
+    @Test
+    @DisplayName("Verify a streaming body written after the filter returned goes through uncompressed and flushed.")
+    void shouldPassStreamingBodyThrough() throws Exception {
+        var request = new MockHttpServletRequest("GET", USERS_PATH + STREAM_PATH_SUFFIX);
+        var response = new MockHttpServletResponse();
+        var asyncResponse = new AtomicReference<ServletResponse>();
+
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, ACCEPT_ALL);
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            asyncResponse.set(res);
+        });
+
+        // As an asynchronous request does, once the filter chain returned.
+        asyncResponse.get().getOutputStream().write(LARGE_BODY.getBytes(StandardCharsets.UTF_8));
+        asyncResponse.get().flushBuffer();
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getContentAsString()).isEqualTo(LARGE_BODY);
+    }
+
+    private MockHttpServletResponse execute(String acceptEncoding, String body) throws Exception {
+        return execute(acceptEncoding, MediaType.APPLICATION_JSON_VALUE, body);
+    }
+
+    private MockHttpServletResponse execute(String acceptEncoding, String contentType, String body) throws Exception {
+        var request = new MockHttpServletRequest("GET", USERS_PATH);
+        var response = new MockHttpServletResponse();
+
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+
+        filter.doFilter(request, response, (req, res) -> {
+            ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_OK);
+            res.setContentType(contentType);
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        });
+
+        return response;
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   ADAPTIVECONCURRENCYLIMITERTEST.JAVA                         */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Shrinking while underused, async requests and excluded paths checked.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit test for checking {@link AdaptiveConcurrencyLimiter}, {@link GradientLimit} and {@link ConcurrencyLimitFilter}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class AdaptiveConcurrencyLimiterTest {
+    public static final int INITIAL_LIMIT = 10;
+    public static final int MIN_LIMIT = 2;
+    public static final int MAX_LIMIT = 100;
+    public static final long FAST_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+    public static final long SLOW_RTT = TimeUnit.MILLISECONDS.toNanos(200);
+    public static final int SAMPLES = 200;
+    public static final List<String> EXCLUDED_PATHS = List.of("/api/v1/users/changes", "/api/v1/users/stream");
+
+    private AtomicLong clock;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void beforeEach() {
+        clock = new AtomicLong();
+        limiter = new AdaptiveConcurrencyLimiter(new GradientLimit(INITIAL_LIMIT, MIN_LIMIT, MAX_LIMIT, 0.2, 1.5, 600),
+            clock::get);
+    }
+
+    @Test
+    @DisplayName("Verify requests over the limit are rejected and counted.")
+    void shouldRejectOverLimit() {
+        var permits = new ArrayList<AdaptiveConcurrencyLimiter.Permit>();
+
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+
+        assertThat(permits).doesNotContainNull();
+        assertThat(limiter.inFlight()).isEqualTo(INITIAL_LIMIT);
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(limiter.rejected()).isOne();
+
+        limiter.onIgnore(permits.getFirst());
+
+        assertThat(limiter.tryAcquire()).isNotNull();
+        assertThat(limiter.limit()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Verify the limit grows while latency is steady and the limit is in use.")
+    void shouldGrowWithSteadyLatency() {
+        runAtFullLoad(FAST_RTT, SAMPLES);
+
+        assertThat(limiter.limit()).isGreaterThan(INITIAL_LIMIT).isLessThanOrEqualTo(MAX_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Verify the limit does not grow while most of it is unused.")
+    void shouldNotGrowWhenIdle() {
+        for (int i = 0; i < SAMPLES; i++) {
+            var permit = limiter.tryAcquire();
+
+            clock.addAndGet(FAST_RTT);
+            limiter.onSuccess(permit);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Verify the limit shrinks down to the minimum when latency goes up.")
+    void shouldShrinkWhenLatencyGrows() {
+        runAtFullLoad(FAST_RTT, SAMPLES);
+
+        var grownLimit = limiter.limit();
+
+        runAtFullLoad(SLOW_RTT, 20);
+
+        assertThat(limiter.limit()).isLessThan(grownLimit).isGreaterThanOrEqualTo(MIN_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Verify the limit shrinks when latency goes up even while most of it is unused.")
+    void shouldShrinkWhenIdleAndLatencyGrows() {
+        runAtFullLoad(FAST_RTT, SAMPLES);
+
+        var grownLimit = limiter.limit();
+
+        for (int i = 0; i < 20; i++) {
+            var permit = limiter.tryAcquire();
+
+            clock.addAndGet(SLOW_RTT);
+            limiter.onSuccess(permit);
+        }
+
+        assertThat(limiter.limit()).isLessThan(grownLimit).isGreaterThanOrEqualTo(MIN_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Verify the filter answers 503 with Retry-After when the limit is reached.")
+    void shouldRejectWith503() throws Exception {
+        var filter = new ConcurrencyLimitFilter(limiter, Duration.ofSeconds(2), EXCLUDED_PATHS);
+
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            limiter.tryAcquire();
+        }
+
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        assertThat(response.getContentAsString()).contains("\"status\":503");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify the filter gives the permit back once the request is served.")
+    void shouldReleasePermit() throws Exception {
+        var filter = new ConcurrencyLimitFilter(limiter, Duration.ofSeconds(1), EXCLUDED_PATHS);
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify the filter gives the permit back without a sample when the request goes async.")
+    void shouldNotSampleAsyncRequest() throws Exception {
+        runAtFullLoad(FAST_RTT, SAMPLES);
+
+        var grownLimit = limiter.limit();
+        var filter = new ConcurrencyLimitFilter(limiter, Duration.ofSeconds(1), EXCLUDED_PATHS);
+        var request = new MockHttpServletRequest("GET", "/api/v1/users/search");
+        var chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.startAsync();
+                clock.addAndGet(SLOW_RTT * 10);
+            }
+        });
+
+        request.setAsyncSupported(true);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.limit()).isEqualTo(grownLimit);
+    }
+
+    @Test
+    @DisplayName("Verify the filter does not limit the excluded streaming paths.")
+    void shouldSkipExcludedPaths() throws Exception {
+        var filter = new ConcurrencyLimitFilter(limiter, Duration.ofSeconds(1), EXCLUDED_PATHS);
+
+        for (int i = 0; i < INITIAL_LIMIT; i++) {
+            limiter.tryAcquire();
+        }
+
+        for (var path : EXCLUDED_PATHS) {
+            var response = new MockHttpServletResponse();
+            var chain = new MockFilterChain();
+
+            filter.doFilter(new MockHttpServletRequest("GET", path), response, chain);
+
+            assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+            assertThat(chain.getRequest()).isNotNull();
+        }
+
+        assertThat(limiter.rejected()).isZero();
+        assertThat(limiter.inFlight()).isEqualTo(INITIAL_LIMIT);
+    }
+
+    private void runAtFullLoad(long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            var permits = new ArrayList<AdaptiveConcurrencyLimiter.Permit>();
+            AdaptiveConcurrencyLimiter.Permit permit;
+
+            while ((permit = limiter.tryAcquire()) != null) {
+                permits.add(permit);
+            }
+
+            clock.addAndGet(rttNanos);
+            permits.forEach(limiter::onSuccess);
+        }
+    }
+}
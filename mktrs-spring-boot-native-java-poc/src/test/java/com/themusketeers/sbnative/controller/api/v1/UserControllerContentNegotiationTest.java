@@ -0,0 +1,261 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERCONTROLLERCONTENTNEGOTIATIONTEST.JAVA                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Sparse field projection (fields=).
+ Oct.19/2026  COQ  Sparse field projection of the multi-get.
+ Oct.19/2026  COQ  Users listed counted from the same read.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.controller.api.v1;
+
+import static com.themusketeers.sbnative.common.consts.GlobalConstants.LONG_TWO;
+import static com.themusketeers.sbnative.common.consts.MediaTypeConstants.APPLICATION_PROTOBUF;
+import static com.themusketeers.sbnative.common.consts.MediaTypeConstants.APPLICATION_SMILE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserDataResponse;
+import com.themusketeers.sbnative.domain.response.UsersDataResponse;
+import com.themusketeers.sbnative.service.intr.UserService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.client.MockMvcWebTestClient;
+
+/**
+ * Unit test for checking {@link UserController} api exchanges the domain records as JSON (default), CBOR, Smile
+ * and Protobuf.
+ * <p><b>Path:</b>{@code api/v1/users}</p>
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+@WebMvcTest(UserController.class)
+class UserControllerContentNegotiationTest {
+    public static final String USER_CONTROLLER_BASE_PATH = "/api/v1/users";
+    public static final String USER_ID_PATH_VARIABLE = "/{userId}";
+    public static final String USER_ID_ONE = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final String USER_ID_TWO = "b94f6ae6-e1d2-4fdf-8c6b-eb471da1d4d1";
+    public static final String USER_NAME_ONE = "Name One";
+    public static final String USER_NAME_TWO = "Name Two";
+    public static final String USER_ADDRESS_ONE = "Address One";
+    public static final String USER_ADDRESS_TWO = "Address Two";
+    public static final String FIELDS_QUERY = "?fields={fields}";
+    public static final String PROJECTED_USERS_JSON = """
+        {"count":2,"users":[{"id":"c56b2741-028e-4ff5-9e15-be4f96b4ea35","name":"Name One"},\
+        {"id":"b94f6ae6-e1d2-4fdf-8c6b-eb471da1d4d1","name":"Name Two"}]}""";
+    public static final String USER_ID_MISSING = "3f2a9c1e-7b4d-4e8a-9c6f-1d2e3f4a5b6c";
+    public static final String LOOKUP_FIELDS_QUERY = "?ids={ids}&fields={fields}";
+    public static final String PROJECTED_LOOKUP_JSON = """
+        {"count":2,"users":[{"address":"Address Two"},{"address":"Address One"}],\
+        "missing":["3f2a9c1e-7b4d-4e8a-9c6f-1d2e3f4a5b6c"]}""";
+    public static final String PROJECTED_USER_JSON = """
+        {"user":{"address":"Address One"}}""";
+
+    private final ProtobufMapper protobufMapper = new ProtobufMapper();
+    private WebTestClient client;
+
+    @MockBean
+    private UserService userService;
+
+    @BeforeEach
+    void beforeEach(@Autowired MockMvc mockMvc) {
+        this.client = MockMvcWebTestClient
+            .bindTo(mockMvc)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Verify JSON stays the default when the client accepts any media type.")
+    void shouldRetrieveJsonByDefault() {
+        when(userService.retrieveAll()).thenReturn(buildUserList());
+
+        client.get()
+            .uri(USER_CONTROLLER_BASE_PATH)
+            .accept(MediaType.ALL)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    @DisplayName("Verify the list of users is written with the fields asked for only, in their usual order.")
+    void shouldProjectUsersFields() {
+        when(userService.retrieveAll()).thenReturn(buildUserList());
+
+        client.get()
+            .uri(USER_CONTROLLER_BASE_PATH + FIELDS_QUERY, "name, id")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody().json(PROJECTED_USERS_JSON, true);
+    }
+
+    @Test
+    @DisplayName("Verify one user is written with the fields asked for only.")
+    void shouldProjectUserFields() {
+        when(userService.retrieve(USER_ID_ONE))
+            .thenReturn(new User(USER_ID_ONE, USER_NAME_ONE, USER_ADDRESS_ONE));
+
+        client.get()
+            .uri(USER_CONTROLLER_BASE_PATH + USER_ID_PATH_VARIABLE + FIELDS_QUERY, USER_ID_ONE, "address")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().json(PROJECTED_USER_JSON, true);
+    }
+
+    @Test
+    @DisplayName("Verify the users looked up are written with the fields asked for only, the ids not found along.")
+    void shouldProjectLookedUpUsersFields() {
+        var ids = new LinkedHashSet<>(List.of(USER_ID_TWO, USER_ID_MISSING, USER_ID_ONE));
+
+        when(userService.retrieveMany(ids)).thenReturn(buildUserList().reversed());
+
+        client.get()
+            .uri(USER_CONTROLLER_BASE_PATH + LOOKUP_FIELDS_QUERY, String.join(",", ids), "address")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody().json(PROJECTED_LOOKUP_JSON, true);
+    }
+
+    @Test
+    @DisplayName("Verify an unknown field is rejected with 400.")
+    void shouldRejectUnknownField() {
+        when(userService.retrieveAll()).thenReturn(buildUserList());
+
+        client.get()
+            .uri(USER_CONTROLLER_BASE_PATH + FIELDS_QUERY, "id,password")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Verify the list of users is retrieved as CBOR.")
+    void shouldRetrieveUsersAsCbor() throws Exception {
+        shouldRetrieveUsersAs(MediaType.APPLICATION_CBOR, new CBORMapper());
+    }
+
+    @Test
+    @DisplayName("Verify the list of users is retrieved as Smile.")
+    void shouldRetrieveUsersAsSmile() throws Exception {
+        shouldRetrieveUsersAs(APPLICATION_SMILE, new SmileMapper());
+    }
+
+    @Test
+    @DisplayName("Verify the list of users is retrieved as Protobuf.")
+    void shouldRetrieveUsersAsProtobuf() throws Exception {
+        var userList = buildUserList();
+
+        when(userService.retrieveAll()).thenReturn(userList);
+
+        var body = exchangeBytes(client.get().uri(USER_CONTROLLER_BASE_PATH).accept(APPLICATION_PROTOBUF));
+        var response = protobufMapper
+            .readerFor(UsersDataResponse.class)
+            .with(protobufMapper.generateSchemaFor(UsersDataResponse.class))
+            .<UsersDataResponse>readValue(body);
+
+        assertThat(response.count()).isEqualTo(LONG_TWO);
+        assertThat(response.users()).isEqualTo(userList);
+    }
+
+    @Test
+    @DisplayName("Verify one user is retrieved as Protobuf.")
+    void shouldRetrieveUserAsProtobuf() throws Exception {
+        var user = new User(USER_ID_ONE, USER_NAME_ONE, USER_ADDRESS_ONE);
+
+        when(userService.retrieve(USER_ID_ONE)).thenReturn(user);
+
+        var body = exchangeBytes(client.get().uri(USER_CONTROLLER_BASE_PATH + USER_ID_PATH_VARIABLE, USER_ID_ONE).accept(APPLICATION_PROTOBUF));
+        var response = protobufMapper
+            .readerFor(UserDataResponse.class)
+            .with(protobufMapper.generateSchemaFor(UserDataResponse.class))
+            .<UserDataResponse>readValue(body);
+
+        assertThat(response.user()).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("Verify a user is created from a CBOR payload and answered as CBOR.")
+    void shouldInsertUserFromCbor() throws Exception {
+        var cborMapper = new CBORMapper();
+        var payload = new User(null, USER_NAME_ONE, USER_ADDRESS_ONE);
+        var inserted = new User(USER_ID_ONE, USER_NAME_ONE, USER_ADDRESS_ONE);
+
+        when(userService.insert(any(User.class))).thenReturn(inserted);
+
+        var body = client.post()
+            .uri(USER_CONTROLLER_BASE_PATH)
+            .contentType(MediaType.APPLICATION_CBOR)
+            .accept(MediaType.APPLICATION_CBOR)
+            .bodyValue(cborMapper.writeValueAsBytes(payload))
+            .exchange()
+            .expectStatus().isCreated()
+            .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(cborMapper.readValue(body, User.class)).isEqualTo(inserted);
+    }
+
+    @Test
+    @DisplayName("Verify a user is updated from a Protobuf payload.")
+    void shouldUpdateUserFromProtobuf() throws Exception {
+        var user = new User(USER_ID_ONE, USER_NAME_ONE, USER_ADDRESS_ONE);
+        var payload = protobufMapper.writer(protobufMapper.generateSchemaFor(User.class)).writeValueAsBytes(user);
+
+        when(userService.update(user)).thenReturn(true);
+
+        client.patch()
+            .uri(USER_CONTROLLER_BASE_PATH)
+            .contentType(APPLICATION_PROTOBUF)
+            .accept(MediaType.APPLICATION_JSON)
+            .bodyValue(payload)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(User.class).isEqualTo(user);
+    }
+
+    private void shouldRetrieveUsersAs(MediaType mediaType, ObjectMapper mapper) throws Exception {
+        var userList = buildUserList();
+
+        when(userService.retrieveAll()).thenReturn(userList);
+
+        var body = exchangeBytes(client.get().uri(USER_CONTROLLER_BASE_PATH).accept(mediaType));
+        var response = mapper.readValue(body, UsersDataResponse.class);
+
+        assertThat(response.count()).isEqualTo(LONG_TWO);
+        assertThat(response.users()).isEqualTo(userList);
+    }
+
+    private byte[] exchangeBytes(WebTestClient.RequestHeadersSpec<?> request) {
+        return request
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(byte[].class)
+            .returnResult()
+            .getResponseBody();
+    }
+
+    private List<User> buildUserList() {
+        return List.of(new User(USER_ID_ONE, USER_NAME_ONE, USER_ADDRESS_ONE),
+            new User(USER_ID_TWO, USER_NAME_TWO, USER_ADDRESS_TWO));
+    }
+}
@@ -5,6 +5,8 @@
 /*-----------------------------------------------------------------------------
  History
  Jun.22/2023  COQ  File created.
+ Oct.19/2026  COQ  Look up users tests.
+ Oct.19/2026  COQ  Users listed counted from the same read.
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative.controller.api.v1;
 
@@ -17,18 +19,26 @@ import static com.themusketeers.sbnative.common.consts.ExceptionConstants.NOT_FO
 import static com.themusketeers.sbnative.common.consts.ExceptionConstants.USER_WITH_ID;
 import static com.themusketeers.sbnative.common.consts.GlobalConstants.LONG_TWO;
 import static com.themusketeers.sbnative.common.consts.GlobalConstants.LONG_ZERO;
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.RETRIEVE_MANY_MAX_IDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import com.themusketeers.sbnative.domain.User;
 import com.themusketeers.sbnative.domain.response.UserDataResponse;
 import com.themusketeers.sbnative.domain.response.UsersDataResponse;
+import com.themusketeers.sbnative.domain.response.UsersLookupDataResponse;
 import com.themusketeers.sbnative.service.intr.UserService;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -80,6 +90,7 @@ class UserControllerTest {
     public static final String USER_ADDRESS_ONE_UPDATED = "Address One Updated";
     public static final String USER_ADDRESS_TWO = "Address Two";
     public static final String USER_ID_PATH_VARIABLE = "/{userId}";
+    public static final String USER_IDS_QUERY = "?ids={userIds}";
     public static final String HTTP_400_BAD_REQUEST_RESPONSE = """
         {"type":"about:blank","title":"Bad Request","status":400,"detail":"Failed to read request","instance":"/api/v1/users"}""";
 
@@ -119,7 +130,6 @@ class UserControllerTest {
     void shouldRetrieveListWithUsers() {
         var userList = buildUserList();
 
-        when(userService.count()).thenReturn(LONG_TWO);
         when(userService.retrieveAll()).thenReturn(userList);
 
         client.get()
@@ -137,8 +147,50 @@ class UserControllerTest {
                 assertThat(resBody.users()).isNotNull().isNotEmpty().hasSameElementsAs(userList);
             });
 
-        verify(userService).count();
         verify(userService).retrieveAll();
+        verify(userService, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should look up many users at once, listing the ids not found")
+    void shouldLookUpUsers() {
+        var userIds = String.join(",", USER_ID_TWO, USER_ID_UUID, USER_ID_ONE, USER_ID_TWO);
+        var expectedIds = new LinkedHashSet<>(List.of(USER_ID_TWO, USER_ID_UUID, USER_ID_ONE));
+
+        when(userService.retrieveMany(expectedIds)).thenReturn(List.of(buildUserWithIDTwo(), buildUserWithIDOne()));
+
+        client.get()
+            .uri(USER_CONTROLLER_BASE_PATH + USER_IDS_QUERY, userIds)
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(UsersLookupDataResponse.class)
+            .consumeWith(response -> {
+                var resBody = response.getResponseBody();
+
+                assertThat(resBody).isNotNull();
+                assertThat(resBody.count()).isEqualTo(2);
+                assertThat(resBody.users()).containsExactly(buildUserWithIDTwo(), buildUserWithIDOne());
+                assertThat(resBody.missing()).containsExactly(USER_ID_UUID);
+            });
+
+        verify(userService).retrieveMany(expectedIds);
+    }
+
+    @Test
+    @DisplayName("When looking up more users than allowed at once, then a BAD request is given.")
+    void whenLookingUpTooManyUsersShouldReturnBadRequest() {
+        var userIds = IntStream.rangeClosed(0, RETRIEVE_MANY_MAX_IDS)
+            .mapToObj(i -> new UUID(i, i).toString())
+            .collect(Collectors.joining(","));
+
+        client.get()
+            .uri(USER_CONTROLLER_BASE_PATH + USER_IDS_QUERY, userIds)
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        verifyNoInteractions(userService);
     }
 
     @Test
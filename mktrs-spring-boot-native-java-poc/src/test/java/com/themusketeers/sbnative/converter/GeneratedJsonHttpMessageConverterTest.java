@@ -0,0 +1,115 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   GENERATEDJSONHTTPMESSAGECONVERTERTEST.JAVA                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Sparse field projection (ProjectedBody).
+ Oct.19/2026  COQ  User Search response.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserDataResponse;
+import com.themusketeers.sbnative.domain.response.UserSearchDataResponse;
+import com.themusketeers.sbnative.domain.response.UserSearchHit;
+import com.themusketeers.sbnative.domain.response.UsersDataResponse;
+import io.avaje.jsonb.Jsonb;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+/**
+ * Unit test for checking {@link GeneratedJsonHttpMessageConverter} writes the same JSON as Jackson.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class GeneratedJsonHttpMessageConverterTest {
+    public static final String USER_ID = "1";
+    public static final String USER_NAME = "Carlos";
+    public static final String USER_ADDRESS = "Medellín";
+    public static final User USER = new User(USER_ID, USER_NAME, USER_ADDRESS);
+    public static final User USER_WITHOUT_ID = new User(null, USER_NAME, USER_ADDRESS);
+    public static final String PROJECTED_USERS_JSON = """
+        {"count":2,"users":[{"id":"1","name":"Carlos"},{"name":"Carlos"}]}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GeneratedJsonHttpMessageConverter converter = new GeneratedJsonHttpMessageConverter(
+        Jsonb.builder().build(),
+        Set.of(User.class, UserDataResponse.class, UsersDataResponse.class, UserSearchDataResponse.class));
+
+    @Test
+    @DisplayName("Verify the domain records are written exactly as Jackson writes them.")
+    void shouldWriteAsJackson() throws Exception {
+        assertSameAsJackson(USER);
+        assertSameAsJackson(USER_WITHOUT_ID);
+        assertSameAsJackson(new UserDataResponse(USER));
+        assertSameAsJackson(new UserDataResponse(null));
+        assertSameAsJackson(new UsersDataResponse(2L, List.of(USER, USER_WITHOUT_ID)));
+        assertSameAsJackson(new UsersDataResponse(0L, List.of()));
+        assertSameAsJackson(new UserSearchDataResponse(2, List.of(
+            new UserSearchHit(1.75, USER),
+            new UserSearchHit(0.5, USER_WITHOUT_ID))));
+        assertSameAsJackson(new UserSearchDataResponse(1, List.of(new UserSearchHit(0.25, null))));
+    }
+
+    @Test
+    @DisplayName("Verify a projected body is written with the properties of its view only.")
+    void shouldWriteProjectedBody() throws Exception {
+        var output = new MockHttpOutputMessage();
+        var response = new UsersDataResponse(2L, List.of(USER, USER_WITHOUT_ID));
+
+        converter.write(new ProjectedBody(response, "(count,users(id,name))"), MediaType.APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(PROJECTED_USERS_JSON);
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(output.getBodyAsBytes().length);
+        assertThat(FieldProjectionAdvice.userFields(" name,id,,name ")).isEqualTo("id,name");
+    }
+
+    @Test
+    @DisplayName("Verify a domain record is read back.")
+    void shouldReadRecord() throws Exception {
+        var body = objectMapper.writeValueAsBytes(new UsersDataResponse(2L, List.of(USER, USER_WITHOUT_ID)));
+        var read = converter.read(UsersDataResponse.class, new MockHttpInputMessage(body));
+
+        assertThat(read).isEqualTo(new UsersDataResponse(2L, List.of(USER, USER_WITHOUT_ID)));
+    }
+
+    @Test
+    @DisplayName("Verify only the domain records are supported.")
+    void shouldSupportDomainRecordsOnly() {
+        assertThat(converter.canWrite(User.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canRead(UsersDataResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(Boolean.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(User.class, MediaType.APPLICATION_XML)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verify a malformed body is reported as not readable.")
+    void shouldRejectMalformedBody() {
+        var input = new MockHttpInputMessage("{\"name\":".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> converter.read(User.class, input))
+            .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    private void assertSameAsJackson(Object value) throws Exception {
+        var output = new MockHttpOutputMessage();
+
+        converter.write(value, MediaType.APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(value));
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(output.getBodyAsBytes().length);
+    }
+}
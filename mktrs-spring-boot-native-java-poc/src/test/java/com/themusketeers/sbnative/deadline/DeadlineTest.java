@@ -0,0 +1,183 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   DEADLINETEST.JAVA                                           */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.deadline;
+
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.HEADER_GRPC_TIMEOUT;
+import static com.themusketeers.sbnative.common.consts.DeadlineConstants.HEADER_REQUEST_DEADLINE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.themusketeers.sbnative.common.exception.DeadlineExceededException;
+import com.themusketeers.sbnative.controller.api.v1.UserStreamController;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.hamt.HamtUserService;
+import com.themusketeers.sbnative.service.intr.ReactiveUserService;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit test for checking {@link DeadlineFilter}, {@link RequestDeadline} and the checks of the deadline while serving
+ * a request.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class DeadlineTest {
+    public static final String USERS_PATH = "/api/v1/users";
+    public static final Instant NOW = Instant.parse("2026-10-19T10:15:30Z");
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(2);
+    public static final Duration MAX_TIMEOUT = Duration.ofSeconds(30);
+    public static final User USER_ONE = new User("1", "Name One", "Address One");
+    public static final User USER_TWO = new User("2", "Name Two", "Address Two");
+
+    private AtomicLong nanoClock;
+    private AtomicReference<Duration> remaining;
+    private DeadlineFilter filter;
+
+    @BeforeEach
+    void beforeEach() {
+        nanoClock = new AtomicLong();
+        remaining = new AtomicReference<>();
+        filter = new DeadlineFilter(Duration.ZERO, MAX_TIMEOUT, Clock.fixed(NOW, ZoneOffset.UTC), nanoClock::get);
+    }
+
+    @Test
+    @DisplayName("Verify the gRPC style timeouts and the RFC 3339 deadlines are parsed, the earliest winning.")
+    void shouldParseHeaders() throws Exception {
+        assertThat(serve(Map.of(HEADER_GRPC_TIMEOUT, "250m")).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(remaining.get()).isEqualTo(Duration.ofMillis(250));
+
+        serve(Map.of(HEADER_GRPC_TIMEOUT, "2S"));
+        assertThat(remaining.get()).isEqualTo(Duration.ofSeconds(2));
+
+        serve(Map.of(HEADER_GRPC_TIMEOUT, "1500u"));
+        assertThat(remaining.get()).isEqualTo(Duration.ofNanos(1_500_000));
+
+        serve(Map.of(HEADER_REQUEST_DEADLINE, "2026-10-19T10:15:31.500Z"));
+        assertThat(remaining.get()).isEqualTo(Duration.ofMillis(1500));
+
+        serve(Map.of(HEADER_REQUEST_DEADLINE, "2026-10-19T10:15:31.500Z", HEADER_GRPC_TIMEOUT, "100m"));
+        assertThat(remaining.get()).isEqualTo(Duration.ofMillis(100));
+
+        serve(Map.of(HEADER_GRPC_TIMEOUT, "2H"));
+        assertThat(remaining.get()).isEqualTo(MAX_TIMEOUT);
+
+        serve(Map.of());
+        assertThat(remaining.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify a malformed header is rejected with 400 without serving the request.")
+    void shouldRejectMalformedHeaders() throws Exception {
+        assertThat(serve(Map.of(HEADER_GRPC_TIMEOUT, "250")).getStatus())
+            .isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(serve(Map.of(HEADER_GRPC_TIMEOUT, "123456789m")).getStatus())
+            .isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(serve(Map.of(HEADER_GRPC_TIMEOUT, "-1S")).getStatus())
+            .isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(serve(Map.of(HEADER_REQUEST_DEADLINE, "tomorrow")).getStatus())
+            .isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(remaining.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify a request whose deadline already expired is rejected with 504 without serving it.")
+    void shouldRejectExpiredOnEntry() throws Exception {
+        var response = serve(Map.of(HEADER_REQUEST_DEADLINE, "2026-10-19T10:15:29Z"));
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+        assertThat(response.getContentAsString()).contains("\"status\":504");
+        assertThat(serve(Map.of(HEADER_GRPC_TIMEOUT, "0S")).getStatus())
+            .isEqualTo(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+        assertThat(remaining.get()).isNull();
+        assertThat(filter.expiredOnEntry()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Verify the default timeout applies without deadline sent, and the deadline is unbound after.")
+    void shouldApplyDefaultTimeout() throws Exception {
+        filter = new DeadlineFilter(DEFAULT_TIMEOUT, MAX_TIMEOUT, Clock.fixed(NOW, ZoneOffset.UTC), nanoClock::get);
+
+        serve(Map.of());
+
+        assertThat(remaining.get()).isEqualTo(DEFAULT_TIMEOUT);
+        assertThat(RequestDeadline.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify no service operation starts once the deadline expired.")
+    void shouldStopServiceOperations() {
+        var userService = new DeadlineCheckingUserService(new HamtUserService());
+        var deadline = RequestDeadline.after(Duration.ofMillis(100), nanoClock::get);
+
+        try (var scope = RequestDeadline.bind(deadline)) {
+            userService.insert(USER_ONE);
+            nanoClock.addAndGet(Duration.ofMillis(100).toNanos());
+
+            assertThatThrownBy(() -> userService.retrieve(USER_ONE.id()))
+                .isInstanceOf(DeadlineExceededException.class);
+            assertThatThrownBy(userService::retrieveAll).isInstanceOf(DeadlineExceededException.class);
+        }
+
+        assertThat(userService.retrieve(USER_ONE.id())).isEqualTo(USER_ONE);
+    }
+
+    @Test
+    @DisplayName("Verify a stream ends with an error at the first user once the deadline expired.")
+    void shouldStopStreaming() {
+        var userService = new HamtUserService();
+        var noReactiveUserService = new StaticListableBeanFactory().getBeanProvider(ReactiveUserService.class);
+        var controller = new UserStreamController(userService, noReactiveUserService);
+        var deadline = RequestDeadline.after(Duration.ofMillis(100), nanoClock::get);
+
+        userService.insert(USER_ONE);
+        userService.insert(USER_TWO);
+
+        try (var scope = RequestDeadline.bind(deadline)) {
+            StepVerifier.create(controller.streamUsers(), 1)
+                .expectNextCount(1)
+                .then(() -> nanoClock.addAndGet(Duration.ofMillis(100).toNanos()))
+                .thenRequest(1)
+                .expectError(DeadlineExceededException.class)
+                .verify();
+        }
+    }
+
+    private MockHttpServletResponse serve(Map<String, String> headers) throws Exception {
+        var request = new MockHttpServletRequest("GET", USERS_PATH);
+        var response = new MockHttpServletResponse();
+
+        remaining.set(null);
+        headers.forEach(request::addHeader);
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                var deadline = RequestDeadline.current();
+
+                remaining.set(deadline == null ? null : deadline.remaining());
+            }
+        }));
+        return response;
+    }
+}
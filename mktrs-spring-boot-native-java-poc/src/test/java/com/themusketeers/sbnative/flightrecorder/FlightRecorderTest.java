@@ -0,0 +1,198 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   FLIGHTRECORDERTEST.JAVA                                     */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.flightrecorder;
+
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.EVENT_USER_REQUEST;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.EVENT_USER_SERVICE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.FIELD_OPERATION;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.FIELD_STATUS;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.FIELD_STORE_SIZE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.FIELD_URI;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.FIELD_USER_ID;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_INSERT;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.OPERATION_RETRIEVE;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.STATUS_CONFLICT;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.VIEW_JFR;
+import static com.themusketeers.sbnative.common.consts.FlightRecorderConstants.VIEW_SUMMARY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.hamt.HamtUserService;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Unit test for checking the Flight Recorder events and the {@link FlightRecorderEndpoint}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class FlightRecorderTest {
+    public static final String USER_ID = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final String USER_PATH = "/api/v1/users/" + USER_ID;
+    public static final String USER_PATTERN = "/api/v1/users/{userId}";
+    public static final String RECORDING_NAME = "users";
+    public static final int MAX_RECORDINGS = 2;
+    public static final int SUMMARY_SIZE = 10;
+
+    private FlightRecorderEndpoint endpoint;
+
+    @BeforeEach
+    void beforeEach() {
+        endpoint = new FlightRecorderEndpoint(new FlightRecorderProperties(true, List.of("/api/v1/*"), "default",
+            MAX_RECORDINGS, Duration.ofMinutes(1), Duration.ofMinutes(5), DataSize.ofMegabytes(16), SUMMARY_SIZE));
+    }
+
+    @AfterEach
+    void afterEach() {
+        endpoint.close();
+    }
+
+    @Test
+    @DisplayName("Verify each store operation is an event with its user id and the store size.")
+    void shouldRecordStoreOperations() throws Exception {
+        var userService = new FlightRecordingUserService(new HamtUserService(), true);
+        var events = record(() -> {
+            userService.insert(USER);
+            userService.retrieve(USER_ID);
+        });
+        var operations = events.stream().filter(event -> is(event, EVENT_USER_SERVICE)).toList();
+
+        assertThat(operations).extracting(event -> event.getString(FIELD_OPERATION))
+            .containsExactly(OPERATION_INSERT, OPERATION_RETRIEVE);
+        assertThat(operations).allSatisfy(event -> {
+            assertThat(event.getString(FIELD_USER_ID)).isEqualTo(USER_ID);
+            assertThat(event.getLong(FIELD_STORE_SIZE)).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("Verify each request is an event with the endpoint pattern, the user id and the status.")
+    void shouldRecordRequests() throws Exception {
+        var events = record(() -> new FlightRecordingFilter().doFilter(new MockHttpServletRequest("GET", USER_PATH),
+            new MockHttpServletResponse(), new MockFilterChain(new UserServlet())));
+        var requests = events.stream().filter(event -> is(event, EVENT_USER_REQUEST)).toList();
+
+        assertThat(requests).singleElement().satisfies(event -> {
+            assertThat(event.getString(FIELD_URI)).isEqualTo(USER_PATTERN);
+            assertThat(event.getString(FIELD_USER_ID)).isEqualTo(USER_ID);
+            assertThat(event.getInt(FIELD_STATUS)).isEqualTo(HttpServletResponse.SC_NOT_FOUND);
+        });
+    }
+
+    @Test
+    @DisplayName("Verify a recording started through the endpoint is summarized, dumped, stopped and discarded.")
+    void shouldManageRecordings() throws Exception {
+        var started = endpoint.start(RECORDING_NAME, null, null);
+        var userService = new FlightRecordingUserService(new HamtUserService(), true);
+
+        assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(started.getBody().maxSize()).isEqualTo(DataSize.ofMegabytes(16).toBytes());
+
+        for (var i = 0; i < 10; i++) {
+            userService.insert(new User(null, "User Name " + i, i + " Main Street, Springfield"));
+        }
+
+        userService.retrieveAll();
+
+        var summary = (FlightRecordingSummary) endpoint.view(RECORDING_NAME, VIEW_SUMMARY).getBody();
+
+        assertThat(summary.operations()).isNotEmpty();
+        assertThat(summary.operations()).anySatisfy(operation -> {
+            assertThat(operation.operation()).isEqualTo(OPERATION_INSERT);
+            assertThat(operation.count()).isEqualTo(10);
+        });
+
+        var file = (Resource) endpoint.view(RECORDING_NAME, VIEW_JFR).getBody();
+
+        try (var input = file.getInputStream()) {
+            assertThat(input.readAllBytes()).isNotEmpty();
+        }
+
+        assertThat(file.getFile()).doesNotExist();
+        assertThat(endpoint.stop(RECORDING_NAME).getBody().state()).isEqualTo("STOPPED");
+        assertThat(endpoint.discard(RECORDING_NAME).getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(endpoint.recordings()).isEmpty();
+        assertThat(endpoint.view(RECORDING_NAME, VIEW_SUMMARY).getStatus())
+            .isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Verify the recordings are bounded in number and their names checked.")
+    void shouldBoundRecordings() {
+        assertThat(endpoint.start(RECORDING_NAME, null, null).getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(endpoint.start(RECORDING_NAME, null, null).getStatus()).isEqualTo(STATUS_CONFLICT);
+        assertThat(endpoint.start("../etc", null, null).getStatus())
+            .isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+        assertThat(endpoint.start(null, Duration.ofDays(1), null).getBody().duration())
+            .isEqualTo(Duration.ofMinutes(5));
+        assertThat(endpoint.start(null, null, null).getStatus())
+            .isEqualTo(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        assertThat(endpoint.recordings()).hasSize(MAX_RECORDINGS);
+    }
+
+    private static List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        var file = Files.createTempFile(RECORDING_NAME, ".jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable(UserServiceEvent.class);
+            recording.enable(UserRequestEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean is(RecordedEvent event, String name) {
+        return event.getEventType().getName().equals(name);
+    }
+
+    /**
+     * Action under recording.
+     */
+    @FunctionalInterface
+    interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * Answers as the User API does for a user not found.
+     */
+    static class UserServlet extends HttpServlet {
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, USER_PATTERN);
+            req.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("userId", USER_ID));
+            resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   IDEMPOTENCYFILTERTEST.JAVA                                  */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Body size limit and read listener.
+ Oct.19/2026  COQ  Keys scoped to the client.
+ Oct.19/2026  COQ  Claims in flight never evicted.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.idempotency;
+
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.HEADER_IDEMPOTENCY_KEY;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.HEADER_IDEMPOTENT_REPLAYED;
+import static com.themusketeers.sbnative.common.consts.IdempotencyConstants.SC_UNPROCESSABLE_CONTENT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit test for checking {@link IdempotencyFilter} and {@link IdempotencyStore}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class IdempotencyFilterTest {
+    public static final String USERS_PATH = "/api/v1/users";
+    public static final String KEY = "8e03978e-40d5-43e8-bc93-6894a57f9324";
+    public static final String OTHER_KEY = "0b9c3f0e-0d3c-4b8f-9d44-2b1f1f6a3e55";
+    public static final String USER_BODY = "{\"name\":\"John Smith\",\"address\":\"Main Street\"}";
+    public static final String OTHER_USER_BODY = "{\"name\":\"Joan Smith\",\"address\":\"Main Street\"}";
+    public static final String LOCATION_HEADER_VALUE = "/api/v1/users/";
+    public static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+    public static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+    public static final int MAX_ENTRIES = 100;
+    public static final int MAX_KEY_LENGTH = 64;
+    public static final int MAX_BODY_SIZE = 256;
+    public static final String CLIENT_KEY_HEADER = "X-Client-Id";
+    public static final String OTHER_CLIENT = "other-client";
+    public static final long FUTURE_TIMEOUT_SECONDS = 5L;
+
+    private AtomicLong clock;
+    private AtomicInteger inserts;
+    private volatile CountDownLatch insertGate;
+    private volatile int insertStatus;
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void beforeEach() {
+        clock = new AtomicLong();
+        inserts = new AtomicInteger();
+        insertGate = new CountDownLatch(0);
+        insertStatus = HttpServletResponse.SC_CREATED;
+        store = new IdempotencyStore(TIME_TO_LIVE, MAX_ENTRIES, clock::get);
+        filter = new IdempotencyFilter(store, MAX_KEY_LENGTH, MAX_BODY_SIZE, WAIT_TIMEOUT, CLIENT_KEY_HEADER);
+    }
+
+    @Test
+    @DisplayName("Verify a retry gets the first response back without inserting again.")
+    void shouldReplayFirstResponse() throws Exception {
+        var first = post(KEY, USER_BODY);
+        var retry = post(KEY, USER_BODY);
+
+        assertThat(inserts).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(first.getHeader(HEADER_IDEMPOTENT_REPLAYED)).isNull();
+        assertThat(retry.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(retry.getHeader(HttpHeaders.LOCATION)).isEqualTo(first.getHeader(HttpHeaders.LOCATION));
+        assertThat(retry.getHeader(HEADER_IDEMPOTENT_REPLAYED)).isEqualTo("true");
+        assertThat(store.replays()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Verify requests without a key, or with another key, are served each time.")
+    void shouldServeOtherKeys() throws Exception {
+        post(KEY, USER_BODY);
+        post(OTHER_KEY, USER_BODY);
+        post(null, USER_BODY);
+        post(null, USER_BODY);
+
+        assertThat(inserts).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Verify the same key sent by another client is another key, served on its own.")
+    void shouldScopeKeysToClient() throws Exception {
+        var first = post(KEY, USER_BODY);
+        var otherClient = post(KEY, OTHER_USER_BODY, OTHER_CLIENT);
+
+        assertThat(inserts).hasValue(2);
+        assertThat(otherClient.getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(otherClient.getHeader(HEADER_IDEMPOTENT_REPLAYED)).isNull();
+        assertThat(otherClient.getContentAsString()).isNotEqualTo(first.getContentAsString());
+        assertThat(post(KEY, OTHER_USER_BODY, OTHER_CLIENT).getHeader(HEADER_IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Verify a key reused with a different body is rejected with 422.")
+    void shouldRejectKeyReusedWithOtherBody() throws Exception {
+        post(KEY, USER_BODY);
+
+        var reused = post(KEY, OTHER_USER_BODY);
+
+        assertThat(reused.getStatus()).isEqualTo(SC_UNPROCESSABLE_CONTENT);
+        assertThat(inserts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Verify a key too long is rejected with 400.")
+    void shouldRejectKeyTooLong() throws Exception {
+        var response = post("k".repeat(MAX_KEY_LENGTH + 1), USER_BODY);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(inserts).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Verify a body too large is rejected with 413, whether its length is told up front or not.")
+    void shouldRejectBodyTooLarge() throws Exception {
+        var body = "x".repeat(MAX_BODY_SIZE + 1);
+
+        assertThat(post(KEY, body).getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+
+        var chunked = new MockHttpServletRequest("POST", USERS_PATH) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        var response = new MockHttpServletResponse();
+
+        chunked.setContent(body.getBytes(StandardCharsets.UTF_8));
+        chunked.addHeader(HEADER_IDEMPOTENCY_KEY, KEY);
+        filter.doFilter(chunked, response, new MockFilterChain(new InsertServlet()));
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        assertThat(post(KEY, "x".repeat(MAX_BODY_SIZE)).getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(inserts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Verify a read listener is refused, as the Servlet spec asks, when the request is not async.")
+    void shouldRefuseReadListenerOutsideAsync() throws Exception {
+        var failure = new AtomicReference<Exception>();
+        var request = new MockHttpServletRequest("POST", USERS_PATH);
+
+        request.setContent(USER_BODY.getBytes(StandardCharsets.UTF_8));
+        request.addHeader(HEADER_IDEMPOTENCY_KEY, KEY);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                var input = request.getInputStream();
+
+                try {
+                    input.setReadListener(new ReadListener() {
+                        @Override
+                        public void onDataAvailable() {
+                        }
+
+                        @Override
+                        public void onAllDataRead() {
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+                    });
+                } catch (IllegalStateException e) {
+                    failure.set(e);
+                }
+
+                assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(USER_BODY);
+            }
+        }));
+
+        assertThat(failure.get()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Verify a concurrent retry waits for the first request and gets its response.")
+    void shouldWaitForRequestInFlight() throws Exception {
+        insertGate = new CountDownLatch(1);
+
+        var first = CompletableFuture.supplyAsync(() -> postUnchecked(KEY, USER_BODY));
+
+        while (store.size() == 0) {
+            Thread.onSpinWait();
+        }
+
+        var retry = CompletableFuture.supplyAsync(() -> postUnchecked(KEY, USER_BODY));
+
+        Thread.sleep(50);
+        assertThat(retry).isNotDone();
+        insertGate.countDown();
+
+        var firstResponse = first.get(FUTURE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        var retryResponse = retry.get(FUTURE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(inserts).hasValue(1);
+        assertThat(retryResponse.getContentAsString()).isEqualTo(firstResponse.getContentAsString());
+        assertThat(retryResponse.getHeader(HEADER_IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Verify a server error keeps nothing, so the retry is served.")
+    void shouldNotKeepServerErrors() throws Exception {
+        insertStatus = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        assertThat(post(KEY, USER_BODY).getStatus()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+
+        insertStatus = HttpServletResponse.SC_CREATED;
+        assertThat(post(KEY, USER_BODY).getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+        assertThat(inserts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Verify a response is dropped once its time to live is over.")
+    void shouldExpireResponses() throws Exception {
+        post(KEY, USER_BODY);
+        clock.addAndGet(TIME_TO_LIVE.toNanos());
+        post(KEY, OTHER_USER_BODY);
+
+        assertThat(inserts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Verify the store is bounded, evicting the keys already answered.")
+    void shouldBoundStore() throws Exception {
+        for (var i = 0; i < MAX_ENTRIES * 2; i++) {
+            post(UUID.randomUUID().toString(), USER_BODY);
+        }
+
+        assertThat(store.size()).isLessThanOrEqualTo(MAX_ENTRIES);
+    }
+
+    @Test
+    @DisplayName("Verify a key still being served is never evicted, however many keys are answered meanwhile.")
+    void shouldKeepKeysInFlight() {
+        var fingerprint = USER_BODY.getBytes(StandardCharsets.UTF_8);
+        var inFlightKey = new IdempotencyKey(OTHER_CLIENT, "POST", USERS_PATH, KEY);
+
+        assertThat(store.claim(inFlightKey, fingerprint)).isInstanceOf(IdempotencyClaim.Execute.class);
+
+        for (var i = 0; i < MAX_ENTRIES * 2; i++) {
+            var key = new IdempotencyKey(OTHER_CLIENT, "POST", USERS_PATH, UUID.randomUUID().toString());
+
+            if (store.claim(key, fingerprint) instanceof IdempotencyClaim.Execute claim) {
+                store.complete(key, claim, null);
+            }
+        }
+
+        assertThat(store.claim(inFlightKey, fingerprint)).isInstanceOf(IdempotencyClaim.Replay.class);
+        assertThat(store.size()).isLessThanOrEqualTo(MAX_ENTRIES + 1);
+    }
+
+    private MockHttpServletResponse post(String key, String body) throws Exception {
+        return post(key, body, null);
+    }
+
+    private MockHttpServletResponse post(String key, String body, String client) throws Exception {
+        var request = new MockHttpServletRequest("POST", USERS_PATH);
+        var response = new MockHttpServletResponse();
+
+        if (client != null) {
+            request.addHeader(CLIENT_KEY_HEADER, client);
+        }
+
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        if (key != null) {
+            request.addHeader(HEADER_IDEMPOTENCY_KEY, key);
+        }
+
+        filter.doFilter(request, response, new MockFilterChain(new InsertServlet()));
+        return response;
+    }
+
+    private MockHttpServletResponse postUnchecked(String key, String body) {
+        try {
+            return post(key, body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stands for the insert endpoint: gives every call a new id, echoing the body read.
+     */
+    private class InsertServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            try {
+                insertGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            var id = String.valueOf(inserts.incrementAndGet());
+            var body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+            response.setStatus(insertStatus);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setHeader(HttpHeaders.LOCATION, LOCATION_HEADER_VALUE + id);
+            response.getWriter().write("{\"id\":\"" + id + "\",\"request\":" + body + "}");
+        }
+    }
+}
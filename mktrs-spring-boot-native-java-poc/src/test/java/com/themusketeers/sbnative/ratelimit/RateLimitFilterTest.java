@@ -0,0 +1,170 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RATELIMITFILTERTEST.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Only full buckets expire.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.ratelimit;
+
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.HEADER_RATE_LIMIT_LIMIT;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.HEADER_RATE_LIMIT_REMAINING;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.HEADER_RATE_LIMIT_RESET;
+import static com.themusketeers.sbnative.common.consts.RateLimitConstants.SC_TOO_MANY_REQUESTS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit test for checking {@link RateLimitFilter} and {@link RateLimitBudget}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class RateLimitFilterTest {
+    public static final String USERS_PATH = "/api/v1/users";
+    public static final String CLIENT_KEY_HEADER = "X-Client-Id";
+    public static final String BATCH_CLIENT = "batch";
+    public static final String INTERACTIVE_CLIENT = "interactive";
+    public static final int READ_CAPACITY = 5;
+    public static final int WRITE_CAPACITY = 2;
+    public static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private AtomicLong clock;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void beforeEach() {
+        clock = new AtomicLong(ONE_SECOND);
+        filter = new RateLimitFilter(new RateLimitBudget(READ_CAPACITY, READ_CAPACITY, 100, clock::get),
+            new RateLimitBudget(WRITE_CAPACITY, 1, 100, clock::get),
+            CLIENT_KEY_HEADER,
+            clock::get);
+    }
+
+    @Test
+    @DisplayName("Verify the rate limit headers count down the remaining budget.")
+    void shouldSendRateLimitHeaders() throws Exception {
+        var response = execute("GET", BATCH_CLIENT);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(response.getHeader(HEADER_RATE_LIMIT_LIMIT)).isEqualTo(String.valueOf(READ_CAPACITY));
+        assertThat(response.getHeader(HEADER_RATE_LIMIT_REMAINING)).isEqualTo(String.valueOf(READ_CAPACITY - 1));
+        assertThat(response.getHeader(HEADER_RATE_LIMIT_RESET)).isEqualTo("1");
+
+        assertThat(execute("GET", BATCH_CLIENT).getHeader(HEADER_RATE_LIMIT_REMAINING))
+            .isEqualTo(String.valueOf(READ_CAPACITY - 2));
+    }
+
+    @Test
+    @DisplayName("Verify a client over its budget gets 429 while other clients go on.")
+    void shouldRejectClientOverBudget() throws Exception {
+        for (int i = 0; i < READ_CAPACITY; i++) {
+            assertThat(execute("GET", BATCH_CLIENT).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        }
+
+        var rejected = execute("GET", BATCH_CLIENT);
+
+        assertThat(rejected.getStatus()).isEqualTo(SC_TOO_MANY_REQUESTS);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejected.getHeader(HEADER_RATE_LIMIT_REMAINING)).isEqualTo("0");
+        assertThat(execute("GET", INTERACTIVE_CLIENT).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    @DisplayName("Verify reads and writes are taken from separate budgets.")
+    void shouldSeparateReadAndWriteBudgets() throws Exception {
+        assertThat(execute("POST", BATCH_CLIENT).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(execute("PATCH", BATCH_CLIENT).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(execute("DELETE", BATCH_CLIENT).getStatus()).isEqualTo(SC_TOO_MANY_REQUESTS);
+        assertThat(execute("GET", BATCH_CLIENT).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    @DisplayName("Verify the budget is refilled as time goes by.")
+    void shouldRefillBudget() throws Exception {
+        for (int i = 0; i < WRITE_CAPACITY; i++) {
+            execute("POST", BATCH_CLIENT);
+        }
+
+        assertThat(execute("POST", BATCH_CLIENT).getStatus()).isEqualTo(SC_TOO_MANY_REQUESTS);
+
+        clock.addAndGet(ONE_SECOND);
+
+        assertThat(execute("POST", BATCH_CLIENT).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(execute("POST", BATCH_CLIENT).getStatus()).isEqualTo(SC_TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("Verify the remote address identifies the client without the header.")
+    void shouldUseRemoteAddressWithoutHeader() throws Exception {
+        for (int i = 0; i < WRITE_CAPACITY; i++) {
+            execute("POST", null);
+        }
+
+        assertThat(execute("POST", null).getStatus()).isEqualTo(SC_TOO_MANY_REQUESTS);
+        assertThat(execute("POST", BATCH_CLIENT).getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+    }
+
+    @Test
+    @DisplayName("Verify the buckets are evicted once there are too many clients.")
+    void shouldEvictBuckets() {
+        var budget = new RateLimitBudget(READ_CAPACITY, READ_CAPACITY, 10, clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            budget.tryAcquire("client-" + i, clock.get());
+        }
+
+        assertThat(budget.clients()).isLessThanOrEqualTo(10);
+
+        clock.addAndGet(ONE_SECOND);
+        budget.tryAcquire(BATCH_CLIENT, clock.get());
+
+        assertThat(budget.clients()).isOne();
+    }
+
+    @Test
+    @DisplayName("Verify a bucket is dropped once untouched for the burst window, not while its client still owes.")
+    void shouldExpireFullBucketsOnly() {
+        var budget = new RateLimitBudget(WRITE_CAPACITY, 1, 100, clock::get);
+
+        budget.tryAcquire(BATCH_CLIENT, clock.get());
+        budget.tryAcquire(BATCH_CLIENT, clock.get());
+        budget.tryAcquire(INTERACTIVE_CLIENT, clock.get());
+        clock.addAndGet(ONE_SECOND);
+
+        assertThat(budget.tryAcquire(BATCH_CLIENT, clock.get()).allowed()).isTrue();
+        assertThat(budget.tryAcquire(BATCH_CLIENT, clock.get()).allowed()).isFalse();
+
+        clock.addAndGet(ONE_SECOND);
+
+        assertThat(budget.clients()).as("Only the interactive bucket, full again, is dropped").isOne();
+        assertThat(budget.tryAcquire(BATCH_CLIENT, clock.get()).remaining()).as("The bucket kept its debt").isZero();
+
+        clock.addAndGet(WRITE_CAPACITY * ONE_SECOND);
+
+        assertThat(budget.clients()).isZero();
+    }
+
+    private MockHttpServletResponse execute(String method, String client) throws Exception {
+        var request = new MockHttpServletRequest(method, USERS_PATH);
+        var response = new MockHttpServletResponse();
+
+        if (client != null) {
+            request.addHeader(CLIENT_KEY_HEADER, client);
+        }
+
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,283 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REPLICATIONTEST.JAVA                                        */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Hostile peers.
+ Oct.19/2026  COQ  First snapshot as a startup milestone.
+ Oct.19/2026  COQ  Snapshot copied while writes are running.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.replication;
+
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.FRAME_BATCH;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.FRAME_SNAPSHOT;
+import static com.themusketeers.sbnative.common.consts.ReplicationConstants.MAX_BATCH_MUTATIONS;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_STORE_LOAD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.MemoryUserService;
+import com.themusketeers.sbnative.service.decorator.MutationPublishingUserService;
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import com.themusketeers.sbnative.startup.StartupMilestone;
+import com.themusketeers.sbnative.startup.StartupTimelineRecorder;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking the Replication, with a primary and its replicas in the same JVM over localhost.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class ReplicationTest {
+    public static final Duration HEARTBEAT_INTERVAL = Duration.ofMillis(100);
+    public static final Duration RECONNECT_DELAY = Duration.ofMillis(50);
+    public static final Duration TIMEOUT = Duration.ofSeconds(10);
+    public static final int MAX_BATCH_SIZE = 16;
+    public static final int USERS = 100;
+    public static final String LOOPBACK = "127.0.0.1";
+    public static final int WRITERS = 4;
+    public static final int JOINING_REPLICAS = 3;
+    public static final int WRITES = 2000;
+
+    private final List<ReplicationClient> replicas = new ArrayList<>();
+    private final StartupTimelineRecorder startupTimeline = new StartupTimelineRecorder(null);
+    private UserService primary;
+    private UserMutationPublisher publisher;
+    private ReplicationServer server;
+
+    @AfterEach
+    void afterEach() {
+        replicas.forEach(ReplicationClient::stop);
+
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Verify every replica converges to the writes of the primary.")
+    void shouldReplicateWrites() {
+        startPrimary(1000);
+
+        var first = new MemoryUserService();
+        var second = new MemoryUserService();
+
+        startReplica(first);
+        startReplica(second);
+        await(() -> server.replicas() == 2);
+
+        var inserted = insertUsers();
+
+        primary.update(new User(inserted.getFirst().id(), "Name Updated", "Address Updated"));
+        primary.delete(inserted.getLast().id());
+
+        awaitReplicas();
+
+        assertThat(first.retrieveAll()).containsExactlyInAnyOrderElementsOf(primary.retrieveAll());
+        assertThat(second.retrieveAll()).containsExactlyInAnyOrderElementsOf(primary.retrieveAll());
+        assertThat(first.retrieve(inserted.getFirst().id()).name()).isEqualTo("Name Updated");
+        assertThat(first.exists(inserted.getLast().id())).isFalse();
+        assertThat(server.replicas()).isEqualTo(2);
+        assertThat(server.lag()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify a replica too far behind for the log catches up with a snapshot.")
+    void shouldCatchUpWithSnapshot() {
+        startPrimary(10);
+        insertUsers();
+
+        var late = new MemoryUserService();
+
+        late.insert(new User("stale-user", "Stale Name", "Stale Address"));
+        startReplica(late);
+        awaitReplicas();
+
+        assertThat(late.retrieveAll()).containsExactlyInAnyOrderElementsOf(primary.retrieveAll());
+        assertThat(late.exists("stale-user")).isFalse();
+
+        insertUsers();
+        awaitReplicas();
+
+        assertThat(late.count()).isEqualTo(2L * USERS);
+        assertThat(startupTimeline.milestones())
+            .extracting(StartupMilestone::name)
+            .as("Only the first snapshot is the load of the store")
+            .containsExactly(MILESTONE_STORE_LOAD);
+    }
+
+    @Test
+    @DisplayName("Verify the replicas joining under write load get a snapshot copied while the writes go on.")
+    void shouldSnapshotWhileWriting() throws Exception {
+        startPrimary(10);
+        insertUsers();
+
+        var stores = new ArrayList<UserService>();
+        var started = new CountDownLatch(WRITERS);
+
+        try (var writers = Executors.newFixedThreadPool(WRITERS)) {
+            for (var w = 0; w < WRITERS; w++) {
+                var writer = w;
+
+                writers.submit(() -> {
+                    started.countDown();
+
+                    for (var i = 0; i < WRITES; i++) {
+                        var user = primary.insert(new User("writer-" + writer + "-" + i, "Writer Name", "Address"));
+
+                        if (i % 2 == 0) {
+                            primary.delete(user.id());
+                        }
+                    }
+                });
+            }
+
+            started.await();
+
+            for (var i = 0; i < JOINING_REPLICAS; i++) {
+                stores.add(new MemoryUserService());
+                startReplica(stores.getLast());
+            }
+        }
+
+        awaitReplicas();
+
+        for (var store : stores) {
+            assertThat(store.retrieveAll()).containsExactlyInAnyOrderElementsOf(primary.retrieveAll());
+        }
+
+        assertThat(primary.count()).isEqualTo(USERS + WRITERS * WRITES / 2L);
+    }
+
+    @Test
+    @DisplayName("Verify a replica reconnecting carries on from the last change it applied.")
+    void shouldResumeAfterReconnect() {
+        startPrimary(1000);
+
+        var store = new MemoryUserService();
+        var replica = startReplica(store);
+
+        insertUsers();
+        awaitReplicas();
+        replica.stop();
+        await(() -> server.replicas() == 0);
+        store.insert(new User("local-user", "Local Name", "Local Address"));
+        insertUsers();
+        replica.start();
+        awaitReplicas();
+
+        assertThat(replica.applied()).isEqualTo(2L * USERS);
+        assertThat(store.exists("local-user")).as("Resumed without a snapshot").isTrue();
+        assertThat(store.count()).isEqualTo(2L * USERS + 1);
+    }
+
+    @Test
+    @DisplayName("Verify a client not starting with a hello is dropped before the rest of its frame is read.")
+    void shouldDropClientNotSayingHello() throws IOException {
+        startPrimary(1000);
+
+        try (var socket = new Socket(LOOPBACK, server.localPort())) {
+            // Only the type byte of a snapshot: were it read, the primary would wait for the rest of the frame.
+            socket.getOutputStream().write(FRAME_SNAPSHOT);
+
+            assertThat(socket.getInputStream().read()).as("Connection closed by the primary").isEqualTo(-1);
+        }
+
+        await(() -> server.replicas() == 0);
+    }
+
+    @Test
+    @DisplayName("Verify a frame with a count out of range or an unknown mutation type is rejected.")
+    void shouldRejectCorruptFrames() throws IOException {
+        var oversized = new ByteArrayOutputStream();
+        var out = new DataOutputStream(oversized);
+
+        out.writeByte(FRAME_BATCH);
+        out.writeLong(1);
+        out.writeInt(MAX_BATCH_MUTATIONS + 1);
+
+        assertThatThrownBy(() -> ReplicationProtocol.read(new DataInputStream(
+            new ByteArrayInputStream(oversized.toByteArray())))).isInstanceOf(StreamCorruptedException.class);
+
+        var unknownType = new ByteArrayOutputStream();
+
+        out = new DataOutputStream(unknownType);
+        out.writeByte(FRAME_BATCH);
+        out.writeLong(1);
+        out.writeInt(1);
+        out.writeLong(1);
+        out.writeByte(100);
+
+        assertThatThrownBy(() -> ReplicationProtocol.read(new DataInputStream(
+            new ByteArrayInputStream(unknownType.toByteArray())))).isInstanceOf(StreamCorruptedException.class);
+    }
+
+    private void startPrimary(int logCapacity) {
+        var store = new MemoryUserService();
+        var replicationLog = new ReplicationLog(logCapacity);
+
+        publisher = new UserMutationPublisher(() -> List.of(replicationLog));
+        primary = new MutationPublishingUserService(store, publisher);
+        server = new ReplicationServer(store, publisher, replicationLog, LOOPBACK, 0, MAX_BATCH_SIZE,
+            HEARTBEAT_INTERVAL);
+        server.start();
+    }
+
+    private ReplicationClient startReplica(UserService store) {
+        var replica = new ReplicationClient(store,
+            "localhost",
+            server.localPort(),
+            HEARTBEAT_INTERVAL,
+            RECONNECT_DELAY,
+            startupTimeline);
+
+        replica.start();
+        replicas.add(replica);
+        return replica;
+    }
+
+    private List<User> insertUsers() {
+        var inserted = new ArrayList<User>();
+
+        for (var i = 0; i < USERS; i++) {
+            inserted.add(primary.insert(new User(null, "User Name " + i, i + " Main Street, Springfield")));
+        }
+
+        return inserted;
+    }
+
+    private void awaitReplicas() {
+        var target = publisher.lastSequence();
+
+        await(() -> replicas.stream().allMatch(replica -> replica.applied() == target) && server.lag() == 0);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("Replicas did not converge in time").isLessThan(deadline);
+            Thread.onSpinWait();
+            Thread.yield();
+        }
+    }
+}
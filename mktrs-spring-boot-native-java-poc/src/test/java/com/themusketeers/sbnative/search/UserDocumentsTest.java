@@ -0,0 +1,153 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERDOCUMENTSTEST.JAVA                                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.search;
+
+import static com.themusketeers.sbnative.common.consts.SearchConstants.INITIAL_DOCUMENTS;
+import static com.themusketeers.sbnative.common.consts.SearchConstants.MIN_DEAD_POSTINGS_TO_COMPACT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.themusketeers.sbnative.domain.User;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link UserDocuments}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class UserDocumentsTest {
+    public static final String KEY_SHARED = "shared";
+    public static final User USER_FIRST = new User("1", "first", "");
+    public static final User USER_SECOND = new User("2", "second second", "");
+    public static final int FILLER_USERS = MIN_DEAD_POSTINGS_TO_COMPACT;
+
+    private UserDocuments documents;
+    private String[] column;
+
+    @BeforeEach
+    void beforeEach() {
+        column = new String[INITIAL_DOCUMENTS];
+        documents = new UserDocuments(UserDocumentsTest::keys, new UserDocuments.Columns() {
+            @Override
+            public void grow(int capacity) {
+                column = Arrays.copyOf(column, capacity);
+            }
+
+            @Override
+            public void move(int from, int to) {
+                column[to] = column[from];
+            }
+
+            @Override
+            public void clear(int from, int to) {
+                Arrays.fill(column, from, to, null);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Verify the documents are numbered in order, their keys posted with how many times each is found.")
+    void shouldNumberDocuments() {
+        assertThat(add(USER_FIRST)).isZero();
+        assertThat(add(USER_SECOND)).isEqualTo(1);
+
+        var shared = documents.postings(KEY_SHARED);
+        var second = documents.postings("second");
+
+        assertThat(documents.live()).isEqualTo(2);
+        assertThat(documents.keys()).isEqualTo(3);
+        assertThat(documents.length(1)).isEqualTo(3);
+        assertThat(documents.liveLength()).isEqualTo(5);
+        assertThat(shared.size()).isEqualTo(2);
+        assertThat(shared.document(1)).isEqualTo(1);
+        assertThat(second.frequency(0)).isEqualTo(2);
+        assertThat(shared.maxFrequency()).isEqualTo(1);
+        assertThat(shared.minLength()).isEqualTo(2);
+        assertThat(shared.find(0, 1)).isEqualTo(1);
+        assertThat(shared.find(0, 5)).isNegative();
+    }
+
+    @Test
+    @DisplayName("Verify a removed document is marked dead, a list left without live documents going at once.")
+    void shouldMarkRemovedDead() {
+        add(USER_FIRST);
+        add(USER_SECOND);
+
+        assertThat(documents.remove(USER_FIRST.id())).isZero();
+        assertThat(documents.remove(USER_FIRST.id())).isEqualTo(-1);
+        assertThat(documents.user(0)).isNull();
+        assertThat(documents.live()).isEqualTo(1);
+        assertThat(documents.liveLength()).isEqualTo(3);
+        assertThat(documents.postings("first")).isNull();
+        assertThat(documents.postings(KEY_SHARED).size()).isEqualTo(2);
+        assertThat(documents.postings(KEY_SHARED).live()).isEqualTo(1);
+        assertThat(documents.deadPostings()).isEqualTo(1);
+        assertThat(documents.compactIfMostlyDead()).as("Too few dead postings to compact").isNull();
+    }
+
+    @Test
+    @DisplayName("Verify the live documents are renumbered in order once the dead postings are half of them all.")
+    void shouldCompactMostlyDead() {
+        var fillers = new ArrayList<User>();
+
+        add(USER_FIRST);
+        IntStream.range(0, FILLER_USERS).forEach(i -> fillers.add(new User("filler-" + i, "filler", "")));
+        fillers.forEach(this::add);
+        add(USER_SECOND);
+        fillers.forEach(user -> documents.remove(user.id()));
+
+        var renumbered = documents.compactIfMostlyDead();
+
+        assertThat(renumbered).isNotNull();
+        assertThat(renumbered[0]).isZero();
+        assertThat(renumbered[1]).isEqualTo(-1);
+        assertThat(renumbered[FILLER_USERS + 1]).isEqualTo(1);
+        assertThat(documents.numbered()).isEqualTo(2);
+        assertThat(documents.deadPostings()).isZero();
+        assertThat(documents.user(1)).isEqualTo(USER_SECOND);
+        assertThat(documents.length(1)).isEqualTo(3);
+        assertThat(column[1]).isEqualTo(USER_SECOND.name());
+        assertThat(column[2]).isNull();
+        assertThat(postedDocuments(documents.postings(KEY_SHARED))).containsExactly(0, 1);
+        assertThat(documents.remove(USER_SECOND.id())).isEqualTo(1);
+    }
+
+    private int add(User user) {
+        var document = documents.add(user);
+
+        column[document] = user.name();
+        return document;
+    }
+
+    private static List<Integer> postedDocuments(UserDocuments.Postings list) {
+        var posted = new ArrayList<Integer>();
+
+        list.forEach(posted::add);
+        return posted;
+    }
+
+    private static Map<String, Integer> keys(User user) {
+        var keys = new LinkedHashMap<String, Integer>();
+
+        keys.put(KEY_SHARED, 1);
+
+        for (var word : user.name().split(" ")) {
+            keys.merge(word, 1, Integer::sum);
+        }
+
+        return keys;
+    }
+}
@@ -0,0 +1,176 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERNAMEFUZZYINDEXTEST.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Compaction of the dead postings.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserSearchHit;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link UserNameFuzzyIndex}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class UserNameFuzzyIndexTest {
+    public static final User USER_JOHN = new User("1", "John Smith", "12 Main Street");
+    public static final User USER_JOAN = new User("2", "Joan Smith", "40 Main Street");
+    public static final User USER_JOSE = new User("3", "José Gómez", "7 Elm Street");
+    public static final User USER_JOSE_RENAMED = new User("3", "Pedro Gómez", "7 Elm Street");
+    public static final double THRESHOLD = 0.7;
+    public static final double SIMILARITY_TWO_SWAPS = 0.8;
+    public static final double SCORE_TOLERANCE = 1e-9;
+    public static final int LIMIT = 10;
+    public static final int FILLER_USERS = 5_000;
+    public static final int RANDOM_USERS = 5_000;
+    public static final int RANDOM_QUERIES = 100;
+    public static final long RANDOM_SEED = 7L;
+    public static final String[] SYLLABLES = {"an", "be", "ca", "do", "el", "fi", "go", "ha", "ir", "jo", "ka", "lu"};
+
+    private UserNameFuzzyIndex index;
+    private long sequence;
+
+    @BeforeEach
+    void beforeEach() {
+        index = new UserNameFuzzyIndex();
+        index.load(List.of(USER_JOHN, USER_JOAN, USER_JOSE));
+    }
+
+    @Test
+    @DisplayName("Verify misspelled names are found, the most similar first.")
+    void shouldTolerateTypos() {
+        var hits = index.search("Jhon Smiht", THRESHOLD, LIMIT);
+
+        assertThat(users(hits)).containsExactly(USER_JOHN, USER_JOAN);
+        assertThat(hits.get(0).score()).isCloseTo(SIMILARITY_TWO_SWAPS, within(SCORE_TOLERANCE));
+        assertThat(users(index.search("john smith", THRESHOLD, LIMIT))).containsExactly(USER_JOHN, USER_JOAN);
+        assertThat(index.search("john smith", THRESHOLD, LIMIT).get(0).score()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Verify the threshold and the limit narrow the results.")
+    void shouldApplyThresholdAndLimit() {
+        assertThat(users(index.search("John Smith", 0.95, LIMIT))).containsExactly(USER_JOHN);
+        assertThat(users(index.search("John Smith", THRESHOLD, 1))).containsExactly(USER_JOHN);
+        assertThat(index.search("Zoe Zimmer", THRESHOLD, LIMIT)).isEmpty();
+        assertThat(index.search(" ;; ", THRESHOLD, LIMIT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify the names ignore case and diacritics.")
+    void shouldNormalizeNames() {
+        assertThat(users(index.search("JOSE GOMES", THRESHOLD, LIMIT))).containsExactly(USER_JOSE);
+    }
+
+    @Test
+    @DisplayName("Verify the index follows inserts, updates and deletes.")
+    void shouldFollowMutations() {
+        var inserted = new User("4", "Johnny Smith", "3 Pine Road");
+
+        index.onMutation(mutation(UserMutation.Type.INSERT, inserted.id(), inserted));
+        index.onMutation(mutation(UserMutation.Type.UPDATE, USER_JOSE.id(), USER_JOSE_RENAMED));
+        index.onMutation(mutation(UserMutation.Type.DELETE, USER_JOAN.id(), null));
+
+        assertThat(users(index.search("Jon Smith", THRESHOLD, LIMIT))).containsExactly(USER_JOHN, inserted);
+        assertThat(index.search("Jose Gomez", THRESHOLD, LIMIT)).isEmpty();
+        assertThat(users(index.search("Pedro Gomez", THRESHOLD, LIMIT))).containsExactly(USER_JOSE_RENAMED);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Verify the results stay the same once the dead postings are compacted away.")
+    void shouldCompactDeadPostings() {
+        var fillers = IntStream.range(0, FILLER_USERS)
+            .mapToObj(i -> new User("filler-" + i, "Filler Smith " + i, "Filler Lane"))
+            .toList();
+
+        index.load(fillers);
+        fillers.forEach(user -> index.onMutation(mutation(UserMutation.Type.DELETE, user.id(), null)));
+        index.onMutation(mutation(UserMutation.Type.UPDATE, USER_JOSE.id(), USER_JOSE_RENAMED));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("Filler Smith 1", THRESHOLD, LIMIT)).isEmpty();
+        assertThat(users(index.search("Jon Smith", THRESHOLD, LIMIT))).containsExactly(USER_JOHN, USER_JOAN);
+        assertThat(users(index.search("Pedro Gomez", 0, LIMIT))).startsWith(USER_JOSE_RENAMED).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Verify the trigram filter misses no name a full scan would accept.")
+    void shouldMatchFullScan() {
+        var random = new Random(RANDOM_SEED);
+        var users = IntStream.range(0, RANDOM_USERS)
+            .mapToObj(i -> new User(String.valueOf(i), randomName(random), "Address " + i))
+            .toList();
+        var searched = new UserNameFuzzyIndex();
+
+        searched.load(users);
+
+        for (var i = 0; i < RANDOM_QUERIES; i++) {
+            var query = withTypo(random, users.get(random.nextInt(users.size())).name());
+
+            for (var threshold : new double[] {0.6, 0.75, 0.9}) {
+                var expected = users.stream()
+                    .filter(user -> similarity(query, user.name()) >= threshold - SCORE_TOLERANCE)
+                    .count();
+
+                assertThat(searched.search(query, threshold, RANDOM_USERS))
+                    .as("query [%s] threshold %s", query, threshold)
+                    .hasSize((int) expected);
+            }
+        }
+    }
+
+    private UserMutation mutation(UserMutation.Type type, String userId, User user) {
+        return new UserMutation(++sequence, type, userId, user, System.currentTimeMillis());
+    }
+
+    private static String randomName(Random random) {
+        var name = new StringBuilder();
+
+        for (var word = 0; word < 2; word++) {
+            name.append(word == 0 ? "" : " ");
+            IntStream.range(0, 2 + random.nextInt(2)).forEach(i -> name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]));
+        }
+
+        return name.toString();
+    }
+
+    private static String withTypo(Random random, String name) {
+        var position = random.nextInt(name.length());
+
+        return switch (random.nextInt(4)) {
+            case 0 -> name.substring(0, position) + name.substring(position + 1);
+            case 1 -> name.substring(0, position) + "x" + name.substring(position);
+            case 2 -> name.substring(0, position) + "x" + name.substring(position + 1);
+            default -> position + 1 < name.length()
+                ? name.substring(0, position) + name.charAt(position + 1) + name.charAt(position)
+                + name.substring(position + 2)
+                : name;
+        };
+    }
+
+    private static double similarity(String left, String right) {
+        var longest = Math.max(left.length(), right.length());
+
+        return 1 - (double) UserNameFuzzyIndex.editDistance(left, right, longest) / longest;
+    }
+
+    private static List<User> users(List<UserSearchHit> hits) {
+        return hits.stream().map(UserSearchHit::user).toList();
+    }
+}
@@ -0,0 +1,182 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   USERSEARCHINDEXTEST.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.domain.response.UserSearchHit;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link UserSearchIndex}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class UserSearchIndexTest {
+    public static final double K1 = 1.2;
+    public static final double B = 0.75;
+    public static final User USER_MAIN = new User("1", "Ana Gómez", "12 Main Street, Springfield");
+    public static final User USER_MAIN_TWICE = new User("2", "Luis Main", "Main Street 40, Shelbyville");
+    public static final User USER_ELM = new User("3", "Pedro Ruiz", "7 Elm Street, Bogotá");
+    public static final User USER_ELM_MOVED = new User("3", "Pedro Ruiz", "99 Oak Avenue, Medellín");
+    public static final int LIMIT = 10;
+    public static final int FILLER_USERS = 10_000;
+    public static final int VOCABULARY = 100;
+    public static final long RANDOM_SEED = 42L;
+    public static final double SCORE_TOLERANCE = 1e-9;
+
+    private UserSearchIndex index;
+    private long sequence;
+
+    @BeforeEach
+    void beforeEach() {
+        index = new UserSearchIndex(K1, B);
+        index.load(List.of(USER_MAIN, USER_MAIN_TWICE, USER_ELM));
+    }
+
+    @Test
+    @DisplayName("Verify the users are ranked by BM25, the term found more often first.")
+    void shouldRankByRelevance() {
+        var hits = index.search("main", LIMIT);
+
+        assertThat(users(hits)).containsExactly(USER_MAIN_TWICE, USER_MAIN);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+        assertThat(users(index.search("street", LIMIT))).hasSize(3);
+        assertThat(users(index.search("street", 1))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Verify a rarer term weighs more than a common one.")
+    void shouldWeighRareTermsMore() {
+        var hits = index.search("street springfield", LIMIT);
+
+        assertThat(hits.get(0).user()).isEqualTo(USER_MAIN);
+        assertThat(hits).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Verify the terms ignore case, punctuation and diacritics.")
+    void shouldNormalizeTerms() {
+        assertThat(users(index.search("BOGOTA!", LIMIT))).containsExactly(USER_ELM);
+        assertThat(users(index.search("gomez", LIMIT))).containsExactly(USER_MAIN);
+        assertThat(index.search("  ,; ", LIMIT)).isEmpty();
+        assertThat(index.search("unknown", LIMIT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify the index follows inserts, updates and deletes.")
+    void shouldFollowMutations() {
+        var inserted = new User("4", "Marta Elm", "3 Pine Road, Springfield");
+
+        index.onMutation(mutation(UserMutation.Type.INSERT, inserted.id(), inserted));
+        index.onMutation(mutation(UserMutation.Type.UPDATE, USER_ELM.id(), USER_ELM_MOVED));
+        index.onMutation(mutation(UserMutation.Type.DELETE, USER_MAIN.id(), null));
+
+        assertThat(users(index.search("elm", LIMIT))).containsExactly(inserted);
+        assertThat(users(index.search("medellin", LIMIT))).containsExactly(USER_ELM_MOVED);
+        assertThat(users(index.search("springfield", LIMIT))).containsExactly(inserted);
+        assertThat(users(index.search("bogota", LIMIT))).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Verify the results stay the same once the dead postings are compacted away.")
+    void shouldCompactDeadPostings() {
+        var fillers = IntStream.range(0, FILLER_USERS)
+            .mapToObj(i -> new User(new UUID(0, i).toString(), "Filler " + i, i + " Filler Lane, Springfield"))
+            .toList();
+
+        index.load(fillers);
+        fillers.forEach(user -> index.onMutation(mutation(UserMutation.Type.DELETE, user.id(), null)));
+        index.onMutation(mutation(UserMutation.Type.UPDATE, USER_ELM.id(), USER_ELM_MOVED));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(users(index.search("filler", LIMIT))).isEmpty();
+        assertThat(users(index.search("main", LIMIT))).containsExactly(USER_MAIN_TWICE, USER_MAIN);
+        assertThat(users(index.search("oak", LIMIT))).containsExactly(USER_ELM_MOVED);
+    }
+
+    @Test
+    @DisplayName("Verify the pruned search gives the same top users as scoring every user.")
+    void shouldMatchExhaustiveScoring() {
+        var random = new Random(RANDOM_SEED);
+        var words = IntStream.range(0, VOCABULARY).mapToObj(i -> "w" + i).toList();
+        var corpus = IntStream.range(0, FILLER_USERS)
+            .mapToObj(i -> new User(String.valueOf(i),
+                randomText(random, words, 1 + random.nextInt(3)),
+                randomText(random, words, 1 + random.nextInt(8))))
+            .toList();
+        var pruned = new UserSearchIndex(K1, B);
+
+        pruned.load(corpus);
+
+        for (var query : List.of("w0", "w1 w2", "w3 w50 w99", "w7 w7 w8 w9 w10")) {
+            var expected = exhaustiveScores(corpus, query);
+            var hits = pruned.search(query, LIMIT);
+
+            assertThat(hits).hasSize(LIMIT);
+            for (var i = 0; i < LIMIT; i++) {
+                assertThat(hits.get(i).score()).isCloseTo(expected.get(i), within(SCORE_TOLERANCE));
+            }
+        }
+    }
+
+    private UserMutation mutation(UserMutation.Type type, String userId, User user) {
+        return new UserMutation(++sequence, type, userId, user, System.currentTimeMillis());
+    }
+
+    private static String randomText(Random random, List<String> words, int length) {
+        // Skewed towards the first words, so some terms are common and others rare.
+        return IntStream.range(0, length)
+            .mapToObj(i -> words.get((int) (words.size() * Math.pow(random.nextDouble(), 3))))
+            .collect(Collectors.joining(" "));
+    }
+
+    private static List<Double> exhaustiveScores(List<User> corpus, String query) {
+        var documents = corpus.stream()
+            .map(user -> Stream.concat(Tokenizer.tokenize(user.name()).stream(),
+                Tokenizer.tokenize(user.address()).stream()).toList())
+            .toList();
+        var averageLength = documents.stream().mapToInt(List::size).average().orElseThrow();
+        var terms = Tokenizer.tokenize(query).stream().distinct().toList();
+        var holdingByTerm = terms.stream().collect(Collectors.toMap(term -> term,
+            term -> documents.stream().filter(document -> document.contains(term)).count()));
+
+        return documents.stream()
+            .mapToDouble(document -> terms.stream().mapToDouble(term -> {
+                var holding = holdingByTerm.get(term);
+                var frequency = document.stream().filter(term::equals).count();
+                var idf = Math.log(1 + (documents.size() - holding + 0.5) / (holding + 0.5));
+
+                return idf * frequency * (K1 + 1)
+                    / (frequency + K1 * (1 - B + B * document.size() / averageLength));
+            }).sum())
+            .filter(score -> score > 0)
+            .boxed()
+            .sorted(Comparator.reverseOrder())
+            .limit(LIMIT)
+            .toList();
+    }
+
+    private static List<User> users(List<UserSearchHit> hits) {
+        return hits.stream().map(UserSearchHit::user).toList();
+    }
+}
@@ -5,6 +5,7 @@
 /*-----------------------------------------------------------------------------
  History
  Jun.15/2023  COQ  File created.
+ Oct.19/2026  COQ  Multi-get test.
  -----------------------------------------------------------------------------*/
 package com.themusketeers.sbnative.service;
 
@@ -29,6 +30,7 @@ class MemoryUserServiceTest {
 
     public static final String USER_ID_ONE = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
     public static final String USER_ID_TWO = "b94f6ae6-e1d2-4fdf-8c6b-eb471da1d4d1";
+    public static final String USER_ID_MISSING = "53eb385f-582d-4a13-8275-c26a5de6655c";
     public static final String USER_NAME_ONE = "Name One";
     public static final String USER_NAME_ONE_UPDATED = "Name One Updated";
     public static final String USER_NAME_TWO = "Name Two";
@@ -227,6 +229,17 @@ class MemoryUserServiceTest {
             .hasSize(INT_ZERO);
     }
 
+    @Test
+    @DisplayName("Verify it retrieves many users at once in the order of the ids, leaving out the ones not found.")
+    void shouldRetrieveManyUsers() {
+        userService.insert(buildUserWithIDOne());
+        userService.insert(buildUserWithIDTwo());
+
+        assertThat(userService.retrieveMany(List.of(USER_ID_TWO, USER_ID_MISSING, USER_ID_ONE)))
+            .containsExactly(buildUserWithIDTwo(), buildUserWithIDOne());
+        assertThat(userService.retrieveMany(List.of(USER_ID_MISSING))).isEmpty();
+    }
+
     private List<User> buildUserList() {
         return List.of(buildUserWithIDOne(), buildUserWithIDTwo());
     }
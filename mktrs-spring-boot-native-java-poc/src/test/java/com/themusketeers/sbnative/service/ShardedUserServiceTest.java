@@ -0,0 +1,107 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   SHARDEDUSERSERVICETEST.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.themusketeers.sbnative.domain.User;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link ShardedUserService}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class ShardedUserServiceTest {
+    public static final String USER_ID = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final User USER_UPDATED = new User(USER_ID, "Name One Updated", "Address One Updated");
+    public static final int SHARDS = 8;
+    public static final int WRITERS = 8;
+    public static final int USERS_PER_WRITER = 1000;
+
+    private ShardedUserService userService;
+
+    @BeforeEach
+    void beforeEach() {
+        userService = new ShardedUserService(SHARDS);
+    }
+
+    @Test
+    @DisplayName("Verify the users are inserted, retrieved, updated and deleted by id.")
+    void shouldOperateById() {
+        var inserted = userService.insert(new User(null, USER.name(), USER.address()));
+
+        assertThat(inserted.id()).isNotNull();
+        assertThat(userService.retrieve(inserted.id())).isEqualTo(inserted);
+
+        userService.insert(USER);
+
+        assertThat(userService.exists(USER_ID)).isTrue();
+        assertThat(userService.update(USER_UPDATED)).isTrue();
+        assertThat(userService.retrieve(USER_ID)).isEqualTo(USER_UPDATED);
+        assertThat(userService.delete(USER_ID)).isTrue();
+        assertThat(userService.exists(USER_ID)).isFalse();
+        assertThat(userService.update(USER_UPDATED)).isFalse();
+        assertThat(userService.delete(USER_ID)).isFalse();
+        assertThat(userService.retrieve(USER_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify count and retrieve all gather the users of every shard.")
+    void shouldGatherAllShards() {
+        for (var i = 0; i < 100; i++) {
+            userService.insert(new User(null, "User Name " + i, i + " Main Street, Springfield"));
+        }
+
+        assertThat(userService.count()).isEqualTo(100L);
+        assertThat(userService.retrieveAll()).hasSize(100).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Verify concurrent writers do not lose users.")
+    void shouldNotLoseConcurrentWrites() throws Exception {
+        var tasks = new ArrayList<Callable<Void>>();
+
+        for (var writer = 0; writer < WRITERS; writer++) {
+            tasks.add(() -> {
+                for (var i = 0; i < USERS_PER_WRITER; i++) {
+                    var user = userService.insert(new User(null, "User Name " + i, i + " Main Street, Springfield"));
+
+                    userService.retrieve(user.id());
+                    userService.count();
+                }
+
+                return null;
+            });
+        }
+
+        try (var executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (var result : executor.invokeAll(tasks)) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(userService.count()).isEqualTo((long) WRITERS * USERS_PER_WRITER);
+    }
+
+    @Test
+    @DisplayName("Verify one shard per available processor by default.")
+    void shouldDefaultToOneShardPerProcessor() {
+        assertThat(new ShardedUserService(0).shards()).isEqualTo(Runtime.getRuntime().availableProcessors());
+        assertThatThrownBy(() -> new ShardedUserService(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,158 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   CACHINGUSERSERVICETEST.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get test.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.decorator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.MemoryUserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link CachingUserService}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CachingUserServiceTest {
+    public static final String USER_ID = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final String UNKNOWN_USER_ID = "b94f6ae6-e1d2-4fdf-8c6b-eb471da1d4d1";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final User USER_UPDATED = new User(USER_ID, "Name One Updated", "Address One Updated");
+    public static final String USER_ID_TWO = "53eb385f-582d-4a13-8275-c26a5de6655c";
+    public static final User USER_TWO = new User(USER_ID_TWO, "Name Two", "Address Two");
+    public static final long MAX_WEIGHT = 1024 * 1024;
+
+    private CountingUserService store;
+    private CachingUserService userService;
+
+    @BeforeEach
+    void beforeEach() {
+        store = new CountingUserService();
+        userService = new CachingUserService(store, MAX_WEIGHT);
+        userService.insert(USER);
+    }
+
+    @Test
+    @DisplayName("Verify a cached user is not loaded from the store again.")
+    void shouldServeFromCache() {
+        userService.cache().synchronous().invalidateAll();
+
+        assertThat(userService.retrieve(USER_ID)).isEqualTo(USER);
+        assertThat(userService.retrieve(USER_ID)).isEqualTo(USER);
+        assertThat(userService.exists(USER_ID)).isTrue();
+        assertThat(store.loads.get()).isOne();
+    }
+
+    @Test
+    @DisplayName("Verify a multi-get serves the cached users and loads only the misses, in a single batch.")
+    void shouldLoadMissesInOneBatch() {
+        store.insert(USER_TWO);
+
+        assertThat(userService.retrieveMany(List.of(USER_ID_TWO, UNKNOWN_USER_ID, USER_ID)))
+            .containsExactly(USER_TWO, USER);
+        assertThat(store.batches).containsExactly(List.of(USER_ID_TWO, UNKNOWN_USER_ID));
+
+        assertThat(userService.retrieveMany(List.of(USER_ID, USER_ID_TWO))).containsExactly(USER, USER_TWO);
+        assertThat(userService.retrieve(USER_ID_TWO)).isEqualTo(USER_TWO);
+        assertThat(store.batches).hasSize(1);
+        assertThat(store.loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify an update is written through to the cache.")
+    void shouldWriteThroughOnUpdate() {
+        assertThat(userService.update(USER_UPDATED)).isTrue();
+        assertThat(userService.retrieve(USER_ID)).isEqualTo(USER_UPDATED);
+        assertThat(store.retrieve(USER_ID)).isEqualTo(USER_UPDATED);
+        assertThat(store.loads.get()).isOne();
+    }
+
+    @Test
+    @DisplayName("Verify an update of an unknown user does not get cached.")
+    void shouldNotCacheFailedUpdate() {
+        assertThat(userService.update(new User(UNKNOWN_USER_ID, "Name", "Address"))).isFalse();
+        assertThat(userService.retrieve(UNKNOWN_USER_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify a delete invalidates the cached user.")
+    void shouldInvalidateOnDelete() {
+        userService.retrieve(USER_ID);
+
+        assertThat(userService.delete(USER_ID)).isTrue();
+        assertThat(userService.retrieve(USER_ID)).isNull();
+        assertThat(userService.exists(USER_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verify users not found are not cached.")
+    void shouldNotCacheMissingUser() {
+        assertThat(userService.retrieve(UNKNOWN_USER_ID)).isNull();
+        assertThat(userService.retrieve(UNKNOWN_USER_ID)).isNull();
+        assertThat(store.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Verify the cache is bounded by the estimated size of the users.")
+    void shouldBoundCacheSize() {
+        var smallCache = new CachingUserService(store, 10_000);
+
+        for (int i = 0; i < 1000; i++) {
+            smallCache.insert(new User(null, "Name " + i, "Address " + i));
+        }
+
+        var cache = smallCache.cache().synchronous();
+
+        cache.cleanUp();
+
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize().orElseThrow()).isLessThanOrEqualTo(10_000);
+        assertThat(cache.stats().evictionCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Verify hits and misses are published as metrics.")
+    void shouldPublishCacheMetrics() {
+        var registry = new SimpleMeterRegistry();
+
+        userService.bindTo(registry);
+        userService.retrieve(USER_ID);
+        userService.retrieve(UNKNOWN_USER_ID);
+
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isOne();
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isOne();
+    }
+
+    /**
+     * In-memory store counting the loads and keeping the ids of each multi-get.
+     */
+    private static class CountingUserService extends MemoryUserService {
+        private final AtomicInteger loads = new AtomicInteger();
+        private final List<List<String>> batches = new ArrayList<>();
+
+        @Override
+        public User retrieve(String userId) {
+            loads.incrementAndGet();
+            return super.retrieve(userId);
+        }
+
+        @Override
+        public List<User> retrieveMany(Collection<String> userIds) {
+            batches.add(List.copyOf(userIds));
+            return super.retrieveMany(userIds);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   COALESCINGUSERSERVICETEST.JAVA                              */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.decorator;
+
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.METRIC_COALESCING_RATIO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.MemoryUserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link CoalescingUserService}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class CoalescingUserServiceTest {
+    public static final String USER_ID = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final User USER_UPDATED = new User(USER_ID, "Name One Updated", "Address One Updated");
+    public static final int CALLERS = 50;
+
+    private SlowUserService store;
+    private CoalescingUserService userService;
+
+    @BeforeEach
+    void beforeEach() {
+        store = new SlowUserService();
+        store.insert(USER);
+        userService = new CoalescingUserService(store);
+    }
+
+    @Test
+    @DisplayName("Verify concurrent reads of the same id share a single load.")
+    void shouldCoalesceConcurrentReads() throws Exception {
+        var results = retrieveConcurrently();
+
+        for (var result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(USER);
+        }
+
+        assertThat(store.loads.get()).isOne();
+        assertThat(userService.coalescingRatio()).isEqualTo((double) (CALLERS - 1) / CALLERS);
+    }
+
+    @Test
+    @DisplayName("Verify a failed load is rethrown to every waiter and not kept.")
+    void shouldShareFailure() throws Exception {
+        store.failure.set(new IllegalStateException("Store unavailable"));
+
+        var results = retrieveConcurrently();
+
+        for (var result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        store.failure.set(null);
+
+        assertThat(userService.retrieve(USER_ID)).isEqualTo(USER);
+        assertThat(store.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Verify a read after a write does not join the load started before it.")
+    void shouldNotJoinLoadStartedBeforeWrite() throws Exception {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var staleRead = executor.submit(() -> userService.retrieve(USER_ID));
+
+            store.awaitLoad();
+            store.gated.set(false);
+            userService.update(USER_UPDATED);
+
+            assertThat(userService.retrieve(USER_ID)).isEqualTo(USER_UPDATED);
+
+            store.release();
+            staleRead.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(store.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Verify the coalescing ratio is published as a metric.")
+    void shouldPublishCoalescingRatio() {
+        var registry = new SimpleMeterRegistry();
+
+        userService.bindTo(registry);
+        store.gated.set(false);
+        userService.exists(USER_ID);
+
+        assertThat(registry.get(METRIC_COALESCING_RATIO).gauge().value()).isZero();
+    }
+
+    /**
+     * Starts the callers, lets the first one block in the store until the others joined its load, then releases it.
+     */
+    private ArrayList<Future<User>> retrieveConcurrently() {
+        var results = new ArrayList<Future<User>>();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> userService.retrieve(USER_ID)));
+
+                if (i == 0) {
+                    store.awaitLoad();
+                }
+            }
+
+            waitForWaiters();
+            store.release();
+        }
+
+        return results;
+    }
+
+    private void waitForWaiters() {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (userService.coalescingRatio() * CALLERS < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * In-memory store whose reads block until released, counting the loads.
+     */
+    private static class SlowUserService extends MemoryUserService {
+        private final AtomicInteger loads = new AtomicInteger();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final AtomicBoolean gated = new AtomicBoolean(true);
+        private final CountDownLatch loadStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public User retrieve(String userId) {
+            loads.incrementAndGet();
+
+            if (gated.get()) {
+                loadStarted.countDown();
+                await(released);
+            }
+
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+
+            return super.retrieve(userId);
+        }
+
+        void awaitLoad() {
+            await(loadStarted);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   MUTATIONPUBLISHINGUSERSERVICETEST.JAVA                      */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.decorator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.MemoryUserService;
+import com.themusketeers.sbnative.service.mutation.UserMutation;
+import com.themusketeers.sbnative.service.mutation.UserMutationListener;
+import com.themusketeers.sbnative.service.mutation.UserMutationPublisher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link MutationPublishingUserService}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class MutationPublishingUserServiceTest {
+    public static final String USER_ID = "0f1c3f0e-52a4-4b8e-9a3c-0d3b8c1e2f41";
+    public static final String OTHER_USER_ID = "7d2e9a61-3b5c-4f1d-8e7a-6c4b2a9d0e13";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final User OTHER_USER = new User(OTHER_USER_ID, "Name Two", "Address Two");
+    public static final int WRITERS = 8;
+    public static final int WRITES_PER_WRITER = 200;
+
+    private final List<UserMutation> received = new CopyOnWriteArrayList<>();
+
+    private volatile CountDownLatch listenerEntered;
+    private volatile CountDownLatch listenerReleased;
+    private StoreSignalingInserts store;
+    private UserMutationPublisher publisher;
+    private MutationPublishingUserService userService;
+
+    @BeforeEach
+    void beforeEach() {
+        UserMutationListener listener = mutation -> {
+            var entered = listenerEntered;
+
+            if (entered != null) {
+                entered.countDown();
+                await(listenerReleased);
+            }
+
+            received.add(mutation);
+        };
+
+        store = new StoreSignalingInserts();
+        publisher = new UserMutationPublisher(() -> List.of(listener));
+        userService = new MutationPublishingUserService(store, publisher);
+    }
+
+    @Test
+    @DisplayName("Verify the changes of concurrent writers reach the listener once each and in sequence order.")
+    void shouldDeliverInSequenceOrder() throws Exception {
+        try (var executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (var writer = 0; writer < WRITERS; writer++) {
+                executor.execute(() -> {
+                    for (var i = 0; i < WRITES_PER_WRITER; i++) {
+                        userService.insert(new User(null, "Name " + i, "Address " + i));
+                    }
+                });
+            }
+        }
+
+        assertThat(received).extracting(UserMutation::sequence)
+            .containsExactlyElementsOf(LongStream.rangeClosed(1, WRITERS * WRITES_PER_WRITER).boxed().toList());
+        assertThat(publisher.lastSequence()).isEqualTo(WRITERS * WRITES_PER_WRITER);
+    }
+
+    @Test
+    @DisplayName("Verify a slow listener does not hold other writes from reaching the store, which return once delivered.")
+    void shouldWriteWhileListenerRuns() throws Exception {
+        listenerEntered = new CountDownLatch(1);
+        listenerReleased = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var first = executor.submit(() -> userService.insert(USER));
+
+            assertThat(listenerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            var second = executor.submit(() -> userService.insert(OTHER_USER));
+
+            // The first writer is delivering its change; the second one still reaches the store.
+            assertThat(store.stored.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(store.retrieve(OTHER_USER_ID)).isEqualTo(OTHER_USER);
+            assertThat(second).isNotDone();
+
+            listenerEntered = null;
+            listenerReleased.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(USER);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(OTHER_USER);
+        }
+
+        assertThat(received).extracting(UserMutation::userId).containsExactly(USER_ID, OTHER_USER_ID);
+    }
+
+    @Test
+    @DisplayName("Verify a fuzzy read gives the sequence of the last change delivered, all of them in the read.")
+    void shouldReadFuzzy() {
+        userService.insert(USER);
+        userService.update(new User(USER_ID, "Name One Updated", "Address One"));
+
+        var snapshot = publisher.readFuzzy(() -> new ArrayList<>(userService.retrieveAll()));
+
+        assertThat(snapshot.sequence()).isEqualTo(2);
+        assertThat(snapshot.value()).extracting(User::name).containsExactly("Name One Updated");
+    }
+
+    /**
+     * Store telling when its second insert is stored.
+     */
+    private static class StoreSignalingInserts extends MemoryUserService {
+        private final CountDownLatch stored = new CountDownLatch(2);
+
+        @Override
+        public User insert(User user) {
+            var inserted = super.insert(user);
+
+            stored.countDown();
+            return inserted;
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
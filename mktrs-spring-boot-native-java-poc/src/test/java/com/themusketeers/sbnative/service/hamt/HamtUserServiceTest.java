@@ -0,0 +1,195 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   HAMTUSERSERVICETEST.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get test.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.hamt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.themusketeers.sbnative.domain.User;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link HamtUserService} and its {@link UserTrie}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class HamtUserServiceTest {
+    public static final String USER_ID = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final User USER_UPDATED = new User(USER_ID, "Name One Updated", "Address One Updated");
+    public static final String COLLIDING_ID_ONE = "Aa";
+    public static final String COLLIDING_ID_TWO = "BB";
+    public static final int WRITERS = 8;
+    public static final int USERS_PER_WRITER = 1000;
+    public static final int RANDOM_OPERATIONS = 20000;
+    public static final int RANDOM_IDS = 2000;
+    public static final long RANDOM_SEED = 42L;
+
+    private HamtUserService userService;
+
+    @BeforeEach
+    void beforeEach() {
+        userService = new HamtUserService();
+    }
+
+    @Test
+    @DisplayName("Verify the users are inserted, retrieved, updated and deleted by id.")
+    void shouldOperateById() {
+        var inserted = userService.insert(new User(null, USER.name(), USER.address()));
+
+        assertThat(inserted.id()).isNotNull();
+        assertThat(userService.retrieve(inserted.id())).isEqualTo(inserted);
+
+        userService.insert(USER);
+
+        assertThat(userService.exists(USER_ID)).isTrue();
+        assertThat(userService.update(USER)).isTrue();
+        assertThat(userService.update(USER_UPDATED)).isTrue();
+        assertThat(userService.retrieve(USER_ID)).isEqualTo(USER_UPDATED);
+        assertThat(userService.count()).isEqualTo(2L);
+        assertThat(userService.delete(USER_ID)).isTrue();
+        assertThat(userService.exists(USER_ID)).isFalse();
+        assertThat(userService.update(USER_UPDATED)).isFalse();
+        assertThat(userService.delete(USER_ID)).isFalse();
+        assertThat(userService.retrieve(USER_ID)).isNull();
+        assertThat(userService.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Verify a multi-get gives the users found in the order of the ids.")
+    void shouldRetrieveMany() {
+        var inserted = userService.insert(new User(null, USER.name(), USER.address()));
+
+        userService.insert(USER);
+
+        assertThat(userService.retrieveMany(List.of(USER_ID, COLLIDING_ID_ONE, inserted.id())))
+            .containsExactly(USER, inserted);
+        assertThat(userService.retrieveMany(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify a listing is a point-in-time view the later writes do not change.")
+    void shouldKeepSnapshotUnchanged() {
+        userService.insert(USER);
+
+        var listing = userService.retrieveAll();
+        var snapshot = userService.snapshot();
+
+        userService.update(USER_UPDATED);
+
+        for (var i = 0; i < 100; i++) {
+            userService.insert(new User(null, "User Name " + i, i + " Main Street, Springfield"));
+        }
+
+        assertThat(listing).containsExactly(USER);
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.get(USER_ID)).isEqualTo(USER);
+        assertThat(userService.retrieveAll()).hasSize(101).contains(USER_UPDATED);
+    }
+
+    @Test
+    @DisplayName("Verify ids sharing their hash are kept apart.")
+    void shouldKeepCollidingIdsApart() {
+        assertThat(COLLIDING_ID_ONE.hashCode()).isEqualTo(COLLIDING_ID_TWO.hashCode());
+
+        var one = new User(COLLIDING_ID_ONE, "Name One", "Address One");
+        var two = new User(COLLIDING_ID_TWO, "Name Two", "Address Two");
+        var trie = UserTrie.EMPTY.put(one).put(two);
+
+        assertThat(trie.size()).isEqualTo(2);
+        assertThat(trie.get(COLLIDING_ID_ONE)).isEqualTo(one);
+        assertThat(trie.get(COLLIDING_ID_TWO)).isEqualTo(two);
+        assertThat(trie.asList()).containsExactlyInAnyOrder(one, two);
+
+        var removed = trie.remove(COLLIDING_ID_ONE);
+
+        assertThat(removed.size()).isEqualTo(1);
+        assertThat(removed.get(COLLIDING_ID_ONE)).isNull();
+        assertThat(removed.get(COLLIDING_ID_TWO)).isEqualTo(two);
+        assertThat(removed.remove(COLLIDING_ID_TWO).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify random puts and removes agree with a hash map, by id, by position and by iteration.")
+    void shouldAgreeWithHashMap() {
+        var random = new Random(RANDOM_SEED);
+        var expected = new HashMap<String, User>();
+        var trie = UserTrie.EMPTY;
+
+        for (var i = 0; i < RANDOM_OPERATIONS; i++) {
+            var userId = "user-" + random.nextInt(RANDOM_IDS);
+
+            if (random.nextInt(3) == 0) {
+                expected.remove(userId);
+                trie = trie.remove(userId);
+            } else {
+                var user = new User(userId, "User Name " + i, i + " Main Street, Springfield");
+
+                expected.put(userId, user);
+                trie = trie.put(user);
+            }
+        }
+
+        var list = trie.asList();
+        var byPosition = new ArrayList<User>();
+
+        for (var i = 0; i < list.size(); i++) {
+            byPosition.add(list.get(i));
+        }
+
+        var byId = new HashMap<String, User>();
+
+        for (var userId : expected.keySet()) {
+            byId.put(userId, trie.get(userId));
+        }
+
+        assertThat(trie.size()).isEqualTo(expected.size());
+        assertThat(byId).isEqualTo(expected);
+        assertThat(list).containsExactlyInAnyOrderElementsOf(expected.values());
+        assertThat(byPosition).containsExactlyElementsOf(list);
+        assertThat(trie.stream().toList()).containsExactlyElementsOf(list);
+    }
+
+    @Test
+    @DisplayName("Verify concurrent writers do not lose users.")
+    void shouldNotLoseConcurrentWrites() throws Exception {
+        var tasks = new ArrayList<Callable<Void>>();
+
+        for (var writer = 0; writer < WRITERS; writer++) {
+            tasks.add(() -> {
+                for (var i = 0; i < USERS_PER_WRITER; i++) {
+                    var user = userService.insert(new User(null, "User Name " + i, i + " Main Street, Springfield"));
+
+                    userService.retrieve(user.id());
+                    userService.retrieveAll().size();
+                }
+
+                return null;
+            });
+        }
+
+        try (var executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (var result : executor.invokeAll(tasks)) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(userService.count()).isEqualTo((long) WRITERS * USERS_PER_WRITER);
+        assertThat(userService.retrieveAll()).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,134 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   RETRIEVEMANYFANOUTTEST.JAVA                                 */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.intr;
+
+import static com.themusketeers.sbnative.common.consts.UserServiceConstants.THREAD_RETRIEVE_MANY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.themusketeers.sbnative.common.exception.DeadlineExceededException;
+import com.themusketeers.sbnative.deadline.RequestDeadline;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.hamt.HamtUserService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking the default {@link UserService#retrieveMany} of the stores without a batch read, a fan-out
+ * over virtual threads.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class RetrieveManyFanOutTest {
+    public static final String MISSING_USER_ID = "b94f6ae6-e1d2-4fdf-8c6b-eb471da1d4d1";
+    public static final String FAILING_USER_ID = "failing";
+    public static final int USERS = 40;
+    public static final int PARALLELISM = 8;
+    public static final Duration LATENCY = Duration.ofMillis(20);
+
+    private SlowUserService userService;
+    private List<String> ids;
+
+    @BeforeEach
+    void beforeEach() {
+        userService = new SlowUserService();
+        ids = IntStream.range(0, USERS)
+            .mapToObj(i -> userService.insert(new User(null, "Name " + i, "Address " + i)).id())
+            .toList();
+    }
+
+    @Test
+    @DisplayName("Verify the users are retrieved in parallel, never more at a time than the parallelism.")
+    void shouldRetrieveInParallel() {
+        var started = System.nanoTime();
+        var users = RetrieveManyFanOut.retrieveMany(userService, ids, PARALLELISM);
+        var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(users).extracting(User::id).containsExactlyElementsOf(ids);
+        assertThat(userService.maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(PARALLELISM);
+        assertThat(elapsed).isLessThan(LATENCY.multipliedBy(USERS / 2));
+        assertThat(userService.threads).allMatch(name -> name.startsWith(THREAD_RETRIEVE_MANY));
+    }
+
+    @Test
+    @DisplayName("Verify the users not found are left out, the order of the ids being kept.")
+    void shouldLeaveOutMissingUsers() {
+        var wanted = List.of(ids.get(3), MISSING_USER_ID, ids.get(1));
+
+        assertThat(userService.retrieveMany(wanted)).extracting(User::id).containsExactly(ids.get(3), ids.get(1));
+        assertThat(userService.retrieveMany(List.of(MISSING_USER_ID))).isEmpty();
+        assertThat(userService.retrieveMany(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify a failure is rethrown once every worker ended, the ids left not being retrieved.")
+    void shouldRethrowFirstFailure() {
+        var wanted = List.of(ids.get(0), FAILING_USER_ID, ids.get(1), ids.get(2));
+
+        assertThatThrownBy(() -> RetrieveManyFanOut.retrieveMany(userService, wanted, 1))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage(FAILING_USER_ID);
+        assertThat(userService.inFlight.get()).isZero();
+        assertThat(userService.retrieves.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Verify the deadline of the request is bound to the workers, which stop once it expired.")
+    void shouldStopOnceDeadlineExpired() {
+        try (var scope = RequestDeadline.bind(RequestDeadline.after(Duration.ZERO))) {
+            assertThatThrownBy(() -> userService.retrieveMany(ids)).isInstanceOf(DeadlineExceededException.class);
+        }
+
+        assertThat(userService.retrieves.get()).isZero();
+    }
+
+    /**
+     * Store answering after some latency, as a remote one, and counting the retrieves in flight.
+     */
+    private static class SlowUserService extends HamtUserService {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicInteger retrieves = new AtomicInteger();
+        private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public User retrieve(String userId) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            retrieves.incrementAndGet();
+            threads.add(Thread.currentThread().getName());
+
+            try {
+                if (FAILING_USER_ID.equals(userId)) {
+                    throw new IllegalStateException(userId);
+                }
+
+                Thread.sleep(LATENCY);
+                return super.retrieve(userId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public List<User> retrieveMany(Collection<String> userIds) {
+            return RetrieveManyFanOut.retrieveMany(this, userIds, PARALLELISM);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   JDBCUSERSERVICETEST.JAVA                                    */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get test.
+ Oct.19/2026  COQ  Pending inserts drained when the context closes.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.jdbc;
+
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.FIRST_PAGE_KEY;
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SCHEMA_LOCATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.UserStoreConfiguration;
+import com.themusketeers.sbnative.service.UserStoreProperties;
+import com.themusketeers.sbnative.service.decorator.UserServiceDecoratorConfiguration;
+import com.themusketeers.sbnative.service.decorator.UserServiceDecoratorProperties;
+import com.themusketeers.sbnative.service.intr.UserService;
+import com.themusketeers.sbnative.startup.StartupTimelineRecorder;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Unit test for checking {@link JdbcUserService} against an embedded H2 database.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class JdbcUserServiceTest {
+    public static final String USER_ID = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final User USER_UPDATED = new User(USER_ID, "Name One Updated", "Address One Updated");
+    public static final int MAX_BATCH_SIZE = 64;
+    public static final int PAGE_SIZE = 7;
+    public static final int CALLERS = 200;
+    public static final int PENDING = 20;
+    public static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private EmbeddedDatabase database;
+    private JdbcUserService userService;
+
+    @BeforeEach
+    void beforeEach() {
+        database = new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .addScript(SCHEMA_LOCATION)
+            .build();
+        userService = new JdbcUserService(database, MAX_BATCH_SIZE, PAGE_SIZE);
+    }
+
+    @AfterEach
+    void afterEach() {
+        userService.close();
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Verify the users are inserted, retrieved, updated and deleted by id.")
+    void shouldOperateById() {
+        var inserted = userService.insert(new User(null, USER.name(), USER.address()));
+
+        assertThat(inserted.id()).isNotNull();
+        assertThat(userService.retrieve(inserted.id())).isEqualTo(inserted);
+
+        userService.insert(USER);
+
+        assertThat(userService.exists(USER_ID)).isTrue();
+        assertThat(userService.update(USER_UPDATED)).isTrue();
+        assertThat(userService.retrieve(USER_ID)).isEqualTo(USER_UPDATED);
+        assertThat(userService.count()).isEqualTo(2L);
+        assertThat(userService.delete(USER_ID)).isTrue();
+        assertThat(userService.exists(USER_ID)).isFalse();
+        assertThat(userService.update(USER_UPDATED)).isFalse();
+        assertThat(userService.delete(USER_ID)).isFalse();
+        assertThat(userService.retrieve(USER_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify concurrent single inserts are grouped in fewer round trips.")
+    void shouldBatchConcurrentInserts() throws Exception {
+        var tasks = new ArrayList<Callable<User>>();
+
+        for (var i = 0; i < CALLERS; i++) {
+            var name = "User Name " + i;
+
+            tasks.add(() -> userService.insert(new User(null, name, "Main Street, Springfield")));
+        }
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var result : executor.invokeAll(tasks)) {
+                assertThat(userService.exists(result.get(10, TimeUnit.SECONDS).id())).isTrue();
+            }
+        }
+
+        assertThat(userService.count()).isEqualTo(CALLERS);
+        assertThat(userService.batchedInserts()).isEqualTo(CALLERS);
+        assertThat(userService.insertBatches()).isLessThanOrEqualTo(CALLERS);
+    }
+
+    @Test
+    @DisplayName("Verify a failing insert fails alone, not the ones batched with it.")
+    void shouldFailOnlyTheOffendingInsert() throws Exception {
+        userService.insert(USER);
+
+        var tasks = new ArrayList<Callable<User>>();
+
+        tasks.add(() -> userService.insert(USER));
+
+        for (var i = 0; i < CALLERS; i++) {
+            tasks.add(() -> userService.insert(new User(null, "User Name", "Main Street, Springfield")));
+        }
+
+        List<Future<User>> results;
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = executor.invokeAll(tasks);
+        }
+
+        assertThatThrownBy(() -> results.getFirst().get()).hasCauseInstanceOf(DuplicateKeyException.class);
+
+        for (var result : results.subList(1, results.size())) {
+            assertThat(result.get().id()).isNotNull();
+        }
+
+        assertThat(userService.count()).isEqualTo(CALLERS + 1L);
+    }
+
+    @Test
+    @DisplayName("Verify insert all writes every user or none.")
+    void shouldInsertAllOrNothing() {
+        var users = IntStream.range(0, 10)
+            .mapToObj(i -> new User(null, "User Name " + i, i + " Main Street, Springfield"))
+            .toList();
+
+        assertThat(userService.insertAll(users)).hasSize(10).allMatch(user -> user.id() != null);
+        assertThat(userService.count()).isEqualTo(10L);
+
+        userService.insert(USER);
+
+        assertThatThrownBy(() -> userService.insertAll(List.of(new User(null, "New Name", "New Address"), USER)))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThat(userService.count()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("Verify a multi-get reads the users by pages of ids, giving them in the order of the ids.")
+    void shouldRetrieveManyByPages() {
+        var ids = IntStream.range(0, 20).mapToObj(i -> new UUID(i, i).toString()).toList();
+        var missingId = new UUID(99, 99).toString();
+
+        userService.insertAll(ids.stream().map(id -> new User(id, "User Name", "Main Street")).toList());
+
+        var wanted = new ArrayList<>(ids.reversed());
+
+        wanted.add(PAGE_SIZE, missingId);
+
+        assertThat(userService.retrieveMany(wanted)).extracting(User::id).containsExactlyElementsOf(ids.reversed());
+        assertThat(userService.retrieveMany(List.of(missingId))).isEmpty();
+        assertThat(userService.retrieveMany(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify the users are listed in id order by pages of keys.")
+    void shouldListByKeyset() {
+        var ids = IntStream.range(0, 50).mapToObj(i -> new UUID(i, i).toString()).toList();
+
+        userService.insertAll(ids.reversed().stream().map(id -> new User(id, "User Name", "Main Street")).toList());
+
+        assertThat(userService.retrieveAll()).extracting(User::id).containsExactlyElementsOf(ids);
+        assertThat(userService.retrievePage(FIRST_PAGE_KEY, 3)).extracting(User::id).isEqualTo(ids.subList(0, 3));
+        assertThat(userService.retrievePage(ids.get(2), 3)).extracting(User::id).isEqualTo(ids.subList(3, 6));
+        assertThat(userService.retrievePage(ids.getLast(), 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify the inserts pending when the context closes are written, behind the decorators too.")
+    void shouldDrainPendingInsertsOnContextClose() {
+        var gated = new AtomicBoolean();
+        var gate = new CountDownLatch(1);
+        DataSource dataSource = new DelegatingDataSource(database) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (gated.get()) {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        throw new SQLException(e);
+                    }
+                }
+
+                return super.getConnection();
+            }
+        };
+
+        new ApplicationContextRunner()
+            .withPropertyValues("app.user-service.store.type=jdbc")
+            .withUserConfiguration(StoreSettings.class, UserStoreConfiguration.class, UserServiceDecoratorConfiguration.class)
+            .withBean(DataSource.class, () -> dataSource)
+            .withBean(StartupTimelineRecorder.class, () -> new StartupTimelineRecorder(new BufferingApplicationStartup(16)))
+            .run(context -> {
+                var decorated = context.getBean(UserService.class);
+                var inserted = new AtomicInteger();
+                var failed = new AtomicInteger();
+
+                assertThat(decorated).isNotInstanceOf(JdbcUserService.class);
+
+                // Holds the writer on its first batch, so the other inserts are pending when the context closes.
+                gated.set(true);
+
+                var callers = IntStream.range(0, PENDING)
+                    .mapToObj(i -> Thread.ofVirtual().start(() -> {
+                        try {
+                            decorated.insert(new User(null, "User Name " + i, "Main Street, Springfield"));
+                            inserted.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failed.incrementAndGet();
+                        }
+                    }))
+                    .toList();
+
+                await(() -> callers.stream().allMatch(caller -> caller.getState() == Thread.State.WAITING));
+
+                var closing = Thread.ofVirtual().start(context::close);
+
+                await(() -> closing.getState() == Thread.State.WAITING);
+                gate.countDown();
+                closing.join(TIMEOUT);
+
+                for (var caller : callers) {
+                    caller.join(TIMEOUT);
+                }
+
+                assertThat(closing.isAlive()).isFalse();
+                assertThat(failed).hasValue(0);
+                assertThat(inserted).hasValue(PENDING);
+                assertThat(userService.count()).isEqualTo(PENDING);
+                assertThatThrownBy(() -> decorated.insert(USER)).hasMessage("Insert batcher closed");
+            });
+    }
+
+    private static void await(BooleanSupplier condition) {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("Condition not met in time").isLessThan(deadline);
+            Thread.onSpinWait();
+            Thread.yield();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties({UserStoreProperties.class, UserServiceDecoratorProperties.class})
+    static class StoreSettings {
+    }
+}
@@ -0,0 +1,129 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   R2DBCUSERSERVICETEST.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.r2dbc;
+
+import static com.themusketeers.sbnative.common.consts.JdbcConstants.SCHEMA_LOCATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.themusketeers.sbnative.domain.User;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit test for checking {@link R2dbcUserService} against an embedded H2 database through its R2DBC driver.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class R2dbcUserServiceTest {
+    public static final String USER_ID = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final User USER_UPDATED = new User(USER_ID, "Name One Updated", "Address One Updated");
+    public static final int MAX_ROWS_PER_INSERT = 8;
+    public static final int PAGE_SIZE = 7;
+
+    private ConnectionPool connectionPool;
+    private R2dbcUserService userService;
+
+    @BeforeEach
+    void beforeEach() {
+        var url = "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1";
+
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(url))
+            .maxSize(4)
+            .build());
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_LOCATION)).populate(connectionPool).block();
+        userService = new R2dbcUserService(connectionPool, MAX_ROWS_PER_INSERT, PAGE_SIZE);
+    }
+
+    @AfterEach
+    void afterEach() {
+        connectionPool.dispose();
+    }
+
+    @Test
+    @DisplayName("Verify the users are inserted, retrieved, updated and deleted by id.")
+    void shouldOperateById() {
+        var inserted = userService.insert(new User(null, USER.name(), USER.address())).block();
+
+        assertThat(inserted.id()).isNotNull();
+        StepVerifier.create(userService.retrieve(inserted.id())).expectNext(inserted).verifyComplete();
+        StepVerifier.create(userService.insert(USER)).expectNext(USER).verifyComplete();
+        StepVerifier.create(userService.exists(USER_ID)).expectNext(true).verifyComplete();
+        StepVerifier.create(userService.update(USER_UPDATED)).expectNext(true).verifyComplete();
+        StepVerifier.create(userService.retrieve(USER_ID)).expectNext(USER_UPDATED).verifyComplete();
+        StepVerifier.create(userService.count()).expectNext(2L).verifyComplete();
+        StepVerifier.create(userService.delete(USER_ID)).expectNext(true).verifyComplete();
+        StepVerifier.create(userService.exists(USER_ID)).expectNext(false).verifyComplete();
+        StepVerifier.create(userService.update(USER_UPDATED)).expectNext(false).verifyComplete();
+        StepVerifier.create(userService.delete(USER_ID)).expectNext(false).verifyComplete();
+        StepVerifier.create(userService.retrieve(USER_ID)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Verify insert all writes multi-row statements, every user or none.")
+    void shouldInsertAllOrNothing() {
+        var users = IntStream.range(0, 20)
+            .mapToObj(i -> new User(null, "User Name " + i, i + " Main Street, Springfield"))
+            .toList();
+
+        StepVerifier.create(userService.insertAll(users)).expectNextCount(20).verifyComplete();
+        userService.insert(USER).block();
+
+        var withDuplicate = IntStream.range(0, 20)
+            .mapToObj(i -> i == 15 ? USER : new User(null, "New Name " + i, "New Address"))
+            .toList();
+
+        StepVerifier.create(userService.insertAll(withDuplicate))
+            .verifyError(DataIntegrityViolationException.class);
+        StepVerifier.create(userService.count()).expectNext(21L).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Verify the users are streamed in id order, a page read only when asked for.")
+    void shouldStreamByPages() {
+        var ids = IntStream.range(0, 50).mapToObj(i -> new UUID(i, i).toString()).toList();
+
+        userService.insertAll(ids.reversed().stream().map(id -> new User(id, "User Name", "Main Street")).toList())
+            .blockLast();
+
+        StepVerifier.create(userService.retrieveAll().map(User::id))
+            .expectNextSequence(ids)
+            .verifyComplete();
+        StepVerifier.create(userService.retrieveAll().map(User::id), 3)
+            .expectNextSequence(ids.subList(0, 3))
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Verify the blocking view gives the same results.")
+    void shouldBlockOnTheReactiveStore() {
+        var blocking = new BlockingUserService(userService);
+
+        blocking.insert(USER);
+
+        assertThat(blocking.retrieve(USER_ID)).isEqualTo(USER);
+        assertThat(blocking.retrieveAll()).isEqualTo(List.of(USER));
+        assertThat(blocking.count()).isOne();
+        assertThat(blocking.delete(USER_ID)).isTrue();
+        assertThat(blocking.retrieve(USER_ID)).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   REDISUSERSERVICETEST.JAVA                                   */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ Oct.19/2026  COQ  Multi-get renamed to retrieveMany.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.service.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.themusketeers.sbnative.domain.User;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for checking {@link RedisUserService} against an embedded Redis compatible server.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class RedisUserServiceTest {
+    public static final String USER_ID = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final String USER_ID_MISSING = "6ad3ab10-6b8b-4a4b-9f0c-8dc0c8e0b5a5";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final User USER_UPDATED = new User(USER_ID, "Name One Updated", "Address One Updated");
+    public static final String KEY_PREFIX = "test:users:";
+    public static final String KEY_PREFIX_OTHER = "other:users:";
+    public static final int SCAN_COUNT = 7;
+    public static final int USERS = 100;
+
+    private RedisServer server;
+    private RedisClient client;
+    private RedisUserService userService;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        server = RedisServer.newRedisServer().start();
+        client = RedisClient.create(RedisURI.create(server.getHost(), server.getBindPort()));
+        userService = new RedisUserService(client, KEY_PREFIX, SCAN_COUNT);
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        userService.close();
+        client.shutdown();
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("Verify the users are inserted, retrieved, updated and deleted by id.")
+    void shouldOperateById() {
+        var inserted = userService.insert(new User(null, USER.name(), USER.address()));
+
+        assertThat(inserted.id()).isNotNull();
+        assertThat(userService.retrieve(inserted.id())).isEqualTo(inserted);
+
+        userService.insert(USER);
+
+        assertThat(userService.exists(USER_ID)).isTrue();
+        assertThat(userService.update(USER_UPDATED)).isTrue();
+        assertThat(userService.retrieve(USER_ID)).isEqualTo(USER_UPDATED);
+        assertThat(userService.count()).isEqualTo(2L);
+        assertThat(userService.delete(USER_ID)).isTrue();
+        assertThat(userService.delete(USER_ID)).isFalse();
+        assertThat(userService.exists(USER_ID)).isFalse();
+        assertThat(userService.retrieve(USER_ID)).isNull();
+        assertThat(userService.update(USER_UPDATED)).isFalse();
+        assertThat(userService.exists(USER_ID)).isFalse();
+        assertThat(userService.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Verify inserting an existing user replaces it without counting it twice.")
+    void shouldCountExistingUserOnce() {
+        userService.insert(USER);
+        userService.insert(USER_UPDATED);
+
+        assertThat(userService.retrieve(USER_ID)).isEqualTo(USER_UPDATED);
+        assertThat(userService.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Verify the pipelined bulk insert and multi-get, leaving out the users not found.")
+    void shouldInsertAndRetrieveInBulk() {
+        var inserted = userService.insertAll(users());
+        var ids = inserted.stream().map(User::id).toList();
+        var idsWithMissing = IntStream.range(0, ids.size() + 1)
+            .mapToObj(i -> i == 1 ? USER_ID_MISSING : ids.get(i < 1 ? i : i - 1))
+            .toList();
+
+        assertThat(ids).doesNotContainNull();
+        assertThat(userService.count()).isEqualTo(USERS);
+        assertThat(userService.retrieveMany(idsWithMissing)).containsExactlyElementsOf(inserted);
+        assertThat(userService.retrieveMany(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify listing scans every user in pages, leaving out keys of other prefixes.")
+    void shouldScanAllUsers() {
+        try (var otherUserService = new RedisUserService(client, KEY_PREFIX_OTHER, SCAN_COUNT)) {
+            otherUserService.insert(USER);
+
+            var inserted = userService.insertAll(users());
+
+            assertThat(userService.retrieveAll()).containsExactlyInAnyOrderElementsOf(inserted);
+            assertThat(otherUserService.retrieveAll()).containsExactly(USER);
+        }
+    }
+
+    private static List<User> users() {
+        return IntStream.range(0, USERS).mapToObj(i -> new User(null, "Name " + i, "Address " + i)).toList();
+    }
+}
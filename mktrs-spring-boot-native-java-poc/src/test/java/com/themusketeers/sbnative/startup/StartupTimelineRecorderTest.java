@@ -0,0 +1,112 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   STARTUPTIMELINERECORDERTEST.JAVA                            */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.startup;
+
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_APPLICATION_READY;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_FIRST_REQUEST;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.MILESTONE_STORE_LOAD;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.STEP_BEANS_INSTANTIATE;
+import static com.themusketeers.sbnative.common.consts.StartupTimelineConstants.STEP_TAG_BEAN_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+
+/**
+ * Unit test for checking {@link StartupTimelineRecorder}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class StartupTimelineRecorderTest {
+    public static final long JVM_STARTED_AT = 1_000L;
+    public static final String BEAN_NAME = "userController";
+    public static final String PHASE_NAME = "spring.context.refresh";
+
+    private final AtomicLong now = new AtomicLong(JVM_STARTED_AT);
+    private StartupTimelineRecorder recorder;
+
+    @BeforeEach
+    void beforeEach() {
+        recorder = new StartupTimelineRecorder(JVM_STARTED_AT, now::get, null);
+    }
+
+    @Test
+    @DisplayName("Verify a milestone is measured from the JVM start.")
+    void shouldMarkMilestoneSinceJvmStart() {
+        now.addAndGet(250L);
+
+        var milestone = recorder.mark(MILESTONE_APPLICATION_READY);
+
+        assertThat(milestone.atMillis()).isEqualTo(250L);
+        assertThat(milestone.durationMillis()).isNull();
+        assertThat(recorder.milestones()).containsExactly(milestone);
+    }
+
+    @Test
+    @DisplayName("Verify a span records its milestone with the time taken when closed.")
+    void shouldRecordSpanDurationWhenClosed() {
+        now.addAndGet(100L);
+
+        try (var ignored = recorder.begin(MILESTONE_STORE_LOAD)) {
+            now.addAndGet(40L);
+        }
+
+        assertThat(recorder.milestones())
+            .singleElement()
+            .isEqualTo(new StartupMilestone(MILESTONE_STORE_LOAD, 140L, 40L));
+    }
+
+    @Test
+    @DisplayName("Verify only the first request is recorded.")
+    void shouldRecordFirstRequestOnlyOnce() {
+        assertThat(recorder.isFirstRequestCompleted()).isFalse();
+        assertThat(recorder.markFirstRequest()).isNotNull();
+        assertThat(recorder.markFirstRequest()).isNull();
+        assertThat(recorder.isFirstRequestCompleted()).isTrue();
+        assertThat(recorder.milestones())
+            .extracting(StartupMilestone::name)
+            .containsExactly(MILESTONE_FIRST_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Verify the report has no Spring steps when they are not buffered.")
+    void shouldReportOnlyMilestonesWhenStepsAreNotBuffered() {
+        recorder.mark(MILESTONE_APPLICATION_READY);
+
+        var report = recorder.report(10);
+
+        assertThat(report.jvmStartedAt()).isEqualTo(JVM_STARTED_AT);
+        assertThat(report.milestones()).hasSize(1);
+        assertThat(report.phases()).isEmpty();
+        assertThat(report.slowestBeans()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify the report includes the context phases and the bean instantiations.")
+    void shouldReportPhasesAndSlowestBeans() {
+        var applicationStartup = new BufferingApplicationStartup(16);
+        var phase = applicationStartup.start(PHASE_NAME);
+        var bean = applicationStartup.start(STEP_BEANS_INSTANTIATE).tag(STEP_TAG_BEAN_NAME, BEAN_NAME);
+
+        bean.end();
+        phase.end();
+
+        var report = new StartupTimelineRecorder(applicationStartup).report(10);
+
+        assertThat(report.phases())
+            .extracting(StartupStepDuration::name)
+            .containsExactly(PHASE_NAME);
+        assertThat(report.slowestBeans())
+            .extracting(StartupStepDuration::name)
+            .containsExactly(BEAN_NAME);
+    }
+}
@@ -0,0 +1,183 @@
+/*----------------------------------------------------------------------------*/
+/* Source File:   TRACINGTEST.JAVA                                            */
+/* Copyright (c), 2026 The Musketeers                                         */
+/*----------------------------------------------------------------------------*/
+/*-----------------------------------------------------------------------------
+ History
+ Oct.19/2026  COQ  File created.
+ -----------------------------------------------------------------------------*/
+package com.themusketeers.sbnative.tracing;
+
+import static com.themusketeers.sbnative.common.consts.TracingConstants.DIRECTION_READ;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.DIRECTION_WRITE;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_DIRECTION;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_OPERATION;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_TYPE;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_USER_ID;
+import static com.themusketeers.sbnative.common.consts.TracingConstants.KEY_VALID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.themusketeers.sbnative.converter.GeneratedJsonHttpMessageConverter;
+import com.themusketeers.sbnative.domain.User;
+import com.themusketeers.sbnative.service.hamt.HamtUserService;
+import io.avaje.jsonb.Jsonb;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+/**
+ * Unit test for checking the Observation spans of the User API, collected in process by an
+ * {@link InMemorySpanExporter}, and their export to files by {@link OtlpJsonFileSpanExporter}.
+ *
+ * @author COQ - Carlos Adolfo Ortiz Q.
+ */
+class TracingTest {
+    public static final String USER_ID = "c56b2741-028e-4ff5-9e15-be4f96b4ea35";
+    public static final User USER = new User(USER_ID, "Name One", "Address One");
+    public static final User INVALID_USER = new User(USER_ID, "", "Address One");
+    public static final String USER_JSON = "{\"id\":\"" + USER_ID + "\",\"name\":\"Name One\",\"address\":\"Address One\"}";
+    public static final String REQUEST_SPAN = "http get";
+    public static final long MAX_FILE_SIZE = 1024 * 1024;
+    public static final int MAX_FILES = 2;
+
+    private InMemorySpanExporter spans;
+    private SdkTracerProvider tracerProvider;
+    private ObservationRegistry registry;
+
+    @BeforeEach
+    void beforeEach() {
+        spans = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(spans)).build();
+        registry = registry(tracerProvider);
+    }
+
+    @AfterEach
+    void afterEach() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("Verify each service operation is a child span of the request with its operation and user id.")
+    void shouldTraceServiceOperations() {
+        var userService = new ObservedUserService(new HamtUserService(), registry);
+
+        Observation.createNotStarted("http.server.requests", registry)
+            .contextualName(REQUEST_SPAN)
+            .observe(() -> {
+                userService.insert(USER);
+                userService.retrieve(USER_ID);
+                userService.count();
+            });
+
+        var finished = spans.getFinishedSpanItems();
+        var request = span(REQUEST_SPAN);
+
+        assertThat(finished).extracting(SpanData::getName)
+            .containsExactly("user-service insert", "user-service retrieve", "user-service count", REQUEST_SPAN);
+        assertThat(finished.subList(0, 3))
+            .allSatisfy(span -> assertThat(span.getParentSpanId()).isEqualTo(request.getSpanId()))
+            .allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo(request.getTraceId()));
+        assertThat(attribute(span("user-service retrieve"), KEY_OPERATION)).isEqualTo("retrieve");
+        assertThat(attribute(span("user-service retrieve"), KEY_USER_ID)).isEqualTo(USER_ID);
+        assertThat(attribute(span("user-service count"), KEY_USER_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify a validation is a span telling whether the body is valid.")
+    void shouldTraceValidation() {
+        try (var beanValidator = new LocalValidatorFactoryBean()) {
+            beanValidator.afterPropertiesSet();
+
+            var validator = new ObservedValidator(beanValidator, registry);
+            var validErrors = new BeanPropertyBindingResult(USER, "user");
+            var invalidErrors = new BeanPropertyBindingResult(INVALID_USER, "user");
+
+            validator.validate(USER, validErrors);
+            validator.validate(INVALID_USER, invalidErrors);
+
+            assertThat(validErrors.hasErrors()).isFalse();
+            assertThat(invalidErrors.hasErrors()).isTrue();
+            assertThat(spans.getFinishedSpanItems()).extracting(SpanData::getName)
+                .containsExactly("validate user", "validate user");
+            assertThat(spans.getFinishedSpanItems()).extracting(span -> attribute(span, KEY_VALID))
+                .containsExactly("true", "false");
+            assertThat(attribute(spans.getFinishedSpanItems().getFirst(), KEY_TYPE)).isEqualTo("User");
+        }
+    }
+
+    @Test
+    @DisplayName("Verify a JSON read and write are spans telling the direction and the type.")
+    void shouldTraceSerialization() throws Exception {
+        var converter = new GeneratedJsonHttpMessageConverter(Jsonb.builder().build(), Set.of(User.class), registry);
+        var input = new MockHttpInputMessage(USER_JSON.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(converter.read(User.class, input)).isEqualTo(USER);
+        converter.write(USER, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+
+        assertThat(spans.getFinishedSpanItems()).extracting(SpanData::getName)
+            .containsExactly("json read", "json write");
+        assertThat(attribute(span("json read"), KEY_DIRECTION)).isEqualTo(DIRECTION_READ);
+        assertThat(attribute(span("json write"), KEY_DIRECTION)).isEqualTo(DIRECTION_WRITE);
+        assertThat(attribute(span("json write"), KEY_TYPE)).isEqualTo("User");
+    }
+
+    @Test
+    @DisplayName("Verify the spans are written to a file as OTLP JSON lines.")
+    void shouldExportSpansToFile(@TempDir Path directory) throws Exception {
+        var exporter = new OtlpJsonFileSpanExporter(directory, MAX_FILE_SIZE, MAX_FILES);
+
+        try (var fileTracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build()) {
+            new ObservedUserService(new HamtUserService(), registry(fileTracerProvider)).insert(USER);
+        }
+
+        var lines = Files.readAllLines(directory.resolve("spans.0.jsonl"));
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.getFirst())
+            .startsWith("{\"resource\":")
+            .contains("\"name\":\"user-service insert\"")
+            .contains("\"key\":\"user.id\"", USER_ID);
+    }
+
+    private ObservationRegistry registry(SdkTracerProvider provider) {
+        var tracer = new OtelTracer(provider.get("test"), new OtelCurrentTraceContext(), event -> { });
+        var observationRegistry = ObservationRegistry.create();
+
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+        return observationRegistry;
+    }
+
+    private SpanData span(String name) {
+        return spans.getFinishedSpanItems().stream()
+            .filter(span -> span.getName().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static String attribute(SpanData span, String key) {
+        return span.getAttributes().get(AttributeKey.stringKey(key));
+    }
+}